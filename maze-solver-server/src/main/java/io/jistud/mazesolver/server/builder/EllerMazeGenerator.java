@@ -0,0 +1,227 @@
+package io.jistud.mazesolver.server.builder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.ObjLongConsumer;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeGrid;
+
+/**
+ * Generates perfect mazes row by row with Eller's algorithm. Only the sets of the current row are kept,
+ * so memory depends on the width of the maze alone and the height is not limited by the heap.
+ * <p>
+ * The layout matches {@link MazeBuilder.PositionStage#withKruskalMaze()}: cells sit on odd rows and
+ * columns, the cells and walls between them are open or closed, and every other position is a wall.
+ * With an even height or width the last two rows or columns are walls.
+ */
+public class EllerMazeGenerator {
+
+    private static final byte WALL = (byte) Maze.WALL;
+    private static final byte EMPTY = (byte) Maze.EMPTY;
+
+    private final int width;
+    private final int cellCols;
+    private final SplittableRandom random;
+
+    /**
+     * Creates a generator seeded at random.
+     *
+     * @param width the number of columns of the mazes
+     * @throws IllegalArgumentException if the width is less than 3
+     */
+    public EllerMazeGenerator(int width) {
+        this(width, new SplittableRandom());
+    }
+
+    /**
+     * Creates a generator that produces the same mazes for the same seed.
+     *
+     * @param width the number of columns of the mazes
+     * @param seed the seed of the random generator
+     * @throws IllegalArgumentException if the width is less than 3
+     */
+    public EllerMazeGenerator(int width, long seed) {
+        this(width, new SplittableRandom(seed));
+    }
+
+    private EllerMazeGenerator(int width, SplittableRandom random) {
+        if (width < 3) {
+            throw new IllegalArgumentException("Width must be at least 3, but was " + width);
+        }
+        this.width = width;
+        this.cellCols = (width - 1) / 2;
+        this.random = random;
+    }
+
+    /**
+     * Generates a maze and hands each row to the consumer, from top to bottom, as the row is finished.
+     * No start or end is marked.
+     * <p>
+     * The row array is reused for the next row; consumers copy what they keep.
+     *
+     * @param height the number of rows
+     * @param rows receives the cell values of each row as bytes, and the row index
+     * @throws IllegalArgumentException if the height is less than 3
+     */
+    public void generate(long height, ObjLongConsumer<byte[]> rows) {
+        if (height < 3) {
+            throw new IllegalArgumentException("Height must be at least 3, but was " + height);
+        }
+        long cellRows = (height - 1) / 2;
+        byte[] row = new byte[width];
+        byte[] below = new byte[width];
+
+        // Set of each cell of the current row; labels stay below cellCols
+        int[] sets = new int[cellCols];
+        // Union-find over the labels, reset for every row
+        int[] parent = new int[cellCols];
+        // Cells of each set not yet visited in the vertical pass
+        int[] remaining = new int[cellCols];
+        boolean[] connectedDown = new boolean[cellCols];
+        boolean[] used = new boolean[cellCols];
+        for (int col = 0; col < cellCols; col++) {
+            sets[col] = col;
+        }
+
+        Arrays.fill(row, WALL);
+        rows.accept(row, 0);
+        for (long cellRow = 0; cellRow < cellRows; cellRow++) {
+            boolean last = cellRow == cellRows - 1;
+            for (int label = 0; label < cellCols; label++) {
+                parent[label] = label;
+            }
+
+            // Join neighbors in different sets at random; the last row joins them all
+            Arrays.fill(row, WALL);
+            for (int col = 0; col < cellCols; col++) {
+                row[2 * col + 1] = EMPTY;
+                if (col + 1 < cellCols) {
+                    int left = find(parent, sets[col]);
+                    int right = find(parent, sets[col + 1]);
+                    if (left != right && (last || random.nextBoolean())) {
+                        parent[right] = left;
+                        row[2 * col + 2] = EMPTY;
+                    }
+                }
+            }
+            for (int col = 0; col < cellCols; col++) {
+                sets[col] = find(parent, sets[col]);
+            }
+            rows.accept(row, 2 * cellRow + 1);
+            if (last) {
+                break;
+            }
+
+            // Open at least one passage down from every set
+            Arrays.fill(remaining, 0);
+            Arrays.fill(connectedDown, false);
+            for (int col = 0; col < cellCols; col++) {
+                remaining[sets[col]]++;
+            }
+            Arrays.fill(below, WALL);
+            for (int col = 0; col < cellCols; col++) {
+                int set = sets[col];
+                boolean down = --remaining[set] == 0 && !connectedDown[set] || random.nextBoolean();
+                if (down) {
+                    connectedDown[set] = true;
+                    below[2 * col + 1] = EMPTY;
+                }
+            }
+            rows.accept(below, 2 * cellRow + 2);
+
+            // Cells below a passage keep their set, the others start sets with unused labels
+            Arrays.fill(used, false);
+            for (int col = 0; col < cellCols; col++) {
+                if (below[2 * col + 1] == EMPTY) {
+                    used[sets[col]] = true;
+                }
+            }
+            int nextLabel = 0;
+            for (int col = 0; col < cellCols; col++) {
+                if (below[2 * col + 1] != EMPTY) {
+                    while (used[nextLabel]) {
+                        nextLabel++;
+                    }
+                    sets[col] = nextLabel++;
+                }
+            }
+        }
+
+        Arrays.fill(row, WALL);
+        for (long r = 2 * cellRows; r < height; r++) {
+            rows.accept(row, r);
+        }
+    }
+
+    /**
+     * Generates a maze into a grid of the same width, with the start in the top-left cell and the end
+     * in the bottom-right cell. With a {@link io.jistud.mazesolver.server.model.MappedGrid} the maze
+     * goes straight to its file.
+     *
+     * @param grid the grid to overwrite
+     * @throws IllegalArgumentException if the grid is not as wide as the mazes of this generator, or has
+     *         fewer than two cells
+     */
+    public void writeTo(MazeGrid grid) {
+        if (grid.getWidth() != width) {
+            throw new IllegalArgumentException(
+                    "Grid width " + grid.getWidth() + " does not match the generator width " + width);
+        }
+        long height = grid.getHeight();
+        checkCellCount(height);
+        generate(height, (cells, row) -> {
+            markStartAndEnd(cells, row, height);
+            grid.write((int) row * width, cells, 0, width);
+        });
+    }
+
+    /**
+     * Generates a maze as text, one line per row in the format of {@link Maze#toString()}, with the start
+     * in the top-left cell and the end in the bottom-right cell. Each row is written as soon as it is
+     * finished, so the height is only limited by the stream; buffering is left to the caller.
+     *
+     * @param out the stream to write to; it is not closed
+     * @param height the number of rows
+     * @throws IllegalArgumentException if the height is less than 3 or the maze has fewer than two cells
+     * @throws UncheckedIOException if writing to the stream fails
+     */
+    public void writeTo(OutputStream out, long height) {
+        checkCellCount(height);
+        generate(height, (cells, row) -> {
+            markStartAndEnd(cells, row, height);
+            try {
+                out.write(cells);
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write maze row " + row, e);
+            }
+        });
+    }
+
+    private void checkCellCount(long height) {
+        if ((height - 1) / 2 * cellCols < 2) {
+            throw new IllegalArgumentException("A " + height + " x " + width + " maze has fewer than two cells");
+        }
+    }
+
+    private void markStartAndEnd(byte[] cells, long row, long height) {
+        if (row == 1) {
+            cells[1] = (byte) Maze.START;
+        }
+        if (row == 2 * ((height - 1) / 2) - 1) {
+            cells[2 * cellCols - 1] = (byte) Maze.END;
+        }
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+}
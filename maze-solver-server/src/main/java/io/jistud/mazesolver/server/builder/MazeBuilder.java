@@ -1,5 +1,6 @@
 package io.jistud.mazesolver.server.builder;
 
+import io.jistud.mazesolver.server.model.ByteGrid;
 import io.jistud.mazesolver.server.model.Maze;
 import io.jistud.mazesolver.server.model.Position;
 
@@ -87,6 +88,23 @@ public class MazeBuilder {
          * @return the FinalStage for completing the maze build
          */
         FinalStage withKruskalMaze();
+
+        /**
+         * Generates a perfect maze using Eller's algorithm and transitions directly to the final stage.
+         * The maze has the same layout as {@link #withKruskalMaze()}; use {@link EllerMazeGenerator} directly
+         * to stream mazes too large to hold in memory.
+         *
+         * @return the FinalStage for completing the maze build
+         */
+        FinalStage withEllerMaze();
+
+        /**
+         * Generates a perfect maze by recursive division and transitions directly to the final stage.
+         * Chambers are divided in parallel on the common fork-join pool, see {@link RecursiveDivisionGenerator}.
+         *
+         * @return the FinalStage for completing the maze build
+         */
+        FinalStage withRecursiveDivisionMaze();
     }
 
     /**
@@ -134,6 +152,38 @@ public class MazeBuilder {
          * @return the FinalStage for finishing the build
          */
         FinalStage withEmptyPath();
+
+        /**
+         * Scatters weighted terrain over the empty cells of the maze.
+         * Terrain never blocks a cell, so a solvable maze stays solvable.
+         *
+         * @param density the fraction of empty cells (0.0 to 1.0) that become terrain
+         * @param maxCost the highest terrain cost to use, between 2 and {@link Maze#MAX_MOVE_COST}
+         * @return the FinalStage for finishing the build
+         * @throws IllegalArgumentException if density is not between 0.0 and 1.0 or maxCost is out of range
+         */
+        FinalStage withRandomTerrain(double density, int maxCost);
+
+        /**
+         * Turns one more cell into an end position, making the maze a multi-exit maze. Such a maze is solved
+         * towards the exit that is nearest by the cost model of the solver that runs, see
+         * {@link Maze#multiExitSolverFor}. The cell is overwritten whatever it held before.
+         *
+         * @param row the row index of the exit
+         * @param col the column index of the exit
+         * @return the FinalStage for finishing the build
+         * @throws IllegalArgumentException if the position is outside the maze or is the start position
+         */
+        FinalStage withExit(int row, int col);
+
+        /**
+         * Turns randomly chosen empty cells into additional end positions.
+         *
+         * @param count the number of exits to add
+         * @return the FinalStage for finishing the build
+         * @throws IllegalArgumentException if count is negative or larger than the number of empty cells
+         */
+        FinalStage withRandomExits(int count);
     }
 
     /**
@@ -156,67 +206,62 @@ public class MazeBuilder {
     private static class BuilderImpl implements DimensionStage, PositionStage, PathStage, WallStage, FinalStage {
         // Kruskal's algorithm needs a way to represent sets of connected cells
         private static class DisjointSet {
-            private final java.util.Map<Position, Position> parent = new java.util.HashMap<>();
-            private final java.util.Map<Position, Integer> rank = new java.util.HashMap<>();
+            private final int[] parent;
+            private final byte[] rank;
 
             /**
-             * Makes a new set with the given position as its only member.
+             * Makes one set per element, numbered from 0 to size - 1.
              *
-             * @param position the position to make a set for
+             * @param size the number of elements
              */
-            public void makeSet(Position position) {
-                parent.put(position, position);
-                rank.put(position, 0);
+            DisjointSet(int size) {
+                parent = new int[size];
+                rank = new byte[size];
+                for (int i = 0; i < size; i++) {
+                    parent[i] = i;
+                }
             }
 
             /**
-             * Finds the representative of the set containing the given position.
-             * Uses path compression for efficiency.
+             * Finds the representative of the set containing the given element.
+             * Uses path halving, so long chains shrink without recursion.
              *
-             * @param position the position to find the representative for
-             * @return the representative of the set containing the position
+             * @param x the element to find the representative for
+             * @return the representative of the set containing the element
              */
-            public Position find(Position position) {
-                if (!parent.get(position).equals(position)) {
-                    parent.put(position, find(parent.get(position)));
+            int find(int x) {
+                while (parent[x] != x) {
+                    parent[x] = parent[parent[x]];
+                    x = parent[x];
                 }
-                return parent.get(position);
+                return x;
             }
 
             /**
-             * Merges the sets containing the given positions.
+             * Merges the sets containing the given elements.
              * Uses union by rank for efficiency.
              *
-             * @param x the first position
-             * @param y the second position
+             * @param x the first element
+             * @param y the second element
+             * @return true if the elements were in different sets, false if they were already connected
              */
-            public void union(Position x, Position y) {
-                Position rootX = find(x);
-                Position rootY = find(y);
+            boolean union(int x, int y) {
+                int rootX = find(x);
+                int rootY = find(y);
 
-                if (rootX.equals(rootY)) {
-                    return;
+                if (rootX == rootY) {
+                    return false;
                 }
 
-                if (rank.get(rootX) < rank.get(rootY)) {
-                    parent.put(rootX, rootY);
-                } else if (rank.get(rootX) > rank.get(rootY)) {
-                    parent.put(rootY, rootX);
+                if (rank[rootX] < rank[rootY]) {
+                    parent[rootX] = rootY;
+                } else if (rank[rootX] > rank[rootY]) {
+                    parent[rootY] = rootX;
                 } else {
-                    parent.put(rootY, rootX);
-                    rank.put(rootX, rank.get(rootX) + 1);
+                    parent[rootY] = rootX;
+                    rank[rootX]++;
                 }
-            }
-
-            /**
-             * Checks if the given positions are in the same set.
-             *
-             * @param x the first position
-             * @param y the second position
-             * @return true if the positions are in the same set, false otherwise
-             */
-            public boolean connected(Position x, Position y) {
-                return find(x).equals(find(y));
+                return true;
             }
         }
 
@@ -224,7 +269,7 @@ public class MazeBuilder {
         private int width;
         private Position startPosition;
         private Position endPosition;
-        private char[][] grid;
+        private ByteGrid grid;
 
         @Override
         public DimensionStage height(int height) {
@@ -313,8 +358,8 @@ public class MazeBuilder {
             }
 
             // Mark start and end positions
-            grid[startPosition.row()][startPosition.col()] = Maze.START;
-            grid[endPosition.row()][endPosition.col()] = Maze.END;
+            grid.set(startPosition.row(), startPosition.col(), Maze.START);
+            grid.set(endPosition.row(), endPosition.col(), Maze.END);
 
             // Generate random path from start to end
             generateRandomPath();
@@ -330,91 +375,121 @@ public class MazeBuilder {
             }
 
             // Start with all walls (fill the grid with walls)
-            for (int row = 0; row < height; row++) {
-                for (int col = 0; col < width; col++) {
-                    grid[row][col] = Maze.WALL;
+            grid.fill(0, height * width, Maze.WALL);
+
+            // Cells sit on odd rows and columns; number them row by row
+            int cellRows = (height - 1) / 2;
+            int cellCols = (width - 1) / 2;
+
+            // Every wall between two adjacent cells, packed as the cell to its left or above
+            // shifted left by one, with the low bit set for a wall below the cell
+            int[] walls = new int[Math.max(0, cellRows * (cellCols - 1) + (cellRows - 1) * cellCols)];
+            int wallCount = 0;
+            for (int cellRow = 0; cellRow < cellRows; cellRow++) {
+                int rowStart = (2 * cellRow + 1) * width + 1;
+                for (int cellCol = 0; cellCol < cellCols; cellCol++) {
+                    int cell = cellRow * cellCols + cellCol;
+                    grid.set(rowStart + 2 * cellCol, Maze.EMPTY);
+                    if (cellCol + 1 < cellCols) {
+                        walls[wallCount++] = cell << 1;
+                    }
+                    if (cellRow + 1 < cellRows) {
+                        walls[wallCount++] = cell << 1 | 1;
+                    }
                 }
             }
 
-            // List of all possible walls between adjacent cells
-            java.util.List<Wall> walls = new java.util.ArrayList<>();
-
-            // Generate the list of walls
-            for (int row = 1; row < height - 1; row += 2) {
-                for (int col = 1; col < width - 1; col += 2) {
-                    // Create a cell at this position
-                    Position cell = new Position(row, col);
-                    grid[row][col] = Maze.EMPTY;
-
-                    // Add walls to the right (if not at the edge)
-                    if (col + 2 < width - 1) {
-                        walls.add(new Wall(cell, new Position(row, col + 2), new Position(row, col + 1)));
-                    }
-
-                    // Add walls below (if not at the edge)
-                    if (row + 2 < height - 1) {
-                        walls.add(new Wall(cell, new Position(row + 2, col), new Position(row + 1, col)));
-                    }
+            // Shuffle the walls in place to randomize the maze; SplittableRandom skips the atomic
+            // seed update of java.util.Random on each of the millions of draws
+            java.util.SplittableRandom random = new java.util.SplittableRandom();
+            for (int i = wallCount - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int wall = walls[i];
+                walls[i] = walls[j];
+                walls[j] = wall;
+            }
+
+            // Remove each wall whose cells are not connected yet, until all cells are connected
+            DisjointSet disjointSet = new DisjointSet(cellRows * cellCols);
+            int unionsLeft = cellRows * cellCols - 1;
+            for (int i = 0; i < wallCount && unionsLeft > 0; i++) {
+                int cell = walls[i] >>> 1;
+                boolean below = (walls[i] & 1) != 0;
+                if (disjointSet.union(cell, below ? cell + cellCols : cell + 1)) {
+                    unionsLeft--;
+                    int row = 2 * (cell / cellCols) + 1;
+                    int col = 2 * (cell % cellCols) + 1;
+                    grid.set((below ? row + 1 : row) * width + (below ? col : col + 1), Maze.EMPTY);
                 }
             }
 
-            // Shuffle the walls to randomize the maze
-            java.util.Collections.shuffle(walls);
+            // Find appropriate locations for start and end within the maze
+            // We want to place them on opposite sides if possible
+            placeStartAndEndInMaze();
 
-            // Initialize the disjoint set data structure
-            DisjointSet disjointSet = new DisjointSet();
+            return this;
+        }
 
-            // Initialize sets for each cell
-            for (int row = 1; row < height - 1; row += 2) {
-                for (int col = 1; col < width - 1; col += 2) {
-                    disjointSet.makeSet(new Position(row, col));
-                }
+        @Override
+        public FinalStage withEllerMaze() {
+            // Initialize grid if not already initialized
+            if (grid == null) {
+                initializeGrid();
             }
 
-            // Process each wall
-            for (Wall wall : walls) {
-                Position cell1 = wall.cell1();
-                Position cell2 = wall.cell2();
+            // Eller's algorithm needs at least three rows and columns, the smallest maze with a cell
+            if (height < 3 || width < 3) {
+                throw new IllegalStateException("No empty cells available for start/end positions");
+            }
+            new EllerMazeGenerator(width)
+                    .generate(height, (cells, row) -> grid.write((int) row * width, cells, 0, width));
 
-                // If the cells are not already connected, remove the wall between them
-                if (!disjointSet.connected(cell1, cell2)) {
-                    // Remove the wall (set the wall cell to empty)
-                    grid[wall.wallPosition().row()][wall.wallPosition().col()] = Maze.EMPTY;
+            // Find appropriate locations for start and end within the maze
+            placeStartAndEndInMaze();
 
-                    // Union the sets containing the two cells
-                    disjointSet.union(cell1, cell2);
-                }
+            return this;
+        }
+
+        @Override
+        public FinalStage withRecursiveDivisionMaze() {
+            // Initialize grid if not already initialized
+            if (grid == null) {
+                initializeGrid();
             }
 
+            // Recursive division needs at least three rows and columns, the smallest maze with a cell
+            if (height < 3 || width < 3) {
+                throw new IllegalStateException("No empty cells available for start/end positions");
+            }
+            new RecursiveDivisionGenerator().generate(grid);
+
             // Find appropriate locations for start and end within the maze
-            // We want to place them on opposite sides if possible
             placeStartAndEndInMaze();
 
             return this;
         }
 
-        /**
-         * Represents a wall between two cells in the maze.
-         * Contains references to the two cells and the position of the wall between them.
-         */
-        private record Wall(Position cell1, Position cell2, Position wallPosition) {}
-
         /**
          * Places the start and end positions within the maze at appropriate locations.
          * If the positions are already set, ensures they are placed within the maze pathways.
          */
         private void placeStartAndEndInMaze() {
-            // Get list of empty cells (potential positions for start/end)
-            java.util.List<Position> emptyCells = new java.util.ArrayList<>();
+            // Count the empty cells (potential positions for start/end) instead of collecting them,
+            // so large mazes do not allocate a position per cell
+            int emptyCount = 0;
+            int borderCount = 0;
             for (int row = 0; row < height; row++) {
                 for (int col = 0; col < width; col++) {
-                    if (grid[row][col] == Maze.EMPTY) {
-                        emptyCells.add(new Position(row, col));
+                    if (grid.get(row, col) == Maze.EMPTY) {
+                        emptyCount++;
+                        if (isNearBorder(row, col)) {
+                            borderCount++;
+                        }
                     }
                 }
             }
 
-            if (emptyCells.isEmpty()) {
+            if (emptyCount == 0) {
                 throw new IllegalStateException("No empty cells available for start/end positions");
             }
 
@@ -424,86 +499,105 @@ public class MazeBuilder {
             // If start and end are already set, use their positions
             if (startPosition != null && endPosition != null) {
                 // Check if existing positions are walls, and if so, move them to nearby empty cells
-                if (grid[startPosition.row()][startPosition.col()] == Maze.WALL) {
+                if (grid.get(startPosition.row(), startPosition.col()) == Maze.WALL) {
                     // Find closest empty cell to start
-                    startPosition = findClosestEmptyCell(startPosition, emptyCells);
+                    startPosition = findClosestEmptyCell(startPosition.row(), startPosition.col());
                 }
 
-                if (grid[endPosition.row()][endPosition.col()] == Maze.WALL) {
+                if (grid.get(endPosition.row(), endPosition.col()) == Maze.WALL) {
                     // Find closest empty cell to end
-                    endPosition = findClosestEmptyCell(endPosition, emptyCells);
+                    endPosition = findClosestEmptyCell(endPosition.row(), endPosition.col());
                 }
             } else {
                 // No positions set, choose random ones that are far apart
                 // We'll try to select points on opposite sides of the maze
+                if (borderCount > 0) {
+                    // Choose a random empty cell near the border
+                    startPosition = findEmptyCell(random.nextInt(borderCount), true);
 
-                // Get some cells near the borders
-                java.util.List<Position> borderCells = emptyCells.stream()
-                        .filter(p -> p.row() <= 2 || p.row() >= height - 3 || p.col() <= 2 || p.col() >= width - 3)
-                        .toList();
-
-                if (!borderCells.isEmpty()) {
-                    // Choose a random cell near the border
-                    startPosition = borderCells.get(random.nextInt(borderCells.size()));
-
-                    // Find a cell on the opposite side
-                    int oppositeRow = height - 1 - startPosition.row();
-                    int oppositeCol = width - 1 - startPosition.col();
-
-                    // Find the cell furthest from the start
-                    Position oppositeCorner = new Position(oppositeRow, oppositeCol);
-                    endPosition = findClosestEmptyCell(oppositeCorner, emptyCells);
+                    // Find the cell closest to the opposite side
+                    endPosition =
+                            findClosestEmptyCell(height - 1 - startPosition.row(), width - 1 - startPosition.col());
                 } else {
                     // Just choose random positions if no border cells
-                    startPosition = emptyCells.get(random.nextInt(emptyCells.size()));
-                    emptyCells.remove(startPosition);
-                    endPosition = emptyCells.get(random.nextInt(emptyCells.size()));
+                    int startIndex = random.nextInt(emptyCount);
+                    int endIndex = random.nextInt(emptyCount - 1);
+                    startPosition = findEmptyCell(startIndex, false);
+                    endPosition = findEmptyCell(endIndex < startIndex ? endIndex : endIndex + 1, false);
                 }
             }
 
             // Set start and end markers in the grid
-            grid[startPosition.row()][startPosition.col()] = Maze.START;
-            grid[endPosition.row()][endPosition.col()] = Maze.END;
+            grid.set(startPosition.row(), startPosition.col(), Maze.START);
+            grid.set(endPosition.row(), endPosition.col(), Maze.END);
+        }
+
+        private boolean isNearBorder(int row, int col) {
+            return row <= 2 || row >= height - 3 || col <= 2 || col >= width - 3;
         }
 
         /**
-         * Finds the closest empty cell to the given target position.
+         * Finds the n-th empty cell in row-major order.
          *
-         * @param target the target position
-         * @param emptyCells the list of empty cells to search
-         * @return the closest empty cell to the target position
+         * @param n the zero-based number of the cell among the cells considered
+         * @param nearBorder whether to consider only cells near the border
+         * @return the position of the cell
          */
-        private Position findClosestEmptyCell(Position target, java.util.List<Position> emptyCells) {
-            return emptyCells.stream()
-                    .min(java.util.Comparator.comparingInt(
-                            p -> Math.abs(p.row() - target.row()) + Math.abs(p.col() - target.col())))
-                    .orElse(emptyCells.get(0)); // Fallback to first empty cell if comparison fails
+        private Position findEmptyCell(int n, boolean nearBorder) {
+            for (int row = 0; row < height; row++) {
+                for (int col = 0; col < width; col++) {
+                    if (grid.get(row, col) == Maze.EMPTY && (!nearBorder || isNearBorder(row, col)) && n-- == 0) {
+                        return new Position(row, col);
+                    }
+                }
+            }
+            throw new IllegalStateException("No empty cells available for start/end positions");
         }
 
         /**
-         * Initializes the grid with empty cells.
+         * Finds the closest empty cell to the given target position. Ties go to the first cell in row-major order.
+         *
+         * @param targetRow the row of the target position
+         * @param targetCol the column of the target position
+         * @return the closest empty cell to the target position
          */
-        private void initializeGrid() {
-            grid = new char[height][width];
-
-            // Fill grid with empty cells
+        private Position findClosestEmptyCell(int targetRow, int targetCol) {
+            int bestIndex = -1;
+            int bestDistance = Integer.MAX_VALUE;
             for (int row = 0; row < height; row++) {
+                int rowDistance = Math.abs(row - targetRow);
+                if (rowDistance >= bestDistance) {
+                    // Rows only get further away from here on
+                    if (row > targetRow) {
+                        break;
+                    }
+                    continue;
+                }
                 for (int col = 0; col < width; col++) {
-                    grid[row][col] = Maze.EMPTY;
+                    int distance = rowDistance + Math.abs(col - targetCol);
+                    if (distance < bestDistance && grid.get(row, col) == Maze.EMPTY) {
+                        bestIndex = row * width + col;
+                        bestDistance = distance;
+                    }
                 }
             }
+            if (bestIndex < 0) {
+                throw new IllegalStateException("No empty cells available for start/end positions");
+            }
+            return new Position(bestIndex / width, bestIndex % width);
+        }
+
+        /**
+         * Initializes the grid with empty cells.
+         */
+        private void initializeGrid() {
+            grid = new ByteGrid(height, width);
         }
 
         /**
          * Generates a random path from start to end position using a random walk with backtracking.
          */
         private void generateRandomPath() {
-            // Create a copy of the grid for path finding
-            char[][] tempGrid = new char[height][width];
-            for (int i = 0; i < height; i++) {
-                System.arraycopy(grid[i], 0, tempGrid[i], 0, width);
-            }
-
             // Keep track of the path
             java.util.List<Position> pathSteps = new java.util.ArrayList<>();
             java.util.Set<Position> visited = new java.util.HashSet<>();
@@ -566,7 +660,7 @@ public class MazeBuilder {
             for (Position pos : pathSteps) {
                 // Don't overwrite start and end markers
                 if (!pos.equals(startPosition) && !pos.equals(endPosition)) {
-                    grid[pos.row()][pos.col()] = Maze.PATH;
+                    grid.set(pos.row(), pos.col(), Maze.PATH);
                 }
             }
         }
@@ -626,17 +720,11 @@ public class MazeBuilder {
                 initializeGrid();
             }
 
-            // Create a copy of the grid to work with
-            char[][] tempGrid = new char[height][width];
-            for (int i = 0; i < height; i++) {
-                System.arraycopy(grid[i], 0, tempGrid[i], 0, width);
-            }
-
             // Collect all positions that are empty and not part of the path
             java.util.List<Position> emptyPositions = new java.util.ArrayList<>();
             for (int row = 0; row < height; row++) {
                 for (int col = 0; col < width; col++) {
-                    if (tempGrid[row][col] == Maze.EMPTY) {
+                    if (grid.get(row, col) == Maze.EMPTY) {
                         emptyPositions.add(new Position(row, col));
                     }
                 }
@@ -658,7 +746,7 @@ public class MazeBuilder {
                 }
 
                 // Add a wall at this position
-                grid[pos.row()][pos.col()] = Maze.WALL;
+                grid.set(pos.row(), pos.col(), Maze.WALL);
                 wallsAdded++;
             }
 
@@ -672,45 +760,96 @@ public class MazeBuilder {
                 initializeGrid();
             }
 
-            // Add walls to the top and bottom rows, preserving special cells
-            for (int col = 0; col < width; col++) {
-                // Top row - add wall only if not a special cell
-                if (grid[0][col] == Maze.EMPTY) {
-                    grid[0][col] = Maze.WALL;
-                }
+            // Wall off the empty cells of the top and bottom rows and left and right columns,
+            // preserving special cells
+            grid.replaceRect(0, 0, 1, width, Maze.EMPTY, Maze.WALL);
+            grid.replaceRect(height - 1, 0, 1, width, Maze.EMPTY, Maze.WALL);
+            grid.replaceRect(0, 0, height, 1, Maze.EMPTY, Maze.WALL);
+            grid.replaceRect(0, width - 1, height, 1, Maze.EMPTY, Maze.WALL);
 
-                // Bottom row - add wall only if not a special cell
-                if (grid[height - 1][col] == Maze.EMPTY) {
-                    grid[height - 1][col] = Maze.WALL;
-                }
+            return this;
+        }
+
+        @Override
+        public FinalStage withEmptyPath() {
+            // Unmark path cells
+            grid.replace(0, height * width, Maze.PATH, Maze.EMPTY);
+
+            return this;
+        }
+
+        @Override
+        public FinalStage withRandomTerrain(double density, int maxCost) {
+            if (density < 0.0 || density > 1.0) {
+                throw new IllegalArgumentException("Terrain density must be between 0.0 and 1.0, but was " + density);
+            }
+            int minCost = Maze.MIN_TERRAIN - '0';
+            if (maxCost < minCost || maxCost > Maze.MAX_MOVE_COST) {
+                throw new IllegalArgumentException("Terrain cost must be between " + minCost + " and "
+                        + Maze.MAX_MOVE_COST + ", but was " + maxCost);
+            }
+
+            // Initialize grid if not already initialized
+            if (grid == null) {
+                initializeGrid();
             }
 
-            // Add walls to the left and right columns, preserving special cells
+            java.util.Random random = new java.util.Random();
             for (int row = 0; row < height; row++) {
-                // Left column - add wall only if not a special cell
-                if (grid[row][0] == Maze.EMPTY) {
-                    grid[row][0] = Maze.WALL;
+                for (int col = 0; col < width; col++) {
+                    if (grid.get(row, col) == Maze.EMPTY && random.nextDouble() < density) {
+                        grid.set(row, col, (char) ('0' + minCost + random.nextInt(maxCost - minCost + 1)));
+                    }
                 }
+            }
 
-                // Right column - add wall only if not a special cell
-                if (grid[row][width - 1] == Maze.EMPTY) {
-                    grid[row][width - 1] = Maze.WALL;
-                }
+            return this;
+        }
+
+        @Override
+        public FinalStage withExit(int row, int col) {
+            validatePosition(row, col, "Exit position");
+            if (new Position(row, col).equals(startPosition)) {
+                throw new IllegalArgumentException("Exit position cannot be the same as start position");
             }
 
+            // Initialize grid if not already initialized
+            if (grid == null) {
+                initializeGrid();
+            }
+
+            grid.set(row, col, Maze.END);
             return this;
         }
 
         @Override
-        public FinalStage withEmptyPath() {
-            // Unmark path cells
+        public FinalStage withRandomExits(int count) {
+            // Initialize grid if not already initialized
+            if (grid == null) {
+                initializeGrid();
+            }
+
+            java.util.List<Position> emptyCells = new java.util.ArrayList<>();
             for (int row = 0; row < height; row++) {
                 for (int col = 0; col < width; col++) {
-                    if (grid[row][col] == Maze.PATH) {
-                        grid[row][col] = Maze.EMPTY;
+                    if (grid.get(row, col) == Maze.EMPTY) {
+                        emptyCells.add(new Position(row, col));
                     }
                 }
             }
+            if (count < 0 || count > emptyCells.size()) {
+                throw new IllegalArgumentException(
+                        "Exit count must be between 0 and " + emptyCells.size() + ", but was " + count);
+            }
+
+            java.util.Random random = new java.util.Random();
+            // Partial Fisher-Yates shuffle, so every exit lands on a different cell
+            for (int i = 0; i < count; i++) {
+                int pick = i + random.nextInt(emptyCells.size() - i);
+                Position exit = emptyCells.get(pick);
+                emptyCells.set(pick, emptyCells.get(i));
+                grid.set(exit.row(), exit.col(), Maze.END);
+            }
 
             return this;
         }
@@ -730,8 +869,8 @@ public class MazeBuilder {
                 throw new IllegalStateException("End position must be set before building the maze");
             }
 
-            // Create a new maze with the specified dimensions with given grid
-            return new Maze(height, width, grid);
+            // Hand the maze its own copy of the grid, so the builder can keep going
+            return new Maze(grid.copy());
         }
 
         /**
@@ -0,0 +1,137 @@
+package io.jistud.mazesolver.server.builder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeGrid;
+import io.jistud.mazesolver.server.model.PackedGrid;
+
+/**
+ * Generates perfect mazes by recursive division on a {@link ForkJoinPool}. A chamber is split by a wall
+ * with a single passage, and the two sub-chambers are divided further until they are one cell wide.
+ * Sub-chambers cover disjoint parts of the grid, so they are divided in parallel without locking; the
+ * fork publishes the dividing wall to both of them.
+ * <p>
+ * Every chamber draws from its own {@link SplittableRandom}, split from its parent's before the fork,
+ * so a seed yields the same maze however the tasks are scheduled and whatever the pool size.
+ * <p>
+ * The layout matches {@link MazeBuilder.PositionStage#withKruskalMaze()}: cells sit on odd rows and
+ * columns, and with an even height or width the last two rows or columns are walls.
+ */
+public class RecursiveDivisionGenerator {
+
+    /**
+     * Number of cells below which a chamber is divided in the current task instead of forking.
+     */
+    private static final int SEQUENTIAL_CELLS = 4096;
+
+    private final ForkJoinPool pool;
+    private final long seed;
+
+    /**
+     * Creates a generator seeded at random, running on the common pool.
+     */
+    public RecursiveDivisionGenerator() {
+        this(ForkJoinPool.commonPool(), new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Creates a generator running on the common pool that produces the same maze for the same seed.
+     *
+     * @param seed the seed of the random generator
+     */
+    public RecursiveDivisionGenerator(long seed) {
+        this(ForkJoinPool.commonPool(), seed);
+    }
+
+    /**
+     * Creates a generator running on the given pool that produces the same maze for the same seed.
+     *
+     * @param pool the pool dividing the chambers
+     * @param seed the seed of the random generator
+     */
+    public RecursiveDivisionGenerator(ForkJoinPool pool, long seed) {
+        this.pool = pool;
+        this.seed = seed;
+    }
+
+    /**
+     * Overwrites the grid with a maze. No start or end is marked.
+     *
+     * @param grid the grid to overwrite; it must store every cell in its own byte
+     * @throws IllegalArgumentException if the grid has fewer than 3 rows or columns, or is a {@link PackedGrid},
+     *         whose cells share words that parallel chambers would race on
+     */
+    public void generate(MazeGrid grid) {
+        if (grid.getHeight() < 3 || grid.getWidth() < 3) {
+            throw new IllegalArgumentException("A maze needs at least 3 rows and columns, but the grid is "
+                    + grid.getHeight() + " x " + grid.getWidth());
+        }
+        if (grid instanceof PackedGrid) {
+            throw new IllegalArgumentException("Packed grids cannot be written in parallel");
+        }
+        int cellRows = (grid.getHeight() - 1) / 2;
+        int cellCols = (grid.getWidth() - 1) / 2;
+
+        // One open room surrounded by walls, then divided into cells
+        grid.fill(0, grid.getCellCount(), Maze.WALL);
+        grid.fillRect(1, 1, 2 * cellRows - 1, 2 * cellCols - 1, Maze.EMPTY);
+        pool.invoke(new Chamber(grid, 0, 0, cellRows, cellCols, new SplittableRandom(seed)));
+    }
+
+    /**
+     * A rectangle of cells, in cell coordinates, surrounded by walls or by the edge of the grid.
+     */
+    private static class Chamber extends RecursiveAction {
+        private final MazeGrid grid;
+        private final int row;
+        private final int col;
+        private final int rows;
+        private final int cols;
+        private final SplittableRandom random;
+
+        Chamber(MazeGrid grid, int row, int col, int rows, int cols, SplittableRandom random) {
+            this.grid = grid;
+            this.row = row;
+            this.col = col;
+            this.rows = rows;
+            this.cols = cols;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (rows < 2 && cols < 2) {
+                return;
+            }
+            Chamber first;
+            Chamber second;
+            if (rows > cols || rows == cols && random.nextBoolean()) {
+                // Wall below cell row split - 1, with a passage below one cell of that row
+                int split = row + 1 + random.nextInt(rows - 1);
+                int passage = col + random.nextInt(cols);
+                grid.fillRect(2 * split, 2 * col + 1, 1, 2 * cols - 1, Maze.WALL);
+                grid.set(2 * split, 2 * passage + 1, Maze.EMPTY);
+                first = new Chamber(grid, row, col, split - row, cols, random.split());
+                second = new Chamber(grid, split, col, row + rows - split, cols, random.split());
+            } else {
+                // Wall right of cell column split - 1, with a passage right of one cell of that column
+                int split = col + 1 + random.nextInt(cols - 1);
+                int passage = row + random.nextInt(rows);
+                grid.fillRect(2 * row + 1, 2 * split, 2 * rows - 1, 1, Maze.WALL);
+                grid.set(2 * passage + 1, 2 * split, Maze.EMPTY);
+                first = new Chamber(grid, row, col, rows, split - col, random.split());
+                second = new Chamber(grid, row, split, rows, col + cols - split, random.split());
+            }
+
+            if ((long) rows * cols < SEQUENTIAL_CELLS) {
+                first.compute();
+                second.compute();
+            } else {
+                invokeAll(first, second);
+            }
+        }
+    }
+}
@@ -1,19 +1,35 @@
 package io.jistud.mazesolver.server.controller;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import io.jistud.mazesolver.server.controller.dto.CellEditDTO;
+import io.jistud.mazesolver.server.controller.dto.CellEditRequestDTO;
 import io.jistud.mazesolver.server.controller.dto.MazeGenerationRequestDTO;
 import io.jistud.mazesolver.server.controller.dto.MazeResponseDTO;
 import io.jistud.mazesolver.server.controller.dto.MazeSummaryListResponse;
+import io.jistud.mazesolver.server.controller.dto.RouteResponseDTO;
 import io.jistud.mazesolver.server.entity.MazeEntity;
+import io.jistud.mazesolver.server.model.CellEdit;
 import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveBudget;
+import io.jistud.mazesolver.server.model.solver.DistanceField;
+import io.jistud.mazesolver.server.model.solver.HierarchicalPathIndex;
+import io.jistud.mazesolver.server.model.solver.PerfectMazeIndex;
+import io.jistud.mazesolver.server.model.solver.SolverAlgorithm;
+import io.jistud.mazesolver.server.service.MazeNotEditableException;
 import io.jistud.mazesolver.server.service.MazeService;
+import io.jistud.mazesolver.server.service.SolveBudgetExceededException;
+import io.jistud.mazesolver.server.service.SolvedMaze;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -28,6 +44,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "Maze Controller", description = "API for managing mazes")
 public class MazeController {
 
+    /**
+     * Response header reporting how many cells a solver explored before its budget ran out.
+     */
+    static final String EXPANDED_NODES_HEADER = "X-Expanded-Nodes";
+
     private final MazeService mazeService;
 
     public MazeController(MazeService mazeService) {
@@ -161,23 +182,229 @@ public class MazeController {
                         responseCode = "200",
                         description = "Maze successfully solved",
                         content = @Content(schema = @Schema(implementation = MazeResponseDTO.class))),
-                @ApiResponse(responseCode = "404", description = "Maze not found")
+                @ApiResponse(responseCode = "400", description = "Unknown solver algorithm or timeout not positive"),
+                @ApiResponse(responseCode = "404", description = "Maze not found"),
+                @ApiResponse(
+                        responseCode = "422",
+                        description = "Maze has no path from start to end",
+                        content = @Content(schema = @Schema(implementation = MazeResponseDTO.class))),
+                @ApiResponse(
+                        responseCode = "503",
+                        description = "Solver ran out of time before finding a path or proving there is none; "
+                                + "the X-Expanded-Nodes header holds the number of cells it explored")
             })
     public ResponseEntity<MazeResponseDTO> solveMaze(
-            @Parameter(description = "ID of maze to solve") @PathVariable Integer id) {
+            @Parameter(description = "ID of maze to solve") @PathVariable Integer id,
+            @Parameter(description = "Solver algorithm (bfs, astar, bibfs, jps, deadend, pbfs, bitboard, dijkstra)")
+                    @RequestParam(defaultValue = "bfs")
+                    String algorithm,
+            @Parameter(description = "Time the solver may run in milliseconds, unlimited if omitted")
+                    @RequestParam(required = false)
+                    Long timeoutMs,
+            @Parameter(description = "Whether to add the statistics of the solver run to the response")
+                    @RequestParam(defaultValue = "false")
+                    boolean stats) {
+
+        if (timeoutMs != null && timeoutMs <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        SolverAlgorithm solverAlgorithm;
+        try {
+            solverAlgorithm = SolverAlgorithm.fromName(algorithm);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Optional<SolvedMaze> solved;
+        try {
+            solved = timeoutMs == null
+                    ? mazeService.solveMaze(id, solverAlgorithm)
+                    : mazeService.solveMaze(id, solverAlgorithm, SolveBudget.withTimeout(Duration.ofMillis(timeoutMs)));
+        } catch (SolveBudgetExceededException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(EXPANDED_NODES_HEADER, String.valueOf(e.getExpandedNodes()))
+                    .build();
+        }
 
-        if (mazeService.findById(id).isEmpty()) {
+        if (solved.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
-        Optional<MazeEntity> solvedMazeEntity = mazeService.solveMaze(id);
+        MazeEntity solvedMazeEntity = solved.get().entity();
+        Maze solvedMaze = mazeService.convertToModel(solvedMazeEntity);
+        MazeResponseDTO response = stats
+                ? MazeResponseDTO.fromMaze(id, solvedMaze, solved.get().stats())
+                : MazeResponseDTO.fromMaze(id, solvedMaze);
 
-        if (solvedMazeEntity.isEmpty()) {
+        if (!solvedMazeEntity.isSolved()) {
+            return ResponseEntity.unprocessableEntity().body(response);
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/route")
+    @Operation(
+            summary = "Get a route to the end",
+            description = "Returns the shortest route from the given cell to the end of the specified maze")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Successfully computed route",
+                        content = @Content(schema = @Schema(implementation = RouteResponseDTO.class))),
+                @ApiResponse(responseCode = "400", description = "Starting position is outside the maze or a wall"),
+                @ApiResponse(responseCode = "404", description = "Maze not found")
+            })
+    public ResponseEntity<RouteResponseDTO> getRoute(
+            @Parameter(description = "ID of maze to route through") @PathVariable Integer id,
+            @Parameter(description = "Row of the starting position (0-based)") @RequestParam int fromRow,
+            @Parameter(description = "Column of the starting position (0-based)") @RequestParam int fromCol) {
+
+        Optional<DistanceField> distanceField = mazeService.findDistanceField(id);
+
+        if (distanceField.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
-        Maze solvedMaze = mazeService.convertToModel(solvedMazeEntity.get());
-        MazeResponseDTO response = MazeResponseDTO.fromMaze(id, solvedMaze);
+        if (!distanceField.get().isOpen(fromRow, fromCol)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Position from = new Position(fromRow, fromCol);
+        RouteResponseDTO response =
+                RouteResponseDTO.fromRoute(id, from, distanceField.get().routeFrom(from));
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/path")
+    @Operation(
+            summary = "Get the path between two cells of a perfect maze",
+            description = "Returns the unique path between two cells of the specified perfect maze")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Successfully computed path",
+                        content = @Content(schema = @Schema(implementation = RouteResponseDTO.class))),
+                @ApiResponse(responseCode = "400", description = "A position is outside the maze or a wall"),
+                @ApiResponse(responseCode = "404", description = "Maze not found"),
+                @ApiResponse(responseCode = "409", description = "Maze is not a perfect maze")
+            })
+    public ResponseEntity<RouteResponseDTO> getPath(
+            @Parameter(description = "ID of maze to route through") @PathVariable Integer id,
+            @Parameter(description = "Row of the starting position (0-based)") @RequestParam int fromRow,
+            @Parameter(description = "Column of the starting position (0-based)") @RequestParam int fromCol,
+            @Parameter(description = "Row of the target position (0-based)") @RequestParam int toRow,
+            @Parameter(description = "Column of the target position (0-based)") @RequestParam int toCol) {
+
+        Optional<PerfectMazeIndex> index = mazeService.findPerfectMazeIndex(id);
+
+        if (index.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        if (!index.get().isPerfect()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+
+        Position from = new Position(fromRow, fromCol);
+        Position to = new Position(toRow, toCol);
+        if (!index.get().isOpen(from) || !index.get().isOpen(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        RouteResponseDTO response =
+                RouteResponseDTO.fromRoute(id, from, index.get().path(from, to));
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/path/hierarchical")
+    @Operation(
+            summary = "Get a near-optimal path between two cells of any maze",
+            description = "Returns a path between two cells of the specified maze, found on a hierarchical"
+                    + " cluster index that is cached per maze")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Successfully computed path",
+                        content = @Content(schema = @Schema(implementation = RouteResponseDTO.class))),
+                @ApiResponse(responseCode = "400", description = "A position is outside the maze or a wall"),
+                @ApiResponse(responseCode = "404", description = "Maze not found")
+            })
+    public ResponseEntity<RouteResponseDTO> getHierarchicalPath(
+            @Parameter(description = "ID of maze to route through") @PathVariable Integer id,
+            @Parameter(description = "Row of the starting position (0-based)") @RequestParam int fromRow,
+            @Parameter(description = "Column of the starting position (0-based)") @RequestParam int fromCol,
+            @Parameter(description = "Row of the target position (0-based)") @RequestParam int toRow,
+            @Parameter(description = "Column of the target position (0-based)") @RequestParam int toCol) {
+
+        Optional<HierarchicalPathIndex> index = mazeService.findHierarchicalPathIndex(id);
+
+        if (index.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Position from = new Position(fromRow, fromCol);
+        Position to = new Position(toRow, toCol);
+        if (!index.get().isOpen(from) || !index.get().isOpen(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        RouteResponseDTO response =
+                RouteResponseDTO.fromRoute(id, from, index.get().path(from, to).path());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PatchMapping("/{id}/cells")
+    @Operation(
+            summary = "Edit cells of a maze",
+            description = "Turns cells of the specified maze into walls or open cells and re-solves it incrementally")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Successfully edited the maze",
+                        content = @Content(schema = @Schema(implementation = MazeResponseDTO.class))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description =
+                                "No edits, or an edit is outside the maze, on the start or end cell or not a wall or empty cell"),
+                @ApiResponse(responseCode = "404", description = "Maze not found"),
+                @ApiResponse(
+                        responseCode = "409",
+                        description = "Maze does not have exactly one start and one end position")
+            })
+    public ResponseEntity<MazeResponseDTO> editCells(
+            @Parameter(description = "ID of maze to edit") @PathVariable Integer id,
+            @RequestBody CellEditRequestDTO request) {
+
+        if (request.getEdits() == null || request.getEdits().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Optional<MazeEntity> mazeEntity;
+        try {
+            List<CellEdit> edits =
+                    request.getEdits().stream().map(CellEditDTO::toCellEdit).toList();
+            mazeEntity = mazeService.editCells(id, edits);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (MazeNotEditableException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+
+        if (mazeEntity.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Maze maze = mazeService.convertToModel(mazeEntity.get());
+        MazeResponseDTO response = MazeResponseDTO.fromMaze(mazeEntity.get().getId(), maze);
 
         return ResponseEntity.ok(response);
     }
@@ -0,0 +1,48 @@
+package io.jistud.mazesolver.server.controller.dto;
+
+import io.jistud.mazesolver.server.model.CellEdit;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object representing a change of a single maze cell.
+ */
+@Schema(description = "Change of a single maze cell")
+public class CellEditDTO {
+
+    @Schema(description = "Row index (0-based)")
+    private final int row;
+
+    @Schema(description = "Column index (0-based)")
+    private final int col;
+
+    @Schema(description = "New cell value: 'w'=wall, ' '=empty", example = "w")
+    private final char value;
+
+    public CellEditDTO(int row, int col, char value) {
+        this.row = row;
+        this.col = col;
+        this.value = value;
+    }
+
+    /**
+     * Converts this DTO to a CellEdit model object.
+     *
+     * @return The corresponding CellEdit
+     * @throws IllegalArgumentException if the value is neither a wall nor an empty cell
+     */
+    public CellEdit toCellEdit() {
+        return new CellEdit(row, col, value);
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getCol() {
+        return col;
+    }
+
+    public char getValue() {
+        return value;
+    }
+}
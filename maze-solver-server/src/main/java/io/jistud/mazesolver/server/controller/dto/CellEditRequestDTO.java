@@ -0,0 +1,28 @@
+package io.jistud.mazesolver.server.controller.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for a batch of cell edits.
+ */
+@Schema(description = "Batch of cell edits applied to a maze in order")
+public class CellEditRequestDTO {
+
+    @Schema(description = "Cell edits, applied in the given order")
+    private final List<CellEditDTO> edits;
+
+    // Single-argument constructors would otherwise be bound to the whole request body
+    @JsonCreator
+    public CellEditRequestDTO(@JsonProperty("edits") List<CellEditDTO> edits) {
+        this.edits = edits;
+    }
+
+    public List<CellEditDTO> getEdits() {
+        return edits;
+    }
+}
@@ -1,10 +1,14 @@
 package io.jistud.mazesolver.server.controller.dto;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import io.jistud.mazesolver.server.model.Maze;
 import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveStats;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
@@ -18,7 +22,8 @@ public class MazeResponseDTO {
 
     @Schema(
             description =
-                    "Grid representation of the maze as a list of strings. 's'=start, 'e'=end, 'w'=wall, 'p'=path, ' '=empty")
+                    "Grid representation of the maze as a list of strings. 's'=start, 'e'=end, 'w'=wall, 'p'=path, ' '=empty,"
+                            + " '2'-'9'=weighted terrain")
     private final List<String> grid;
 
     @Schema(description = "Whether the maze has been solved")
@@ -27,11 +32,23 @@ public class MazeResponseDTO {
     @Schema(description = "Sequence of positions forming the solution path (null if not solved)")
     private final List<PositionDTO> solvedPath;
 
+    @Schema(
+            description =
+                    "Statistics of the solver run, only present when requested from the solve endpoint and a solver ran")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final SolveStatsDTO stats;
+
     public MazeResponseDTO(Integer id, List<String> grid, boolean solved, List<PositionDTO> solvedPath) {
+        this(id, grid, solved, solvedPath, null);
+    }
+
+    public MazeResponseDTO(
+            Integer id, List<String> grid, boolean solved, List<PositionDTO> solvedPath, SolveStatsDTO stats) {
         this.id = id;
         this.grid = grid;
         this.solved = solved;
         this.solvedPath = solvedPath;
+        this.stats = stats;
     }
 
     /**
@@ -50,17 +67,34 @@ public class MazeResponseDTO {
             }
         }
 
-        // Convert char[][] grid to List<String>
-        char[][] gridArray = maze.getGrid();
-        List<String> gridList = new ArrayList<>();
+        // Convert the maze grid to List<String>
+        List<String> gridList = new ArrayList<>(maze.getHeight());
 
-        for (char[] row : gridArray) {
-            gridList.add(new String(row));
+        byte[] row = new byte[maze.getWidth()];
+        for (int index = 0; index < maze.getHeight(); index++) {
+            maze.readRow(index, row, 0);
+            gridList.add(new String(row, StandardCharsets.ISO_8859_1));
         }
 
         return new MazeResponseDTO(id, gridList, maze.isSolved(), solvedPath);
     }
 
+    /**
+     * Creates a MazeResponseDTO from a Maze model object with a stats block.
+     *
+     * @param maze The Maze model object
+     * @param stats The statistics of the solver run, or null to leave the block out
+     * @return The corresponding MazeResponseDTO
+     */
+    public static MazeResponseDTO fromMaze(Integer id, Maze maze, SolveStats stats) {
+        MazeResponseDTO response = fromMaze(id, maze);
+        if (stats == null) {
+            return response;
+        }
+        return new MazeResponseDTO(
+                id, response.grid, response.solved, response.solvedPath, SolveStatsDTO.fromStats(stats));
+    }
+
     public Integer getId() {
         return id;
     }
@@ -76,4 +110,8 @@ public class MazeResponseDTO {
     public List<PositionDTO> getSolvedPath() {
         return solvedPath;
     }
+
+    public SolveStatsDTO getStats() {
+        return stats;
+    }
 }
@@ -0,0 +1,78 @@
+package io.jistud.mazesolver.server.controller.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.jistud.mazesolver.server.model.Position;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for a route between cells of a maze.
+ */
+@Schema(description = "Shortest route from a cell of a maze to a target cell or the end")
+public class RouteResponseDTO {
+
+    @Schema(description = "Unique identifier for the maze")
+    private final Integer mazeId;
+
+    @Schema(description = "Position the route starts from")
+    private final PositionDTO from;
+
+    @Schema(description = "Whether the target can be reached from the starting position")
+    private final boolean reachable;
+
+    @Schema(description = "Number of steps to the target (-1 if unreachable)")
+    private final int distance;
+
+    @Schema(description = "Sequence of positions from the starting position to the target (null if unreachable)")
+    private final List<PositionDTO> path;
+
+    public RouteResponseDTO(Integer mazeId, PositionDTO from, boolean reachable, int distance, List<PositionDTO> path) {
+        this.mazeId = mazeId;
+        this.from = from;
+        this.reachable = reachable;
+        this.distance = distance;
+        this.path = path;
+    }
+
+    /**
+     * Creates a RouteResponseDTO from a route of positions.
+     *
+     * @param mazeId The ID of the maze
+     * @param from The position the route starts from
+     * @param route The positions from the start to the target, or null if the target cannot be reached
+     * @return The corresponding RouteResponseDTO
+     */
+    public static RouteResponseDTO fromRoute(Integer mazeId, Position from, List<Position> route) {
+        if (route == null) {
+            return new RouteResponseDTO(mazeId, PositionDTO.fromPosition(from), false, -1, null);
+        }
+
+        List<PositionDTO> path = new ArrayList<>(route.size());
+        for (Position position : route) {
+            path.add(PositionDTO.fromPosition(position));
+        }
+
+        return new RouteResponseDTO(mazeId, PositionDTO.fromPosition(from), true, route.size() - 1, path);
+    }
+
+    public Integer getMazeId() {
+        return mazeId;
+    }
+
+    public PositionDTO getFrom() {
+        return from;
+    }
+
+    public boolean isReachable() {
+        return reachable;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public List<PositionDTO> getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,70 @@
+package io.jistud.mazesolver.server.controller.dto;
+
+import io.jistud.mazesolver.server.model.SolveStats;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for the statistics of a solver run.
+ */
+@Schema(description = "Cost of the solver run that produced the returned solution")
+public class SolveStatsDTO {
+
+    @Schema(description = "Number of cells the solver expanded")
+    private final long expandedNodes;
+
+    @Schema(description = "Largest number of cells the solver held in its frontier at once")
+    private final long peakFrontier;
+
+    @Schema(description = "Number of cells on the path found, 0 if none was found")
+    private final int pathLength;
+
+    @Schema(description = "Bytes allocated by the request thread during the run, -1 if not measured")
+    private final long allocatedBytes;
+
+    @Schema(description = "Wall-clock time of the run in nanoseconds")
+    private final long elapsedNanos;
+
+    public SolveStatsDTO(
+            long expandedNodes, long peakFrontier, int pathLength, long allocatedBytes, long elapsedNanos) {
+        this.expandedNodes = expandedNodes;
+        this.peakFrontier = peakFrontier;
+        this.pathLength = pathLength;
+        this.allocatedBytes = allocatedBytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Creates a SolveStatsDTO from solver run statistics.
+     *
+     * @param stats The statistics of the run
+     * @return The corresponding SolveStatsDTO
+     */
+    public static SolveStatsDTO fromStats(SolveStats stats) {
+        return new SolveStatsDTO(
+                stats.expandedNodes(),
+                stats.peakFrontier(),
+                stats.pathLength(),
+                stats.allocatedBytes(),
+                stats.elapsedNanos());
+    }
+
+    public long getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    public long getPeakFrontier() {
+        return peakFrontier;
+    }
+
+    public int getPathLength() {
+        return pathLength;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,106 @@
+package io.jistud.mazesolver.server.entity;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import io.jistud.mazesolver.server.model.CellEdit;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "maze_cell_edits", schema = "maze_solver")
+@EntityListeners(AuditingEntityListener.class)
+public class MazeCellEditEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "maze_id", nullable = false, updatable = false)
+    private Integer mazeId;
+
+    @Column(name = "row_index", nullable = false, updatable = false)
+    private int row;
+
+    @Column(name = "col_index", nullable = false, updatable = false)
+    private int col;
+
+    @Column(name = "cell_value", nullable = false, updatable = false, columnDefinition = "CHAR(1)")
+    private char value;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    // Default constructor for JPA
+    public MazeCellEditEntity() {}
+
+    public MazeCellEditEntity(Integer mazeId, int row, int col, char value) {
+        this.mazeId = mazeId;
+        this.row = row;
+        this.col = col;
+        this.value = value;
+    }
+
+    // Static factory method to create entity from domain model
+    public static MazeCellEditEntity fromDomain(Integer mazeId, CellEdit edit) {
+        return new MazeCellEditEntity(mazeId, edit.row(), edit.col(), edit.value());
+    }
+
+    // Convert entity to domain model
+    public CellEdit toDomain() {
+        return new CellEdit(row, col, value);
+    }
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getMazeId() {
+        return mazeId;
+    }
+
+    public void setMazeId(Integer mazeId) {
+        this.mazeId = mazeId;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    public int getCol() {
+        return col;
+    }
+
+    public void setCol(int col) {
+        this.col = col;
+    }
+
+    public char getValue() {
+        return value;
+    }
+
+    public void setValue(char value) {
+        this.value = value;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,6 +18,8 @@ import jakarta.persistence.*;
 @Entity
 @Table(name = "mazes", schema = "maze_solver")
 @EntityListeners(AuditingEntityListener.class)
+// Only write changed columns, so updates after cell edits do not rewrite the maze_data TEXT column
+@DynamicUpdate
 public class MazeEntity {
 
     @Id
@@ -51,6 +54,10 @@ public class MazeEntity {
     @Column(name = "solution_path", columnDefinition = "TEXT")
     private String solutionPath;
 
+    // Null until connectivity has been checked
+    @Column(name = "is_solvable")
+    private Boolean solvable;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -108,15 +115,17 @@ public class MazeEntity {
             throw new IllegalArgumentException("Maze must have exactly one start position");
         }
 
-        if (endPositions.size() == 1) {
+        // Mazes with several exits keep all of them in the maze data; the columns hold the first in row-major order
+        if (!endPositions.isEmpty()) {
             Position end = endPositions.getFirst();
             entity.setEndRow(end.row());
             entity.setEndCol(end.col());
         } else {
-            throw new IllegalArgumentException("Maze must have exactly one end position");
+            throw new IllegalArgumentException("Maze must have at least one end position");
         }
 
-        // Set solved status and solution path
+        // Set solvable and solved status and solution path
+        entity.setSolvable(maze.isSolvable());
         entity.setSolved(maze.isSolved());
         if (maze.isSolved() && maze.getSolvedPath() != null) {
             entity.setSolutionPath(serializePositions(maze.getSolvedPath()));
@@ -131,20 +140,8 @@ public class MazeEntity {
 
     // Convert entity to domain model
     public Maze toDomain() {
-        // Create a new char grid
-        char[][] grid = new char[height][width];
-
-        // Parse the maze data
-        String[] rows = mazeData.split("\n");
-        for (int row = 0; row < rows.length && row < height; row++) {
-            String rowData = rows[row];
-            for (int col = 0; col < rowData.length() && col < width; col++) {
-                grid[row][col] = rowData.charAt(col);
-            }
-        }
-
-        // Create the maze from the grid
-        Maze maze = new Maze(height, width, grid);
+        // Parse the maze data; unsolved mazes decode into a packed grid
+        Maze maze = Maze.parse(mazeData.split("\n"), height, width);
 
         // Set solution path if available
         if (solved && solutionPath != null && !solutionPath.isEmpty()) {
@@ -160,7 +157,7 @@ public class MazeEntity {
         return new Position(startRow, startCol);
     }
 
-    // Get end position as domain object
+    // Get end position as domain object, the first exit for mazes with several exits
     public Position getEndPosition() {
         return new Position(endRow, endCol);
     }
@@ -272,6 +269,14 @@ public class MazeEntity {
         this.solved = solved;
     }
 
+    public Boolean getSolvable() {
+        return solvable;
+    }
+
+    public void setSolvable(Boolean solvable) {
+        this.solvable = solvable;
+    }
+
     public String getSolutionPath() {
         return solutionPath;
     }
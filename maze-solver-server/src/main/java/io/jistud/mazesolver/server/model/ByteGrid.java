@@ -0,0 +1,129 @@
+package io.jistud.mazesolver.server.model;
+
+import java.util.Arrays;
+
+/**
+ * Maze grid holding one byte per cell in a single flat array.
+ * Every cell value is an ASCII character, so a byte holds any of them: half the size of a char[][] grid,
+ * without its per-row array headers and pointers, and with all rows laid out back to back.
+ * This is the default representation of a {@link Maze}.
+ */
+public final class ByteGrid implements MazeGrid {
+
+    private final int height;
+    private final int width;
+    private final byte[] cells;
+
+    /**
+     * Creates a grid with every cell empty.
+     *
+     * @param height the number of rows
+     * @param width the number of columns
+     * @throws IllegalArgumentException if the grid has more than Integer.MAX_VALUE cells
+     */
+    public ByteGrid(int height, int width) {
+        long cellCount = (long) height * width;
+        if (cellCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("A byte grid holds at most " + Integer.MAX_VALUE + " cells");
+        }
+        this.height = height;
+        this.width = width;
+        this.cells = new byte[(int) cellCount];
+        Arrays.fill(cells, (byte) Maze.EMPTY);
+    }
+
+    private ByteGrid(int height, int width, byte[] cells) {
+        this.height = height;
+        this.width = width;
+        this.cells = cells;
+    }
+
+    /**
+     * Creates a byte grid with the same cells as another grid of any representation.
+     *
+     * @param grid the grid to copy
+     * @return the new grid
+     */
+    public static ByteGrid copyOf(MazeGrid grid) {
+        if (grid instanceof ByteGrid byteGrid) {
+            return byteGrid.copy();
+        }
+        byte[] cells = new byte[grid.getCellCount()];
+        for (int index = 0; index < cells.length; index++) {
+            cells[index] = (byte) grid.get(index);
+        }
+        return new ByteGrid(grid.getHeight(), grid.getWidth(), cells);
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public char get(int index) {
+        return (char) cells[index];
+    }
+
+    @Override
+    public void set(int index, char value) {
+        cells[index] = (byte) value;
+    }
+
+    @Override
+    public boolean canHold(char value) {
+        return value < 0x80;
+    }
+
+    @Override
+    public ByteGrid copy() {
+        return new ByteGrid(height, width, cells.clone());
+    }
+
+    @Override
+    public long footprintBytes() {
+        return cells.length;
+    }
+
+    @Override
+    public void read(int from, byte[] target, int offset, int length) {
+        System.arraycopy(cells, from, target, offset, length);
+    }
+
+    @Override
+    public void write(int from, byte[] source, int offset, int length) {
+        System.arraycopy(source, offset, cells, from, length);
+    }
+
+    @Override
+    public void fill(int from, int to, char value) {
+        Arrays.fill(cells, from, to, (byte) value);
+    }
+
+    @Override
+    public int replace(int from, int to, char oldValue, char newValue) {
+        byte oldByte = (byte) oldValue;
+        byte newByte = (byte) newValue;
+        int replaced = 0;
+        for (int index = from; index < to; index++) {
+            if (cells[index] == oldByte) {
+                cells[index] = newByte;
+                replaced++;
+            }
+        }
+        return replaced;
+    }
+
+    @Override
+    public void appendRow(int row, StringBuilder target) {
+        int base = row * width;
+        for (int col = 0; col < width; col++) {
+            target.append((char) cells[base + col]);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package io.jistud.mazesolver.server.model;
+
+/**
+ * Record representing a change of a single maze cell to a wall or an empty cell.
+ */
+public record CellEdit(int row, int col, char value) {
+
+    public CellEdit {
+        if (value != Maze.WALL && value != Maze.EMPTY) {
+            throw new IllegalArgumentException("Cells can only be edited to a wall or an empty cell: '" + value + "'");
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.jistud.mazesolver.server.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Counts of every cell value of a maze plus the row-major indices of its start and end cells,
+ * kept up to date cell by cell as the maze changes so that neither needs a grid scan.
+ * Mazes have a handful of start and end cells, so they are kept in small unsorted int arrays
+ * and sorted only when listed.
+ */
+final class CellIndex {
+
+    private final int width;
+    private final int[] counts = new int[128];
+    private int[] starts = new int[1];
+    private int startCount;
+    private int[] ends = new int[4];
+    private int endCount;
+
+    CellIndex(int width) {
+        this.width = width;
+    }
+
+    /**
+     * Creates the index of a grid whose cells are all empty.
+     */
+    static CellIndex empty(int width, int cellCount) {
+        CellIndex index = new CellIndex(width);
+        index.counts[Maze.EMPTY] = cellCount;
+        return index;
+    }
+
+    /**
+     * Builds the index of a grid in a single scan.
+     */
+    static CellIndex scan(MazeGrid grid) {
+        CellIndex index = new CellIndex(grid.getWidth());
+        for (int cell = 0; cell < grid.getCellCount(); cell++) {
+            index.add(cell, grid.get(cell));
+        }
+        return index;
+    }
+
+    void add(int index, char value) {
+        counts[value]++;
+        if (value == Maze.START) {
+            if (startCount == starts.length) {
+                starts = Arrays.copyOf(starts, startCount * 2);
+            }
+            starts[startCount++] = index;
+        } else if (value == Maze.END) {
+            if (endCount == ends.length) {
+                ends = Arrays.copyOf(ends, endCount * 2);
+            }
+            ends[endCount++] = index;
+        }
+    }
+
+    void remove(int index, char value) {
+        counts[value]--;
+        if (value == Maze.START) {
+            startCount = removeFrom(starts, startCount, index);
+        } else if (value == Maze.END) {
+            endCount = removeFrom(ends, endCount, index);
+        }
+    }
+
+    /**
+     * Records that a cell changed from one value to another.
+     */
+    void replace(int index, char oldValue, char newValue) {
+        if (oldValue != newValue) {
+            remove(index, oldValue);
+            add(index, newValue);
+        }
+    }
+
+    /**
+     * Removes a run of cells of a grid from the index, before they are overwritten.
+     */
+    void removeRange(MazeGrid grid, int from, int to) {
+        for (int index = from; index < to; index++) {
+            remove(index, grid.get(index));
+        }
+    }
+
+    /**
+     * Adds a run of cells of a grid to the index, after they were written.
+     */
+    void addRange(MazeGrid grid, int from, int to) {
+        for (int index = from; index < to; index++) {
+            add(index, grid.get(index));
+        }
+    }
+
+    /**
+     * Adds a run of cells that were all set to one value.
+     */
+    void addFill(int from, int to, char value) {
+        if (value == Maze.START || value == Maze.END) {
+            for (int index = from; index < to; index++) {
+                add(index, value);
+            }
+        } else {
+            counts[value] += to - from;
+        }
+    }
+
+    /**
+     * Moves a number of cells from one value to another; neither may be start or end.
+     */
+    void adjust(char oldValue, char newValue, int cells) {
+        counts[oldValue] -= cells;
+        counts[newValue] += cells;
+    }
+
+    int count(char value) {
+        return value < counts.length ? counts[value] : 0;
+    }
+
+    /**
+     * Returns the positions of the start or end cells in row-major order.
+     */
+    List<Position> positions(char value) {
+        int[] indices = value == Maze.START ? Arrays.copyOf(starts, startCount) : Arrays.copyOf(ends, endCount);
+        Arrays.sort(indices);
+        List<Position> positions = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            positions.add(new Position(index / width, index % width));
+        }
+        return positions;
+    }
+
+    private static int removeFrom(int[] indices, int size, int index) {
+        for (int i = 0; i < size; i++) {
+            if (indices[i] == index) {
+                indices[i] = indices[size - 1];
+                return size - 1;
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,44 @@
+package io.jistud.mazesolver.server.model;
+
+/**
+ * Memory layout of the cells of a new maze.
+ */
+public enum GridLayout {
+
+    /**
+     * One byte per cell, row after row: {@link ByteGrid}. Best for narrow mazes and bulk row operations.
+     */
+    ROW_MAJOR,
+
+    /**
+     * One byte per cell in 64 x 64 tiles: {@link TiledGrid}. Keeps vertical neighbors close on very wide mazes.
+     */
+    TILED;
+
+    /**
+     * Creates an empty grid with this layout.
+     *
+     * @param height the number of rows
+     * @param width the number of columns
+     * @return the new grid
+     */
+    public MazeGrid create(int height, int width) {
+        return switch (this) {
+            case ROW_MAJOR -> new ByteGrid(height, width);
+            case TILED -> new TiledGrid(height, width);
+        };
+    }
+
+    /**
+     * Copies a grid into this layout.
+     *
+     * @param grid the grid to copy
+     * @return the new grid
+     */
+    public MazeGrid copyOf(MazeGrid grid) {
+        return switch (this) {
+            case ROW_MAJOR -> ByteGrid.copyOf(grid);
+            case TILED -> TiledGrid.copyOf(grid);
+        };
+    }
+}
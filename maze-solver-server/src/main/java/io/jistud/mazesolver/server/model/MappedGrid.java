@@ -0,0 +1,250 @@
+package io.jistud.mazesolver.server.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Maze grid holding one byte per cell outside the Java heap, either in a memory-mapped file or in
+ * direct buffers. The heap only holds the buffer handles, so garbage collection does not scan the
+ * cells, and solvers read them in place without copying them.
+ * <p>
+ * Only file-backed grids are free of JVM memory limits: {@link #allocate} and {@link #copy()} use
+ * direct buffers, which count against {@code -XX:MaxDirectMemorySize} (by default as large as the
+ * maximum heap) and fail with an {@link OutOfMemoryError} beyond it. Mazes that may not fit should be
+ * created with {@link #create} and copied with {@link #save}.
+ * <p>
+ * A file-backed grid is a 16-byte header (magic, height, width) followed by the cells in row-major
+ * order. Reopening a saved maze only maps the file; pages are loaded by the operating system as
+ * solvers touch them. Cells are stored XOR-ed with {@link Maze#EMPTY}, so zero bytes are empty cells
+ * and a new grid is empty without writing a byte, which keeps new files sparse.
+ * <p>
+ * A single buffer addresses at most 2 GiB, so the cells are spread over chunks of 1 GiB.
+ */
+public final class MappedGrid implements MazeGrid {
+
+    static final int MAGIC = 0x4D5A4731; // "MZG1"
+    static final int HEADER_BYTES = 16;
+
+    private static final int CHUNK_SHIFT = 30;
+    private static final byte EMPTY_MASK = (byte) Maze.EMPTY;
+
+    private final int height;
+    private final int width;
+    private final int chunkShift;
+    private final int chunkMask;
+    private final ByteBuffer[] chunks;
+
+    private MappedGrid(int height, int width, int chunkShift, ByteBuffer[] chunks) {
+        this.height = height;
+        this.width = width;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Allocates an empty grid in direct memory, outside the heap and without a backing file.
+     * The cells count against the direct memory limit of the JVM.
+     *
+     * @param height the number of rows
+     * @param width the number of columns
+     * @return the new grid
+     * @throws IllegalArgumentException if the dimensions are not positive or the grid has more than
+     *         Integer.MAX_VALUE cells
+     */
+    public static MappedGrid allocate(int height, int width) {
+        return allocate(height, width, CHUNK_SHIFT);
+    }
+
+    static MappedGrid allocate(int height, int width, int chunkShift) {
+        long cellCount = checkedCellCount(height, width);
+        ByteBuffer[] chunks = new ByteBuffer[chunkCount(cellCount, chunkShift)];
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            chunks[chunk] = ByteBuffer.allocateDirect((int) chunkLength(cellCount, chunk, chunkShift));
+        }
+        return new MappedGrid(height, width, chunkShift, chunks);
+    }
+
+    /**
+     * Creates a file holding an empty grid and maps it. An existing file is overwritten.
+     *
+     * @param file the file to create
+     * @param height the number of rows
+     * @param width the number of columns
+     * @return the grid mapped from the file; writes go to the file
+     * @throws IllegalArgumentException if the dimensions are not positive or the grid has more than
+     *         Integer.MAX_VALUE cells
+     * @throws UncheckedIOException if the file cannot be created or mapped
+     */
+    public static MappedGrid create(Path file, int height, int width) {
+        return create(file, height, width, CHUNK_SHIFT);
+    }
+
+    static MappedGrid create(Path file, int height, int width, int chunkShift) {
+        long cellCount = checkedCellCount(height, width);
+        try (FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(height).putInt(width).putInt(0).flip();
+            channel.write(header, 0);
+            return map(channel, height, width, cellCount, chunkShift);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create maze grid file " + file, e);
+        }
+    }
+
+    /**
+     * Maps a grid file written by {@link #create} or {@link #save}. Nothing is read besides the header.
+     *
+     * @param file the grid file
+     * @return the grid mapped from the file; writes go to the file
+     * @throws IllegalArgumentException if the file is not a maze grid file or is truncated
+     * @throws UncheckedIOException if the file cannot be opened or mapped
+     */
+    public static MappedGrid open(Path file) {
+        return open(file, CHUNK_SHIFT);
+    }
+
+    static MappedGrid open(Path file, int chunkShift) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            channel.read(header, 0);
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a maze grid file: " + file);
+            }
+            int height = header.getInt();
+            int width = header.getInt();
+            long cellCount = checkedCellCount(height, width);
+            if (channel.size() < HEADER_BYTES + cellCount) {
+                throw new IllegalArgumentException("Maze grid file is truncated: " + file);
+            }
+            return map(channel, height, width, cellCount, chunkShift);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open maze grid file " + file, e);
+        }
+    }
+
+    /**
+     * Writes a grid of any representation to a new file and maps it.
+     *
+     * @param grid the grid to save
+     * @param file the file to create; an existing file is overwritten
+     * @return the grid mapped from the file
+     * @throws UncheckedIOException if the file cannot be created or mapped
+     */
+    public static MappedGrid save(MazeGrid grid, Path file) {
+        MappedGrid mapped = create(file, grid.getHeight(), grid.getWidth());
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            char value = grid.get(index);
+            if (value != Maze.EMPTY) {
+                mapped.set(index, value);
+            }
+        }
+        mapped.force();
+        return mapped;
+    }
+
+    private static MappedGrid map(FileChannel channel, int height, int width, long cellCount, int chunkShift)
+            throws IOException {
+        ByteBuffer[] chunks = new ByteBuffer[chunkCount(cellCount, chunkShift)];
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            // Mapping past the end of the file grows it with zero bytes, which read back as empty cells
+            chunks[chunk] = channel.map(
+                    FileChannel.MapMode.READ_WRITE,
+                    HEADER_BYTES + ((long) chunk << chunkShift),
+                    chunkLength(cellCount, chunk, chunkShift));
+        }
+        return new MappedGrid(height, width, chunkShift, chunks);
+    }
+
+    private static long checkedCellCount(int height, int width) {
+        if (height <= 0 || width <= 0) {
+            throw new IllegalArgumentException("Height and width must be greater than 0");
+        }
+        long cellCount = (long) height * width;
+        if (cellCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("A maze grid holds at most " + Integer.MAX_VALUE + " cells");
+        }
+        return cellCount;
+    }
+
+    private static int chunkCount(long cellCount, int chunkShift) {
+        return (int) ((cellCount + (1L << chunkShift) - 1) >>> chunkShift);
+    }
+
+    private static long chunkLength(long cellCount, int chunk, int chunkShift) {
+        return Math.min(1L << chunkShift, cellCount - ((long) chunk << chunkShift));
+    }
+
+    /**
+     * Writes changed cells of a file-backed grid through to the storage device.
+     * Direct grids have no file, and the call does nothing.
+     */
+    public void force() {
+        for (ByteBuffer chunk : chunks) {
+            if (chunk instanceof MappedByteBuffer mapped) {
+                mapped.force();
+            }
+        }
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public char get(int index) {
+        return (char) ((chunks[index >>> chunkShift].get(index & chunkMask) ^ EMPTY_MASK) & 0xFF);
+    }
+
+    @Override
+    public void set(int index, char value) {
+        chunks[index >>> chunkShift].put(index & chunkMask, (byte) (value ^ EMPTY_MASK));
+    }
+
+    @Override
+    public boolean canHold(char value) {
+        return value < 0x80;
+    }
+
+    /**
+     * Returns a copy in direct memory; copying a file-backed grid does not create another file, so the
+     * copy counts against the direct memory limit of the JVM however large the file is.
+     *
+     * @return the copy
+     */
+    @Override
+    public MappedGrid copy() {
+        MappedGrid copy = allocate(height, width, chunkShift);
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            copy.chunks[chunk].put(0, chunks[chunk], 0, chunks[chunk].capacity());
+        }
+        return copy;
+    }
+
+    /**
+     * Returns 0: the cells live outside the heap.
+     *
+     * @return 0
+     */
+    @Override
+    public long footprintBytes() {
+        return 0;
+    }
+}
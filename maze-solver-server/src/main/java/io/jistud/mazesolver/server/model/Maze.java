@@ -1,24 +1,40 @@
 package io.jistud.mazesolver.server.model;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Set;
+import java.util.Objects;
+
+import io.jistud.mazesolver.server.model.solver.BreadthFirstSolver;
+import io.jistud.mazesolver.server.model.solver.ComponentLabels;
+import io.jistud.mazesolver.server.model.solver.CorridorMask;
+import io.jistud.mazesolver.server.model.solver.DeadEndFilter;
+import io.jistud.mazesolver.server.model.solver.NearestExitSolver;
 
 /**
- * Represents a maze with a 2D grid of characters.
+ * Represents a maze with a 2D grid of characters, stored in a {@link MazeGrid}.
  * The maze can contain:
  * 's' - start position
- * 'e' - end position
+ * 'e' - end position (exit); a maze may have several, and is then solved towards the nearest one by the cost
+ *       model of the solver, see {@link #multiExitSolverFor(MazeSolver)}
  * 'p' - path (solution)
  * 'w' - wall
  * ' ' - empty cell
+ * '2'-'9' - weighted terrain; entering the cell costs its digit instead of 1
  */
 public class Maze {
 
     private final int height;
     private final int width;
-    private final char[][] grid;
+    private MazeGrid grid;
+    // The snapshot whose grid this maze reads in place, until the first write copies it
+    private MazeSnapshot snapshot = null;
     private boolean isSolved = false;
     private List<Position> solvedPath = null;
+    private SolveStats solveStats = null;
+    private CorridorMask corridorMask = null;
+    private ComponentLabels componentLabels = null;
+    // Built on first use for adopted grids, then kept up to date by every write through the maze
+    private CellIndex cellIndex = null;
 
     // Valid cell values
     public static final char START = 's';
@@ -27,6 +43,11 @@ public class Maze {
     public static final char WALL = 'w';
     public static final char EMPTY = ' ';
 
+    // Weighted terrain cells are the digits MIN_TERRAIN to MAX_TERRAIN
+    public static final char MIN_TERRAIN = '2';
+    public static final char MAX_TERRAIN = '9';
+    public static final int MAX_MOVE_COST = MAX_TERRAIN - '0';
+
     private static final char[] VALID_CELL_VALUES = {START, END, PATH, WALL, EMPTY};
 
     /**
@@ -44,14 +65,47 @@ public class Maze {
 
         this.height = height;
         this.width = width;
-        this.grid = new char[height][width];
+        this.grid = new ByteGrid(height, width);
+        this.cellIndex = CellIndex.empty(width, height * width);
+    }
 
-        // Initialize all cells as empty
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                this.grid[row][col] = EMPTY;
-            }
+    /**
+     * Creates a new maze backed by the given grid.
+     * The grid is adopted as is, without copying or validating its cells, so builders and codecs
+     * can fill a grid once and hand it over.
+     *
+     * @param grid the grid holding the cells of the maze
+     * @throws IllegalArgumentException if the grid height or width is less than or equal to 0
+     */
+    public Maze(MazeGrid grid) {
+        if (grid.getHeight() <= 0 || grid.getWidth() <= 0) {
+            throw new IllegalArgumentException("Height and width must be greater than 0");
         }
+
+        this.height = grid.getHeight();
+        this.width = grid.getWidth();
+        this.grid = grid;
+    }
+
+    /**
+     * Creates a new maze with the specified dimensions and cell layout.
+     * All cells are initialized as empty.
+     *
+     * @param height the height of the maze
+     * @param width the width of the maze
+     * @param layout the memory layout of the cells
+     * @throws IllegalArgumentException if height or width is less than or equal to 0
+     */
+    public Maze(int height, int width, GridLayout layout) {
+        this(layout.create(validDimension(height), validDimension(width)));
+        this.cellIndex = CellIndex.empty(width, height * width);
+    }
+
+    private static int validDimension(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Height and width must be greater than 0");
+        }
+        return size;
     }
 
     /**
@@ -83,9 +137,10 @@ public class Maze {
 
         this.height = height;
         this.width = width;
-        this.grid = new char[height][width];
+        this.grid = new ByteGrid(height, width);
+        this.cellIndex = new CellIndex(width);
 
-        // Create a deep copy of the grid and validate cell values
+        // Create a deep copy of the grid, validating and indexing cell values in the same pass
         for (int row = 0; row < height; row++) {
             for (int col = 0; col < width; col++) {
                 char value = grid[row][col];
@@ -93,9 +148,69 @@ public class Maze {
                     throw new IllegalArgumentException(
                             "Invalid cell value at position [" + row + ", " + col + "]: " + value);
                 }
-                this.grid[row][col] = value;
+                int index = row * width + col;
+                this.grid.set(index, value);
+                cellIndex.add(index, value);
+            }
+        }
+    }
+
+    /**
+     * Creates a view of the grid of a {@link MazeSnapshot}.
+     * The grid is read in place; the first write through the view copies it first, so the snapshot never
+     * sees a change. Until then the corridor mask and component labels are those cached on the snapshot.
+     */
+    Maze(MazeGrid grid, MazeSnapshot snapshot) {
+        this(grid);
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Creates a maze from its text rows, one character per cell.
+     * Rows holding only walls, empty cells, start and end are decoded straight into a 2-bit {@link PackedGrid};
+     * anything else, such as a painted path or terrain, goes into a {@link ByteGrid}.
+     *
+     * @param rows the rows of the maze, top to bottom
+     * @param height the number of rows to read
+     * @param width the number of cells to read from every row
+     * @return the decoded maze
+     * @throws IllegalArgumentException if height or width is less than or equal to 0,
+     *         or if a row is too short or contains invalid cell values
+     */
+    public static Maze parse(String[] rows, int height, int width) {
+        if (height <= 0 || width <= 0) {
+            throw new IllegalArgumentException("Height and width must be greater than 0");
+        }
+        if (rows.length < height) {
+            throw new IllegalArgumentException("Grid height does not match specified height");
+        }
+
+        boolean packable = true;
+        CellIndex cellIndex = new CellIndex(width);
+        for (int row = 0; row < height; row++) {
+            String cells = rows[row];
+            if (cells.length() < width) {
+                throw new IllegalArgumentException("Grid width at row " + row + " does not match specified width");
+            }
+            for (int col = 0; col < width; col++) {
+                char value = cells.charAt(col);
+                if (!isValidCellValue(value)) {
+                    throw new IllegalArgumentException(
+                            "Invalid cell value at position [" + row + ", " + col + "]: " + value);
+                }
+                packable &= value == WALL || value == EMPTY || value == START || value == END;
+                cellIndex.add(row * width + col, value);
             }
         }
+
+        MazeGrid grid = packable ? new PackedGrid(height, width) : new ByteGrid(height, width);
+        for (int row = 0; row < height; row++) {
+            // Validated cells are ASCII, so each row encodes to one byte per cell
+            grid.write(row * width, rows[row].getBytes(StandardCharsets.ISO_8859_1), 0, width);
+        }
+        Maze maze = new Maze(grid);
+        maze.cellIndex = cellIndex;
+        return maze;
     }
 
     /**
@@ -116,10 +231,34 @@ public class Maze {
         return width;
     }
 
-    public char[][] getGrid() {
+    /**
+     * Returns the live grid holding the cells of the maze, for solvers and codecs that read cells by index.
+     * Changes made directly to the grid are not tracked by the cached corridor mask, component labels
+     * and cell index; use {@link #setCell} to change cells.
+     *
+     * @return the grid
+     */
+    public MazeGrid getGrid() {
         return grid;
     }
 
+    /**
+     * Switches the maze to a 2-bit packed grid if every cell is a wall, empty, start or end cell.
+     * Writing a path or terrain cell later switches the maze back to a byte grid.
+     *
+     * @return true if the maze is now backed by a packed grid
+     */
+    public boolean pack() {
+        if (grid instanceof PackedGrid) {
+            return true;
+        }
+        if (!PackedGrid.canPack(grid)) {
+            return false;
+        }
+        grid = PackedGrid.pack(grid);
+        return true;
+    }
+
     /**
      * Gets the value of the cell at the specified position.
      *
@@ -132,7 +271,7 @@ public class Maze {
         if (!isValidPosition(row, col)) {
             throw new IndexOutOfBoundsException("Position [" + row + ", " + col + "] is outside the maze boundaries");
         }
-        return grid[row][col];
+        return grid.get(row, col);
     }
 
     /**
@@ -140,7 +279,7 @@ public class Maze {
      *
      * @param row the row index
      * @param col the column index
-     * @param value the character value to set ('s', 'e', 'p', 'w', ' ')
+     * @param value the character value to set ('s', 'e', 'p', 'w', ' ' or a terrain digit '2'-'9')
      * @throws IndexOutOfBoundsException if the position is outside the maze boundaries
      * @throws IllegalArgumentException if the value is not one of the allowed characters
      */
@@ -153,7 +292,214 @@ public class Maze {
             throw new IllegalArgumentException("Invalid cell value: " + value);
         }
 
-        grid[row][col] = value;
+        int index = row * width + col;
+        MazeGrid target = writableGridFor(value);
+        if (cellIndex != null) {
+            cellIndex.replace(index, target.get(index), value);
+        }
+        target.set(index, value);
+        cellsChanged();
+    }
+
+    /**
+     * Sets every cell of a rectangle to one value.
+     * Bounds and value are validated once for the whole rectangle, and each row is filled in one step.
+     *
+     * @param row the top row of the rectangle
+     * @param col the left column of the rectangle
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param value the cell value to set
+     * @throws IndexOutOfBoundsException if the rectangle is not inside the maze
+     * @throws IllegalArgumentException if the value is not one of the allowed characters
+     */
+    public void fillRect(int row, int col, int rows, int cols, char value) {
+        checkRect(row, col, rows, cols);
+        if (!isValidCellValue(value)) {
+            throw new IllegalArgumentException("Invalid cell value: " + value);
+        }
+
+        MazeGrid target = writableGridFor(value);
+        for (int r = row; r < row + rows; r++) {
+            int from = r * width + col;
+            if (cellIndex != null) {
+                cellIndex.removeRange(target, from, from + cols);
+                cellIndex.addFill(from, from + cols, value);
+            }
+            target.fill(from, from + cols, value);
+        }
+        cellsChanged();
+    }
+
+    /**
+     * Changes every cell of a rectangle holding one value to another value.
+     *
+     * @param row the top row of the rectangle
+     * @param col the left column of the rectangle
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param oldValue the value to replace
+     * @param newValue the replacement value
+     * @return the number of cells changed
+     * @throws IndexOutOfBoundsException if the rectangle is not inside the maze
+     * @throws IllegalArgumentException if the new value is not one of the allowed characters
+     */
+    public int replaceCells(int row, int col, int rows, int cols, char oldValue, char newValue) {
+        checkRect(row, col, rows, cols);
+        if (!isValidCellValue(newValue)) {
+            throw new IllegalArgumentException("Invalid cell value: " + newValue);
+        }
+        if (oldValue == newValue || countCells(oldValue) == 0) {
+            return 0;
+        }
+
+        MazeGrid target = writableGridFor(newValue);
+        int replaced;
+        if (oldValue == START || oldValue == END || newValue == START || newValue == END) {
+            replaced = replaceTrackedCells(target, row, col, rows, cols, oldValue, newValue);
+        } else {
+            replaced = target.replaceRect(row, col, rows, cols, oldValue, newValue);
+            cellIndex.adjust(oldValue, newValue, replaced);
+        }
+        if (replaced > 0) {
+            cellsChanged();
+        }
+        return replaced;
+    }
+
+    /**
+     * Replaces cells of a rectangle one row buffer at a time, recording each changed cell in the cell index,
+     * which tracks start and end cells by position rather than by count.
+     */
+    private int replaceTrackedCells(
+            MazeGrid target, int row, int col, int rows, int cols, char oldValue, char newValue) {
+        byte[] buffer = new byte[cols];
+        int replaced = 0;
+        for (int r = row; r < row + rows; r++) {
+            int from = r * width + col;
+            target.read(from, buffer, 0, cols);
+            for (int i = 0; i < cols; i++) {
+                if (buffer[i] == (byte) oldValue) {
+                    target.set(from + i, newValue);
+                    cellIndex.replace(from + i, oldValue, newValue);
+                    replaced++;
+                }
+            }
+        }
+        return replaced;
+    }
+
+    /**
+     * Copies a rectangle of cells from another maze, or from another part of this one, row by row.
+     * Overlapping regions of the same maze are copied as if through a temporary buffer.
+     *
+     * @param source the maze to copy from
+     * @param sourceRow the top row of the rectangle in the source maze
+     * @param sourceCol the left column of the rectangle in the source maze
+     * @param row the top row of the rectangle in this maze
+     * @param col the left column of the rectangle in this maze
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @throws IndexOutOfBoundsException if the rectangle is not inside either maze
+     */
+    public void copyRegion(Maze source, int sourceRow, int sourceCol, int row, int col, int rows, int cols) {
+        source.checkRect(sourceRow, sourceCol, rows, cols);
+        checkRect(row, col, rows, cols);
+
+        byte[] buffer = new byte[cols];
+        // Copy bottom-up when moving a region down within this maze, so no source row is overwritten first
+        boolean bottomUp = source == this && row > sourceRow;
+        for (int i = 0; i < rows; i++) {
+            int r = bottomUp ? rows - 1 - i : i;
+            source.grid.read((sourceRow + r) * source.width + sourceCol, buffer, 0, cols);
+            writeCells((row + r) * width + col, buffer, 0, cols);
+        }
+        cellsChanged();
+    }
+
+    /**
+     * Copies the cells of a row into a caller buffer, one character per byte.
+     *
+     * @param row the row index
+     * @param buffer the buffer to copy into
+     * @param offset the position in the buffer of the first cell
+     * @throws IndexOutOfBoundsException if the row is outside the maze or the buffer is too short
+     */
+    public void readRow(int row, byte[] buffer, int offset) {
+        checkRect(row, 0, 1, width);
+        Objects.checkFromIndexSize(offset, width, buffer.length);
+        grid.read(row * width, buffer, offset, width);
+    }
+
+    /**
+     * Sets the cells of a row from a caller buffer, one character per byte.
+     * The values are validated in one pass before any cell is changed.
+     *
+     * @param row the row index
+     * @param buffer the buffer holding the new cell values
+     * @param offset the position in the buffer of the first cell
+     * @throws IndexOutOfBoundsException if the row is outside the maze or the buffer is too short
+     * @throws IllegalArgumentException if a value is not one of the allowed characters
+     */
+    public void writeRow(int row, byte[] buffer, int offset) {
+        checkRect(row, 0, 1, width);
+        Objects.checkFromIndexSize(offset, width, buffer.length);
+        for (int col = 0; col < width; col++) {
+            char value = (char) (buffer[offset + col] & 0xFF);
+            if (!isValidCellValue(value)) {
+                throw new IllegalArgumentException(
+                        "Invalid cell value at position [" + row + ", " + col + "]: " + value);
+            }
+        }
+        writeCells(row * width, buffer, offset, width);
+        cellsChanged();
+    }
+
+    /**
+     * Stores a run of valid cell values, widening the grid if it cannot hold one of them.
+     */
+    private void writeCells(int from, byte[] buffer, int offset, int length) {
+        MazeGrid target = writableGridFor(EMPTY);
+        for (int i = 0; i < length; i++) {
+            char value = (char) buffer[offset + i];
+            if (!target.canHold(value)) {
+                target = writableGridFor(value);
+                break;
+            }
+        }
+        if (cellIndex != null) {
+            cellIndex.removeRange(target, from, from + length);
+        }
+        target.write(from, buffer, offset, length);
+        if (cellIndex != null) {
+            cellIndex.addRange(target, from, from + length);
+        }
+    }
+
+    private void checkRect(int row, int col, int rows, int cols) {
+        if (rows < 0 || cols < 0 || !isValidPosition(row, col) || row + rows > height || col + cols > width) {
+            throw new IndexOutOfBoundsException(
+                    "Region [" + row + ", " + col + "] of " + rows + " x " + cols + " is outside the maze boundaries");
+        }
+    }
+
+    /**
+     * Drops the cached data derived from the cells after they changed.
+     */
+    private void cellsChanged() {
+        corridorMask = null;
+        componentLabels = null;
+    }
+
+    private MazeGrid writableGridFor(char value) {
+        if (!grid.canHold(value)) {
+            grid = ByteGrid.copyOf(grid);
+            snapshot = null;
+        } else if (snapshot != null) {
+            grid = grid.copy();
+            snapshot = null;
+        }
+        return grid;
     }
 
     /**
@@ -168,17 +514,25 @@ public class Maze {
     }
 
     /**
-     * Finds all cells with the specified value.
+     * Finds all cells with the specified value, in row-major order.
+     * Start and end cells are looked up in the cell index without scanning the grid.
      *
      * @param value the value to search for
      * @return a list of positions that contain the specified value
      */
     public List<Position> findCellsWithValue(char value) {
+        if (value == START || value == END) {
+            return cellIndex().positions(value);
+        }
+        if (countCells(value) == 0) {
+            return new java.util.ArrayList<>();
+        }
+
         List<Position> positions = new java.util.ArrayList<>();
 
         for (int row = 0; row < height; row++) {
             for (int col = 0; col < width; col++) {
-                if (grid[row][col] == value) {
+                if (grid.get(row, col) == value) {
                     positions.add(new Position(row, col));
                 }
             }
@@ -187,6 +541,94 @@ public class Maze {
         return positions;
     }
 
+    /**
+     * Returns the number of cells holding the specified value, from the cell index.
+     *
+     * @param value the value to count
+     * @return the number of cells with that value
+     */
+    public int countCells(char value) {
+        return cellIndex().count(value);
+    }
+
+    private CellIndex cellIndex() {
+        if (cellIndex == null) {
+            cellIndex = CellIndex.scan(grid);
+        }
+        return cellIndex;
+    }
+
+    /**
+     * Returns the cells left after filling every dead end between the start and end positions.
+     * The mask is computed on first use and cached with the maze until a cell is changed with setCell;
+     * an unchanged view of a {@link MazeSnapshot} uses the mask cached on the snapshot.
+     * Changes made directly to the grid returned by getGrid() are not tracked.
+     *
+     * @return the corridor mask, or null if the maze does not have exactly one start and one end position
+     */
+    public CorridorMask getCorridorMask() {
+        if (snapshot != null) {
+            return snapshot.getCorridorMask();
+        }
+        if (corridorMask == null) {
+            List<Position> startPositions = findCellsWithValue(START);
+            List<Position> endPositions = findCellsWithValue(END);
+            if (startPositions.size() != 1 || endPositions.size() != 1) {
+                return null;
+            }
+            corridorMask = DeadEndFilter.fill(this, startPositions.getFirst(), endPositions.getFirst());
+        }
+        return corridorMask;
+    }
+
+    /**
+     * Returns the connected-component id of every cell, computing it on first use.
+     * The labels are cached with the maze until a cell is changed with setCell;
+     * an unchanged view of a {@link MazeSnapshot} uses the labels cached on the snapshot.
+     * Changes made directly to the grid returned by getGrid() are not tracked.
+     *
+     * @return the component labels
+     */
+    public ComponentLabels getComponentLabels() {
+        if (snapshot != null) {
+            return snapshot.getComponentLabels();
+        }
+        if (componentLabels == null) {
+            componentLabels = ComponentLabels.label(this);
+        }
+        return componentLabels;
+    }
+
+    /**
+     * Checks whether an end position can be reached from the start position without searching for a path.
+     *
+     * @return true if the start position shares its connected component with at least one end position
+     * @throws IllegalStateException if the maze does not have exactly one start and at least one end position
+     */
+    public boolean isSolvable() {
+        List<Position> exits = findCellsWithValue(END);
+        return !reachableExits(requireStart(exits), exits).isEmpty();
+    }
+
+    /**
+     * Returns the single start position, checking that the maze also has an end position.
+     */
+    private Position requireStart(List<Position> exits) {
+        List<Position> startPositions = findCellsWithValue(START);
+        if (startPositions.size() != 1 || exits.isEmpty()) {
+            throw new IllegalStateException("Maze must have exactly one start position and at least one end position");
+        }
+        return startPositions.getFirst();
+    }
+
+    /**
+     * Returns the end positions in the connected component of the start position.
+     */
+    private List<Position> reachableExits(Position start, List<Position> exits) {
+        ComponentLabels labels = getComponentLabels();
+        return exits.stream().filter(exit -> labels.isConnected(start, exit)).toList();
+    }
+
     /**
      * Returns whether the maze has been solved.
      *
@@ -205,6 +647,15 @@ public class Maze {
         return solvedPath;
     }
 
+    /**
+     * Gets the statistics of the last solver run on this maze.
+     *
+     * @return the statistics, or null if the maze was not solved with {@link #solve(MazeSolver, SolveBudget)}
+     */
+    public SolveStats getSolveStats() {
+        return solveStats;
+    }
+
     /**
      * Sets the solved path for the maze.
      * Also updates the isSolved flag based on whether the path is valid (not null and not empty).
@@ -217,77 +668,118 @@ public class Maze {
     }
 
     /**
-     * Attempts to solve the maze using a depth-first search algorithm.
-     * Updates the grid with the solution path if successful.
+     * Attempts to solve the maze using an iterative breadth-first search.
+     * Updates the grid with the shortest solution path if successful.
      *
      * @return true if the maze is solvable, false otherwise
-     * @throws IllegalStateException if the maze does not have exactly one start and one end position
+     * @throws IllegalStateException if the maze does not have exactly one start and at least one end position
      */
     public boolean solve() {
-        Position startPosition = null;
-        Position endPosition = null;
-
-        List<Position> startPositions = findCellsWithValue(START);
-        List<Position> endPositions = findCellsWithValue(END);
+        return solve(new BreadthFirstSolver());
+    }
 
-        if (startPositions.size() != 1 || endPositions.size() != 1) {
-            throw new IllegalStateException("Maze must have exactly one start position and one end position");
-        }
+    /**
+     * Attempts to solve the maze using the given solver.
+     * Updates the grid with the solution path if successful.
+     * Mazes whose start and end positions are not connected are rejected without running the solver.
+     *
+     * @param solver the solver used to search for a path
+     * @return true if the maze is solvable, false otherwise
+     * @throws IllegalStateException if the maze does not have exactly one start and at least one end position
+     */
+    public boolean solve(MazeSolver solver) {
+        return solve(solver, SolveBudget.unlimited()).isSolved();
+    }
 
-        startPosition = startPositions.getFirst();
-        endPosition = endPositions.getFirst();
-        java.util.Set<Position> visited = new java.util.HashSet<>();
-        List<Position> answerPath = dfsTraverse(startPosition, endPosition, visited, new java.util.ArrayList<>());
-        if (answerPath == null || answerPath.isEmpty()) {
-            setSolvedPath(null);
-            return false;
+    /**
+     * Attempts to solve the maze using the given solver within a budget.
+     * Updates the grid with the solution path if successful. A run that exceeds its budget
+     * leaves the maze unsolved without telling whether a path exists.
+     * Mazes whose start and end positions are not connected are rejected without running the solver.
+     * Mazes with several end positions are solved towards the nearest reachable one in a single search,
+     * by the given solver if it is a {@link MultiExitSolver} and otherwise by a {@link NearestExitSolver},
+     * see {@link #multiExitSolverFor(MazeSolver)}.
+     * The time, allocations and search effort of the run are kept as {@link #getSolveStats()}.
+     *
+     * @param solver the solver used to search for a path
+     * @param budget the deadline, expansion limit and cancellation flag of the run
+     * @return the result of the run, whose status tells the three outcomes apart
+     * @throws IllegalStateException if the maze does not have exactly one start and at least one end position
+     */
+    public SolveResult solve(MazeSolver solver, SolveBudget budget) {
+        List<Position> allExits = findCellsWithValue(END);
+        Position startPosition = requireStart(allExits);
+        SolveResult result =
+                search(solver, startPosition, allExits.size() > 1, reachableExits(startPosition, allExits), budget);
+        if (result.isSolved()) {
+            paintSolution(result.path());
         } else {
-            // Update the grid with the solution answerPath
-            // TODO("Consider to update grid in setSolvedPath Method")
-            for (Position position : answerPath) {
-                char cell = grid[position.row()][position.col()];
-                if (cell == EMPTY) grid[position.row()][position.col()] = PATH;
-            }
-
-            // Store the solution answerPath
-            setSolvedPath(answerPath);
-            return true;
+            setSolvedPath(null);
         }
+        return result;
     }
 
-    private List<Position> dfsTraverse(
-            Position currentPosition, Position endPosition, Set<Position> visited, List<Position> pathSteps) {
-        if (currentPosition == null || visited.contains(currentPosition)) return null;
-        visited.add(currentPosition);
-        List<Position> newPathSteps = new java.util.ArrayList<>(pathSteps);
-        newPathSteps.add(currentPosition);
-        if (currentPosition.equals(endPosition)) return newPathSteps;
-        int rowIndex = currentPosition.row();
-        int colIndex = currentPosition.col();
-        Position upPosition = null;
-        if (isValidPosition(rowIndex - 1, colIndex) && grid[rowIndex - 1][colIndex] != Maze.WALL) {
-            upPosition = new Position(rowIndex - 1, colIndex);
-        }
-        Position downPosition = null;
-        if (isValidPosition(rowIndex + 1, colIndex) && grid[rowIndex + 1][colIndex] != Maze.WALL) {
-            downPosition = new Position(rowIndex + 1, colIndex);
-        }
-        Position leftPosition = null;
-        if (isValidPosition(rowIndex, colIndex - 1) && grid[rowIndex][colIndex - 1] != Maze.WALL) {
-            leftPosition = new Position(rowIndex, colIndex - 1);
+    /**
+     * Runs the search of {@link #solve(MazeSolver, SolveBudget)} without touching the grid or the solved path,
+     * keeping the statistics of the run as {@link #getSolveStats()}.
+     *
+     * @param solver the solver of the run, see {@link #multiExitSolverFor(MazeSolver)} for several end positions
+     * @param startPosition the start position
+     * @param multiExit whether the maze has several end positions
+     * @param exits the end positions reachable from the start position
+     * @param budget the deadline, expansion limit and cancellation flag of the run
+     * @return the result of the run
+     */
+    SolveResult search(
+            MazeSolver solver, Position startPosition, boolean multiExit, List<Position> exits, SolveBudget budget) {
+        if (exits.isEmpty()) {
+            SolveResult rejected = new SolveResult(null, 0);
+            solveStats = SolveStats.of(rejected, 0, 0);
+            return rejected;
         }
-        Position rightPosition = null;
-        if (isValidPosition(rowIndex, colIndex + 1) && grid[rowIndex][colIndex + 1] != Maze.WALL) {
-            rightPosition = new Position(rowIndex, colIndex + 1);
+
+        long allocatedBefore = SolveStats.currentThreadAllocatedBytes();
+        long startNanos = System.nanoTime();
+        SolveResult result = !multiExit
+                ? solver.solve(this, startPosition, exits.getFirst(), budget)
+                : multiExitSolverFor(solver).solve(this, startPosition, exits, budget);
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long allocatedAfter = SolveStats.currentThreadAllocatedBytes();
+        solveStats = SolveStats.of(result, allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore, elapsedNanos);
+        return result;
+    }
+
+    /**
+     * Returns the solver that searches a maze with several end positions in place of the given one: the solver
+     * itself if it is a {@link MultiExitSolver}, and otherwise a {@link NearestExitSolver}. Every solver that is
+     * not a {@link MultiExitSolver} finds a path with the fewest steps, so the nearest exit search returns a path
+     * just as short.
+     *
+     * @param solver the solver chosen for the run
+     * @return the solver that runs on a maze with several end positions
+     */
+    public static MultiExitSolver multiExitSolverFor(MazeSolver solver) {
+        return solver instanceof MultiExitSolver multiExitSolver ? multiExitSolver : new NearestExitSolver();
+    }
+
+    /**
+     * Marks the empty cells of a solution path as PATH and stores the path as the solved path.
+     *
+     * @param answerPath the solution path
+     */
+    void paintSolution(List<Position> answerPath) {
+        // TODO("Consider to update grid in setSolvedPath Method")
+        MazeGrid target = writableGridFor(PATH);
+        for (Position position : answerPath) {
+            int index = position.row() * width + position.col();
+            if (target.get(index) == EMPTY) {
+                target.set(index, PATH);
+                if (cellIndex != null) {
+                    cellIndex.replace(index, EMPTY, PATH);
+                }
+            }
         }
-        List<Position> upPathSteps = dfsTraverse(upPosition, endPosition, visited, newPathSteps);
-        if (upPathSteps != null) return upPathSteps;
-        List<Position> downPathSteps = dfsTraverse(downPosition, endPosition, visited, newPathSteps);
-        if (downPathSteps != null) return downPathSteps;
-        List<Position> leftPathSteps = dfsTraverse(leftPosition, endPosition, visited, newPathSteps);
-        if (leftPathSteps != null) return leftPathSteps;
-        List<Position> rightPathSteps = dfsTraverse(rightPosition, endPosition, visited, newPathSteps);
-        return rightPathSteps;
+        setSolvedPath(answerPath);
     }
 
     /**
@@ -297,16 +789,28 @@ public class Maze {
      */
     @Override
     public String toString() {
-        StringBuilder sb = new StringBuilder();
+        return grid.encode(true);
+    }
 
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                sb.append(grid[row][col]);
-            }
-            sb.append("\n");
-        }
+    /**
+     * Checks whether a cell value is weighted terrain.
+     *
+     * @param value the cell value
+     * @return true if the value is a terrain digit between MIN_TERRAIN and MAX_TERRAIN
+     */
+    public static boolean isTerrain(char value) {
+        return value >= MIN_TERRAIN && value <= MAX_TERRAIN;
+    }
 
-        return sb.toString();
+    /**
+     * Returns the cost of moving into a cell with the given value.
+     * Terrain costs its digit; every other passable cell costs 1.
+     *
+     * @param value the cell value, which must not be a wall
+     * @return the move cost, between 1 and MAX_MOVE_COST
+     */
+    public static int moveCost(char value) {
+        return isTerrain(value) ? value - '0' : 1;
     }
 
     /**
@@ -315,12 +819,12 @@ public class Maze {
      * @param value the value to check
      * @return true if the value is valid, false otherwise
      */
-    private boolean isValidCellValue(char value) {
+    private static boolean isValidCellValue(char value) {
         for (char validValue : VALID_CELL_VALUES) {
             if (value == validValue) {
                 return true;
             }
         }
-        return false;
+        return isTerrain(value);
     }
 }
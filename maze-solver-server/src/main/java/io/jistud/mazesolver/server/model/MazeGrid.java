@@ -0,0 +1,202 @@
+package io.jistud.mazesolver.server.model;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Storage of the cells of a maze, addressed by row-major index (row * width + col).
+ * Solvers read cells by index, so a neighbor is one addition away and a search walks memory in order.
+ * <p>
+ * Implementations differ in how many cell values they can represent: {@link ByteGrid} holds every
+ * value in one byte, {@link PackedGrid} holds walls, empty cells, start and end in two bits.
+ * {@link MappedGrid} keeps one byte per cell outside the heap, in a mapped file or direct memory.
+ * Writers check {@link #canHold(char)} before storing a value.
+ */
+public interface MazeGrid {
+
+    int getHeight();
+
+    int getWidth();
+
+    /**
+     * Returns the value of the cell at the given row-major index.
+     *
+     * @param index the cell index, row * width + col
+     * @return the cell value
+     */
+    char get(int index);
+
+    /**
+     * Stores a value in the cell at the given row-major index.
+     *
+     * @param index the cell index, row * width + col
+     * @param value the new cell value
+     * @throws IllegalArgumentException if the grid cannot represent the value
+     */
+    void set(int index, char value);
+
+    /**
+     * Returns whether this grid can store the given cell value.
+     *
+     * @param value the cell value
+     * @return true if {@link #set(int, char)} accepts the value
+     */
+    boolean canHold(char value);
+
+    /**
+     * Returns an independent copy of this grid with the same representation.
+     *
+     * @return the copy
+     */
+    MazeGrid copy();
+
+    /**
+     * Returns the approximate heap size of the cell storage, for comparing representations.
+     *
+     * @return the size in bytes
+     */
+    long footprintBytes();
+
+    default int getCellCount() {
+        return getHeight() * getWidth();
+    }
+
+    default char get(int row, int col) {
+        return get(row * getWidth() + col);
+    }
+
+    default void set(int row, int col, char value) {
+        set(row * getWidth() + col, value);
+    }
+
+    /**
+     * Copies a run of cells, starting at a row-major index, into a byte buffer, one character per byte.
+     *
+     * @param from the index of the first cell
+     * @param target the buffer to copy into
+     * @param offset the position in the buffer of the first cell
+     * @param length the number of cells to copy
+     */
+    default void read(int from, byte[] target, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            target[offset + i] = (byte) get(from + i);
+        }
+    }
+
+    /**
+     * Stores a run of cells, starting at a row-major index, from a byte buffer, one character per byte.
+     * Values are not validated.
+     *
+     * @param from the index of the first cell
+     * @param source the buffer to copy from
+     * @param offset the position in the buffer of the first cell
+     * @param length the number of cells to copy
+     */
+    default void write(int from, byte[] source, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            set(from + i, (char) source[offset + i]);
+        }
+    }
+
+    /**
+     * Stores one value in a run of cells.
+     *
+     * @param from the index of the first cell
+     * @param to the index after the last cell
+     * @param value the cell value
+     */
+    default void fill(int from, int to, char value) {
+        for (int index = from; index < to; index++) {
+            set(index, value);
+        }
+    }
+
+    /**
+     * Changes every cell of a run holding one value to another value.
+     *
+     * @param from the index of the first cell
+     * @param to the index after the last cell
+     * @param oldValue the value to replace
+     * @param newValue the replacement value
+     * @return the number of cells changed
+     */
+    default int replace(int from, int to, char oldValue, char newValue) {
+        int replaced = 0;
+        for (int index = from; index < to; index++) {
+            if (get(index) == oldValue) {
+                set(index, newValue);
+                replaced++;
+            }
+        }
+        return replaced;
+    }
+
+    /**
+     * Stores one value in every cell of a rectangle, one {@link #fill} per row. Bounds are not checked.
+     *
+     * @param row the top row of the rectangle
+     * @param col the left column of the rectangle
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param value the cell value
+     */
+    default void fillRect(int row, int col, int rows, int cols, char value) {
+        for (int r = row; r < row + rows; r++) {
+            int from = r * getWidth() + col;
+            fill(from, from + cols, value);
+        }
+    }
+
+    /**
+     * Changes every cell of a rectangle holding one value to another value, one {@link #replace} per row.
+     * Bounds are not checked.
+     *
+     * @param row the top row of the rectangle
+     * @param col the left column of the rectangle
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param oldValue the value to replace
+     * @param newValue the replacement value
+     * @return the number of cells changed
+     */
+    default int replaceRect(int row, int col, int rows, int cols, char oldValue, char newValue) {
+        int replaced = 0;
+        for (int r = row; r < row + rows; r++) {
+            int from = r * getWidth() + col;
+            replaced += replace(from, from + cols, oldValue, newValue);
+        }
+        return replaced;
+    }
+
+    /**
+     * Encodes the grid as text, one line per row, as stored in the maze data column.
+     *
+     * @param trailingNewline whether the last row is followed by a newline, as in {@link Maze#toString()}
+     * @return the text
+     */
+    default String encode(boolean trailingNewline) {
+        int height = getHeight();
+        int width = getWidth();
+        byte[] text = new byte[height * (width + 1) - (trailingNewline ? 0 : 1)];
+        for (int row = 0; row < height; row++) {
+            int offset = row * (width + 1);
+            read(row * width, text, offset, width);
+            if (offset + width < text.length) {
+                text[offset + width] = '\n';
+            }
+        }
+        return new String(text, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Appends one row of the grid as characters, as used by the text encoding of a maze.
+     *
+     * @param row the row index
+     * @param target the builder to append to
+     */
+    default void appendRow(int row, StringBuilder target) {
+        int base = row * getWidth();
+        for (int col = 0; col < getWidth(); col++) {
+            target.append(get(base + col));
+        }
+    }
+}
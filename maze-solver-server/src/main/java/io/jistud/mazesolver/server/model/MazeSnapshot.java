@@ -0,0 +1,187 @@
+package io.jistud.mazesolver.server.model;
+
+import java.util.List;
+
+import io.jistud.mazesolver.server.model.solver.BreadthFirstSolver;
+import io.jistud.mazesolver.server.model.solver.ComponentLabels;
+import io.jistud.mazesolver.server.model.solver.CorridorMask;
+import io.jistud.mazesolver.server.model.solver.DeadEndFilter;
+
+/**
+ * Immutable copy of a maze that any number of threads can read and solve at once.
+ * Solving a snapshot never writes to it: every run searches a private view of the shared grid and
+ * returns the path and statistics as a {@link SolutionOverlay}, so a decoded maze can be cached and
+ * shared without copying it per request and without locks.
+ * <p>
+ * The grid is copied once when the snapshot is taken, into a {@link PackedGrid} when the maze holds
+ * only walls, empty cells, start and end.
+ */
+public final class MazeSnapshot {
+
+    private final MazeGrid grid;
+    private final Position start;
+    private final List<Position> exits;
+    private volatile ComponentLabels componentLabels;
+    private volatile CorridorMask corridorMask;
+
+    private MazeSnapshot(MazeGrid grid, Position start, List<Position> exits) {
+        this.grid = grid;
+        this.start = start;
+        this.exits = exits;
+    }
+
+    /**
+     * Takes a snapshot of the current cells of a maze. Later changes to the maze do not affect the snapshot.
+     *
+     * @param maze the maze to copy
+     * @return the snapshot
+     */
+    public static MazeSnapshot of(Maze maze) {
+        MazeGrid source = maze.getGrid();
+        MazeGrid grid = PackedGrid.canPack(source) ? PackedGrid.pack(source) : ByteGrid.copyOf(source);
+
+        List<Position> starts = maze.findCellsWithValue(Maze.START);
+        List<Position> exits = maze.findCellsWithValue(Maze.END);
+        return new MazeSnapshot(grid, starts.size() == 1 ? starts.getFirst() : null, List.copyOf(exits));
+    }
+
+    public int getHeight() {
+        return grid.getHeight();
+    }
+
+    public int getWidth() {
+        return grid.getWidth();
+    }
+
+    /**
+     * Gets the value of the cell at the specified position.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return the character representing the cell value
+     * @throws IndexOutOfBoundsException if the position is outside the maze boundaries
+     */
+    public char getCell(int row, int col) {
+        if (row < 0 || row >= getHeight() || col < 0 || col >= getWidth()) {
+            throw new IndexOutOfBoundsException("Position [" + row + ", " + col + "] is outside the maze boundaries");
+        }
+        return grid.get(row, col);
+    }
+
+    /**
+     * Returns the start position.
+     *
+     * @return the start position, or null if the maze does not have exactly one
+     */
+    public Position getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the end positions in row-major order.
+     *
+     * @return the unmodifiable list of end positions
+     */
+    public List<Position> getExits() {
+        return exits;
+    }
+
+    /**
+     * Returns a new mutable maze reading the cells of this snapshot in place. The grid is copied on the
+     * first change made through the maze, so the snapshot itself never changes. A view must not be
+     * shared between threads, and its grid must not be written to directly. Until its first change the
+     * view uses the corridor mask and component labels cached on this snapshot.
+     *
+     * @return the view
+     */
+    public Maze asMaze() {
+        return new Maze(grid, this);
+    }
+
+    /**
+     * Returns the connected-component labels of the snapshot, computed on first use.
+     * Concurrent first calls may both compute the labels; either result is kept.
+     *
+     * @return the component labels
+     */
+    public ComponentLabels getComponentLabels() {
+        ComponentLabels labels = componentLabels;
+        if (labels == null) {
+            labels = ComponentLabels.label(asMaze());
+            componentLabels = labels;
+        }
+        return labels;
+    }
+
+    /**
+     * Returns the cells left after filling every dead end between the start and end positions,
+     * computed on first use. Concurrent first calls may both compute the mask; either result is kept.
+     *
+     * @return the corridor mask, or null if the maze does not have exactly one start and one end position
+     */
+    public CorridorMask getCorridorMask() {
+        if (start == null || exits.size() != 1) {
+            return null;
+        }
+        CorridorMask mask = corridorMask;
+        if (mask == null) {
+            mask = DeadEndFilter.fill(asMaze(), start, exits.getFirst());
+            corridorMask = mask;
+        }
+        return mask;
+    }
+
+    /**
+     * Solves the snapshot with an iterative breadth-first search.
+     *
+     * @return the solution overlay
+     * @throws IllegalStateException if the maze does not have exactly one start and at least one end position
+     */
+    public SolutionOverlay solve() {
+        return solve(new BreadthFirstSolver(), SolveBudget.unlimited());
+    }
+
+    /**
+     * Solves the snapshot like {@link Maze#solve(MazeSolver, SolveBudget)}, without changing it.
+     * Unreachable end positions are filtered out with the cached component labels, and mazes with several
+     * end positions are solved towards the nearest one by the solver chosen with
+     * {@link Maze#multiExitSolverFor(MazeSolver)}. This method may be called from any number of threads at once.
+     *
+     * @param solver the solver used to search for a path
+     * @param budget the deadline, expansion limit and cancellation flag of the run
+     * @return the path and statistics of the run, laid over this snapshot
+     * @throws IllegalStateException if the maze does not have exactly one start and at least one end position
+     */
+    public SolutionOverlay solve(MazeSolver solver, SolveBudget budget) {
+        if (start == null || exits.isEmpty()) {
+            throw new IllegalStateException("Maze must have exactly one start position and at least one end position");
+        }
+        ComponentLabels labels = getComponentLabels();
+        List<Position> reachable =
+                exits.stream().filter(exit -> labels.isConnected(start, exit)).toList();
+
+        Maze view = asMaze();
+        SolveResult result = view.search(solver, start, exits.size() > 1, reachable, budget);
+        return new SolutionOverlay(this, result, view.getSolveStats());
+    }
+
+    /**
+     * Appends one row of the snapshot as characters, as used by the text encoding of a maze.
+     *
+     * @param row the row index
+     * @param target the builder to append to
+     */
+    void appendRow(int row, StringBuilder target) {
+        grid.appendRow(row, target);
+    }
+
+    /**
+     * Returns a string representation of the maze in the format of {@link Maze#toString()}.
+     *
+     * @return a string showing the maze layout
+     */
+    @Override
+    public String toString() {
+        return grid.encode(true);
+    }
+}
@@ -0,0 +1,33 @@
+package io.jistud.mazesolver.server.model;
+
+/**
+ * Strategy for finding a path between two cells of a maze.
+ * Implementations treat every cell that is not a wall as passable and never modify the maze.
+ */
+public interface MazeSolver {
+
+    /**
+     * Searches for a path from start to end without any limit.
+     *
+     * @param maze the maze to search
+     * @param start the position to start from
+     * @param end the position to reach
+     * @return the result of the search, holding the path (or null if end is unreachable)
+     */
+    default SolveResult solve(Maze maze, Position start, Position end) {
+        return solve(maze, start, end, SolveBudget.unlimited());
+    }
+
+    /**
+     * Searches for a path from start to end within a budget.
+     * Implementations check the budget cooperatively while searching and return a
+     * {@link SolveStatus#BUDGET_EXCEEDED} result as soon as it is used up.
+     *
+     * @param maze the maze to search
+     * @param start the position to start from
+     * @param end the position to reach
+     * @param budget the deadline, expansion limit and cancellation flag of this run
+     * @return the result of the search, holding the path (or null if end is unreachable or the budget ran out)
+     */
+    SolveResult solve(Maze maze, Position start, Position end, SolveBudget budget);
+}
@@ -0,0 +1,24 @@
+package io.jistud.mazesolver.server.model;
+
+import java.util.List;
+
+/**
+ * Strategy for finding a path from one cell of a maze to the nearest of several exits in a single search.
+ * The nearest exit is the one the solver's own cost model ranks first: fewest steps for the unweighted
+ * searches, cheapest terrain for the weighted ones. Implementations never modify the maze.
+ */
+public interface MultiExitSolver {
+
+    /**
+     * Searches for a path from the start to the nearest of the exits within a budget.
+     *
+     * @param maze the maze to search
+     * @param start the position to start from
+     * @param exits the positions that end the path, at least one
+     * @param budget the deadline, expansion limit and cancellation flag of this run
+     * @return the result of the search, holding the path to the nearest exit (or null if no exit is reachable
+     *     or the budget ran out)
+     * @throws IllegalArgumentException if no exit is given
+     */
+    SolveResult solve(Maze maze, Position start, List<Position> exits, SolveBudget budget);
+}
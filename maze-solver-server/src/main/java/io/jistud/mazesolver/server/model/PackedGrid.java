@@ -0,0 +1,145 @@
+package io.jistud.mazesolver.server.model;
+
+/**
+ * Maze grid packing every cell into two bits, 32 cells per long word.
+ * Two bits hold the four values of an unsolved maze without terrain: empty, wall, start and end.
+ * That is an eighth of a char[][] grid, which suits large mazes that are stored, cached or indexed
+ * without being painted. Path and terrain values cannot be stored; {@link Maze} switches to a
+ * {@link ByteGrid} on the first such write.
+ */
+public final class PackedGrid implements MazeGrid {
+
+    // Indexed by the 2-bit code; empty is code 0, so a fresh word array is an empty grid
+    private static final char[] VALUES = {Maze.EMPTY, Maze.WALL, Maze.START, Maze.END};
+
+    private final int height;
+    private final int width;
+    private final long[] words;
+
+    /**
+     * Creates a grid with every cell empty.
+     *
+     * @param height the number of rows
+     * @param width the number of columns
+     * @throws IllegalArgumentException if the grid has more than Integer.MAX_VALUE cells
+     */
+    public PackedGrid(int height, int width) {
+        this(height, width, new long[(int) ((checkedCellCount(height, width) + 31) >>> 5)]);
+    }
+
+    private static long checkedCellCount(int height, int width) {
+        long cellCount = (long) height * width;
+        if (cellCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("A packed grid holds at most " + Integer.MAX_VALUE + " cells");
+        }
+        return cellCount;
+    }
+
+    private PackedGrid(int height, int width, long[] words) {
+        this.height = height;
+        this.width = width;
+        this.words = words;
+    }
+
+    /**
+     * Returns whether every cell of a grid can be packed into two bits.
+     *
+     * @param grid the grid to check
+     * @return true if the grid holds no path or terrain cells
+     */
+    public static boolean canPack(MazeGrid grid) {
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            if (code(grid.get(index)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates a packed grid with the same cells as another grid.
+     *
+     * @param grid the grid to pack
+     * @return the new grid
+     * @throws IllegalArgumentException if the grid holds path or terrain cells
+     */
+    public static PackedGrid pack(MazeGrid grid) {
+        PackedGrid packed = new PackedGrid(grid.getHeight(), grid.getWidth());
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            packed.set(index, grid.get(index));
+        }
+        return packed;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public char get(int index) {
+        return VALUES[(int) (words[index >>> 5] >>> ((index & 31) << 1)) & 3];
+    }
+
+    @Override
+    public void set(int index, char value) {
+        int code = code(value);
+        if (code < 0) {
+            throw new IllegalArgumentException("Packed grids cannot hold the cell value '" + value + "'");
+        }
+        int shift = (index & 31) << 1;
+        int word = index >>> 5;
+        words[word] = (words[word] & ~(3L << shift)) | ((long) code << shift);
+    }
+
+    @Override
+    public void fill(int from, int to, char value) {
+        int code = code(value);
+        if (code < 0) {
+            throw new IllegalArgumentException("Packed grids cannot hold the cell value '" + value + "'");
+        }
+        // Cells up to the first word boundary, whole words, then the cells after the last boundary
+        int index = from;
+        while (index < to && (index & 31) != 0) {
+            set(index++, value);
+        }
+        long pattern = code * 0x5555_5555_5555_5555L;
+        while (index + 32 <= to) {
+            words[index >>> 5] = pattern;
+            index += 32;
+        }
+        while (index < to) {
+            set(index++, value);
+        }
+    }
+
+    @Override
+    public boolean canHold(char value) {
+        return code(value) >= 0;
+    }
+
+    @Override
+    public PackedGrid copy() {
+        return new PackedGrid(height, width, words.clone());
+    }
+
+    @Override
+    public long footprintBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+
+    private static int code(char value) {
+        return switch (value) {
+            case Maze.EMPTY -> 0;
+            case Maze.WALL -> 1;
+            case Maze.START -> 2;
+            case Maze.END -> 3;
+            default -> -1;
+        };
+    }
+}
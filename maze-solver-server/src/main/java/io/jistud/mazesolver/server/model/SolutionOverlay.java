@@ -0,0 +1,71 @@
+package io.jistud.mazesolver.server.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Record holding the outcome of solving a {@link MazeSnapshot}, kept apart from the shared grid.
+ * The solution path is painted only when the overlay is rendered or turned into a maze, on a copy
+ * owned by the caller.
+ *
+ * @param snapshot the snapshot that was solved
+ * @param result the result of the solver run
+ * @param stats the cost of the solver run
+ */
+public record SolutionOverlay(MazeSnapshot snapshot, SolveResult result, SolveStats stats) {
+
+    public boolean isSolved() {
+        return result.isSolved();
+    }
+
+    /**
+     * Returns the solution path.
+     *
+     * @return the path from the start to an end position, or null if none was found
+     */
+    public List<Position> path() {
+        return result.path();
+    }
+
+    /**
+     * Returns the rows of the snapshot with the empty cells of the solution path shown as PATH.
+     *
+     * @return the rendered rows, top to bottom
+     */
+    public List<String> render() {
+        int height = snapshot.getHeight();
+        int width = snapshot.getWidth();
+        StringBuilder cells = new StringBuilder(height * width);
+        for (int row = 0; row < height; row++) {
+            snapshot.appendRow(row, cells);
+        }
+        if (isSolved()) {
+            for (Position position : path()) {
+                int index = position.row() * width + position.col();
+                if (cells.charAt(index) == Maze.EMPTY) {
+                    cells.setCharAt(index, Maze.PATH);
+                }
+            }
+        }
+
+        List<String> rows = new ArrayList<>(height);
+        for (int row = 0; row < height; row++) {
+            rows.add(cells.substring(row * width, (row + 1) * width));
+        }
+        return rows;
+    }
+
+    /**
+     * Creates a mutable maze with the cells of the snapshot and, if solved, the painted solution path,
+     * as {@link Maze#solve(MazeSolver, SolveBudget)} would have left it.
+     *
+     * @return the new maze, owned by the caller
+     */
+    public Maze toMaze() {
+        Maze maze = snapshot.asMaze();
+        if (isSolved()) {
+            maze.paintSolution(path());
+        }
+        return maze;
+    }
+}
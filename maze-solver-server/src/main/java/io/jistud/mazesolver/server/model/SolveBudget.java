@@ -0,0 +1,108 @@
+package io.jistud.mazesolver.server.model;
+
+import java.time.Duration;
+
+/**
+ * Limits on a single solver run: an optional deadline, a maximum number of expanded cells and a
+ * cancellation flag. Solvers check the budget cooperatively from their search loop and give up with
+ * {@link SolveStatus#BUDGET_EXCEEDED} once it is used up.
+ * <p>
+ * The expansion limit is compared on every check. The clock and the cancellation flag are only read on the
+ * first and then every 1024th expansion, since System.nanoTime() costs far more than expanding a cell.
+ * The deadline starts counting when the budget is created.
+ */
+public final class SolveBudget {
+
+    private static final long CLOCK_CHECK_MASK = 1023;
+    private static final Duration MAX_TIMEOUT = Duration.ofNanos(Long.MAX_VALUE);
+
+    private final long deadlineNanos;
+    private final boolean hasDeadline;
+    private final long maxExpansions;
+    private volatile boolean cancelled = false;
+
+    private SolveBudget(Duration timeout, long maxExpansions) {
+        // Timeouts beyond the range of System.nanoTime() (about 292 years) never expire
+        this.hasDeadline = timeout != null && timeout.compareTo(MAX_TIMEOUT) < 0;
+        this.deadlineNanos = hasDeadline ? System.nanoTime() + timeout.toNanos() : 0;
+        this.maxExpansions = maxExpansions;
+    }
+
+    /**
+     * Creates a budget without a deadline or expansion limit, which can still be cancelled.
+     *
+     * @return a new unlimited budget
+     */
+    public static SolveBudget unlimited() {
+        return new SolveBudget(null, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a budget with a deadline and no expansion limit.
+     *
+     * @param timeout the time the solver may run, starting now; timeouts too long to count in nanoseconds
+     *     mean no deadline
+     * @return a new budget
+     * @throws IllegalArgumentException if the timeout is negative
+     */
+    public static SolveBudget withTimeout(Duration timeout) {
+        return of(timeout, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a budget with an optional deadline and an expansion limit.
+     *
+     * @param timeout the time the solver may run, starting now, or null for no deadline; timeouts too long
+     *     to count in nanoseconds also mean no deadline
+     * @param maxExpansions the number of cells the solver may expand
+     * @return a new budget
+     * @throws IllegalArgumentException if the timeout is negative or maxExpansions is not positive
+     */
+    public static SolveBudget of(Duration timeout, long maxExpansions) {
+        if (timeout != null && timeout.isNegative()) {
+            throw new IllegalArgumentException("Timeout must not be negative");
+        }
+        if (maxExpansions <= 0) {
+            throw new IllegalArgumentException("Maximum expansions must be positive");
+        }
+        return new SolveBudget(timeout, maxExpansions);
+    }
+
+    public long getMaxExpansions() {
+        return maxExpansions;
+    }
+
+    /**
+     * Asks every solver running with this budget to stop at its next check.
+     * Safe to call from any thread.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Returns whether the budget was cancelled or its deadline has passed.
+     * Always reads the clock, so solvers call it at most once per search level or phase.
+     *
+     * @return true if the solver has to stop
+     */
+    public boolean isExhausted() {
+        return cancelled || (hasDeadline && System.nanoTime() - deadlineNanos >= 0);
+    }
+
+    /**
+     * Returns whether a solver that has expanded the given number of cells has to stop.
+     * Meant to be called once per expansion with the count including the cell about to be expanded:
+     * the deadline and the cancellation flag are only looked at for counts 1, 1025, 2049 and so on.
+     *
+     * @param expandedNodes the number of cells expanded so far
+     * @return true if the solver has to stop
+     */
+    public boolean isExceeded(long expandedNodes) {
+        return expandedNodes > maxExpansions || (((expandedNodes - 1) & CLOCK_CHECK_MASK) == 0 && isExhausted());
+    }
+}
@@ -0,0 +1,69 @@
+package io.jistud.mazesolver.server.model;
+
+import java.util.List;
+
+/**
+ * Record representing the outcome of a single solver run.
+ *
+ * @param path the positions from start to end (both inclusive), or null if no path was found
+ * @param expandedNodes the number of cells the solver expanded while searching
+ * @param peakFrontier the largest number of cells the solver held in its open list or frontier at once
+ * @param status whether the run found a path, proved there is none, or ran out of budget
+ */
+public record SolveResult(List<Position> path, long expandedNodes, long peakFrontier, SolveStatus status) {
+
+    /**
+     * Creates the result of a search that ran to completion.
+     * The status is derived from the path.
+     *
+     * @param path the positions from start to end (both inclusive), or null if no path exists
+     * @param expandedNodes the number of cells the solver expanded while searching
+     * @param peakFrontier the largest number of cells the solver held in its frontier at once
+     */
+    public SolveResult(List<Position> path, long expandedNodes, long peakFrontier) {
+        this(
+                path,
+                expandedNodes,
+                peakFrontier,
+                path != null && !path.isEmpty() ? SolveStatus.SOLVED : SolveStatus.UNSOLVABLE);
+    }
+
+    /**
+     * Creates the result of a search that ran to completion without tracking its frontier.
+     *
+     * @param path the positions from start to end (both inclusive), or null if no path exists
+     * @param expandedNodes the number of cells the solver expanded while searching
+     */
+    public SolveResult(List<Position> path, long expandedNodes) {
+        this(path, expandedNodes, 0);
+    }
+
+    /**
+     * Creates the result of a search that was stopped by its budget.
+     *
+     * @param expandedNodes the number of cells the solver expanded before it stopped
+     * @param peakFrontier the largest number of cells the solver held in its frontier at once
+     * @return a result without a path
+     */
+    public static SolveResult budgetExceeded(long expandedNodes, long peakFrontier) {
+        return new SolveResult(null, expandedNodes, peakFrontier, SolveStatus.BUDGET_EXCEEDED);
+    }
+
+    /**
+     * Returns whether the solver found a path.
+     *
+     * @return true if a path was found, false otherwise
+     */
+    public boolean isSolved() {
+        return path != null && !path.isEmpty();
+    }
+
+    /**
+     * Returns whether the solver was stopped before it could decide whether a path exists.
+     *
+     * @return true if the budget ran out
+     */
+    public boolean isBudgetExceeded() {
+        return status == SolveStatus.BUDGET_EXCEEDED;
+    }
+}
@@ -0,0 +1,60 @@
+package io.jistud.mazesolver.server.model;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Record holding the cost of a single solver run.
+ *
+ * @param status the outcome of the run
+ * @param expandedNodes the number of cells the solver expanded
+ * @param peakFrontier the largest number of cells the solver held in its open list or frontier at once
+ * @param pathLength the number of cells of the path found, or 0 if none was found
+ * @param allocatedBytes the bytes allocated by the calling thread during the run, or -1 if the JVM does not
+ *     measure allocations; work forked to other threads (the parallel solver) is not included
+ * @param elapsedNanos the wall-clock time of the run in nanoseconds
+ */
+public record SolveStats(
+        SolveStatus status,
+        long expandedNodes,
+        long peakFrontier,
+        int pathLength,
+        long allocatedBytes,
+        long elapsedNanos) {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    /**
+     * Combines a solver result with the measured time and allocation of its run.
+     *
+     * @param result the result of the run
+     * @param allocatedBytes the bytes allocated during the run, or -1 if unknown
+     * @param elapsedNanos the wall-clock time of the run in nanoseconds
+     * @return the statistics of the run
+     */
+    public static SolveStats of(SolveResult result, long allocatedBytes, long elapsedNanos) {
+        int pathLength = result.isSolved() ? result.path().size() : 0;
+        return new SolveStats(
+                result.status(),
+                result.expandedNodes(),
+                result.peakFrontier(),
+                pathLength,
+                allocatedBytes,
+                elapsedNanos);
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, as reported by the HotSpot
+     * thread bean.
+     *
+     * @return the allocated bytes, or -1 if the JVM does not measure per-thread allocations
+     */
+    public static long currentThreadAllocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean hotspot
+                && hotspot.isThreadAllocatedMemorySupported()
+                && hotspot.isThreadAllocatedMemoryEnabled()) {
+            return hotspot.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,13 @@
+package io.jistud.mazesolver.server.model;
+
+/**
+ * Outcome of a single solver run.
+ */
+public enum SolveStatus {
+    /** A path from start to end was found. */
+    SOLVED,
+    /** The search finished without reaching the end, so no path exists. */
+    UNSOLVABLE,
+    /** The search was stopped by its {@link SolveBudget} before it could finish. */
+    BUDGET_EXCEEDED
+}
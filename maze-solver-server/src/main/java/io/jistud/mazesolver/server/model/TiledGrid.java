@@ -0,0 +1,231 @@
+package io.jistud.mazesolver.server.model;
+
+import java.util.Arrays;
+
+/**
+ * Maze grid holding one byte per cell in square tiles of 64 x 64 cells, each tile one 4 KiB run of memory.
+ * In a row-major grid the cells above and below are {@code width} bytes away, so on grids a few thousand
+ * cells wide every vertical step of a search touches another cache line and, soon, another page. Within
+ * a tile they are 64 bytes away, and a search spreading in all directions stays inside a few tiles.
+ * <p>
+ * Besides the row-major {@link MazeGrid} accessors, the grid addresses cells by their storage index, the
+ * "cell" of the neighbor helpers below. Solvers that work in storage indices, such as the breadth-first
+ * solver, get the locality of the tiles for their own bookkeeping arrays too. Tiles at the right and
+ * bottom edges are padded with walls, so the helpers only return -1 when leaving the padded area.
+ */
+public final class TiledGrid implements MazeGrid {
+
+    private static final int TILE_SHIFT = 6;
+    private static final int TILE_MASK = (1 << TILE_SHIFT) - 1;
+    private static final int TILE_CELLS_SHIFT = 2 * TILE_SHIFT;
+    private static final int TILE_CELLS = 1 << TILE_CELLS_SHIFT;
+
+    private final int height;
+    private final int width;
+    private final int tilesPerRow;
+    private final int tileCount;
+    private final byte[] cells;
+
+    /**
+     * Creates a grid with every cell empty.
+     *
+     * @param height the number of rows
+     * @param width the number of columns
+     * @throws IllegalArgumentException if the padded grid has more than Integer.MAX_VALUE cells
+     */
+    public TiledGrid(int height, int width) {
+        this.height = height;
+        this.width = width;
+        this.tilesPerRow = (width + TILE_MASK) >>> TILE_SHIFT;
+        long tiles = (long) tilesPerRow * ((height + TILE_MASK) >>> TILE_SHIFT);
+        if (tiles * TILE_CELLS > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("A tiled grid holds at most " + Integer.MAX_VALUE + " cells");
+        }
+        this.tileCount = (int) tiles;
+        this.cells = new byte[tileCount * TILE_CELLS];
+        Arrays.fill(cells, (byte) Maze.WALL);
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col += TILE_MASK + 1) {
+                int cell = cellOf(row, col);
+                Arrays.fill(cells, cell, cell + Math.min(TILE_MASK + 1, width - col), (byte) Maze.EMPTY);
+            }
+        }
+    }
+
+    private TiledGrid(TiledGrid other) {
+        this.height = other.height;
+        this.width = other.width;
+        this.tilesPerRow = other.tilesPerRow;
+        this.tileCount = other.tileCount;
+        this.cells = other.cells.clone();
+    }
+
+    /**
+     * Creates a tiled grid with the same cells as another grid of any representation.
+     *
+     * @param grid the grid to copy
+     * @return the new grid
+     */
+    public static TiledGrid copyOf(MazeGrid grid) {
+        if (grid instanceof TiledGrid tiled) {
+            return tiled.copy();
+        }
+        TiledGrid tiled = new TiledGrid(grid.getHeight(), grid.getWidth());
+        byte[] row = new byte[grid.getWidth()];
+        for (int r = 0; r < grid.getHeight(); r++) {
+            grid.read(r * grid.getWidth(), row, 0, row.length);
+            for (int col = 0; col < row.length; col += TILE_MASK + 1) {
+                System.arraycopy(
+                        row, col, tiled.cells, tiled.cellOf(r, col), Math.min(TILE_MASK + 1, row.length - col));
+            }
+        }
+        return tiled;
+    }
+
+    /**
+     * Returns the number of storage cells, including the padding of the edge tiles.
+     * Arrays indexed by storage cell need this length.
+     *
+     * @return the storage size
+     */
+    public int getStorageSize() {
+        return cells.length;
+    }
+
+    /**
+     * Returns the storage index of a cell.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return the storage index
+     */
+    public int cellOf(int row, int col) {
+        int tile = (row >>> TILE_SHIFT) * tilesPerRow + (col >>> TILE_SHIFT);
+        return (tile << TILE_CELLS_SHIFT) | ((row & TILE_MASK) << TILE_SHIFT) | (col & TILE_MASK);
+    }
+
+    public int rowOf(int cell) {
+        return ((cell >>> TILE_CELLS_SHIFT) / tilesPerRow) << TILE_SHIFT | (cell >>> TILE_SHIFT) & TILE_MASK;
+    }
+
+    public int colOf(int cell) {
+        return ((cell >>> TILE_CELLS_SHIFT) % tilesPerRow) << TILE_SHIFT | cell & TILE_MASK;
+    }
+
+    /**
+     * Returns the value of a cell by storage index; padding cells read as walls.
+     *
+     * @param cell the storage index
+     * @return the cell value
+     */
+    public char getAt(int cell) {
+        return (char) cells[cell];
+    }
+
+    /**
+     * Returns the storage index of the cell above.
+     *
+     * @param cell the storage index
+     * @return the cell above, or -1 in the top row
+     */
+    public int up(int cell) {
+        if ((cell & (TILE_MASK << TILE_SHIFT)) != 0) {
+            return cell - (1 << TILE_SHIFT);
+        }
+        // Last row of the tile above
+        return (cell >>> TILE_CELLS_SHIFT) < tilesPerRow
+                ? -1
+                : cell - tilesPerRow * TILE_CELLS + (TILE_MASK << TILE_SHIFT);
+    }
+
+    /**
+     * Returns the storage index of the cell below.
+     *
+     * @param cell the storage index
+     * @return the cell below, or -1 below the last padded row
+     */
+    public int down(int cell) {
+        if ((cell & (TILE_MASK << TILE_SHIFT)) != (TILE_MASK << TILE_SHIFT)) {
+            return cell + (1 << TILE_SHIFT);
+        }
+        // First row of the tile below
+        return (cell >>> TILE_CELLS_SHIFT) + tilesPerRow >= tileCount
+                ? -1
+                : cell + tilesPerRow * TILE_CELLS - (TILE_MASK << TILE_SHIFT);
+    }
+
+    /**
+     * Returns the storage index of the cell to the left.
+     *
+     * @param cell the storage index
+     * @return the cell to the left, or -1 in the first column
+     */
+    public int left(int cell) {
+        if ((cell & TILE_MASK) != 0) {
+            return cell - 1;
+        }
+        // Last column of the tile to the left
+        return (cell >>> TILE_CELLS_SHIFT) % tilesPerRow == 0 ? -1 : cell - TILE_CELLS + TILE_MASK;
+    }
+
+    /**
+     * Returns the storage index of the cell to the right.
+     *
+     * @param cell the storage index
+     * @return the cell to the right, or -1 after the last padded column
+     */
+    public int right(int cell) {
+        if ((cell & TILE_MASK) != TILE_MASK) {
+            return cell + 1;
+        }
+        // First column of the tile to the right
+        return (cell >>> TILE_CELLS_SHIFT) % tilesPerRow == tilesPerRow - 1 ? -1 : cell + TILE_CELLS - TILE_MASK;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public char get(int index) {
+        int row = index / width;
+        return (char) cells[cellOf(row, index - row * width)];
+    }
+
+    @Override
+    public void set(int index, char value) {
+        int row = index / width;
+        cells[cellOf(row, index - row * width)] = (byte) value;
+    }
+
+    @Override
+    public char get(int row, int col) {
+        return (char) cells[cellOf(row, col)];
+    }
+
+    @Override
+    public void set(int row, int col, char value) {
+        cells[cellOf(row, col)] = (byte) value;
+    }
+
+    @Override
+    public boolean canHold(char value) {
+        return value < 0x80;
+    }
+
+    @Override
+    public TiledGrid copy() {
+        return new TiledGrid(this);
+    }
+
+    @Override
+    public long footprintBytes() {
+        return cells.length;
+    }
+}
@@ -0,0 +1,122 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.List;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeGrid;
+import io.jistud.mazesolver.server.model.MazeSolver;
+import io.jistud.mazesolver.server.model.MultiExitSolver;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveBudget;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+/**
+ * Shortest-path solver using A* search with the Manhattan distance heuristic.
+ * The open list is a primitive binary heap of row-major cell indices. Ties on f = g + h are
+ * broken in favour of the cell closer to the goal, which keeps the search narrow on open grids.
+ * The Manhattan distance is consistent on a 4-connected unit-cost grid, so the returned path is
+ * a shortest path and no cell is expanded twice.
+ * <p>
+ * With several exits the heuristic is the Manhattan distance to the closest exit. The minimum of
+ * consistent heuristics is consistent, so the path still leads to the nearest exit.
+ */
+public class AStarSolver implements MazeSolver, MultiExitSolver {
+
+    @Override
+    public SolveResult solve(Maze maze, Position start, Position end, SolveBudget budget) {
+        return solve(maze, start, List.of(end), budget);
+    }
+
+    /**
+     * Finds the shortest path from the start to the nearest of the exits.
+     * The heuristic scans every exit, so the search suits mazes with a handful of them.
+     *
+     * @param maze the maze to search
+     * @param start the position to start from
+     * @param exits the positions that end the path, at least one
+     * @param budget the limits of this run, checked once per expanded cell
+     * @return the result holding the path to the nearest exit, or a null path if no exit is reachable
+     *     or the budget ran out
+     * @throws IllegalArgumentException if no exit is given
+     */
+    @Override
+    public SolveResult solve(Maze maze, Position start, List<Position> exits, SolveBudget budget) {
+        if (exits.isEmpty()) {
+            throw new IllegalArgumentException("At least one exit is required");
+        }
+        MazeGrid grid = maze.getGrid();
+        int height = maze.getHeight();
+        int width = maze.getWidth();
+        int cellCount = height * width;
+
+        int startIndex = start.row() * width + start.col();
+        int[] exitIndices = new int[exits.size()];
+        for (int i = 0; i < exitIndices.length; i++) {
+            exitIndices[i] = exits.get(i).row() * width + exits.get(i).col();
+        }
+
+        int[] cost = new int[cellCount];
+        int[] parent = new int[cellCount];
+        long[] closed = new long[(cellCount + 63) >>> 6];
+        IntMinHeap open = new IntMinHeap(cellCount);
+
+        parent[startIndex] = -1;
+        int startHeuristic = heuristic(startIndex, exitIndices, width);
+        open.push(startIndex, SolverSupport.heapKey(startHeuristic, startHeuristic));
+
+        long expanded = 0;
+        int peakFrontier = 1;
+        int[] neighbors = new int[4];
+        while (!open.isEmpty()) {
+            peakFrontier = Math.max(peakFrontier, open.size());
+            if (budget.isExceeded(expanded + 1)) {
+                return SolveResult.budgetExceeded(expanded, peakFrontier);
+            }
+            // The low half of the key is the heuristic, which is 0 only on an exit
+            boolean exit = (int) open.peekKey() == 0;
+            int current = open.pop();
+            expanded++;
+            if (exit) {
+                return new SolveResult(SolverSupport.buildPath(parent, current, width), expanded, peakFrontier);
+            }
+            closed[current >>> 6] |= 1L << current;
+
+            int row = current / width;
+            int col = current - row * width;
+            int count = 0;
+            if (row > 0 && grid.get(current - width) != Maze.WALL) neighbors[count++] = current - width;
+            if (row < height - 1 && grid.get(current + width) != Maze.WALL) neighbors[count++] = current + width;
+            if (col > 0 && grid.get(current - 1) != Maze.WALL) neighbors[count++] = current - 1;
+            if (col < width - 1 && grid.get(current + 1) != Maze.WALL) neighbors[count++] = current + 1;
+
+            int nextCost = cost[current] + 1;
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighbors[i];
+                if ((closed[neighbor >>> 6] & (1L << neighbor)) != 0) {
+                    continue;
+                }
+                // A queued neighbor already has a cost, a fresh one is reached for the first time
+                if (open.contains(neighbor) && cost[neighbor] <= nextCost) {
+                    continue;
+                }
+                cost[neighbor] = nextCost;
+                parent[neighbor] = current;
+                int heuristic = heuristic(neighbor, exitIndices, width);
+                open.push(neighbor, SolverSupport.heapKey(nextCost + heuristic, heuristic));
+            }
+        }
+
+        return new SolveResult(null, expanded, peakFrontier);
+    }
+
+    /**
+     * Returns the Manhattan distance from a cell to the closest exit, which is 0 only on an exit.
+     */
+    private static int heuristic(int index, int[] exitIndices, int width) {
+        int closest = Integer.MAX_VALUE;
+        for (int exitIndex : exitIndices) {
+            closest = Math.min(closest, SolverSupport.manhattan(index, exitIndex, width));
+        }
+        return closest;
+    }
+}
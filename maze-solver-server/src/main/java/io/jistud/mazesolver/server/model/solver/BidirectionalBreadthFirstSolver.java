@@ -0,0 +1,118 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeGrid;
+import io.jistud.mazesolver.server.model.MazeSolver;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveBudget;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+/**
+ * Shortest-path solver running two breadth-first searches at once, one from the start and one from the end.
+ * Each round expands one whole level of the smaller frontier and the search stops as soon as
+ * the two frontiers touch, so on open grids it explores roughly two small discs instead of one large one.
+ * <p>
+ * Both searches share the same primitive arrays: a single int queue (the forward queue grows from the
+ * front, the backward queue from the back), a single parent array and one visited bitset per side.
+ * A cell is claimed by at most one side before the frontiers meet, so one parent array is enough:
+ * forward cells point towards the start and backward cells point towards the end.
+ */
+public class BidirectionalBreadthFirstSolver implements MazeSolver {
+
+    @Override
+    public SolveResult solve(Maze maze, Position start, Position end, SolveBudget budget) {
+        MazeGrid grid = maze.getGrid();
+        int height = maze.getHeight();
+        int width = maze.getWidth();
+        int cellCount = height * width;
+
+        int startIndex = start.row() * width + start.col();
+        int endIndex = end.row() * width + end.col();
+        if (startIndex == endIndex) {
+            return new SolveResult(new ArrayList<>(List.of(start)), 1, 1);
+        }
+
+        int[] queue = new int[cellCount];
+        int[] parent = new int[cellCount];
+        long[] forwardVisited = new long[(cellCount + 63) >>> 6];
+        long[] backwardVisited = new long[(cellCount + 63) >>> 6];
+
+        // Forward queue occupies [forwardHead, forwardTail), backward queue occupies (backwardTail, backwardHead]
+        int forwardHead = 0;
+        int forwardTail = 0;
+        int backwardHead = cellCount - 1;
+        int backwardTail = cellCount - 1;
+
+        queue[forwardTail++] = startIndex;
+        forwardVisited[startIndex >>> 6] |= 1L << startIndex;
+        parent[startIndex] = -1;
+        queue[backwardTail--] = endIndex;
+        backwardVisited[endIndex >>> 6] |= 1L << endIndex;
+        parent[endIndex] = -1;
+
+        long expanded = 0;
+        int peakFrontier = 2;
+        int[] neighbors = new int[4];
+        while (forwardHead < forwardTail && backwardHead > backwardTail) {
+            peakFrontier = Math.max(peakFrontier, forwardTail - forwardHead + backwardHead - backwardTail);
+            boolean forward = forwardTail - forwardHead <= backwardHead - backwardTail;
+            long[] own = forward ? forwardVisited : backwardVisited;
+            long[] other = forward ? backwardVisited : forwardVisited;
+
+            // Expand exactly one level of the chosen side
+            int levelEnd = forward ? forwardTail : backwardTail;
+            while (forward ? forwardHead < levelEnd : backwardHead > levelEnd) {
+                if (budget.isExceeded(expanded + 1)) {
+                    return SolveResult.budgetExceeded(expanded, peakFrontier);
+                }
+                int current = forward ? queue[forwardHead++] : queue[backwardHead--];
+                expanded++;
+
+                int row = current / width;
+                int col = current - row * width;
+                int count = 0;
+                if (row > 0 && grid.get(current - width) != Maze.WALL) neighbors[count++] = current - width;
+                if (row < height - 1 && grid.get(current + width) != Maze.WALL) neighbors[count++] = current + width;
+                if (col > 0 && grid.get(current - 1) != Maze.WALL) neighbors[count++] = current - 1;
+                if (col < width - 1 && grid.get(current + 1) != Maze.WALL) neighbors[count++] = current + 1;
+
+                for (int i = 0; i < count; i++) {
+                    int neighbor = neighbors[i];
+                    int word = neighbor >>> 6;
+                    long bit = 1L << neighbor;
+                    if ((other[word] & bit) != 0) {
+                        // The frontiers meet between current and neighbor
+                        return forward
+                                ? new SolveResult(joinPath(parent, current, neighbor, width), expanded, peakFrontier)
+                                : new SolveResult(joinPath(parent, neighbor, current, width), expanded, peakFrontier);
+                    }
+                    if ((own[word] & bit) == 0) {
+                        own[word] |= bit;
+                        parent[neighbor] = current;
+                        if (forward) {
+                            queue[forwardTail++] = neighbor;
+                        } else {
+                            queue[backwardTail--] = neighbor;
+                        }
+                    }
+                }
+            }
+        }
+
+        return new SolveResult(null, expanded, peakFrontier);
+    }
+
+    /**
+     * Joins the forward chain ending at forwardCell with the backward chain starting at backwardCell.
+     */
+    private static List<Position> joinPath(int[] parent, int forwardCell, int backwardCell, int width) {
+        List<Position> path = SolverSupport.buildPath(parent, forwardCell, width);
+        for (int index = backwardCell; index != -1; index = parent[index]) {
+            path.add(new Position(index / width, index % width));
+        }
+        return path;
+    }
+}
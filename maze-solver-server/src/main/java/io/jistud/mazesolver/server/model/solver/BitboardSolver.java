@@ -0,0 +1,240 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeGrid;
+import io.jistud.mazesolver.server.model.MazeSolver;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveBudget;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+/**
+ * Shortest-path solver advancing a flood fill 64 cells at a time.
+ * The grid is compiled into one passable bit per cell, packed into {@code long} words row by row.
+ * Each generation the wavefront is shifted left, right, up and down and masked with the passable,
+ * not yet reached cells, so a whole word of cells is advanced with a handful of shifts and ANDs.
+ * Only words holding part of the current wavefront are touched, which keeps a generation
+ * proportional to the length of the wavefront instead of the size of the grid.
+ * <p>
+ * The generation in which every cell was reached is recorded modulo 3 in two more bit planes.
+ * Neighboring cells are reached at most one generation apart, so the residue is enough to tell the
+ * previous generation from the current and the next one while the shortest path is rebuilt by
+ * walking back from the end. Recording a generation therefore stays a whole-word operation too.
+ */
+public class BitboardSolver implements MazeSolver {
+
+    /**
+     * Finds the shortest path between two positions of the maze.
+     * Every cell that is not a wall is considered passable.
+     *
+     * @param maze the maze to search
+     * @param start the position to start from
+     * @param end the position to reach
+     * @param budget the limits of this run, checked once per generation
+     * @return the result holding the shortest path, or a null path if end is unreachable or the budget ran out
+     */
+    @Override
+    public SolveResult solve(Maze maze, Position start, Position end, SolveBudget budget) {
+        return new Search(maze).run(start, end, budget);
+    }
+
+    /**
+     * State of a single search: the compiled passable mask, the reached cells and the wavefront.
+     */
+    private static final class Search {
+        private final int width;
+        private final int height;
+        private final int wordsPerRow;
+        private final long[] passable;
+        private final long[] reached;
+        private final long[] frontier;
+        private final long[] candidates;
+        private final long[] generationLow;
+        private final long[] generationHigh;
+
+        private int[] activeWords;
+        private int activeCount;
+        private int[] touchedWords;
+        private int touchedCount;
+
+        private Search(Maze maze) {
+            this.width = maze.getWidth();
+            this.height = maze.getHeight();
+            this.wordsPerRow = (width + 63) >>> 6;
+            int wordCount = height * wordsPerRow;
+            this.passable = compile(maze.getGrid(), width, wordsPerRow);
+            this.reached = new long[wordCount];
+            this.frontier = new long[wordCount];
+            this.candidates = new long[wordCount];
+            this.generationLow = new long[wordCount];
+            this.generationHigh = new long[wordCount];
+            this.activeWords = new int[64];
+            this.touchedWords = new int[64];
+        }
+
+        /**
+         * Packs the passable cells of every row into {@code wordsPerRow} words, column c in bit c % 64.
+         */
+        private static long[] compile(MazeGrid grid, int width, int wordsPerRow) {
+            long[] mask = new long[grid.getHeight() * wordsPerRow];
+            for (int row = 0; row < grid.getHeight(); row++) {
+                int base = row * wordsPerRow;
+                int cellBase = row * width;
+                for (int col = 0; col < width; col++) {
+                    if (grid.get(cellBase + col) != Maze.WALL) {
+                        mask[base + (col >>> 6)] |= 1L << col;
+                    }
+                }
+            }
+            return mask;
+        }
+
+        private SolveResult run(Position start, Position end, SolveBudget budget) {
+            int endWord = end.row() * wordsPerRow + (end.col() >>> 6);
+            long endBit = 1L << end.col();
+            int startWord = start.row() * wordsPerRow + (start.col() >>> 6);
+            long startBit = 1L << start.col();
+
+            reached[startWord] |= startBit;
+            frontier[startWord] = startBit;
+            activeWords[activeCount++] = startWord;
+            long reachedCount = 1;
+            int peakFrontier = 1;
+
+            int currentGeneration = 0;
+            while ((reached[endWord] & endBit) == 0) {
+                if (activeCount == 0) {
+                    return new SolveResult(null, reachedCount, peakFrontier);
+                }
+                if (reachedCount > budget.getMaxExpansions() || budget.isExhausted()) {
+                    return SolveResult.budgetExceeded(reachedCount, peakFrontier);
+                }
+                currentGeneration++;
+                spread();
+                int newlyReached = advance(currentGeneration);
+                reachedCount += newlyReached;
+                peakFrontier = Math.max(peakFrontier, newlyReached);
+            }
+
+            return new SolveResult(buildPath(start, end, currentGeneration), reachedCount, peakFrontier);
+        }
+
+        /**
+         * Shifts every active wavefront word into its four neighbor directions, collecting the
+         * candidate bits of the next generation and remembering which words they landed in.
+         */
+        private void spread() {
+            for (int i = 0; i < activeCount; i++) {
+                int word = activeWords[i];
+                long bits = frontier[word];
+                frontier[word] = 0;
+                int wordCol = word % wordsPerRow;
+
+                // Left and right within the word, carrying across word boundaries
+                touch(word, (bits << 1) | (bits >>> 1));
+                if (wordCol > 0) {
+                    touch(word - 1, bits << 63);
+                }
+                if (wordCol < wordsPerRow - 1) {
+                    touch(word + 1, bits >>> 63);
+                }
+                // Up and down
+                if (word >= wordsPerRow) {
+                    touch(word - wordsPerRow, bits);
+                }
+                if (word + wordsPerRow < frontier.length) {
+                    touch(word + wordsPerRow, bits);
+                }
+            }
+        }
+
+        private void touch(int word, long bits) {
+            if (bits == 0) {
+                return;
+            }
+            if (candidates[word] == 0) {
+                if (touchedCount == touchedWords.length) {
+                    touchedWords = Arrays.copyOf(touchedWords, touchedCount * 2);
+                }
+                touchedWords[touchedCount++] = word;
+            }
+            candidates[word] |= bits;
+        }
+
+        /**
+         * Masks the candidate words into the new wavefront and records its generation.
+         *
+         * @return the number of newly reached cells
+         */
+        private int advance(int currentGeneration) {
+            int residue = currentGeneration % 3;
+            activeCount = 0;
+            int newlyReached = 0;
+            for (int i = 0; i < touchedCount; i++) {
+                int word = touchedWords[i];
+                long bits = candidates[word] & passable[word] & ~reached[word];
+                candidates[word] = 0;
+                if (bits == 0) {
+                    continue;
+                }
+
+                reached[word] |= bits;
+                frontier[word] = bits;
+                if (activeCount == activeWords.length) {
+                    activeWords = Arrays.copyOf(activeWords, activeCount * 2);
+                }
+                activeWords[activeCount++] = word;
+                newlyReached += Long.bitCount(bits);
+                if ((residue & 1) != 0) {
+                    generationLow[word] |= bits;
+                }
+                if ((residue & 2) != 0) {
+                    generationHigh[word] |= bits;
+                }
+            }
+            touchedCount = 0;
+            return newlyReached;
+        }
+
+        /**
+         * Walks back from the end, stepping to any reached neighbor of the previous generation.
+         */
+        private List<Position> buildPath(Position start, Position end, int length) {
+            List<Position> path = new ArrayList<>(length + 1);
+            int row = end.row();
+            int col = end.col();
+            path.add(end);
+            for (int step = length - 1; step >= 0; step--) {
+                if (isReachedIn(row - 1, col, step)) {
+                    row--;
+                } else if (isReachedIn(row + 1, col, step)) {
+                    row++;
+                } else if (isReachedIn(row, col - 1, step)) {
+                    col--;
+                } else {
+                    col++;
+                }
+                path.add(step == 0 ? start : new Position(row, col));
+            }
+            Collections.reverse(path);
+            return path;
+        }
+
+        private boolean isReachedIn(int row, int col, int step) {
+            if (row < 0 || row >= height || col < 0 || col >= width) {
+                return false;
+            }
+            int word = row * wordsPerRow + (col >>> 6);
+            long bit = 1L << col;
+            if ((reached[word] & bit) == 0) {
+                return false;
+            }
+            int residue = ((generationLow[word] & bit) != 0 ? 1 : 0) | ((generationHigh[word] & bit) != 0 ? 2 : 0);
+            return residue == step % 3;
+        }
+    }
+}
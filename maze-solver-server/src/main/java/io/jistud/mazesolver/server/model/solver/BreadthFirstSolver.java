@@ -0,0 +1,166 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeGrid;
+import io.jistud.mazesolver.server.model.MazeSolver;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveBudget;
+import io.jistud.mazesolver.server.model.SolveResult;
+import io.jistud.mazesolver.server.model.TiledGrid;
+
+/**
+ * Shortest-path solver using an iterative breadth-first search.
+ * Cells are addressed by their row-major index (row * width + col), so the search
+ * works on flat primitive arrays: an int queue, an int parent array and a long[] visited bitset.
+ * No objects are allocated per explored cell and the search never recurses.
+ * <p>
+ * On a {@link TiledGrid} the same search runs on storage indices instead, with the tile-aware neighbor
+ * helpers, so the queue, parent array and bitset share the locality of the tiles.
+ */
+public class BreadthFirstSolver implements MazeSolver {
+
+    /**
+     * Finds the shortest path between two positions of the maze.
+     * Every cell that is not a wall is considered passable.
+     *
+     * @param maze the maze to search
+     * @param start the position to start from
+     * @param end the position to reach
+     * @param budget the limits of this run, checked once per dequeued cell
+     * @return the result holding the shortest path, or a null path if end is unreachable or the budget ran out
+     */
+    @Override
+    public SolveResult solve(Maze maze, Position start, Position end, SolveBudget budget) {
+        if (maze.getGrid() instanceof TiledGrid tiled) {
+            return solveTiled(tiled, start, end, budget);
+        }
+        MazeGrid grid = maze.getGrid();
+        int width = maze.getWidth();
+        int cellCount = maze.getHeight() * width;
+
+        int startIndex = start.row() * width + start.col();
+        int endIndex = end.row() * width + end.col();
+
+        int[] queue = new int[cellCount];
+        int[] parent = new int[cellCount];
+        long[] visited = new long[(cellCount + 63) >>> 6];
+
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = startIndex;
+        visited[startIndex >>> 6] |= 1L << startIndex;
+        parent[startIndex] = -1;
+
+        int peakFrontier = 1;
+        while (head < tail) {
+            peakFrontier = Math.max(peakFrontier, tail - head);
+            if (budget.isExceeded(head + 1)) {
+                return SolveResult.budgetExceeded(head, peakFrontier);
+            }
+            int current = queue[head++];
+            if (current == endIndex) {
+                return new SolveResult(SolverSupport.buildPath(parent, endIndex, width), head, peakFrontier);
+            }
+
+            int row = current / width;
+            int col = current - row * width;
+
+            // Up, down, left, right
+            if (row > 0 && grid.get(current - width) != Maze.WALL) {
+                tail = visit(current - width, current, queue, tail, parent, visited);
+            }
+            if (row < grid.getHeight() - 1 && grid.get(current + width) != Maze.WALL) {
+                tail = visit(current + width, current, queue, tail, parent, visited);
+            }
+            if (col > 0 && grid.get(current - 1) != Maze.WALL) {
+                tail = visit(current - 1, current, queue, tail, parent, visited);
+            }
+            if (col < width - 1 && grid.get(current + 1) != Maze.WALL) {
+                tail = visit(current + 1, current, queue, tail, parent, visited);
+            }
+        }
+
+        return new SolveResult(null, head, peakFrontier);
+    }
+
+    /**
+     * The search of {@link #solve} on the storage indices of a tiled grid.
+     * Neighbors are visited in the same order, so the path and the expanded cells are the same.
+     */
+    private static SolveResult solveTiled(TiledGrid grid, Position start, Position end, SolveBudget budget) {
+        int cellCount = grid.getStorageSize();
+        int startCell = grid.cellOf(start.row(), start.col());
+        int endCell = grid.cellOf(end.row(), end.col());
+
+        int[] queue = new int[cellCount];
+        int[] parent = new int[cellCount];
+        long[] visited = new long[(cellCount + 63) >>> 6];
+
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = startCell;
+        visited[startCell >>> 6] |= 1L << startCell;
+        parent[startCell] = -1;
+
+        int peakFrontier = 1;
+        while (head < tail) {
+            peakFrontier = Math.max(peakFrontier, tail - head);
+            if (budget.isExceeded(head + 1)) {
+                return SolveResult.budgetExceeded(head, peakFrontier);
+            }
+            int current = queue[head++];
+            if (current == endCell) {
+                return new SolveResult(tiledPath(grid, parent, endCell), head, peakFrontier);
+            }
+
+            // Up, down, left, right; padding cells read as walls
+            int neighbor = grid.up(current);
+            if (neighbor >= 0 && grid.getAt(neighbor) != Maze.WALL) {
+                tail = visit(neighbor, current, queue, tail, parent, visited);
+            }
+            neighbor = grid.down(current);
+            if (neighbor >= 0 && grid.getAt(neighbor) != Maze.WALL) {
+                tail = visit(neighbor, current, queue, tail, parent, visited);
+            }
+            neighbor = grid.left(current);
+            if (neighbor >= 0 && grid.getAt(neighbor) != Maze.WALL) {
+                tail = visit(neighbor, current, queue, tail, parent, visited);
+            }
+            neighbor = grid.right(current);
+            if (neighbor >= 0 && grid.getAt(neighbor) != Maze.WALL) {
+                tail = visit(neighbor, current, queue, tail, parent, visited);
+            }
+        }
+
+        return new SolveResult(null, head, peakFrontier);
+    }
+
+    private static List<Position> tiledPath(TiledGrid grid, int[] parent, int endCell) {
+        List<Position> path = new ArrayList<>();
+        for (int cell = endCell; cell != -1; cell = parent[cell]) {
+            path.add(new Position(grid.rowOf(cell), grid.colOf(cell)));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Enqueues a neighbor cell if it has not been visited yet.
+     *
+     * @return the new tail of the queue
+     */
+    private static int visit(int neighbor, int current, int[] queue, int tail, int[] parent, long[] visited) {
+        long bit = 1L << neighbor;
+        int word = neighbor >>> 6;
+        if ((visited[word] & bit) == 0) {
+            visited[word] |= bit;
+            parent[neighbor] = current;
+            queue[tail++] = neighbor;
+        }
+        return tail;
+    }
+}
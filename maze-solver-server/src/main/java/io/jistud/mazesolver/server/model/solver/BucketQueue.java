@@ -0,0 +1,99 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Monotone bucket queue of int elements (cell indices) keyed by int distances, as used by Dial's algorithm.
+ * Every pushed key must lie between the key last popped and that key plus the maximum step, which holds for
+ * Dijkstra with integer edge costs of at most that step. Keys then map onto a ring of more than maxStep
+ * buckets, so push and pop take constant amortized time instead of the O(log n) of a comparison heap.
+ * The ring size is a power of two, so a key is mapped to its bucket with a mask.
+ * <p>
+ * An element can be pushed again with a lower key; the old entry stays in its bucket and has to be
+ * skipped by the caller when it is popped.
+ */
+class BucketQueue {
+
+    private static final int INITIAL_BUCKET_SIZE = 64;
+
+    private final int[][] buckets;
+    private final int[] sizes;
+    // Buckets are drained in insertion order, which keeps consecutive pops close together in the grid
+    private final int[] heads;
+    private final int mask;
+    private final int maxStep;
+    private int size = 0;
+    private int currentKey = 0;
+
+    /**
+     * Creates an empty queue.
+     *
+     * @param maxStep the largest difference between a pushed key and the key last popped
+     */
+    BucketQueue(int maxStep) {
+        int bucketCount = Integer.highestOneBit(maxStep) << 1;
+        this.buckets = new int[bucketCount][INITIAL_BUCKET_SIZE];
+        this.sizes = new int[bucketCount];
+        this.heads = new int[bucketCount];
+        this.mask = bucketCount - 1;
+        this.maxStep = maxStep;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of queued entries, including stale entries that will be skipped.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the key of the element popped last.
+     */
+    int currentKey() {
+        return currentKey;
+    }
+
+    /**
+     * Adds an element with the given key.
+     *
+     * @throws IllegalArgumentException if the key is below the current key or more than the maximum step above it
+     */
+    void push(int element, int key) {
+        if (key < currentKey || key - currentKey > maxStep) {
+            throw new IllegalArgumentException(
+                    "Key " + key + " is outside the window of the current key " + currentKey);
+        }
+        int bucket = key & mask;
+        if (sizes[bucket] == buckets[bucket].length) {
+            buckets[bucket] = Arrays.copyOf(buckets[bucket], sizes[bucket] * 2);
+        }
+        buckets[bucket][sizes[bucket]++] = element;
+        size++;
+    }
+
+    /**
+     * Removes an element with the smallest key and makes that key the current key.
+     */
+    int pop() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        int bucket = currentKey & mask;
+        while (heads[bucket] == sizes[bucket]) {
+            currentKey++;
+            bucket = currentKey & mask;
+        }
+        size--;
+        int element = buckets[bucket][heads[bucket]++];
+        if (heads[bucket] == sizes[bucket]) {
+            heads[bucket] = 0;
+            sizes[bucket] = 0;
+        }
+        return element;
+    }
+}
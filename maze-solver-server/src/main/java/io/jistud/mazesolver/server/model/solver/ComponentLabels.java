@@ -0,0 +1,156 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.Arrays;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeGrid;
+import io.jistud.mazesolver.server.model.Position;
+
+/**
+ * Connected-component id of every cell, addressed by row-major cell index.
+ * Labels are assigned with the classic two-pass scanline algorithm: the first pass gives every open
+ * cell the label of its upper or left neighbor (or a new one) and merges the two labels in an int-array
+ * union-find when both neighbors are open; the second pass replaces every label by the compact id of
+ * its set. Both passes are linear in the number of cells and never recurse.
+ * <p>
+ * Two cells are connected exactly when they share a component id, so whether a maze is solvable is
+ * answered without running a search.
+ */
+public final class ComponentLabels {
+
+    /**
+     * Component id of wall cells.
+     */
+    public static final int WALL = 0;
+
+    private final int height;
+    private final int width;
+    private final int[] labels;
+    private final int componentCount;
+
+    private ComponentLabels(int height, int width, int[] labels, int componentCount) {
+        this.height = height;
+        this.width = width;
+        this.labels = labels;
+        this.componentCount = componentCount;
+    }
+
+    /**
+     * Labels the connected regions of open cells of a maze.
+     * Every cell that is not a wall is considered passable.
+     *
+     * @param maze the maze to label
+     * @return the component labels
+     */
+    public static ComponentLabels label(Maze maze) {
+        MazeGrid grid = maze.getGrid();
+        int height = maze.getHeight();
+        int width = maze.getWidth();
+        int[] labels = new int[height * width];
+
+        // Provisional label sets; index 0 is reserved for walls
+        int[] parent = new int[64];
+        int nextLabel = 1;
+
+        for (int row = 0; row < height; row++) {
+            int base = row * width;
+            for (int col = 0; col < width; col++) {
+                if (grid.get(base + col) == Maze.WALL) {
+                    continue;
+                }
+                int up = row > 0 ? labels[base - width + col] : WALL;
+                int left = col > 0 ? labels[base + col - 1] : WALL;
+
+                if (up == WALL && left == WALL) {
+                    if (nextLabel == parent.length) {
+                        parent = Arrays.copyOf(parent, parent.length * 2);
+                    }
+                    parent[nextLabel] = nextLabel;
+                    labels[base + col] = nextLabel++;
+                } else if (up == WALL || left == WALL) {
+                    labels[base + col] = Math.max(up, left);
+                } else {
+                    labels[base + col] = union(parent, up, left);
+                }
+            }
+        }
+
+        // Number the sets 1..n in order of their first cell and relabel every cell
+        int[] componentIds = new int[nextLabel];
+        int componentCount = 0;
+        for (int label = 1; label < nextLabel; label++) {
+            int root = find(parent, label);
+            if (componentIds[root] == 0) {
+                componentIds[root] = ++componentCount;
+            }
+            componentIds[label] = componentIds[root];
+        }
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = componentIds[labels[i]];
+        }
+
+        return new ComponentLabels(height, width, labels, componentCount);
+    }
+
+    /**
+     * Finds the representative label of a set, halving the path on the way.
+     */
+    private static int find(int[] parent, int label) {
+        while (parent[label] != label) {
+            parent[label] = parent[parent[label]];
+            label = parent[label];
+        }
+        return label;
+    }
+
+    /**
+     * Merges the sets of two labels under the smaller representative.
+     *
+     * @return the representative of the merged set
+     */
+    private static int union(int[] parent, int label, int otherLabel) {
+        int root = find(parent, label);
+        int otherRoot = find(parent, otherLabel);
+        if (root < otherRoot) {
+            parent[otherRoot] = root;
+            return root;
+        }
+        parent[root] = otherRoot;
+        return otherRoot;
+    }
+
+    /**
+     * Returns the component id of a cell.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return the component id (1-based), or {@link #WALL} if the cell is a wall or outside the maze
+     */
+    public int getComponent(int row, int col) {
+        if (row < 0 || row >= height || col < 0 || col >= width) {
+            return WALL;
+        }
+        return labels[row * width + col];
+    }
+
+    /**
+     * Returns the number of connected regions of open cells.
+     *
+     * @return the number of components
+     */
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /**
+     * Checks whether a path exists between two cells.
+     *
+     * @param from the first cell
+     * @param to the second cell
+     * @return true if both cells are open and in the same component
+     */
+    public boolean isConnected(Position from, Position to) {
+        int component = getComponent(from.row(), from.col());
+        return component != WALL && component == getComponent(to.row(), to.col());
+    }
+}
@@ -0,0 +1,93 @@
+package io.jistud.mazesolver.server.model.solver;
+
+/**
+ * Bitset of the cells that survive dead-end filling, addressed by row-major cell index.
+ * A corridor mask is only valid for the start and end cells it was computed for,
+ * because those two cells are never filled even when they sit at the end of a dead end.
+ */
+public final class CorridorMask {
+
+    private final int height;
+    private final int width;
+    private final int startIndex;
+    private final int endIndex;
+    private final long[] bits;
+    // Number of open cells before each word of the bitset
+    private final int[] wordRanks;
+    private final int openCellCount;
+
+    CorridorMask(int height, int width, int startIndex, int endIndex, long[] bits) {
+        this.height = height;
+        this.width = width;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+        this.bits = bits;
+        this.wordRanks = new int[bits.length];
+        int count = 0;
+        for (int word = 0; word < bits.length; word++) {
+            wordRanks[word] = count;
+            count += Long.bitCount(bits[word]);
+        }
+        this.openCellCount = count;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Checks whether the cell survived dead-end filling.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return true if the cell is part of the corridor, false if it is a wall or was filled
+     */
+    public boolean isOpen(int row, int col) {
+        return row >= 0 && row < height && col >= 0 && col < width && isOpen(row * width + col);
+    }
+
+    /**
+     * Checks whether the cell with the given row-major index survived dead-end filling.
+     *
+     * @param index the row-major cell index
+     * @return true if the cell is part of the corridor
+     */
+    public boolean isOpen(int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the number of open cells before an open cell in row-major order, so arrays indexed by rank
+     * only need one slot per corridor cell.
+     *
+     * @param index the row-major index of an open cell
+     * @return the rank of the cell, between 0 and the open cell count
+     */
+    int rank(int index) {
+        return wordRanks[index >>> 6] + Long.bitCount(bits[index >>> 6] & ((1L << index) - 1));
+    }
+
+    /**
+     * Returns the number of cells that survived dead-end filling.
+     *
+     * @return the number of corridor cells
+     */
+    public int getOpenCellCount() {
+        return openCellCount;
+    }
+
+    /**
+     * Checks whether this mask was computed for the given start and end cells.
+     *
+     * @param startIndex the row-major index of the start cell
+     * @param endIndex the row-major index of the end cell
+     * @return true if the mask can be used to search between these cells
+     */
+    public boolean isComputedFor(int startIndex, int endIndex) {
+        return this.startIndex == startIndex && this.endIndex == endIndex;
+    }
+}
@@ -0,0 +1,105 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeSolver;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveBudget;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+/**
+ * Shortest-path solver that first removes dead ends and then runs a breadth-first search over the
+ * surviving corridor only. The corridor mask is cached on the maze, or on the snapshot a maze view was
+ * taken from (see {@link Maze#getCorridorMask()}), so repeated solves of the same maze skip both the
+ * filling pass and every pruned cell. The search arrays are indexed by the rank of a cell in the corridor,
+ * so they grow with the corridor rather than the grid.
+ * This pays off on perfect mazes, where almost every cell lies in a dead-end branch.
+ */
+public class DeadEndFillingSolver implements MazeSolver {
+
+    @Override
+    public SolveResult solve(Maze maze, Position start, Position end, SolveBudget budget) {
+        int width = maze.getWidth();
+        int height = maze.getHeight();
+        int startIndex = start.row() * width + start.col();
+        int endIndex = end.row() * width + end.col();
+
+        CorridorMask corridor = maze.getCorridorMask();
+        if (corridor == null || !corridor.isComputedFor(startIndex, endIndex)) {
+            corridor = DeadEndFilter.fill(maze, start, end);
+        }
+        if (budget.isExhausted()) {
+            return SolveResult.budgetExceeded(0, 0);
+        }
+
+        // Indexed by corridor rank; the parent holds the row-major index of the previous cell
+        int openCells = Math.max(corridor.getOpenCellCount(), 1);
+        int[] queue = new int[openCells];
+        int[] parent = new int[openCells];
+        long[] visited = new long[(openCells + 63) >>> 6];
+
+        int head = 0;
+        int tail = 0;
+        int startRank = corridor.rank(startIndex);
+        queue[tail++] = startIndex;
+        visited[startRank >>> 6] |= 1L << startRank;
+        parent[startRank] = -1;
+
+        int peakFrontier = 1;
+        while (head < tail) {
+            peakFrontier = Math.max(peakFrontier, tail - head);
+            if (budget.isExceeded(head + 1)) {
+                return SolveResult.budgetExceeded(head, peakFrontier);
+            }
+            int current = queue[head++];
+            if (current == endIndex) {
+                return new SolveResult(buildPath(corridor, parent, endIndex, width), head, peakFrontier);
+            }
+
+            int row = current / width;
+            int col = current - row * width;
+            if (row > 0) tail = visit(current - width, current, corridor, queue, tail, parent, visited);
+            if (row < height - 1) tail = visit(current + width, current, corridor, queue, tail, parent, visited);
+            if (col > 0) tail = visit(current - 1, current, corridor, queue, tail, parent, visited);
+            if (col < width - 1) tail = visit(current + 1, current, corridor, queue, tail, parent, visited);
+        }
+
+        return new SolveResult(null, head, peakFrontier);
+    }
+
+    /**
+     * Enqueues a neighbor cell if it is part of the corridor and has not been visited yet.
+     *
+     * @return the new tail of the queue
+     */
+    private static int visit(
+            int neighbor, int current, CorridorMask corridor, int[] queue, int tail, int[] parent, long[] visited) {
+        if (!corridor.isOpen(neighbor)) {
+            return tail;
+        }
+        int rank = corridor.rank(neighbor);
+        long bit = 1L << rank;
+        int word = rank >>> 6;
+        if ((visited[word] & bit) == 0) {
+            visited[word] |= bit;
+            parent[rank] = current;
+            queue[tail++] = neighbor;
+        }
+        return tail;
+    }
+
+    /**
+     * Rebuilds the path by walking the rank-indexed parents back from the end cell.
+     */
+    private static List<Position> buildPath(CorridorMask corridor, int[] parent, int endIndex, int width) {
+        List<Position> path = new ArrayList<>();
+        for (int index = endIndex; index != -1; index = parent[corridor.rank(index)]) {
+            path.add(new Position(index / width, index % width));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+}
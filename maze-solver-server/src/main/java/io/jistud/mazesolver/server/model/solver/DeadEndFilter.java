@@ -0,0 +1,98 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeGrid;
+import io.jistud.mazesolver.server.model.Position;
+
+/**
+ * Preprocessing stage that removes dead ends from a maze in linear time.
+ * Every open cell with at most one open neighbor (other than the start and end) is filled,
+ * which may turn its neighbor into a new dead end, until no dead ends are left.
+ * The cells that remain contain every simple path between start and end, so any search restricted
+ * to them still finds a shortest path. In a perfect maze only the solution path remains.
+ */
+public final class DeadEndFilter {
+
+    private DeadEndFilter() {
+        // Utility class
+    }
+
+    /**
+     * Fills all dead ends of the maze, keeping the given start and end cells.
+     *
+     * @param maze the maze to prune
+     * @param start the start cell, never filled
+     * @param end the end cell, never filled
+     * @return the mask of cells surviving the filling
+     */
+    public static CorridorMask fill(Maze maze, Position start, Position end) {
+        MazeGrid grid = maze.getGrid();
+        int height = maze.getHeight();
+        int width = maze.getWidth();
+        int cellCount = height * width;
+        int startIndex = start.row() * width + start.col();
+        int endIndex = end.row() * width + end.col();
+
+        long[] open = new long[(cellCount + 63) >>> 6];
+        byte[] degree = new byte[cellCount];
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                int index = row * width + col;
+                if (grid.get(index) == Maze.WALL) {
+                    continue;
+                }
+                open[index >>> 6] |= 1L << index;
+                int count = 0;
+                if (row > 0 && grid.get(index - width) != Maze.WALL) count++;
+                if (row < height - 1 && grid.get(index + width) != Maze.WALL) count++;
+                if (col > 0 && grid.get(index - 1) != Maze.WALL) count++;
+                if (col < width - 1 && grid.get(index + 1) != Maze.WALL) count++;
+                degree[index] = (byte) count;
+            }
+        }
+
+        // Cells are cleared from the open bitset when they are queued, so each is queued at most once
+        int[] queue = new int[cellCount];
+        int tail = 0;
+        for (int index = 0; index < cellCount; index++) {
+            if (isSet(open, index) && degree[index] <= 1 && index != startIndex && index != endIndex) {
+                open[index >>> 6] &= ~(1L << index);
+                queue[tail++] = index;
+            }
+        }
+
+        for (int head = 0; head < tail; head++) {
+            int current = queue[head];
+            int row = current / width;
+            int col = current - row * width;
+            if (row > 0) tail = release(current - width, open, degree, queue, tail, startIndex, endIndex);
+            if (row < height - 1) tail = release(current + width, open, degree, queue, tail, startIndex, endIndex);
+            if (col > 0) tail = release(current - 1, open, degree, queue, tail, startIndex, endIndex);
+            if (col < width - 1) tail = release(current + 1, open, degree, queue, tail, startIndex, endIndex);
+        }
+
+        return new CorridorMask(height, width, startIndex, endIndex, open);
+    }
+
+    /**
+     * Removes a filled cell from its neighbor's degree and queues the neighbor if it became a dead end.
+     *
+     * @return the new tail of the queue
+     */
+    private static int release(
+            int neighbor, long[] open, byte[] degree, int[] queue, int tail, int startIndex, int endIndex) {
+        if (!isSet(open, neighbor)) {
+            return tail;
+        }
+        degree[neighbor]--;
+        if (degree[neighbor] <= 1 && neighbor != startIndex && neighbor != endIndex) {
+            open[neighbor >>> 6] &= ~(1L << neighbor);
+            queue[tail++] = neighbor;
+        }
+        return tail;
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+}
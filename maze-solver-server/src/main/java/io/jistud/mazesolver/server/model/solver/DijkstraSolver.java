@@ -0,0 +1,140 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.Arrays;
+import java.util.List;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeGrid;
+import io.jistud.mazesolver.server.model.MazeSolver;
+import io.jistud.mazesolver.server.model.MultiExitSolver;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveBudget;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+/**
+ * Cheapest-path solver for mazes with weighted terrain, using Dijkstra's algorithm on a bucket queue.
+ * Entering a cell costs {@link Maze#moveCost(char)}, an integer between 1 and {@link Maze#MAX_MOVE_COST}.
+ * With such small integer costs the queue only ever holds keys in a window of MAX_MOVE_COST + 1 distances,
+ * so a {@link BucketQueue} replaces the comparison heap and every queue operation takes constant time.
+ * On mazes without terrain the result is a shortest path, like the breadth-first search.
+ * <p>
+ * With several exits the search stops at the first exit it settles, which is the cheapest one to reach.
+ */
+public class DijkstraSolver implements MazeSolver, MultiExitSolver {
+
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    /**
+     * Finds the cheapest path between two positions of the maze.
+     * Every cell that is not a wall is considered passable.
+     *
+     * @param maze the maze to search
+     * @param start the position to start from
+     * @param end the position to reach
+     * @param budget the limits of this run, checked once per expanded cell
+     * @return the result holding the cheapest path, or a null path if end is unreachable or the budget ran out
+     */
+    @Override
+    public SolveResult solve(Maze maze, Position start, Position end, SolveBudget budget) {
+        return solve(maze, start, List.of(end), budget);
+    }
+
+    /**
+     * Finds the cheapest path from the start to any of the exits.
+     * Every cell that is not a wall is considered passable.
+     *
+     * @param maze the maze to search
+     * @param start the position to start from
+     * @param exits the positions that end the path, at least one
+     * @param budget the limits of this run, checked once per expanded cell
+     * @return the result holding the cheapest path to an exit, or a null path if no exit is reachable
+     *     or the budget ran out
+     * @throws IllegalArgumentException if no exit is given
+     */
+    @Override
+    public SolveResult solve(Maze maze, Position start, List<Position> exits, SolveBudget budget) {
+        if (exits.isEmpty()) {
+            throw new IllegalArgumentException("At least one exit is required");
+        }
+        MazeGrid grid = maze.getGrid();
+        int height = maze.getHeight();
+        int width = maze.getWidth();
+        int cellCount = height * width;
+
+        int startIndex = start.row() * width + start.col();
+        long[] exitCells = new long[(cellCount + 63) >>> 6];
+        for (Position exit : exits) {
+            int exitIndex = exit.row() * width + exit.col();
+            exitCells[exitIndex >>> 6] |= 1L << exitIndex;
+        }
+
+        int[] distance = new int[cellCount];
+        int[] parent = new int[cellCount];
+        Arrays.fill(distance, UNREACHED);
+        BucketQueue queue = new BucketQueue(Maze.MAX_MOVE_COST);
+
+        distance[startIndex] = 0;
+        parent[startIndex] = -1;
+        queue.push(startIndex, 0);
+        long expanded = 0;
+        int peakFrontier = 1;
+
+        while (!queue.isEmpty()) {
+            peakFrontier = Math.max(peakFrontier, queue.size());
+            int current = queue.pop();
+            int currentDistance = queue.currentKey();
+            if (currentDistance > distance[current]) {
+                // Stale entry of a cell that was reached more cheaply later
+                continue;
+            }
+            if (budget.isExceeded(expanded + 1)) {
+                return SolveResult.budgetExceeded(expanded, peakFrontier);
+            }
+            expanded++;
+            if ((exitCells[current >>> 6] & (1L << current)) != 0) {
+                return new SolveResult(SolverSupport.buildPath(parent, current, width), expanded, peakFrontier);
+            }
+
+            int row = current / width;
+            int col = current - row * width;
+
+            // Up, down, left, right
+            if (row > 0) {
+                relax(current - width, grid.get(current - width), current, currentDistance, distance, parent, queue);
+            }
+            if (row < height - 1) {
+                relax(current + width, grid.get(current + width), current, currentDistance, distance, parent, queue);
+            }
+            if (col > 0) {
+                relax(current - 1, grid.get(current - 1), current, currentDistance, distance, parent, queue);
+            }
+            if (col < width - 1) {
+                relax(current + 1, grid.get(current + 1), current, currentDistance, distance, parent, queue);
+            }
+        }
+
+        return new SolveResult(null, expanded, peakFrontier);
+    }
+
+    /**
+     * Queues a neighbor cell if it is not a wall and the route through the current cell is cheaper.
+     */
+    private static void relax(
+            int neighbor,
+            char value,
+            int current,
+            int currentDistance,
+            int[] distance,
+            int[] parent,
+            BucketQueue queue) {
+        if (value == Maze.WALL) {
+            return;
+        }
+        int candidate = currentDistance + Maze.moveCost(value);
+        if (candidate < distance[neighbor]) {
+            distance[neighbor] = candidate;
+            parent[neighbor] = current;
+            queue.push(neighbor, candidate);
+        }
+    }
+}
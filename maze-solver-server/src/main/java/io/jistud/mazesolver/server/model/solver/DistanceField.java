@@ -0,0 +1,166 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeGrid;
+import io.jistud.mazesolver.server.model.Position;
+
+/**
+ * Distance of every cell to the nearest end cell, addressed by row-major cell index.
+ * The field is built once with a breadth-first search running backwards from the end cells.
+ * Afterwards a shortest route from any cell is found by descending the distances one step at
+ * a time, so a query costs O(path length) instead of a new search over the whole maze.
+ */
+public final class DistanceField {
+
+    /**
+     * Distance of cells that are walls or cannot reach an end cell.
+     */
+    public static final int UNREACHABLE = -1;
+
+    private static final int WALL_DISTANCE = -2;
+
+    private final int height;
+    private final int width;
+    private final int[] distances;
+
+    private DistanceField(int height, int width, int[] distances) {
+        this.height = height;
+        this.width = width;
+        this.distances = distances;
+    }
+
+    /**
+     * Computes the distance field of a maze towards its end cells.
+     * Every cell that is not a wall is considered passable.
+     *
+     * @param maze the maze to compute the field for
+     * @return the distance field, with every cell unreachable if the maze has no end cell
+     */
+    public static DistanceField fromEnd(Maze maze) {
+        MazeGrid grid = maze.getGrid();
+        int height = maze.getHeight();
+        int width = maze.getWidth();
+        int[] distances = new int[height * width];
+        Arrays.fill(distances, UNREACHABLE);
+
+        int[] queue = new int[distances.length];
+        int tail = 0;
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                int index = row * width + col;
+                char cell = grid.get(index);
+                if (cell == Maze.WALL) {
+                    distances[index] = WALL_DISTANCE;
+                } else if (cell == Maze.END) {
+                    distances[index] = 0;
+                    queue[tail++] = index;
+                }
+            }
+        }
+
+        for (int head = 0; head < tail; head++) {
+            int current = queue[head];
+            int next = distances[current] + 1;
+            int row = current / width;
+            int col = current - row * width;
+
+            // Up, down, left, right
+            if (row > 0) {
+                tail = visit(current - width, next, queue, tail, distances);
+            }
+            if (row < height - 1) {
+                tail = visit(current + width, next, queue, tail, distances);
+            }
+            if (col > 0) {
+                tail = visit(current - 1, next, queue, tail, distances);
+            }
+            if (col < width - 1) {
+                tail = visit(current + 1, next, queue, tail, distances);
+            }
+        }
+
+        return new DistanceField(height, width, distances);
+    }
+
+    /**
+     * Enqueues a neighbor cell if it is not a wall and has not been reached yet.
+     *
+     * @return the new tail of the queue
+     */
+    private static int visit(int neighbor, int distance, int[] queue, int tail, int[] distances) {
+        if (distances[neighbor] == UNREACHABLE) {
+            distances[neighbor] = distance;
+            queue[tail++] = neighbor;
+        }
+        return tail;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Checks whether a cell is inside the maze and not a wall.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return true if the cell is open
+     */
+    public boolean isOpen(int row, int col) {
+        return row >= 0 && row < height && col >= 0 && col < width && distances[row * width + col] != WALL_DISTANCE;
+    }
+
+    /**
+     * Returns the number of steps from a cell to the nearest end cell.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return the distance, or {@link #UNREACHABLE} if the cell is outside the maze, a wall or cut off from every end
+     */
+    public int getDistance(int row, int col) {
+        if (row < 0 || row >= height || col < 0 || col >= width) {
+            return UNREACHABLE;
+        }
+        return Math.max(distances[row * width + col], UNREACHABLE);
+    }
+
+    /**
+     * Builds a shortest route from a cell to the nearest end cell by following decreasing distances.
+     *
+     * @param from the cell to start from
+     * @return the positions from the given cell to an end cell (both inclusive), or null if no end can be reached
+     */
+    public List<Position> routeFrom(Position from) {
+        int distance = getDistance(from.row(), from.col());
+        if (distance == UNREACHABLE) {
+            return null;
+        }
+
+        List<Position> route = new ArrayList<>(distance + 1);
+        int row = from.row();
+        int col = from.col();
+        route.add(from);
+        while (distance > 0) {
+            distance--;
+            if (getDistance(row - 1, col) == distance) {
+                row--;
+            } else if (getDistance(row + 1, col) == distance) {
+                row++;
+            } else if (getDistance(row, col - 1) == distance) {
+                col--;
+            } else {
+                col++;
+            }
+            route.add(new Position(row, col));
+        }
+        return route;
+    }
+}
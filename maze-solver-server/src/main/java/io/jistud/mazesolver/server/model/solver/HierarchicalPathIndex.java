@@ -0,0 +1,637 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeGrid;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+/**
+ * Hierarchical path-finding index (HPA*) for large mazes.
+ * The maze is split into square clusters. Wherever two neighboring clusters share a run of open
+ * border cells, an entrance is placed: one transition in the middle of short runs, one at each end
+ * of long runs. The entrance cells are the nodes of a small abstract graph, connected by a step of
+ * cost 1 across the border and by the precomputed in-cluster distance to every other entrance of the
+ * same cluster. Clusters are independent, so they are built in parallel on a {@link ForkJoinPool}.
+ * <p>
+ * A query connects its two cells to the entrances of their clusters, searches the abstract graph with
+ * A* and then refines only the clusters on the chosen route with a breadth-first search bounded to the
+ * cluster. Paths are near-optimal rather than shortest: they always pass through entrance cells.
+ * <p>
+ * Cells changed with {@link #setBlocked(int, int, boolean)} only mark their cluster (and the neighbor
+ * across the border, if the cell lies on one) as dirty; dirty clusters are rebuilt before the next
+ * query. Queries and updates are serialized, so an index can be shared between threads.
+ */
+public final class HierarchicalPathIndex {
+
+    /**
+     * Cluster size used by {@link #build(Maze)}.
+     */
+    public static final int DEFAULT_CLUSTER_SIZE = 64;
+
+    // In-cluster distances are stored as shorts, so they must stay below Short.MAX_VALUE
+    private static final int MAX_CLUSTER_SIZE = 128;
+    // Runs of open border cells at least this long get a transition at both ends
+    private static final int LONG_ENTRANCE = 6;
+    // Number of clusters below which a build task is not split any further
+    private static final int SEQUENTIAL_CLUSTERS = 16;
+    private static final int INFINITY = Integer.MAX_VALUE / 2;
+    private static final short NO_ROUTE = -1;
+
+    private final int height;
+    private final int width;
+    private final int clusterSize;
+    private final int clusterRows;
+    private final int clusterCols;
+    private final long[] blocked;
+    private final ForkJoinPool pool;
+
+    // Per cluster: sorted entrance cells and the flattened k x k matrix of in-cluster distances
+    private final int[][] entrances;
+    private final short[][] distances;
+    // First abstract node id of every cluster, plus the total node count at the end
+    private final int[] nodeOffset;
+    private final BitSet dirty;
+
+    private HierarchicalPathIndex(Maze maze, int clusterSize, ForkJoinPool pool) {
+        this.height = maze.getHeight();
+        this.width = maze.getWidth();
+        this.clusterSize = clusterSize;
+        this.clusterRows = (height + clusterSize - 1) / clusterSize;
+        this.clusterCols = (width + clusterSize - 1) / clusterSize;
+        this.pool = pool;
+
+        int cellCount = height * width;
+        this.blocked = new long[(cellCount + 63) >>> 6];
+        MazeGrid grid = maze.getGrid();
+        for (int index = 0; index < cellCount; index++) {
+            if (grid.get(index) == Maze.WALL) {
+                blocked[index >>> 6] |= 1L << index;
+            }
+        }
+
+        int clusterCount = clusterRows * clusterCols;
+        this.entrances = new int[clusterCount][];
+        this.distances = new short[clusterCount][];
+        this.nodeOffset = new int[clusterCount + 1];
+        this.dirty = new BitSet(clusterCount);
+        dirty.set(0, clusterCount);
+    }
+
+    /**
+     * Builds the index of a maze with the default cluster size on the common pool.
+     *
+     * @param maze the maze to index; its walls are copied
+     * @return the index
+     */
+    public static HierarchicalPathIndex build(Maze maze) {
+        return build(maze, DEFAULT_CLUSTER_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds the index of a maze. Every cell that is not a wall is considered passable.
+     *
+     * @param maze the maze to index; its walls are copied
+     * @param clusterSize the side length of a cluster, between 2 and 128
+     * @param pool the pool the clusters are built on
+     * @return the index
+     * @throws IllegalArgumentException if the cluster size is out of range
+     */
+    public static HierarchicalPathIndex build(Maze maze, int clusterSize, ForkJoinPool pool) {
+        if (clusterSize < 2 || clusterSize > MAX_CLUSTER_SIZE) {
+            throw new IllegalArgumentException("Cluster size must be between 2 and " + MAX_CLUSTER_SIZE);
+        }
+        HierarchicalPathIndex index = new HierarchicalPathIndex(maze, clusterSize, pool);
+        index.rebuildDirtyClusters();
+        return index;
+    }
+
+    public int getClusterSize() {
+        return clusterSize;
+    }
+
+    /**
+     * Returns the number of entrance nodes of the abstract graph.
+     *
+     * @return the node count
+     */
+    public synchronized int getNodeCount() {
+        rebuildDirtyClusters();
+        return nodeOffset[nodeOffset.length - 1];
+    }
+
+    /**
+     * Checks whether a cell is inside the maze and not a wall.
+     *
+     * @param position the cell to check
+     * @return true if the cell is open
+     */
+    public synchronized boolean isOpen(Position position) {
+        return position.row() >= 0
+                && position.row() < height
+                && position.col() >= 0
+                && position.col() < width
+                && !isBlocked(position.row() * width + position.col());
+    }
+
+    /**
+     * Blocks or opens a cell and marks the clusters whose entrances or distances may have changed.
+     * They are rebuilt before the next query.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @param isWall true to turn the cell into a wall, false to open it
+     * @throws IllegalArgumentException if the cell is outside the maze
+     */
+    public synchronized void setBlocked(int row, int col, boolean isWall) {
+        if (row < 0 || row >= height || col < 0 || col >= width) {
+            throw new IllegalArgumentException("Position is outside the maze: (" + row + "," + col + ")");
+        }
+        int index = row * width + col;
+        if (isBlocked(index) == isWall) {
+            return;
+        }
+
+        if (isWall) {
+            blocked[index >>> 6] |= 1L << index;
+        } else {
+            blocked[index >>> 6] &= ~(1L << index);
+        }
+
+        // Cells on a cluster border also decide the entrances of the cluster on the other side
+        int clusterRow = row / clusterSize;
+        int clusterCol = col / clusterSize;
+        dirty.set(clusterRow * clusterCols + clusterCol);
+        if (row % clusterSize == 0 && clusterRow > 0) {
+            dirty.set((clusterRow - 1) * clusterCols + clusterCol);
+        }
+        if (row % clusterSize == clusterSize - 1 && clusterRow < clusterRows - 1) {
+            dirty.set((clusterRow + 1) * clusterCols + clusterCol);
+        }
+        if (col % clusterSize == 0 && clusterCol > 0) {
+            dirty.set(clusterRow * clusterCols + clusterCol - 1);
+        }
+        if (col % clusterSize == clusterSize - 1 && clusterCol < clusterCols - 1) {
+            dirty.set(clusterRow * clusterCols + clusterCol + 1);
+        }
+    }
+
+    /**
+     * Finds a near-optimal path between two open cells.
+     *
+     * @param from the cell to start from
+     * @param to the cell to reach
+     * @return the result holding the path from start to end (both inclusive), or a null path if the cells
+     *     are not connected, with the number of abstract nodes expanded
+     * @throws IllegalArgumentException if either cell is outside the maze or a wall
+     */
+    public synchronized SolveResult path(Position from, Position to) {
+        if (!isOpen(from) || !isOpen(to)) {
+            throw new IllegalArgumentException("Positions must be open cells of the maze: " + from + ", " + to);
+        }
+        rebuildDirtyClusters();
+
+        int startCell = from.row() * width + from.col();
+        int goalCell = to.row() * width + to.col();
+        int startCluster = clusterOf(startCell);
+        int goalCluster = clusterOf(goalCell);
+        ClusterSearch search = new ClusterSearch();
+
+        // Connect both cells to the entrances of their clusters
+        search.load(startCluster);
+        search.run(startCell);
+        int[] startCosts = search.entranceCosts();
+        int direct = startCluster == goalCluster ? search.distanceTo(goalCell) : NO_ROUTE;
+        search.load(goalCluster);
+        search.run(goalCell);
+        int[] goalCosts = search.entranceCosts();
+
+        int nodeCount = nodeOffset[nodeOffset.length - 1];
+        int startNode = nodeCount;
+        int goalNode = nodeCount + 1;
+        int[] g = new int[nodeCount + 2];
+        int[] parent = new int[nodeCount + 2];
+        Arrays.fill(g, INFINITY);
+        IntMinHeap open = new IntMinHeap(nodeCount + 2);
+
+        g[startNode] = 0;
+        parent[startNode] = -1;
+        open.push(startNode, SolverSupport.heapKey(SolverSupport.manhattan(startCell, goalCell, width), 0));
+        int[] adjacent = new int[4];
+        long expanded = 0;
+
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            if (current == goalNode) {
+                break;
+            }
+            expanded++;
+
+            if (current == startNode) {
+                int offset = nodeOffset[startCluster];
+                for (int slot = 0; slot < startCosts.length; slot++) {
+                    if (startCosts[slot] >= 0) {
+                        relax(current, offset + slot, startCosts[slot], goalCell, g, parent, open);
+                    }
+                }
+                if (direct >= 0) {
+                    relax(current, goalNode, direct, goalCell, g, parent, open);
+                }
+                continue;
+            }
+
+            int cluster = clusterOfNode(current);
+            int slot = current - nodeOffset[cluster];
+            int cell = entrances[cluster][slot];
+
+            // Other entrances of the same cluster
+            short[] matrix = distances[cluster];
+            int size = entrances[cluster].length;
+            int offset = nodeOffset[cluster];
+            for (int other = 0; other < size; other++) {
+                short distance = matrix[slot * size + other];
+                if (other != slot && distance != NO_ROUTE) {
+                    relax(current, offset + other, distance, goalCell, g, parent, open);
+                }
+            }
+            if (cluster == goalCluster && goalCosts[slot] >= 0) {
+                relax(current, goalNode, goalCosts[slot], goalCell, g, parent, open);
+            }
+
+            // Entrances of the neighboring clusters, one step across the border
+            int count = collectNeighbors(cell, adjacent);
+            for (int i = 0; i < count; i++) {
+                int neighbor = adjacent[i];
+                int neighborCluster = clusterOf(neighbor);
+                if (neighborCluster != cluster && !isBlocked(neighbor)) {
+                    int neighborSlot = Arrays.binarySearch(entrances[neighborCluster], neighbor);
+                    if (neighborSlot >= 0) {
+                        relax(current, nodeOffset[neighborCluster] + neighborSlot, 1, goalCell, g, parent, open);
+                    }
+                }
+            }
+        }
+
+        if (g[goalNode] >= INFINITY) {
+            return new SolveResult(null, expanded);
+        }
+        return new SolveResult(refine(parent, startNode, goalNode, startCell, goalCell, search), expanded);
+    }
+
+    /**
+     * Lowers the cost of an abstract node if the route through the current node is shorter.
+     */
+    private void relax(int current, int node, int cost, int goalCell, int[] g, int[] parent, IntMinHeap open) {
+        int candidate = g[current] + cost;
+        if (candidate < g[node]) {
+            g[node] = candidate;
+            parent[node] = current;
+            int heuristic = node >= nodeOffset[nodeOffset.length - 1]
+                    ? 0
+                    : SolverSupport.manhattan(cellOfNode(node), goalCell, width);
+            open.push(node, SolverSupport.heapKey(candidate + heuristic, heuristic));
+        }
+    }
+
+    /**
+     * Turns the route through the abstract graph into cells, searching only the clusters it passes.
+     */
+    private List<Position> refine(
+            int[] parent, int startNode, int goalNode, int startCell, int goalCell, ClusterSearch search) {
+        List<Integer> cells = new ArrayList<>();
+        for (int node = goalNode; node != -1; node = parent[node]) {
+            cells.add(node == startNode ? startCell : node == goalNode ? goalCell : cellOfNode(node));
+        }
+        Collections.reverse(cells);
+
+        List<Position> path = new ArrayList<>();
+        path.add(toPosition(startCell));
+        for (int i = 1; i < cells.size(); i++) {
+            int previous = cells.get(i - 1);
+            int next = cells.get(i);
+            int cluster = clusterOf(previous);
+            if (cluster != clusterOf(next)) {
+                // Step across the border between two clusters
+                path.add(toPosition(next));
+                continue;
+            }
+
+            // Walk down the distances towards the next waypoint, inside the cluster
+            search.load(cluster);
+            search.run(next);
+            int cell = previous;
+            while (cell != next) {
+                cell = search.stepTowardsSource(cell);
+                path.add(toPosition(cell));
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Rebuilds the entrances and distances of all dirty clusters and renumbers the abstract nodes.
+     */
+    private void rebuildDirtyClusters() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        int[] clusters = dirty.stream().toArray();
+        if (clusters.length < SEQUENTIAL_CLUSTERS) {
+            for (int cluster : clusters) {
+                buildCluster(cluster);
+            }
+        } else {
+            pool.invoke(new BuildTask(clusters, 0, clusters.length));
+        }
+        dirty.clear();
+
+        for (int cluster = 0; cluster < entrances.length; cluster++) {
+            nodeOffset[cluster + 1] = nodeOffset[cluster] + entrances[cluster].length;
+        }
+    }
+
+    /**
+     * Builds the clusters of a slice in parallel, splitting it in halves until it is small enough.
+     */
+    private final class BuildTask extends RecursiveAction {
+
+        private final int[] clusters;
+        private final int from;
+        private final int to;
+
+        BuildTask(int[] clusters, int from, int to) {
+            this.clusters = clusters;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_CLUSTERS) {
+                for (int i = from; i < to; i++) {
+                    buildCluster(clusters[i]);
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new BuildTask(clusters, from, middle), new BuildTask(clusters, middle, to));
+            }
+        }
+    }
+
+    /**
+     * Finds the entrances of a cluster on its four borders and the distances between them.
+     * Only reads the walls and writes the slots of this cluster, so clusters can be built concurrently.
+     */
+    private void buildCluster(int cluster) {
+        int clusterRow = cluster / clusterCols;
+        int clusterCol = cluster % clusterCols;
+        int top = clusterRow * clusterSize;
+        int left = clusterCol * clusterSize;
+        int bottom = Math.min(top + clusterSize, height) - 1;
+        int right = Math.min(left + clusterSize, width) - 1;
+
+        int[] cells = new int[4 * clusterSize * 2];
+        int count = 0;
+        if (clusterRow > 0) {
+            count = addEntrances(top * width + left, top * width - width + left, 1, right - left + 1, cells, count);
+        }
+        if (clusterRow < clusterRows - 1) {
+            count = addEntrances(
+                    bottom * width + left, bottom * width + width + left, 1, right - left + 1, cells, count);
+        }
+        if (clusterCol > 0) {
+            count = addEntrances(top * width + left, top * width + left - 1, width, bottom - top + 1, cells, count);
+        }
+        if (clusterCol < clusterCols - 1) {
+            count = addEntrances(top * width + right, top * width + right + 1, width, bottom - top + 1, cells, count);
+        }
+        int[] sorted = Arrays.stream(cells, 0, count).sorted().distinct().toArray();
+
+        int size = sorted.length;
+        short[] matrix = new short[size * size];
+        ClusterSearch search = new ClusterSearch();
+        search.load(cluster);
+        for (int slot = 0; slot < size; slot++) {
+            search.run(sorted[slot]);
+            matrix[slot * size + slot] = 0;
+            // Distances are symmetric, so each search fills a row and a column of the matrix
+            for (int other = slot + 1; other < size; other++) {
+                short distance = (short) search.distanceTo(sorted[other]);
+                matrix[slot * size + other] = distance;
+                matrix[other * size + slot] = distance;
+            }
+        }
+
+        entrances[cluster] = sorted;
+        distances[cluster] = matrix;
+    }
+
+    /**
+     * Scans one border line of a cluster against the line of the neighboring cluster and adds the
+     * transition cells on this side. Both clusters of a border scan the same cells in the same order,
+     * so they agree on the transitions.
+     *
+     * @param inside the first cell of the border line in this cluster
+     * @param outside the first cell of the border line in the neighboring cluster
+     * @param step the index step along the line, 1 for rows and the width for columns
+     * @param length the number of cells of the line
+     * @return the new number of collected cells
+     */
+    private int addEntrances(int inside, int outside, int step, int length, int[] cells, int count) {
+        int runStart = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean open = i < length && !isBlocked(inside + i * step) && !isBlocked(outside + i * step);
+            if (open && runStart < 0) {
+                runStart = i;
+            } else if (!open && runStart >= 0) {
+                int runEnd = i - 1;
+                if (runEnd - runStart + 1 >= LONG_ENTRANCE) {
+                    cells[count++] = inside + runStart * step;
+                    cells[count++] = inside + runEnd * step;
+                } else {
+                    cells[count++] = inside + ((runStart + runEnd) >>> 1) * step;
+                }
+                runStart = -1;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Scratch space for breadth-first searches that never leave one cluster.
+     * The open cells of the cluster are copied into a grid with a closed ring of padding around it, so
+     * the searches need neither bounds checks nor lookups in the wall bitset.
+     */
+    private final class ClusterSearch {
+
+        private final int stride = clusterSize + 2;
+        private final boolean[] open = new boolean[stride * stride];
+        private final int[] distance = new int[open.length];
+        private final int[] queue = new int[clusterSize * clusterSize];
+        private int cluster = -1;
+        private int top;
+        private int left;
+        private int reached;
+
+        ClusterSearch() {
+            Arrays.fill(distance, NO_ROUTE);
+        }
+
+        /**
+         * Copies the open cells of a cluster, unless it is already loaded.
+         */
+        void load(int cluster) {
+            if (this.cluster == cluster) {
+                return;
+            }
+            this.cluster = cluster;
+            top = (cluster / clusterCols) * clusterSize;
+            left = (cluster % clusterCols) * clusterSize;
+            int rows = Math.min(clusterSize, height - top);
+            int cols = Math.min(clusterSize, width - left);
+            Arrays.fill(open, false);
+            clearDistances();
+            for (int row = 0; row < rows; row++) {
+                int cell = (top + row) * width + left;
+                int local = (row + 1) * stride + 1;
+                for (int col = 0; col < cols; col++) {
+                    open[local + col] = !isBlocked(cell + col);
+                }
+            }
+        }
+
+        /**
+         * Computes the distance of every cell of the loaded cluster to a source cell inside it.
+         */
+        void run(int source) {
+            clearDistances();
+            int first = localIndex(source);
+            distance[first] = 0;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = first;
+            while (head < tail) {
+                int current = queue[head++];
+                int next = distance[current] + 1;
+
+                // Up, down, left, right; the padding ring is never open
+                tail = visit(current - stride, next, tail);
+                tail = visit(current + stride, next, tail);
+                tail = visit(current - 1, next, tail);
+                tail = visit(current + 1, next, tail);
+            }
+            reached = tail;
+        }
+
+        /**
+         * Resets only the cells reached by the last search, which are still listed in the queue.
+         */
+        private void clearDistances() {
+            for (int i = 0; i < reached; i++) {
+                distance[queue[i]] = NO_ROUTE;
+            }
+            reached = 0;
+        }
+
+        private int visit(int neighbor, int next, int tail) {
+            if (open[neighbor] && distance[neighbor] == NO_ROUTE) {
+                distance[neighbor] = next;
+                queue[tail++] = neighbor;
+            }
+            return tail;
+        }
+
+        /**
+         * Returns the distance of a cell of the loaded cluster from the last source, or {@link #NO_ROUTE}
+         * if it cannot be reached inside the cluster.
+         */
+        int distanceTo(int cell) {
+            return distance[localIndex(cell)];
+        }
+
+        /**
+         * Returns the neighbor of a reached cell that is one step closer to the last source.
+         */
+        int stepTowardsSource(int cell) {
+            int local = localIndex(cell);
+            int remaining = distance[local] - 1;
+            if (distance[local - stride] == remaining) {
+                return cell - width;
+            }
+            if (distance[local + stride] == remaining) {
+                return cell + width;
+            }
+            return distance[local - 1] == remaining ? cell - 1 : cell + 1;
+        }
+
+        /**
+         * Returns the distances from the last source to every entrance of the loaded cluster.
+         */
+        int[] entranceCosts() {
+            int[] cells = entrances[cluster];
+            int[] costs = new int[cells.length];
+            for (int slot = 0; slot < cells.length; slot++) {
+                costs[slot] = distanceTo(cells[slot]);
+            }
+            return costs;
+        }
+
+        private int localIndex(int cell) {
+            int row = cell / width;
+            return (row - top + 1) * stride + cell - row * width - left + 1;
+        }
+    }
+
+    /**
+     * Stores the in-bounds neighbors of a cell in the given array.
+     *
+     * @return the number of neighbors
+     */
+    private int collectNeighbors(int index, int[] out) {
+        int row = index / width;
+        int col = index - row * width;
+        int count = 0;
+        if (row > 0) out[count++] = index - width;
+        if (row < height - 1) out[count++] = index + width;
+        if (col > 0) out[count++] = index - 1;
+        if (col < width - 1) out[count++] = index + 1;
+        return count;
+    }
+
+    private int clusterOf(int cell) {
+        int row = cell / width;
+        return (row / clusterSize) * clusterCols + (cell - row * width) / clusterSize;
+    }
+
+    private int clusterOfNode(int node) {
+        int position = Arrays.binarySearch(nodeOffset, node);
+        if (position < 0) {
+            return -position - 2;
+        }
+        // Skip clusters without entrances, which share their offset with the next one
+        while (nodeOffset[position + 1] == node) {
+            position++;
+        }
+        return position;
+    }
+
+    private int cellOfNode(int node) {
+        int cluster = clusterOfNode(node);
+        return entrances[cluster][node - nodeOffset[cluster]];
+    }
+
+    private boolean isBlocked(int index) {
+        return (blocked[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private Position toPosition(int index) {
+        return new Position(index / width, index % width);
+    }
+}
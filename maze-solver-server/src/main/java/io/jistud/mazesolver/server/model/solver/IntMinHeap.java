@@ -0,0 +1,161 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Indexed binary min-heap of int elements (cell indices) ordered by primitive long keys.
+ * Each element can be in the heap at most once; pushing an element that is already queued
+ * lowers its key instead of adding a duplicate entry, so the heap never outgrows the cell count.
+ */
+class IntMinHeap {
+
+    private static final int INITIAL_SLOTS = 256;
+
+    private int[] elements = new int[INITIAL_SLOTS];
+    private long[] keys = new long[INITIAL_SLOTS];
+    // Slot of each element in the heap plus one, 0 when the element is not queued
+    private final int[] slots;
+    private int size = 0;
+
+    /**
+     * Creates an empty heap for elements in the range [0, capacity).
+     *
+     * @param capacity the number of distinct elements the heap can hold
+     */
+    IntMinHeap(int capacity) {
+        this.slots = new int[capacity];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int element) {
+        return slots[element] != 0;
+    }
+
+    /**
+     * Inserts an element, or lowers its key if it is already queued with a greater key.
+     *
+     * @param element the element to insert
+     * @param key the priority of the element, smaller keys are popped first
+     */
+    void push(int element, long key) {
+        int slot = slots[element] - 1;
+        if (slot >= 0) {
+            if (key < keys[slot]) {
+                keys[slot] = key;
+                siftUp(slot);
+            }
+            return;
+        }
+
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        elements[size] = element;
+        keys[size] = key;
+        slots[element] = size + 1;
+        siftUp(size++);
+    }
+
+    /**
+     * Returns the key of the element on top of the heap.
+     *
+     * @return the smallest key in the heap
+     * @throws NoSuchElementException if the heap is empty
+     */
+    long peekKey() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return keys[0];
+    }
+
+    /**
+     * Removes and returns the element with the smallest key.
+     *
+     * @return the removed element
+     * @throws NoSuchElementException if the heap is empty
+     */
+    int pop() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        int top = elements[0];
+        slots[top] = 0;
+        size--;
+        if (size > 0) {
+            move(size, 0);
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * Removes an element from the heap if it is queued.
+     *
+     * @param element the element to remove
+     */
+    void remove(int element) {
+        int slot = slots[element] - 1;
+        if (slot < 0) {
+            return;
+        }
+        slots[element] = 0;
+        size--;
+        if (slot < size) {
+            move(size, slot);
+            siftDown(slot);
+            siftUp(slot);
+        }
+    }
+
+    private void siftUp(int slot) {
+        int element = elements[slot];
+        long key = keys[slot];
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            move(parent, slot);
+            slot = parent;
+        }
+        elements[slot] = element;
+        keys[slot] = key;
+        slots[element] = slot + 1;
+    }
+
+    private void siftDown(int slot) {
+        int element = elements[slot];
+        long key = keys[slot];
+        int half = size >>> 1;
+        while (slot < half) {
+            int child = 2 * slot + 1;
+            if (child + 1 < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            move(child, slot);
+            slot = child;
+        }
+        elements[slot] = element;
+        keys[slot] = key;
+        slots[element] = slot + 1;
+    }
+
+    private void move(int from, int to) {
+        elements[to] = elements[from];
+        keys[to] = keys[from];
+        slots[elements[to]] = to + 1;
+    }
+}
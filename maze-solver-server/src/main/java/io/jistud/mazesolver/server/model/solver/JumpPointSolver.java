@@ -0,0 +1,206 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeGrid;
+import io.jistud.mazesolver.server.model.MazeSolver;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveBudget;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+/**
+ * Shortest-path solver using Jump Point Search adapted to 4-connected uniform-cost grids.
+ * Instead of pushing every neighbor onto the open list, the search scans straight lines and only
+ * stops at jump points: the goal, cells with a forced neighbor, and cells of a vertical scan from which
+ * a horizontal scan finds a jump point. Empty stretches of the grid are crossed without touching the heap.
+ * The jump points are then expanded back into the full cell-by-cell path.
+ */
+public class JumpPointSolver implements MazeSolver {
+
+    private static final int NONE = -1;
+
+    @Override
+    public SolveResult solve(Maze maze, Position start, Position end, SolveBudget budget) {
+        return new Search(maze, start, end).run(budget);
+    }
+
+    /**
+     * State of a single search, so the jump scans can share the grid without passing it around.
+     */
+    private static class Search {
+        private final MazeGrid grid;
+        private final int height;
+        private final int width;
+        private final int startIndex;
+        private final int endIndex;
+
+        Search(Maze maze, Position start, Position end) {
+            this.grid = maze.getGrid();
+            this.height = maze.getHeight();
+            this.width = maze.getWidth();
+            this.startIndex = start.row() * width + start.col();
+            this.endIndex = end.row() * width + end.col();
+        }
+
+        SolveResult run(SolveBudget budget) {
+            int cellCount = height * width;
+            int[] cost = new int[cellCount];
+            int[] parent = new int[cellCount];
+            long[] closed = new long[(cellCount + 63) >>> 6];
+            IntMinHeap open = new IntMinHeap(cellCount);
+
+            parent[startIndex] = NONE;
+            int startHeuristic = SolverSupport.manhattan(startIndex, endIndex, width);
+            open.push(startIndex, SolverSupport.heapKey(startHeuristic, startHeuristic));
+
+            long expanded = 0;
+            int peakFrontier = 1;
+            int[] jumpPoints = new int[4];
+            while (!open.isEmpty()) {
+                peakFrontier = Math.max(peakFrontier, open.size());
+                if (budget.isExceeded(expanded + 1)) {
+                    return SolveResult.budgetExceeded(expanded, peakFrontier);
+                }
+                int current = open.pop();
+                expanded++;
+                if (current == endIndex) {
+                    return new SolveResult(expandPath(parent), expanded, peakFrontier);
+                }
+                closed[current >>> 6] |= 1L << current;
+
+                int count = successors(current, parent[current], jumpPoints);
+                for (int i = 0; i < count; i++) {
+                    int jumpPoint = jumpPoints[i];
+                    if ((closed[jumpPoint >>> 6] & (1L << jumpPoint)) != 0) {
+                        continue;
+                    }
+                    int nextCost = cost[current] + SolverSupport.manhattan(current, jumpPoint, width);
+                    if (open.contains(jumpPoint) && cost[jumpPoint] <= nextCost) {
+                        continue;
+                    }
+                    cost[jumpPoint] = nextCost;
+                    parent[jumpPoint] = current;
+                    int heuristic = SolverSupport.manhattan(jumpPoint, endIndex, width);
+                    open.push(jumpPoint, SolverSupport.heapKey(nextCost + heuristic, heuristic));
+                }
+            }
+
+            return new SolveResult(null, expanded, peakFrontier);
+        }
+
+        /**
+         * Collects the jump points reachable from a cell, pruning the direction the search came from.
+         *
+         * @return the number of jump points written to the output array
+         */
+        private int successors(int current, int from, int[] jumpPoints) {
+            int row = current / width;
+            int col = current - row * width;
+            int count = 0;
+
+            if (from == NONE) {
+                count = addJumpPoint(jumpVertical(row, col, -1), jumpPoints, count);
+                count = addJumpPoint(jumpVertical(row, col, 1), jumpPoints, count);
+                count = addJumpPoint(jumpHorizontal(row, col, -1), jumpPoints, count);
+                return addJumpPoint(jumpHorizontal(row, col, 1), jumpPoints, count);
+            }
+
+            int fromRow = from / width;
+            int fromCol = from - fromRow * width;
+            if (fromRow == row) {
+                // Arrived horizontally: keep going, or turn up or down
+                count = addJumpPoint(jumpHorizontal(row, col, Integer.signum(col - fromCol)), jumpPoints, count);
+                count = addJumpPoint(jumpVertical(row, col, -1), jumpPoints, count);
+                return addJumpPoint(jumpVertical(row, col, 1), jumpPoints, count);
+            }
+            // Arrived vertically: keep going, or turn left or right
+            count = addJumpPoint(jumpVertical(row, col, Integer.signum(row - fromRow)), jumpPoints, count);
+            count = addJumpPoint(jumpHorizontal(row, col, -1), jumpPoints, count);
+            return addJumpPoint(jumpHorizontal(row, col, 1), jumpPoints, count);
+        }
+
+        private static int addJumpPoint(int jumpPoint, int[] jumpPoints, int count) {
+            if (jumpPoint != NONE) {
+                jumpPoints[count++] = jumpPoint;
+            }
+            return count;
+        }
+
+        /**
+         * Scans along a row until it hits a wall, the goal, or a cell with a forced neighbor above or below.
+         *
+         * @return the index of the jump point, or NONE if the scan ran into a wall
+         */
+        private int jumpHorizontal(int row, int col, int step) {
+            while (true) {
+                col += step;
+                if (!isOpen(row, col)) {
+                    return NONE;
+                }
+                int index = row * width + col;
+                if (index == endIndex) {
+                    return index;
+                }
+                if ((isOpen(row - 1, col) && !isOpen(row - 1, col - step))
+                        || (isOpen(row + 1, col) && !isOpen(row + 1, col - step))) {
+                    return index;
+                }
+            }
+        }
+
+        /**
+         * Scans along a column until it hits a wall, the goal, a cell with a forced neighbor to the left
+         * or right, or a cell from which a horizontal scan finds a jump point.
+         *
+         * @return the index of the jump point, or NONE if the scan ran into a wall
+         */
+        private int jumpVertical(int row, int col, int step) {
+            while (true) {
+                row += step;
+                if (!isOpen(row, col)) {
+                    return NONE;
+                }
+                int index = row * width + col;
+                if (index == endIndex) {
+                    return index;
+                }
+                if ((isOpen(row, col - 1) && !isOpen(row - step, col - 1))
+                        || (isOpen(row, col + 1) && !isOpen(row - step, col + 1))) {
+                    return index;
+                }
+                if (jumpHorizontal(row, col, -1) != NONE || jumpHorizontal(row, col, 1) != NONE) {
+                    return index;
+                }
+            }
+        }
+
+        private boolean isOpen(int row, int col) {
+            return row >= 0 && row < height && col >= 0 && col < width && grid.get(row * width + col) != Maze.WALL;
+        }
+
+        /**
+         * Expands the chain of jump points into every cell along the straight segments between them.
+         */
+        private List<Position> expandPath(int[] parent) {
+            List<Position> path = new ArrayList<>();
+            int current = endIndex;
+            path.add(new Position(current / width, current % width));
+            while (parent[current] != NONE) {
+                int previous = parent[current];
+                int step = previous / width == current / width
+                        ? Integer.signum(previous - current)
+                        : Integer.signum(previous - current) * width;
+                for (int index = current + step; index != previous; index += step) {
+                    path.add(new Position(index / width, index % width));
+                }
+                path.add(new Position(previous / width, previous % width));
+                current = previous;
+            }
+            Collections.reverse(path);
+            return path;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeGrid;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+/**
+ * Incremental shortest-path planner using Lifelong Planning A* (LPA*).
+ * The planner keeps its search state between queries: for every cell a cost estimate g and a
+ * one-step lookahead rhs, plus a priority queue of the cells where the two disagree. When cells
+ * are blocked or opened, only those cells and their neighbors are re-queued, and the next
+ * {@link #computeShortestPath()} repairs the region whose costs actually changed instead of
+ * searching the whole maze again. The first call costs the same as an A* search.
+ * <p>
+ * Entering a cell costs {@link Maze#moveCost(char)}, so on mazes with terrain the path is the cheapest one,
+ * as found by {@link DijkstraSolver}; the Manhattan distance stays an admissible heuristic since every move
+ * costs at least 1.
+ * <p>
+ * The start and goal cells are fixed for the lifetime of a planner. The planner keeps its own copy
+ * of the move costs, so edits must be reported through {@link #setCell(int, int, char)}.
+ * Instances are not thread-safe.
+ */
+public class LpaStarPlanner {
+
+    // Large enough to never be reached by a real path, small enough that adding a move cost does not overflow
+    private static final int INFINITY = Integer.MAX_VALUE / 2;
+
+    private final int height;
+    private final int width;
+    private final int startIndex;
+    private final int goalIndex;
+    // Move cost of entering every cell, 0 for walls
+    private final byte[] cost;
+    private final int[] g;
+    private final int[] rhs;
+    private final IntMinHeap open;
+    private final int[] adjacent = new int[4];
+    private final int[] lookahead = new int[4];
+
+    /**
+     * Creates a planner for a path between two cells of the maze.
+     * Every cell that is not a wall is considered passable.
+     *
+     * @param maze the maze to plan in; its walls and terrain are copied
+     * @param start the position to start from
+     * @param goal the position to reach
+     */
+    public LpaStarPlanner(Maze maze, Position start, Position goal) {
+        this.height = maze.getHeight();
+        this.width = maze.getWidth();
+        int cellCount = height * width;
+        this.startIndex = start.row() * width + start.col();
+        this.goalIndex = goal.row() * width + goal.col();
+
+        this.cost = new byte[cellCount];
+        MazeGrid grid = maze.getGrid();
+        for (int index = 0; index < cellCount; index++) {
+            cost[index] = moveCost(grid.get(index));
+        }
+
+        this.g = new int[cellCount];
+        this.rhs = new int[cellCount];
+        Arrays.fill(g, INFINITY);
+        Arrays.fill(rhs, INFINITY);
+        this.open = new IntMinHeap(cellCount);
+
+        rhs[startIndex] = 0;
+        open.push(startIndex, key(startIndex));
+    }
+
+    public Position getStart() {
+        return toPosition(startIndex);
+    }
+
+    public Position getGoal() {
+        return toPosition(goalIndex);
+    }
+
+    /**
+     * Checks whether a cell is currently blocked.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return true if the cell is a wall
+     */
+    public boolean isBlocked(int row, int col) {
+        return isBlocked(row * width + col);
+    }
+
+    /**
+     * Checks whether a cell may be passed to {@link #setCell(int, int, char)}.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return true if the cell is inside the maze and is neither the start nor the goal cell
+     */
+    public boolean isEditable(int row, int col) {
+        if (row < 0 || row >= height || col < 0 || col >= width) {
+            return false;
+        }
+        int index = row * width + col;
+        return index != startIndex && index != goalIndex;
+    }
+
+    /**
+     * Blocks or opens a cell, like {@link #setCell(int, int, char)} with a wall or an empty cell.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @param isWall true to turn the cell into a wall, false to open it
+     * @throws IllegalArgumentException if the cell is outside the maze or is the start or goal cell
+     */
+    public void setBlocked(int row, int col, boolean isWall) {
+        setCell(row, col, isWall ? Maze.WALL : Maze.EMPTY);
+    }
+
+    /**
+     * Changes the value of a cell and queues the cells whose lookahead may have changed.
+     * Opening a terrain cell as an empty cell drops its cost to 1, like the cell itself.
+     * The path is repaired on the next call to {@link #computeShortestPath()}.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @param value the new cell value
+     * @throws IllegalArgumentException if the cell is outside the maze or is the start or goal cell
+     */
+    public void setCell(int row, int col, char value) {
+        if (!isEditable(row, col)) {
+            throw new IllegalArgumentException(
+                    "Cell is outside the maze or is the start or goal cell: (" + row + "," + col + ")");
+        }
+        int index = row * width + col;
+        byte newCost = moveCost(value);
+        if (cost[index] == newCost) {
+            return;
+        }
+        cost[index] = newCost;
+
+        updateVertex(index);
+        int count = collectNeighbors(index, adjacent);
+        for (int i = 0; i < count; i++) {
+            updateVertex(adjacent[i]);
+        }
+    }
+
+    /**
+     * Brings the search state up to date and returns the current shortest path.
+     * Only cells whose cost estimates are inconsistent are expanded.
+     *
+     * @return the result holding the shortest path, or a null path if the goal is unreachable,
+     *     with the number of cells expanded by this call
+     */
+    public SolveResult computeShortestPath() {
+        long expanded = 0;
+        while (!open.isEmpty() && (open.peekKey() < key(goalIndex) || rhs[goalIndex] != g[goalIndex])) {
+            int current = open.pop();
+            expanded++;
+
+            int count = collectNeighbors(current, adjacent);
+            if (g[current] > rhs[current]) {
+                // Overconsistent: the cost estimate improved, settle it
+                g[current] = rhs[current];
+            } else {
+                // Underconsistent: the cost estimate got worse, reset it and let it be recomputed
+                g[current] = INFINITY;
+                updateVertex(current);
+            }
+            for (int i = 0; i < count; i++) {
+                updateVertex(adjacent[i]);
+            }
+        }
+
+        return new SolveResult(buildPath(), expanded);
+    }
+
+    /**
+     * Recomputes the lookahead of a cell and (re)queues it if it is inconsistent.
+     */
+    private void updateVertex(int index) {
+        if (index != startIndex) {
+            int best = INFINITY;
+            if (!isBlocked(index)) {
+                int count = collectNeighbors(index, lookahead);
+                for (int i = 0; i < count; i++) {
+                    int neighbor = lookahead[i];
+                    if (!isBlocked(neighbor) && g[neighbor] + cost[index] < best) {
+                        best = g[neighbor] + cost[index];
+                    }
+                }
+            }
+            rhs[index] = best;
+        }
+
+        open.remove(index);
+        if (g[index] != rhs[index]) {
+            open.push(index, key(index));
+        }
+    }
+
+    /**
+     * Priority of a cell: lower min(g, rhs) + h first, then lower min(g, rhs).
+     */
+    private long key(int index) {
+        int estimate = Math.min(g[index], rhs[index]);
+        return SolverSupport.heapKey(estimate + SolverSupport.manhattan(index, goalIndex, width), estimate);
+    }
+
+    /**
+     * Walks back from the goal to the start, always stepping to the open neighbor with the lowest cost,
+     * which is the one the current cell was entered from.
+     */
+    private List<Position> buildPath() {
+        if (g[goalIndex] >= INFINITY) {
+            return null;
+        }
+
+        List<Position> path = new ArrayList<>();
+        int current = goalIndex;
+        path.add(toPosition(current));
+        while (current != startIndex) {
+            int next = -1;
+            int count = collectNeighbors(current, adjacent);
+            for (int i = 0; i < count; i++) {
+                int neighbor = adjacent[i];
+                if (!isBlocked(neighbor) && (next == -1 || g[neighbor] < g[next])) {
+                    next = neighbor;
+                }
+            }
+            if (next == -1 || g[next] != g[current] - cost[current]) {
+                throw new IllegalStateException("Search state is inconsistent around " + toPosition(current));
+            }
+            current = next;
+            path.add(toPosition(current));
+        }
+
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Stores the in-bounds neighbors of a cell in the given array.
+     *
+     * @return the number of neighbors
+     */
+    private int collectNeighbors(int index, int[] out) {
+        int row = index / width;
+        int col = index - row * width;
+        int count = 0;
+        if (row > 0) out[count++] = index - width;
+        if (row < height - 1) out[count++] = index + width;
+        if (col > 0) out[count++] = index - 1;
+        if (col < width - 1) out[count++] = index + 1;
+        return count;
+    }
+
+    private boolean isBlocked(int index) {
+        return cost[index] == 0;
+    }
+
+    private static byte moveCost(char value) {
+        return value == Maze.WALL ? 0 : (byte) Maze.moveCost(value);
+    }
+
+    private Position toPosition(int index) {
+        return new Position(index / width, index % width);
+    }
+}
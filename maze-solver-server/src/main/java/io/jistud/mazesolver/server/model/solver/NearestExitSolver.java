@@ -0,0 +1,120 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeGrid;
+import io.jistud.mazesolver.server.model.MultiExitSolver;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveBudget;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+/**
+ * Shortest-path solver for mazes with several exits, finding the path to the nearest one.
+ * A single breadth-first search is seeded with all exits at distance zero and runs until it reaches the start,
+ * so the cost is one linear pass however many exits there are, instead of one search per exit.
+ * <p>
+ * Parents point from every reached cell towards the exit it was reached from, so following them from the
+ * start yields the path in start-to-exit order without reversing it. Like {@link BreadthFirstSolver}, the
+ * search works on row-major cell indices with an int queue, an int parent array and a long[] visited bitset.
+ */
+public class NearestExitSolver implements MultiExitSolver {
+
+    /**
+     * Finds the shortest path from the start to the nearest of the exits.
+     * Every cell that is not a wall is considered passable.
+     *
+     * @param maze the maze to search
+     * @param start the position to start from
+     * @param exits the positions that end the path, at least one
+     * @param budget the limits of this run, checked once per dequeued cell
+     * @return the result holding the path to the nearest exit, or a null path if no exit is reachable
+     *     or the budget ran out
+     * @throws IllegalArgumentException if no exit is given
+     */
+    @Override
+    public SolveResult solve(Maze maze, Position start, List<Position> exits, SolveBudget budget) {
+        if (exits.isEmpty()) {
+            throw new IllegalArgumentException("At least one exit is required");
+        }
+        MazeGrid grid = maze.getGrid();
+        int width = maze.getWidth();
+        int cellCount = maze.getHeight() * width;
+        int startIndex = start.row() * width + start.col();
+
+        int[] queue = new int[cellCount];
+        int[] parent = new int[cellCount];
+        long[] visited = new long[(cellCount + 63) >>> 6];
+
+        int head = 0;
+        int tail = 0;
+        for (Position exit : exits) {
+            int exitIndex = exit.row() * width + exit.col();
+            long bit = 1L << exitIndex;
+            if ((visited[exitIndex >>> 6] & bit) == 0) {
+                visited[exitIndex >>> 6] |= bit;
+                parent[exitIndex] = -1;
+                queue[tail++] = exitIndex;
+            }
+        }
+
+        int peakFrontier = tail;
+        while (head < tail) {
+            peakFrontier = Math.max(peakFrontier, tail - head);
+            if (budget.isExceeded(head + 1)) {
+                return SolveResult.budgetExceeded(head, peakFrontier);
+            }
+            int current = queue[head++];
+            if (current == startIndex) {
+                return new SolveResult(pathToExit(parent, startIndex, width), head, peakFrontier);
+            }
+
+            int row = current / width;
+            int col = current - row * width;
+
+            // Up, down, left, right
+            if (row > 0 && grid.get(current - width) != Maze.WALL) {
+                tail = visit(current - width, current, queue, tail, parent, visited);
+            }
+            if (row < grid.getHeight() - 1 && grid.get(current + width) != Maze.WALL) {
+                tail = visit(current + width, current, queue, tail, parent, visited);
+            }
+            if (col > 0 && grid.get(current - 1) != Maze.WALL) {
+                tail = visit(current - 1, current, queue, tail, parent, visited);
+            }
+            if (col < width - 1 && grid.get(current + 1) != Maze.WALL) {
+                tail = visit(current + 1, current, queue, tail, parent, visited);
+            }
+        }
+
+        return new SolveResult(null, head, peakFrontier);
+    }
+
+    /**
+     * Follows the parents from the start to the exit they lead to.
+     */
+    private static List<Position> pathToExit(int[] parent, int startIndex, int width) {
+        List<Position> path = new ArrayList<>();
+        for (int index = startIndex; index != -1; index = parent[index]) {
+            path.add(new Position(index / width, index % width));
+        }
+        return path;
+    }
+
+    /**
+     * Enqueues a neighbor cell if it has not been visited yet.
+     *
+     * @return the new tail of the queue
+     */
+    private static int visit(int neighbor, int current, int[] queue, int tail, int[] parent, long[] visited) {
+        long bit = 1L << neighbor;
+        int word = neighbor >>> 6;
+        if ((visited[word] & bit) == 0) {
+            visited[word] |= bit;
+            parent[neighbor] = current;
+            queue[tail++] = neighbor;
+        }
+        return tail;
+    }
+}
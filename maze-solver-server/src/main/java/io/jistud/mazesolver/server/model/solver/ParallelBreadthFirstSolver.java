@@ -0,0 +1,240 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeGrid;
+import io.jistud.mazesolver.server.model.MazeSolver;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveBudget;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+/**
+ * Shortest-path solver using a level-synchronous parallel breadth-first search.
+ * Each level's frontier is split into chunks that are expanded on a {@link ForkJoinPool}.
+ * Cells are claimed with a compare-and-set on a shared visited bitmap, so every cell is
+ * enqueued and given a parent exactly once without locking. The join at the end of each
+ * level publishes the parent writes and the next frontier to the following level.
+ * <p>
+ * Mazes with fewer cells than the sequential threshold are handed to {@link BreadthFirstSolver},
+ * because the per-level task overhead outweighs the gain on small grids.
+ */
+public class ParallelBreadthFirstSolver implements MazeSolver {
+
+    /**
+     * Default number of cells below which the sequential solver is used.
+     */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1_000_000;
+
+    /**
+     * Number of frontier cells a single task expands before splitting.
+     */
+    private static final int CHUNK_SIZE = 2048;
+
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+
+    /**
+     * Creates a solver running on the common pool with the default sequential threshold.
+     */
+    public ParallelBreadthFirstSolver() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Creates a solver running on the given pool.
+     *
+     * @param pool the pool expanding the frontier chunks
+     * @param sequentialThreshold the number of cells below which the sequential solver is used
+     */
+    public ParallelBreadthFirstSolver(ForkJoinPool pool, int sequentialThreshold) {
+        if (sequentialThreshold < 0) {
+            throw new IllegalArgumentException("Sequential threshold must not be negative");
+        }
+        this.pool = pool;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    /**
+     * Returns the number of cells below which the sequential solver is used.
+     *
+     * @return the sequential threshold
+     */
+    public int getSequentialThreshold() {
+        return sequentialThreshold;
+    }
+
+    /**
+     * Finds the shortest path between two positions of the maze.
+     * Every cell that is not a wall is considered passable.
+     *
+     * @param maze the maze to search
+     * @param start the position to start from
+     * @param end the position to reach
+     * @param budget the limits of this run, checked once per level before it is expanded
+     * @return the result holding the shortest path, or a null path if end is unreachable or the budget ran out
+     */
+    @Override
+    public SolveResult solve(Maze maze, Position start, Position end, SolveBudget budget) {
+        int width = maze.getWidth();
+        int cellCount = maze.getHeight() * width;
+        if (cellCount < sequentialThreshold) {
+            return new BreadthFirstSolver().solve(maze, start, end, budget);
+        }
+
+        int startIndex = start.row() * width + start.col();
+        int endIndex = end.row() * width + end.col();
+
+        Level level = new Level(maze.getGrid(), width, cellCount);
+        level.claim(startIndex);
+        level.parent[startIndex] = -1;
+        int[] frontier = new int[] {startIndex};
+        int frontierSize = 1;
+        long expanded = 0;
+        int peakFrontier = 1;
+
+        while (frontierSize > 0) {
+            peakFrontier = Math.max(peakFrontier, frontierSize);
+            if (level.isClaimed(endIndex)) {
+                return new SolveResult(SolverSupport.buildPath(level.parent, endIndex, width), expanded, peakFrontier);
+            }
+
+            if (expanded + frontierSize > budget.getMaxExpansions() || budget.isExhausted()) {
+                return SolveResult.budgetExceeded(expanded, peakFrontier);
+            }
+            expanded += frontierSize;
+            // A frontier cell has at most four unvisited neighbors
+            level.nextFrontier = new int[(int) Math.min(cellCount, frontierSize * 4L)];
+            level.next.set(0);
+            ExpandTask task = new ExpandTask(level, frontier, 0, frontierSize);
+            if (frontierSize <= CHUNK_SIZE) {
+                task.compute();
+            } else {
+                pool.invoke(task);
+            }
+
+            frontier = level.nextFrontier;
+            frontierSize = level.next.get();
+        }
+
+        return new SolveResult(null, expanded, peakFrontier);
+    }
+
+    /**
+     * State shared by all tasks of one search.
+     */
+    private static final class Level {
+        private final MazeGrid grid;
+        private final int width;
+        private final int height;
+        private final int[] parent;
+        private final AtomicLongArray visited;
+        private final AtomicInteger next = new AtomicInteger();
+        private int[] nextFrontier;
+
+        private Level(MazeGrid grid, int width, int cellCount) {
+            this.grid = grid;
+            this.width = width;
+            this.height = grid.getHeight();
+            this.parent = new int[cellCount];
+            this.visited = new AtomicLongArray((cellCount + 63) >>> 6);
+        }
+
+        private boolean isClaimed(int index) {
+            return (visited.get(index >>> 6) & (1L << index)) != 0;
+        }
+
+        /**
+         * Marks a cell as visited.
+         *
+         * @return true if this call claimed the cell, false if another task got there first
+         */
+        private boolean claim(int index) {
+            int word = index >>> 6;
+            long bit = 1L << index;
+            long current = visited.get(word);
+            while ((current & bit) == 0) {
+                long witness = visited.compareAndExchange(word, current, current | bit);
+                if (witness == current) {
+                    return true;
+                }
+                current = witness;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Expands a slice of the frontier, splitting it in halves until it fits in one chunk.
+     * Claimed cells are collected locally and copied into the next frontier with a single
+     * reservation per chunk.
+     */
+    private static final class ExpandTask extends RecursiveAction {
+        private final Level level;
+        private final int[] frontier;
+        private final int from;
+        private final int to;
+
+        private ExpandTask(Level level, int[] frontier, int from, int to) {
+            this.level = level;
+            this.frontier = frontier;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ExpandTask(level, frontier, from, middle), new ExpandTask(level, frontier, middle, to));
+                return;
+            }
+
+            MazeGrid grid = level.grid;
+            int width = level.width;
+            int[] claimed = new int[(to - from) * 4];
+            int count = 0;
+
+            for (int i = from; i < to; i++) {
+                int current = frontier[i];
+                int row = current / width;
+                int col = current - row * width;
+
+                // Up, down, left, right
+                if (row > 0 && grid.get(current - width) != Maze.WALL) {
+                    count = visit(current - width, current, claimed, count);
+                }
+                if (row < level.height - 1 && grid.get(current + width) != Maze.WALL) {
+                    count = visit(current + width, current, claimed, count);
+                }
+                if (col > 0 && grid.get(current - 1) != Maze.WALL) {
+                    count = visit(current - 1, current, claimed, count);
+                }
+                if (col < width - 1 && grid.get(current + 1) != Maze.WALL) {
+                    count = visit(current + 1, current, claimed, count);
+                }
+            }
+
+            if (count > 0) {
+                int offset = level.next.getAndAdd(count);
+                System.arraycopy(claimed, 0, level.nextFrontier, offset, count);
+            }
+        }
+
+        /**
+         * Claims a neighbor cell and records its parent if no other task claimed it first.
+         *
+         * @return the new number of locally claimed cells
+         */
+        private int visit(int neighbor, int current, int[] claimed, int count) {
+            if (level.claim(neighbor)) {
+                level.parent[neighbor] = current;
+                claimed[count++] = neighbor;
+            }
+            return count;
+        }
+    }
+}
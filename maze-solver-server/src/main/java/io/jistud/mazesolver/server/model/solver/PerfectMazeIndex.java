@@ -0,0 +1,258 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeGrid;
+import io.jistud.mazesolver.server.model.Position;
+
+/**
+ * Lowest-common-ancestor index over the open cells of a perfect maze.
+ * In a perfect maze, such as one built by {@code MazeBuilder.withKruskalMaze()}, the open cells form a
+ * spanning tree, so the route between two cells is unique: it climbs from both cells to their lowest
+ * common ancestor. The index is built with a single breadth-first pass that stores a parent, a depth
+ * and a skew-binary jump pointer per cell in int arrays. Jump pointers reach any ancestor in O(log n)
+ * steps while using O(n) memory, where a binary lifting table would need O(n log n).
+ * <p>
+ * A maze containing a cycle is not a tree; the index is still built but reports {@link #isPerfect()} false
+ * and rejects queries.
+ */
+public final class PerfectMazeIndex {
+
+    private static final int NO_CELL = -1;
+    private static final int WALL_CELL = -2;
+
+    private final int height;
+    private final int width;
+    private final boolean perfect;
+    private final int[] parent;
+    private final int[] depth;
+    private final int[] jump;
+
+    private PerfectMazeIndex(int height, int width, boolean perfect, int[] parent, int[] depth, int[] jump) {
+        this.height = height;
+        this.width = width;
+        this.perfect = perfect;
+        this.parent = parent;
+        this.depth = depth;
+        this.jump = jump;
+    }
+
+    /**
+     * Builds the index of a maze, rooting a tree at the first open cell of every connected region.
+     * Every cell that is not a wall is considered passable.
+     *
+     * @param maze the maze to index
+     * @return the index, which is not perfect if the maze contains a cycle
+     */
+    public static PerfectMazeIndex build(Maze maze) {
+        MazeGrid grid = maze.getGrid();
+        int height = maze.getHeight();
+        int width = maze.getWidth();
+        int cellCount = height * width;
+
+        int[] parent = new int[cellCount];
+        int[] depth = new int[cellCount];
+        int[] jump = new int[cellCount];
+        long[] visited = new long[(cellCount + 63) >>> 6];
+        int[] queue = new int[cellCount];
+
+        for (int root = 0; root < cellCount; root++) {
+            if (grid.get(root) == Maze.WALL) {
+                parent[root] = WALL_CELL;
+                continue;
+            }
+            if ((visited[root >>> 6] & (1L << root)) != 0) {
+                continue;
+            }
+
+            visited[root >>> 6] |= 1L << root;
+            parent[root] = NO_CELL;
+            jump[root] = root;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = root;
+
+            while (head < tail) {
+                int current = queue[head++];
+                int row = current / width;
+                int col = current - row * width;
+
+                // Up, down, left, right
+                for (int direction = 0; direction < 4; direction++) {
+                    int neighbor = neighbor(current, row, col, direction, height, width);
+                    if (neighbor == NO_CELL || neighbor == parent[current] || grid.get(neighbor) == Maze.WALL) {
+                        continue;
+                    }
+                    if ((visited[neighbor >>> 6] & (1L << neighbor)) != 0) {
+                        // Reached an already discovered cell other than the parent: the open cells contain a cycle
+                        return new PerfectMazeIndex(height, width, false, null, null, null);
+                    }
+
+                    visited[neighbor >>> 6] |= 1L << neighbor;
+                    parent[neighbor] = current;
+                    depth[neighbor] = depth[current] + 1;
+                    jump[neighbor] = jumpTarget(current, depth, jump);
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        return new PerfectMazeIndex(height, width, true, parent, depth, jump);
+    }
+
+    /**
+     * Returns the cell next to the current one in the given direction (0 up, 1 down, 2 left, 3 right).
+     *
+     * @return the neighbor cell, or {@link #NO_CELL} if it would be outside the maze
+     */
+    private static int neighbor(int current, int row, int col, int direction, int height, int width) {
+        return switch (direction) {
+            case 0 -> row > 0 ? current - width : NO_CELL;
+            case 1 -> row < height - 1 ? current + width : NO_CELL;
+            case 2 -> col > 0 ? current - 1 : NO_CELL;
+            default -> col < width - 1 ? current + 1 : NO_CELL;
+        };
+    }
+
+    /**
+     * Picks the jump pointer of a new child of the given cell. When the two jumps above the parent
+     * cover the same number of levels they are merged into one, otherwise the child jumps to its parent.
+     */
+    private static int jumpTarget(int parentCell, int[] depth, int[] jump) {
+        int parentJump = jump[parentCell];
+        int grandJump = jump[parentJump];
+        if (depth[parentCell] - depth[parentJump] == depth[parentJump] - depth[grandJump]) {
+            return grandJump;
+        }
+        return parentCell;
+    }
+
+    /**
+     * Returns whether the open cells of the maze form a forest, so queries can be answered.
+     *
+     * @return true if the maze contains no cycle
+     */
+    public boolean isPerfect() {
+        return perfect;
+    }
+
+    /**
+     * Checks whether a cell is inside the maze and not a wall.
+     *
+     * @param position the cell to check
+     * @return true if the cell is an open cell of the maze
+     * @throws IllegalStateException if the maze is not perfect
+     */
+    public boolean isOpen(Position position) {
+        requirePerfect();
+        if (position.row() < 0 || position.row() >= height || position.col() < 0 || position.col() >= width) {
+            return false;
+        }
+        return parent[position.row() * width + position.col()] != WALL_CELL;
+    }
+
+    /**
+     * Returns the number of steps between two open cells.
+     *
+     * @param from the first cell
+     * @param to the second cell
+     * @return the distance, or -1 if the cells are not connected
+     * @throws IllegalStateException if the maze is not perfect
+     */
+    public int distance(Position from, Position to) {
+        requirePerfect();
+        int u = index(from);
+        int v = index(to);
+        int ancestor = lowestCommonAncestor(u, v);
+        if (ancestor == NO_CELL) {
+            return -1;
+        }
+        return depth[u] + depth[v] - 2 * depth[ancestor];
+    }
+
+    /**
+     * Returns the unique route between two open cells.
+     *
+     * @param from the cell to start from
+     * @param to the cell to reach
+     * @return the positions from start to end (both inclusive), or null if the cells are not connected
+     * @throws IllegalStateException if the maze is not perfect
+     */
+    public List<Position> path(Position from, Position to) {
+        requirePerfect();
+        int u = index(from);
+        int v = index(to);
+        int ancestor = lowestCommonAncestor(u, v);
+        if (ancestor == NO_CELL) {
+            return null;
+        }
+
+        List<Position> path = new ArrayList<>(depth[u] + depth[v] - 2 * depth[ancestor] + 1);
+        for (int cell = u; cell != ancestor; cell = parent[cell]) {
+            path.add(toPosition(cell));
+        }
+        int upwardLength = path.size();
+        for (int cell = v; cell != ancestor; cell = parent[cell]) {
+            path.add(toPosition(cell));
+        }
+        path.add(toPosition(ancestor));
+        // The second half was collected from the target upwards; turn it around behind the ancestor
+        Collections.reverse(path.subList(upwardLength, path.size()));
+        return path;
+    }
+
+    /**
+     * Finds the lowest common ancestor of two cells in O(log n) jumps.
+     *
+     * @return the ancestor cell, or {@link #NO_CELL} if the cells are in different trees
+     */
+    private int lowestCommonAncestor(int u, int v) {
+        if (depth[u] > depth[v]) {
+            u = ancestorAtDepth(u, depth[v]);
+        } else if (depth[v] > depth[u]) {
+            v = ancestorAtDepth(v, depth[u]);
+        }
+
+        // Cells at the same depth have jump pointers of the same length
+        while (u != v) {
+            if (parent[u] == NO_CELL) {
+                return NO_CELL;
+            }
+            if (jump[u] != jump[v]) {
+                u = jump[u];
+                v = jump[v];
+            } else {
+                u = parent[u];
+                v = parent[v];
+            }
+        }
+        return u;
+    }
+
+    private int ancestorAtDepth(int cell, int targetDepth) {
+        while (depth[cell] > targetDepth) {
+            cell = depth[jump[cell]] >= targetDepth ? jump[cell] : parent[cell];
+        }
+        return cell;
+    }
+
+    private int index(Position position) {
+        if (!isOpen(position)) {
+            throw new IllegalArgumentException("Position is not an open cell of the maze: " + position);
+        }
+        return position.row() * width + position.col();
+    }
+
+    private Position toPosition(int cell) {
+        return new Position(cell / width, cell % width);
+    }
+
+    private void requirePerfect() {
+        if (!perfect) {
+            throw new IllegalStateException("Maze is not a perfect maze");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import io.jistud.mazesolver.server.model.MazeSolver;
+
+/**
+ * Solver algorithms that can be selected by name, e.g. from a request parameter.
+ */
+public enum SolverAlgorithm {
+    BFS("bfs", settings -> new BreadthFirstSolver()),
+    ASTAR("astar", settings -> new AStarSolver()),
+    BIDIRECTIONAL_BFS("bibfs", settings -> new BidirectionalBreadthFirstSolver()),
+    JPS("jps", settings -> new JumpPointSolver()),
+    DEAD_END_FILLING("deadend", settings -> new DeadEndFillingSolver()),
+    PARALLEL_BFS(
+            "pbfs",
+            settings -> new ParallelBreadthFirstSolver(ForkJoinPool.commonPool(), settings.parallelThreshold())),
+    BITBOARD("bitboard", settings -> new BitboardSolver()),
+    DIJKSTRA("dijkstra", settings -> new DijkstraSolver());
+
+    private final String algorithmName;
+    private final Function<SolverSettings, MazeSolver> factory;
+
+    SolverAlgorithm(String algorithmName, Function<SolverSettings, MazeSolver> factory) {
+        this.algorithmName = algorithmName;
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the name used to select this algorithm.
+     *
+     * @return the algorithm name
+     */
+    public String getAlgorithmName() {
+        return algorithmName;
+    }
+
+    /**
+     * Creates a new solver instance for this algorithm with the default settings.
+     *
+     * @return the solver
+     */
+    public MazeSolver createSolver() {
+        return createSolver(SolverSettings.defaults());
+    }
+
+    /**
+     * Creates a new solver instance for this algorithm.
+     *
+     * @param settings the tunable parameters of the solver
+     * @return the solver
+     */
+    public MazeSolver createSolver(SolverSettings settings) {
+        return factory.apply(settings);
+    }
+
+    /**
+     * Looks up an algorithm by its name, ignoring case.
+     *
+     * @param algorithmName the name of the algorithm
+     * @return the matching algorithm
+     * @throws IllegalArgumentException if no algorithm has the given name
+     */
+    public static SolverAlgorithm fromName(String algorithmName) {
+        for (SolverAlgorithm algorithm : values()) {
+            if (algorithm.algorithmName.equalsIgnoreCase(algorithmName)) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException("Unknown solver algorithm: " + algorithmName);
+    }
+}
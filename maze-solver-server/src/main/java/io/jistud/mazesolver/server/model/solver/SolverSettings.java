@@ -0,0 +1,25 @@
+package io.jistud.mazesolver.server.model.solver;
+
+/**
+ * Tunable parameters applied when a {@link SolverAlgorithm} creates its solver.
+ *
+ * @param parallelThreshold the number of cells below which the parallel breadth-first solver falls back to
+ *        the sequential one
+ */
+public record SolverSettings(int parallelThreshold) {
+
+    public SolverSettings {
+        if (parallelThreshold < 0) {
+            throw new IllegalArgumentException("Parallel threshold must not be negative");
+        }
+    }
+
+    /**
+     * Returns the settings the solvers use when nothing is configured.
+     *
+     * @return the default settings
+     */
+    public static SolverSettings defaults() {
+        return new SolverSettings(ParallelBreadthFirstSolver.DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+}
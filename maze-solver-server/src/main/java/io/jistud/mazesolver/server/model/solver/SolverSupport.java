@@ -0,0 +1,58 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.jistud.mazesolver.server.model.Position;
+
+/**
+ * Helpers shared by the solvers working on row-major cell indices.
+ */
+final class SolverSupport {
+
+    private SolverSupport() {
+        // Utility class
+    }
+
+    /**
+     * Rebuilds a path by walking a parent array back from the end cell.
+     * The start cell is the one whose parent is -1.
+     *
+     * @param parent the parent of every reached cell
+     * @param endIndex the index of the last cell of the path
+     * @param width the width of the maze
+     * @return the positions from start to end (both inclusive)
+     */
+    static List<Position> buildPath(int[] parent, int endIndex, int width) {
+        int length = 0;
+        for (int index = endIndex; index != -1; index = parent[index]) {
+            length++;
+        }
+
+        Position[] steps = new Position[length];
+        int index = endIndex;
+        for (int i = length - 1; i >= 0; i--) {
+            steps[i] = new Position(index / width, index % width);
+            index = parent[index];
+        }
+
+        return new ArrayList<>(List.of(steps));
+    }
+
+    /**
+     * Computes the Manhattan distance between two cells.
+     */
+    static int manhattan(int index, int otherIndex, int width) {
+        int row = index / width;
+        int otherRow = otherIndex / width;
+        return Math.abs(row - otherRow) + Math.abs((index - row * width) - (otherIndex - otherRow * width));
+    }
+
+    /**
+     * Packs an A* estimate and heuristic into one heap key: lower f first, then lower h,
+     * so ties are broken in favour of the cell closer to the goal.
+     */
+    static long heapKey(int estimate, int heuristic) {
+        return ((long) estimate << 32) | heuristic;
+    }
+}
@@ -0,0 +1,20 @@
+package io.jistud.mazesolver.server.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import io.jistud.mazesolver.server.entity.MazeCellEditEntity;
+
+@Repository
+public interface MazeCellEditRepository extends JpaRepository<MazeCellEditEntity, Long> {
+
+    /**
+     * Find all cell edits of a maze in the order they were applied
+     *
+     * @param mazeId the ID of the maze
+     * @return the edits of the maze, oldest first
+     */
+    List<MazeCellEditEntity> findByMazeIdOrderByIdAsc(Integer mazeId);
+}
@@ -2,12 +2,18 @@ package io.jistud.mazesolver.server.repository;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import io.jistud.mazesolver.server.entity.MazeEntity;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface MazeRepository extends JpaRepository<MazeEntity, Integer> {
 
@@ -18,4 +24,15 @@ public interface MazeRepository extends JpaRepository<MazeEntity, Integer> {
      * @return a list of mazes created before the given timestamp
      */
     List<MazeEntity> findByCreatedAtBefore(Instant createdAt);
+
+    /**
+     * Find a maze and lock its row until the current transaction ends, so that concurrent writers of the
+     * same maze run one after the other
+     *
+     * @param id the ID of the maze
+     * @return an Optional containing the locked maze, or empty if it does not exist
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from MazeEntity m where m.id = :id")
+    Optional<MazeEntity> findByIdForUpdate(@Param("id") Integer id);
 }
@@ -0,0 +1,146 @@
+package io.jistud.mazesolver.server.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded least-recently-used cache of data derived from a stored maze, keyed by maze ID.
+ * Entries must be invalidated whenever the maze they were derived from changes or is deleted.
+ * <p>
+ * Values are built outside of any lock shared between mazes: the first caller for a maze builds it,
+ * later callers for the same maze wait for that build, and callers for other mazes are not held up.
+ * Eviction runs after a build has finished.
+ *
+ * @param <T> the type of the cached value
+ */
+public class MazeIndexCache<T> {
+
+    private final int capacity;
+    private final ConcurrentHashMap<Integer, Entry<T>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final Object evictionLock = new Object();
+
+    /**
+     * Creates a cache holding at most the given number of mazes.
+     *
+     * @param capacity the maximum number of cached entries
+     * @throws IllegalArgumentException if capacity is less than or equal to 0
+     */
+    public MazeIndexCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the cached value for a maze, computing and caching it if absent.
+     * Concurrent calls for the same maze run the loader once and share its result.
+     * A null result of the loader is not cached, and neither is an exception, which is rethrown to
+     * every caller waiting for that build.
+     *
+     * @param id the ID of the maze
+     * @param loader computes the value on a cache miss
+     * @return the cached or computed value
+     */
+    public T get(Integer id, Function<Integer, T> loader) {
+        Entry<T> entry = entries.get(id);
+        if (entry == null) {
+            Entry<T> created = new Entry<>();
+            entry = entries.putIfAbsent(id, created);
+            if (entry == null) {
+                return load(id, created, loader);
+            }
+        }
+        entry.lastAccess = clock.incrementAndGet();
+        try {
+            return entry.value.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private T load(Integer id, Entry<T> entry, Function<Integer, T> loader) {
+        T value;
+        try {
+            value = loader.apply(id);
+        } catch (RuntimeException | Error e) {
+            entries.remove(id, entry);
+            entry.value.completeExceptionally(e);
+            throw e;
+        }
+        entry.lastAccess = clock.incrementAndGet();
+        entry.value.complete(value);
+        if (value == null) {
+            entries.remove(id, entry);
+        } else {
+            evictIfFull();
+        }
+        return value;
+    }
+
+    /**
+     * Removes the least recently used built entries until the cache is within its capacity.
+     */
+    private void evictIfFull() {
+        synchronized (evictionLock) {
+            while (entries.size() > capacity) {
+                Map.Entry<Integer, Entry<T>> eldest = null;
+                for (Map.Entry<Integer, Entry<T>> candidate : entries.entrySet()) {
+                    if (candidate.getValue().value.isDone()
+                            && (eldest == null || candidate.getValue().lastAccess < eldest.getValue().lastAccess)) {
+                        eldest = candidate;
+                    }
+                }
+                if (eldest == null) {
+                    // Only builds in progress are left; the last of them to finish evicts
+                    return;
+                }
+                entries.remove(eldest.getKey(), eldest.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns the cached value for a maze without computing it.
+     *
+     * @param id the ID of the maze
+     * @return the cached value, or null if none is cached or it is still being built
+     */
+    public T getIfPresent(Integer id) {
+        Entry<T> entry = entries.get(id);
+        if (entry == null || !entry.value.isDone() || entry.value.isCompletedExceptionally()) {
+            return null;
+        }
+        entry.lastAccess = clock.incrementAndGet();
+        return entry.value.getNow(null);
+    }
+
+    /**
+     * Removes the cached value for a maze. A build in progress still completes for the callers waiting
+     * for it, but its result is not cached.
+     *
+     * @param id the ID of the maze
+     */
+    public void invalidate(Integer id) {
+        entries.remove(id);
+    }
+
+    /**
+     * Returns the number of cached entries, including builds in progress.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private static final class Entry<T> {
+        private final CompletableFuture<T> value = new CompletableFuture<>();
+        private volatile long lastAccess;
+    }
+}
@@ -0,0 +1,12 @@
+package io.jistud.mazesolver.server.service;
+
+/**
+ * Thrown when cell edits are applied to a maze that cannot be re-solved incrementally, because it does not
+ * have exactly one start and one end position. The maze is left as it was.
+ */
+public class MazeNotEditableException extends RuntimeException {
+
+    public MazeNotEditableException(Integer mazeId) {
+        super("Maze " + mazeId + " must have exactly one start position and one end position to be edited");
+    }
+}
@@ -1,12 +1,19 @@
 package io.jistud.mazesolver.server.service;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import io.jistud.mazesolver.server.entity.MazeEntity;
+import io.jistud.mazesolver.server.model.CellEdit;
 import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.SolveBudget;
+import io.jistud.mazesolver.server.model.solver.DistanceField;
+import io.jistud.mazesolver.server.model.solver.HierarchicalPathIndex;
+import io.jistud.mazesolver.server.model.solver.PerfectMazeIndex;
+import io.jistud.mazesolver.server.model.solver.SolverAlgorithm;
 
 /**
  * Service for managing maze generation, storage, and solving.
@@ -74,7 +81,75 @@ public interface MazeService {
      * Solve a maze by finding a path from start to end
      *
      * @param id the ID of the maze to solve
-     * @return an Optional containing the solved maze entity if a solution exists, or empty if not
+     * @return an Optional containing the maze entity, which is left unsolved if no solution exists, and the
+     *     statistics of the solver run, or empty if the maze does not exist
      */
-    Optional<MazeEntity> solveMaze(Integer id);
+    Optional<SolvedMaze> solveMaze(Integer id);
+
+    /**
+     * Solve a maze by finding a path from start to end with the given algorithm
+     *
+     * @param id the ID of the maze to solve
+     * @param algorithm the solver algorithm to use
+     * @return an Optional containing the maze entity, which is left unsolved if no solution exists, and the
+     *     statistics of the solver run, or empty if the maze does not exist
+     */
+    Optional<SolvedMaze> solveMaze(Integer id, SolverAlgorithm algorithm);
+
+    /**
+     * Solve a maze by finding a path from start to end with the given algorithm within a budget.
+     * A run that exceeds the budget leaves the stored maze untouched, since it proves nothing about its solvability.
+     *
+     * @param id the ID of the maze to solve
+     * @param algorithm the solver algorithm to use
+     * @param budget the deadline, expansion limit and cancellation flag of the solver run
+     * @return an Optional containing the maze entity, which is left unsolved if no solution exists, and the
+     *     statistics of the solver run, or empty if the maze does not exist
+     * @throws SolveBudgetExceededException if the solver was stopped by the budget
+     */
+    Optional<SolvedMaze> solveMaze(Integer id, SolverAlgorithm algorithm, SolveBudget budget);
+
+    /**
+     * Get the distance field of a maze towards its end cell.
+     * The field is computed on first use and cached per maze ID, so routes from
+     * any number of cells of the same maze can be answered without a new search.
+     *
+     * @param id the ID of the maze
+     * @return an Optional containing the distance field, or empty if the maze does not exist
+     */
+    Optional<DistanceField> findDistanceField(Integer id);
+
+    /**
+     * Get the lowest-common-ancestor index of a perfect maze.
+     * The index is built on first use and cached per maze ID, so paths between
+     * any two cells of the same maze can be answered without a search.
+     *
+     * @param id the ID of the maze
+     * @return an Optional containing the index, or empty if the maze does not exist
+     */
+    Optional<PerfectMazeIndex> findPerfectMazeIndex(Integer id);
+
+    /**
+     * Get the hierarchical cluster index of a maze.
+     * The index is built on first use and cached per maze ID. Cell edits only mark the
+     * affected clusters of a cached index for rebuilding instead of discarding it.
+     *
+     * @param id the ID of the maze
+     * @return an Optional containing the index, or empty if the maze does not exist
+     */
+    Optional<HierarchicalPathIndex> findHierarchicalPathIndex(Integer id);
+
+    /**
+     * Apply a batch of cell edits to a stored maze and re-solve it incrementally.
+     * The search state of every edited maze is kept, so only the region affected by
+     * the edits is searched again. The edits are stored as deltas on top of the maze data.
+     *
+     * @param id the ID of the maze to edit
+     * @param edits the cell edits, applied in order
+     * @return an Optional containing the updated maze entity, which is left unsolved if no solution
+     *     exists after the edits, or empty if the maze does not exist
+     * @throws IllegalArgumentException if an edit is outside the maze or targets the start or end cell
+     * @throws MazeNotEditableException if the maze does not have exactly one start and one end position
+     */
+    Optional<MazeEntity> editCells(Integer id, List<CellEdit> edits);
 }
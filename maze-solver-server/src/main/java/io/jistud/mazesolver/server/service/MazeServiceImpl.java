@@ -4,24 +4,71 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import io.jistud.mazesolver.server.builder.MazeBuilder;
+import io.jistud.mazesolver.server.entity.MazeCellEditEntity;
 import io.jistud.mazesolver.server.entity.MazeEntity;
+import io.jistud.mazesolver.server.model.CellEdit;
 import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeSnapshot;
+import io.jistud.mazesolver.server.model.MazeSolver;
 import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolutionOverlay;
+import io.jistud.mazesolver.server.model.SolveBudget;
+import io.jistud.mazesolver.server.model.SolveResult;
+import io.jistud.mazesolver.server.model.solver.DistanceField;
+import io.jistud.mazesolver.server.model.solver.HierarchicalPathIndex;
+import io.jistud.mazesolver.server.model.solver.LpaStarPlanner;
+import io.jistud.mazesolver.server.model.solver.ParallelBreadthFirstSolver;
+import io.jistud.mazesolver.server.model.solver.PerfectMazeIndex;
+import io.jistud.mazesolver.server.model.solver.SolverAlgorithm;
+import io.jistud.mazesolver.server.model.solver.SolverSettings;
+import io.jistud.mazesolver.server.repository.MazeCellEditRepository;
 import io.jistud.mazesolver.server.repository.MazeRepository;
 
 @Service
 public class MazeServiceImpl implements MazeService {
 
+    private static final int INDEX_CACHE_CAPACITY = 64;
+
     private final MazeRepository mazeRepository;
+    private final MazeCellEditRepository cellEditRepository;
+    private final SolverMetrics solverMetrics;
+    private final SolverSettings solverSettings;
+    private final MazeIndexCache<MazeSnapshot> snapshots = new MazeIndexCache<>(INDEX_CACHE_CAPACITY);
+    private final MazeIndexCache<DistanceField> distanceFields = new MazeIndexCache<>(INDEX_CACHE_CAPACITY);
+    private final MazeIndexCache<PerfectMazeIndex> perfectMazeIndexes = new MazeIndexCache<>(INDEX_CACHE_CAPACITY);
+    private final MazeIndexCache<HierarchicalPathIndex> hierarchicalIndexes =
+            new MazeIndexCache<>(INDEX_CACHE_CAPACITY);
+    private final MazeIndexCache<LpaStarPlanner> planners = new MazeIndexCache<>(INDEX_CACHE_CAPACITY);
+
+    public MazeServiceImpl(
+            MazeRepository mazeRepository, MazeCellEditRepository cellEditRepository, SolverMetrics solverMetrics) {
+        this(
+                mazeRepository,
+                cellEditRepository,
+                solverMetrics,
+                SolverSettings.defaults().parallelThreshold());
+    }
 
     @Autowired
-    public MazeServiceImpl(MazeRepository mazeRepository) {
+    public MazeServiceImpl(
+            MazeRepository mazeRepository,
+            MazeCellEditRepository cellEditRepository,
+            SolverMetrics solverMetrics,
+            @Value("${maze.solver.parallel-threshold:" + ParallelBreadthFirstSolver.DEFAULT_SEQUENTIAL_THRESHOLD + "}")
+                    int parallelThreshold) {
         this.mazeRepository = mazeRepository;
+        this.cellEditRepository = cellEditRepository;
+        this.solverMetrics = solverMetrics;
+        this.solverSettings = new SolverSettings(parallelThreshold);
     }
 
     @Override
@@ -80,17 +127,18 @@ public class MazeServiceImpl implements MazeService {
         int height = rows.length;
         int width = rows[0].length();
 
-        char[][] grid = new char[height][width];
+        Maze maze = Maze.parse(rows, height, width);
 
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                char cell = rows[row].charAt(col);
-                grid[row][col] = cell;
+        // Replay stored cell edits; the solution overlay is repainted from the current solution path below
+        List<MazeCellEditEntity> edits =
+                entity.getId() == null ? List.of() : cellEditRepository.findByMazeIdOrderByIdAsc(entity.getId());
+        if (!edits.isEmpty()) {
+            maze.replaceCells(0, 0, maze.getHeight(), maze.getWidth(), Maze.PATH, Maze.EMPTY);
+            for (MazeCellEditEntity edit : edits) {
+                maze.setCell(edit.getRow(), edit.getCol(), edit.getValue());
             }
         }
 
-        Maze maze = new Maze(height, width, grid);
-
         // Parse solution path if present
         if (entity.isSolved() && entity.getSolutionPath() != null) {
             // Expected format: "[(row,col), (row,col), ...]"
@@ -114,6 +162,13 @@ public class MazeServiceImpl implements MazeService {
                 }
 
                 maze.setSolvedPath(solutionPath);
+                if (!edits.isEmpty()) {
+                    for (Position position : solutionPath) {
+                        if (maze.getCell(position.row(), position.col()) == Maze.EMPTY) {
+                            maze.setCell(position.row(), position.col(), Maze.PATH);
+                        }
+                    }
+                }
             }
         }
 
@@ -139,36 +194,56 @@ public class MazeServiceImpl implements MazeService {
 
     private static void applyToEntity(Maze maze, MazeEntity entity) {
         // Convert grid to string representation
-        char[][] grid = maze.getGrid();
-        StringBuilder mazeData = new StringBuilder();
+        entity.setMazeData(maze.getGrid().encode(false));
+        entity.setSolved(maze.isSolved());
 
-        for (int row = 0; row < grid.length; row++) {
-            if (row > 0) {
-                mazeData.append("\n");
-            }
-            mazeData.append(new String(grid[row]));
+        // Record whether start and end are connected, so unsolvable mazes are rejected without a search
+        if (maze.countCells(Maze.START) == 1 && maze.countCells(Maze.END) > 0) {
+            entity.setSolvable(maze.isSolvable());
         }
 
-        entity.setMazeData(mazeData.toString());
-        entity.setSolved(maze.isSolved());
-
         // Convert solution path if present
         if (maze.isSolved() && maze.getSolvedPath() != null) {
-            String pathStr = maze.getSolvedPath().stream()
-                    .map(pos -> "(" + pos.row() + "," + pos.col() + ")")
-                    .collect(Collectors.joining(", "));
-
-            entity.setSolutionPath("[" + pathStr + "]");
+            entity.setSolutionPath(formatPath(maze.getSolvedPath()));
         }
     }
 
+    /**
+     * Formats a solution path as stored in the solution_path column.
+     *
+     * @param path the positions of the path
+     * @return the path in the format "[(row,col), (row,col), ...]"
+     */
+    private static String formatPath(List<Position> path) {
+        String pathStr = path.stream()
+                .map(pos -> "(" + pos.row() + "," + pos.col() + ")")
+                .collect(Collectors.joining(", "));
+
+        return "[" + pathStr + "]";
+    }
+
     @Override
     public void deleteMaze(Integer id) {
         mazeRepository.deleteById(id);
+        snapshots.invalidate(id);
+        distanceFields.invalidate(id);
+        perfectMazeIndexes.invalidate(id);
+        hierarchicalIndexes.invalidate(id);
+        planners.invalidate(id);
+    }
+
+    @Override
+    public Optional<SolvedMaze> solveMaze(Integer id) {
+        return solveMaze(id, SolverAlgorithm.BFS);
     }
 
     @Override
-    public Optional<MazeEntity> solveMaze(Integer id) {
+    public Optional<SolvedMaze> solveMaze(Integer id, SolverAlgorithm algorithm) {
+        return solveMaze(id, algorithm, SolveBudget.unlimited());
+    }
+
+    @Override
+    public Optional<SolvedMaze> solveMaze(Integer id, SolverAlgorithm algorithm, SolveBudget budget) {
         Optional<MazeEntity> mazeEntityOpt = mazeRepository.findById(id);
 
         if (mazeEntityOpt.isPresent()) {
@@ -176,21 +251,175 @@ public class MazeServiceImpl implements MazeService {
 
             // If already solved, return the existing solution
             if (entity.isSolved() && entity.getSolutionPath() != null) {
-                return Optional.of(entity);
+                return Optional.of(new SolvedMaze(entity, null));
             }
 
-            // Otherwise, solve the maze
-            Maze maze = convertToModel(entity);
-            boolean solved = maze.solve();
+            // Mazes known to be unsolvable are returned unsolved without searching
+            if (Boolean.FALSE.equals(entity.getSolvable())) {
+                return Optional.of(new SolvedMaze(entity, null));
+            }
 
-            if (solved) {
-                applyToEntity(maze, entity);
+            // Otherwise, solve the cached snapshot; concurrent requests share it without copying or locking
+            MazeSnapshot snapshot = findSnapshot(entity);
+            MazeSolver solver = algorithm.createSolver(solverSettings);
+            SolutionOverlay overlay = snapshot.solve(solver, budget);
+            solverMetrics.record(solverName(algorithm, solver, snapshot), snapshot.asMaze(), overlay.stats());
+            if (overlay.result().isBudgetExceeded()) {
+                throw new SolveBudgetExceededException(id, overlay.result().expandedNodes());
+            }
 
-                // Save the updated entity
-                return Optional.of(mazeRepository.save(entity));
+            // The snapshot stays valid: painting the path leaves every cell as passable as before
+            entity.setMazeData(String.join("\n", overlay.render()));
+            entity.setSolved(overlay.isSolved());
+            entity.setSolvable(overlay.isSolved());
+            if (overlay.isSolved()) {
+                entity.setSolutionPath(formatPath(overlay.path()));
             }
+
+            // Save the updated entity
+            return Optional.of(new SolvedMaze(mazeRepository.save(entity), overlay.stats()));
         }
 
         return Optional.empty();
     }
+
+    /**
+     * Returns the name of the solver that searched a snapshot, which is not the chosen one when the snapshot has
+     * several exits and the chosen solver cannot search towards all of them at once.
+     */
+    private static String solverName(SolverAlgorithm algorithm, MazeSolver solver, MazeSnapshot snapshot) {
+        if (snapshot.getExits().size() > 1 && Maze.multiExitSolverFor(solver) != solver) {
+            return SolverMetrics.NEAREST_EXIT;
+        }
+        return algorithm.getAlgorithmName();
+    }
+
+    @Override
+    public Optional<DistanceField> findDistanceField(Integer id) {
+        return Optional.ofNullable(distanceFields.get(id, mazeId -> mazeRepository
+                .findById(mazeId)
+                .map(entity -> DistanceField.fromEnd(findSnapshot(entity).asMaze()))
+                .orElse(null)));
+    }
+
+    @Override
+    public Optional<PerfectMazeIndex> findPerfectMazeIndex(Integer id) {
+        return Optional.ofNullable(perfectMazeIndexes.get(id, mazeId -> mazeRepository
+                .findById(mazeId)
+                .map(entity -> PerfectMazeIndex.build(findSnapshot(entity).asMaze()))
+                .orElse(null)));
+    }
+
+    @Override
+    public Optional<HierarchicalPathIndex> findHierarchicalPathIndex(Integer id) {
+        return Optional.ofNullable(hierarchicalIndexes.get(id, mazeId -> mazeRepository
+                .findById(mazeId)
+                .map(entity -> HierarchicalPathIndex.build(findSnapshot(entity).asMaze()))
+                .orElse(null)));
+    }
+
+    @Override
+    @Transactional
+    public Optional<MazeEntity> editCells(Integer id, List<CellEdit> edits) {
+        // Concurrent batches on one maze wait here until the previous one commits, so they reach the planner,
+        // get their edit IDs and store their solution in the same order
+        Optional<MazeEntity> mazeEntityOpt = mazeRepository.findByIdForUpdate(id);
+
+        if (mazeEntityOpt.isEmpty()) {
+            return Optional.empty();
+        }
+
+        MazeEntity entity = mazeEntityOpt.get();
+        LpaStarPlanner planner = planners.get(id, mazeId -> createPlanner(entity));
+
+        SolveResult result;
+        synchronized (planner) {
+            // Validate the whole batch before touching the search state
+            for (CellEdit edit : edits) {
+                if (!planner.isEditable(edit.row(), edit.col())) {
+                    throw new IllegalArgumentException("Cell is outside the maze or is the start or end cell: ("
+                            + edit.row() + "," + edit.col() + ")");
+                }
+            }
+
+            for (CellEdit edit : edits) {
+                planner.setCell(edit.row(), edit.col(), edit.value());
+            }
+            result = planner.computeShortestPath();
+        }
+
+        // The planner already holds the edits; if they are not stored, it must be rebuilt from the stored cells
+        discardEditedStateOnRollback(id);
+        try {
+            cellEditRepository.saveAll(edits.stream()
+                    .map(edit -> MazeCellEditEntity.fromDomain(id, edit))
+                    .toList());
+
+            entity.setSolvable(result.isSolved());
+            entity.setSolved(result.isSolved());
+            entity.setSolutionPath(result.isSolved() ? formatPath(result.path()) : null);
+
+            // Cached indexes were built from the grid before the edits
+            snapshots.invalidate(id);
+            distanceFields.invalidate(id);
+            perfectMazeIndexes.invalidate(id);
+            HierarchicalPathIndex hierarchicalIndex = hierarchicalIndexes.getIfPresent(id);
+            if (hierarchicalIndex != null) {
+                // Only the clusters around the edited cells are rebuilt
+                for (CellEdit edit : edits) {
+                    hierarchicalIndex.setBlocked(edit.row(), edit.col(), edit.value() == Maze.WALL);
+                }
+            }
+
+            return Optional.of(mazeRepository.save(entity));
+        } catch (RuntimeException e) {
+            discardEditedState(id);
+            throw e;
+        }
+    }
+
+    /**
+     * Drops the cached state that is changed in place by cell edits, once the transaction storing the
+     * edits rolls back. Outside of a transaction the caller drops it when storing fails.
+     */
+    private void discardEditedStateOnRollback(Integer id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    discardEditedState(id);
+                }
+            }
+        });
+    }
+
+    private void discardEditedState(Integer id) {
+        planners.invalidate(id);
+        hierarchicalIndexes.invalidate(id);
+    }
+
+    /**
+     * Returns the cached snapshot of a stored maze, decoding it on a cache miss.
+     */
+    private MazeSnapshot findSnapshot(MazeEntity entity) {
+        return snapshots.get(entity.getId(), mazeId -> MazeSnapshot.of(convertToModel(entity)));
+    }
+
+    /**
+     * Creates the incremental planner of a stored maze from its current grid, including earlier edits.
+     */
+    private LpaStarPlanner createPlanner(MazeEntity entity) {
+        Maze maze = convertToModel(entity);
+        List<Position> startPositions = maze.findCellsWithValue(Maze.START);
+        List<Position> endPositions = maze.findCellsWithValue(Maze.END);
+
+        if (startPositions.size() != 1 || endPositions.size() != 1) {
+            throw new MazeNotEditableException(entity.getId());
+        }
+
+        return new LpaStarPlanner(maze, startPositions.getFirst(), endPositions.getFirst());
+    }
 }
@@ -0,0 +1,24 @@
+package io.jistud.mazesolver.server.service;
+
+/**
+ * Thrown when a solver run is stopped by its budget before it could decide whether the maze has a path.
+ * The maze is left as it was, so the same solve can be retried with a larger budget.
+ */
+public class SolveBudgetExceededException extends RuntimeException {
+
+    private final long expandedNodes;
+
+    public SolveBudgetExceededException(Integer mazeId, long expandedNodes) {
+        super("Solving maze " + mazeId + " exceeded its budget after expanding " + expandedNodes + " cells");
+        this.expandedNodes = expandedNodes;
+    }
+
+    /**
+     * Returns the number of cells the solver expanded before it stopped.
+     *
+     * @return the explored cell count
+     */
+    public long getExpandedNodes() {
+        return expandedNodes;
+    }
+}
@@ -0,0 +1,14 @@
+package io.jistud.mazesolver.server.service;
+
+import io.jistud.mazesolver.server.entity.MazeEntity;
+import io.jistud.mazesolver.server.model.SolveStats;
+
+/**
+ * Record holding a stored maze after a solve request, together with the cost of the solver run.
+ * The statistics are not persisted, so they stay out of the entity.
+ *
+ * @param entity the stored maze, left unsolved if no solution exists
+ * @param stats the cost of the solver run, or null if the stored solution or solvability was reused
+ *     without searching
+ */
+public record SolvedMaze(MazeEntity entity, SolveStats stats) {}
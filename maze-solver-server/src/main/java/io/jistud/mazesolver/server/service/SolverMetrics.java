@@ -0,0 +1,93 @@
+package io.jistud.mazesolver.server.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.SolveStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Publishes the statistics of solver runs to Micrometer.
+ * Every run is recorded as a timer and four distribution summaries, all with percentile histograms and
+ * tagged by algorithm, maze-size bucket and outcome, so slow maze shapes stand out on dashboards.
+ */
+@Component
+public class SolverMetrics {
+
+    static final String DURATION = "maze.solve.duration";
+    static final String EXPANDED_NODES = "maze.solve.expanded.nodes";
+    static final String PEAK_FRONTIER = "maze.solve.peak.frontier";
+    static final String PATH_LENGTH = "maze.solve.path.length";
+    static final String ALLOCATED_BYTES = "maze.solve.allocated.bytes";
+
+    /**
+     * Algorithm tag of runs on mazes with several exits that the chosen solver handed to the nearest-exit search.
+     */
+    static final String NEAREST_EXIT = "nearest-exit";
+
+    private final MeterRegistry registry;
+
+    public SolverMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Records a single solver run under the name of the algorithm that ran.
+     *
+     * @param algorithmName the name of the algorithm that ran
+     * @param maze the solved maze, used for the size bucket
+     * @param stats the statistics of the run
+     */
+    public void record(String algorithmName, Maze maze, SolveStats stats) {
+        Tags tags = Tags.of(
+                "algorithm", algorithmName,
+                "size", sizeBucket(maze.getHeight(), maze.getWidth()),
+                "status", stats.status().name().toLowerCase());
+
+        Timer.builder(DURATION)
+                .description("Wall-clock time of a solver run")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(stats.elapsedNanos(), TimeUnit.NANOSECONDS);
+        summary(EXPANDED_NODES, "Cells expanded by a solver run", null, tags).record(stats.expandedNodes());
+        summary(PEAK_FRONTIER, "Largest frontier of a solver run", null, tags).record(stats.peakFrontier());
+        summary(PATH_LENGTH, "Cells on the path found by a solver run", null, tags)
+                .record(stats.pathLength());
+        if (stats.allocatedBytes() >= 0) {
+            summary(ALLOCATED_BYTES, "Bytes allocated by a solver run", "bytes", tags)
+                    .record(stats.allocatedBytes());
+        }
+    }
+
+    private DistributionSummary summary(String name, String description, String baseUnit, Tags tags) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit(baseUnit)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * Maps the number of cells of a maze to a coarse bucket, which keeps the tag cardinality bounded.
+     *
+     * @return "small" below 10k cells, "medium" below 1M cells, "large" below 16M cells and "huge" otherwise
+     */
+    static String sizeBucket(int height, int width) {
+        long cells = (long) height * width;
+        if (cells < 10_000) {
+            return "small";
+        } else if (cells < 1_000_000) {
+            return "medium";
+        } else if (cells < 16_000_000) {
+            return "large";
+        }
+        return "huge";
+    }
+}
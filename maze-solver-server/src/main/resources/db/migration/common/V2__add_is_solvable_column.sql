@@ -0,0 +1,6 @@
+-- Set the search path to use the maze_solver schema
+SET search_path TO maze_solver, public;
+
+-- Whether the end can be reached from the start, computed by connected-component labeling.
+-- NULL for mazes saved before the column existed; it is filled in on the first solve request.
+ALTER TABLE maze_solver.mazes ADD COLUMN is_solvable BOOLEAN;
@@ -0,0 +1,15 @@
+-- Set the search path to use the maze_solver schema
+SET search_path TO maze_solver, public;
+
+-- Cell edits applied to a stored maze, replayed in id order on top of maze_data
+CREATE TABLE maze_solver.maze_cell_edits (
+    id BIGSERIAL PRIMARY KEY,
+    maze_id INT NOT NULL REFERENCES maze_solver.mazes(id) ON DELETE CASCADE,
+    row_index INT NOT NULL,
+    col_index INT NOT NULL,
+    cell_value CHAR(1) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Index for replaying the edits of a maze
+CREATE INDEX idx_maze_cell_edits_maze_id ON maze_solver.maze_cell_edits(maze_id, id);
@@ -0,0 +1,155 @@
+package io.jistud.mazesolver.server.builder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import io.jistud.mazesolver.server.model.ByteGrid;
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EllerMazeGenerator Tests")
+class EllerMazeGeneratorTest {
+
+    @ParameterizedTest
+    @CsvSource({"3, 5", "5, 3", "21, 21", "40, 33", "31, 64", "200, 7"})
+    @DisplayName("writeTo() should stream a connected maze without loops")
+    void writeToStreamsPerfectMaze(int height, int width) {
+        Maze maze = Maze.parse(generateText(height, width, 42L).split("\n"), height, width);
+
+        assertEquals(List.of(new Position(1, 1)), maze.findCellsWithValue(Maze.START));
+        List<Position> ends = maze.findCellsWithValue(Maze.END);
+        assertEquals(1, ends.size());
+        assertEquals(2 * ((height - 1) / 2) - 1, ends.get(0).row());
+        assertTrue(maze.solve());
+
+        int openCells = 0;
+        int openPairs = 0;
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                if (maze.getCell(row, col) == Maze.WALL) {
+                    continue;
+                }
+                openCells++;
+                if (col + 1 < width && maze.getCell(row, col + 1) != Maze.WALL) {
+                    openPairs++;
+                }
+                if (row + 1 < height && maze.getCell(row + 1, col) != Maze.WALL) {
+                    openPairs++;
+                }
+            }
+        }
+        assertEquals(openCells - 1, openPairs, "Maze should not contain loops");
+        assertEquals(openCells, countReachable(maze), "All open cells should be connected");
+    }
+
+    @Test
+    @DisplayName("Mazes with an even height or width should end in two rows or columns of walls")
+    void evenDimensionsEndInWalls() {
+        Maze maze = Maze.parse(generateText(10, 12, 7L).split("\n"), 10, 12);
+
+        for (int col = 0; col < 12; col++) {
+            assertEquals(Maze.WALL, maze.getCell(8, col));
+            assertEquals(Maze.WALL, maze.getCell(9, col));
+        }
+        for (int row = 0; row < 10; row++) {
+            assertEquals(Maze.WALL, maze.getCell(row, 10));
+            assertEquals(Maze.WALL, maze.getCell(row, 11));
+        }
+    }
+
+    @Test
+    @DisplayName("The same seed should produce the same maze")
+    void sameSeedProducesSameMaze() {
+        assertEquals(generateText(51, 51, 1L), generateText(51, 51, 1L));
+        assertNotEquals(generateText(51, 51, 1L), generateText(51, 51, 2L));
+    }
+
+    @Test
+    @DisplayName("generate() should hand out every row in order, without start or end")
+    void generateHandsOutRowsInOrder() {
+        List<Long> rows = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        new EllerMazeGenerator(9, 3L).generate(8, (cells, row) -> {
+            rows.add(row);
+            text.append(new String(cells, StandardCharsets.ISO_8859_1));
+        });
+
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L), rows);
+        assertEquals(-1, text.indexOf(String.valueOf(Maze.START)));
+        assertEquals(-1, text.indexOf(String.valueOf(Maze.END)));
+    }
+
+    @Test
+    @DisplayName("writeTo() a grid should produce the same maze as writeTo() a stream")
+    void writeToGridMatchesStream() {
+        ByteGrid grid = new ByteGrid(25, 30);
+        new EllerMazeGenerator(30, 5L).writeTo(grid);
+
+        assertEquals(generateText(25, 30, 5L), grid.encode(true));
+    }
+
+    @Test
+    @DisplayName("Invalid dimensions should be rejected")
+    void invalidDimensionsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new EllerMazeGenerator(2));
+        EllerMazeGenerator generator = new EllerMazeGenerator(3);
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(2, (cells, row) -> {}));
+        // One cell cannot hold both the start and the end
+        assertThrows(IllegalArgumentException.class, () -> generator.writeTo(new ByteArrayOutputStream(), 4));
+        assertThrows(IllegalArgumentException.class, () -> generator.writeTo(new ByteGrid(5, 4)));
+    }
+
+    @Test
+    @DisplayName("Write failures should be reported as UncheckedIOException")
+    void writeFailuresAreUnchecked() {
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+
+        assertThrows(UncheckedIOException.class, () -> new EllerMazeGenerator(5).writeTo(failing, 5));
+    }
+
+    private static String generateText(int height, int width, long seed) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new EllerMazeGenerator(width, seed).writeTo(out, height);
+        return out.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    private static int countReachable(Maze maze) {
+        boolean[][] visited = new boolean[maze.getHeight()][maze.getWidth()];
+        ArrayDeque<Position> queue = new ArrayDeque<>();
+        queue.add(new Position(1, 1));
+        visited[1][1] = true;
+        int reachable = 0;
+        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+        while (!queue.isEmpty()) {
+            Position current = queue.poll();
+            reachable++;
+            for (int[] direction : directions) {
+                int row = current.row() + direction[0];
+                int col = current.col() + direction[1];
+                if (maze.getCell(row, col) != Maze.WALL && !visited[row][col]) {
+                    visited[row][col] = true;
+                    queue.add(new Position(row, col));
+                }
+            }
+        }
+        return reachable;
+    }
+}
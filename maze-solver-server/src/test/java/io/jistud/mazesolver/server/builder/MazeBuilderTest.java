@@ -6,6 +6,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import io.jistud.mazesolver.server.model.Maze;
@@ -264,6 +265,94 @@ class MazeBuilderTest {
             // All non-wall cells should be reachable
             assertEquals(emptyCells.size(), visited.size(), "All non-wall cells should be connected");
         }
+
+        @Test
+        @DisplayName("withKruskalMaze() should create a maze without loops on uneven dimensions")
+        void withKruskalMazeShouldCreateTreeOnUnevenDimensions() {
+            Maze maze =
+                    MazeBuilder.builder().height(41).width(64).withKruskalMaze().build();
+
+            // A connected maze without loops has exactly one fewer open neighbor pair than open cells
+            int openCells = 0;
+            int openPairs = 0;
+            for (int row = 0; row < maze.getHeight(); row++) {
+                for (int col = 0; col < maze.getWidth(); col++) {
+                    if (maze.getCell(row, col) == Maze.WALL) {
+                        continue;
+                    }
+                    openCells++;
+                    if (col + 1 < maze.getWidth() && maze.getCell(row, col + 1) != Maze.WALL) {
+                        openPairs++;
+                    }
+                    if (row + 1 < maze.getHeight() && maze.getCell(row + 1, col) != Maze.WALL) {
+                        openPairs++;
+                    }
+                }
+            }
+
+            assertEquals(openCells - 1, openPairs, "Maze should not contain loops");
+        }
+
+        @Test
+        @DisplayName("withEllerMaze() should create a solvable maze without loops")
+        void withEllerMazeShouldCreatePerfectMaze() {
+            Maze maze =
+                    MazeBuilder.builder().height(40).width(33).withEllerMaze().build();
+
+            assertEquals(1, maze.findCellsWithValue(Maze.START).size(), "Maze should have exactly one start");
+            assertEquals(1, maze.findCellsWithValue(Maze.END).size(), "Maze should have exactly one end");
+            assertTrue(maze.solve(), "Maze should be solvable");
+
+            int openCells = 0;
+            int openPairs = 0;
+            for (int row = 0; row < maze.getHeight(); row++) {
+                for (int col = 0; col < maze.getWidth(); col++) {
+                    if (maze.getCell(row, col) == Maze.WALL) {
+                        continue;
+                    }
+                    openCells++;
+                    if (col + 1 < maze.getWidth() && maze.getCell(row, col + 1) != Maze.WALL) {
+                        openPairs++;
+                    }
+                    if (row + 1 < maze.getHeight() && maze.getCell(row + 1, col) != Maze.WALL) {
+                        openPairs++;
+                    }
+                }
+            }
+            assertEquals(openCells - 1, openPairs, "Maze should not contain loops");
+        }
+
+        @Test
+        @DisplayName("withRecursiveDivisionMaze() should create a solvable maze without loops")
+        void withRecursiveDivisionMazeShouldCreatePerfectMaze() {
+            Maze maze = MazeBuilder.builder()
+                    .height(61)
+                    .width(48)
+                    .withRecursiveDivisionMaze()
+                    .build();
+
+            assertEquals(1, maze.findCellsWithValue(Maze.START).size(), "Maze should have exactly one start");
+            assertEquals(1, maze.findCellsWithValue(Maze.END).size(), "Maze should have exactly one end");
+            assertTrue(maze.solve(), "Maze should be solvable");
+
+            int openCells = 0;
+            int openPairs = 0;
+            for (int row = 0; row < maze.getHeight(); row++) {
+                for (int col = 0; col < maze.getWidth(); col++) {
+                    if (maze.getCell(row, col) == Maze.WALL) {
+                        continue;
+                    }
+                    openCells++;
+                    if (col + 1 < maze.getWidth() && maze.getCell(row, col + 1) != Maze.WALL) {
+                        openPairs++;
+                    }
+                    if (row + 1 < maze.getHeight() && maze.getCell(row + 1, col) != Maze.WALL) {
+                        openPairs++;
+                    }
+                }
+            }
+            assertEquals(openCells - 1, openPairs, "Maze should not contain loops");
+        }
     }
 
     @Nested
@@ -512,6 +601,87 @@ class MazeBuilderTest {
     @Nested
     @DisplayName("FinalStage Tests")
     class FinalStageTests {
+        @Test
+        @DisplayName("withRandomTerrain() should scatter terrain over empty cells without touching other cells")
+        void withRandomTerrainShouldScatterTerrain() {
+            Maze maze = MazeBuilder.builder()
+                    .height(30)
+                    .width(30)
+                    .withKruskalMaze()
+                    .withRandomTerrain(0.5, 4)
+                    .build();
+
+            int terrainCells = 0;
+            for (int row = 0; row < 30; row++) {
+                for (int col = 0; col < 30; col++) {
+                    char cell = maze.getCell(row, col);
+                    if (Maze.isTerrain(cell)) {
+                        terrainCells++;
+                        assertTrue(cell <= '4', "Terrain cost should not exceed maxCost");
+                    }
+                }
+            }
+            assertTrue(terrainCells > 0);
+            assertEquals(1, maze.findCellsWithValue(Maze.START).size());
+            assertEquals(1, maze.findCellsWithValue(Maze.END).size());
+            assertTrue(maze.isSolvable());
+        }
+
+        @ParameterizedTest
+        @CsvSource({"-0.1, 5", "1.5, 5", "0.5, 1", "0.5, 10"})
+        @DisplayName("withRandomTerrain() should reject invalid density and cost values")
+        void withRandomTerrainShouldRejectInvalidArguments(double density, int maxCost) {
+            MazeBuilder.FinalStage stage =
+                    MazeBuilder.builder().height(10).width(10).withKruskalMaze();
+
+            assertThrows(IllegalArgumentException.class, () -> stage.withRandomTerrain(density, maxCost));
+        }
+
+        @Test
+        @DisplayName("withRandomExits() should add exits on empty cells of a perfect maze")
+        void withRandomExitsShouldAddExits() {
+            Maze maze = MazeBuilder.builder()
+                    .height(31)
+                    .width(31)
+                    .withKruskalMaze()
+                    .withRandomExits(4)
+                    .build();
+
+            assertEquals(5, maze.findCellsWithValue(Maze.END).size());
+            assertEquals(1, maze.findCellsWithValue(Maze.START).size());
+            // Every passage of a perfect maze is connected, so the nearest exit is always reachable
+            assertTrue(maze.solve());
+        }
+
+        @Test
+        @DisplayName("withExit() should add an exit and reject the start position")
+        void withExitShouldAddExit() {
+            Maze maze = MazeBuilder.builder()
+                    .height(10)
+                    .width(10)
+                    .start(1, 1)
+                    .end(8, 8)
+                    .withRandomPath()
+                    .withPerimeterWalls()
+                    .withExit(1, 2)
+                    .build();
+
+            assertEquals(Maze.END, maze.getCell(1, 2));
+            assertTrue(maze.solve());
+            assertEquals(2, maze.getSolvedPath().size());
+
+            MazeBuilder.FinalStage stage = MazeBuilder.builder()
+                    .height(10)
+                    .width(10)
+                    .start(1, 1)
+                    .end(8, 8)
+                    .withRandomPath()
+                    .withPerimeterWalls();
+            assertThrows(IllegalArgumentException.class, () -> stage.withExit(1, 1));
+            assertThrows(IllegalArgumentException.class, () -> stage.withExit(10, 1));
+            assertThrows(IllegalArgumentException.class, () -> stage.withRandomExits(-1));
+        }
+
         @Test
         @DisplayName("withEmptyPath() should clear the path")
         void withEmptyPathShouldClearPath() {
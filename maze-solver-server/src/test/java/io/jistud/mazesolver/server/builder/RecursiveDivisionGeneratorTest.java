@@ -0,0 +1,113 @@
+package io.jistud.mazesolver.server.builder;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import io.jistud.mazesolver.server.model.ByteGrid;
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeGrid;
+import io.jistud.mazesolver.server.model.PackedGrid;
+import io.jistud.mazesolver.server.model.TiledGrid;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RecursiveDivisionGenerator Tests")
+class RecursiveDivisionGeneratorTest {
+
+    @ParameterizedTest
+    @CsvSource({"3, 5", "5, 3", "21, 21", "40, 33", "31, 64", "301, 257"})
+    @DisplayName("generate() should create a connected maze without loops")
+    void generateCreatesPerfectMaze(int height, int width) {
+        ByteGrid grid = new ByteGrid(height, width);
+        new RecursiveDivisionGenerator(42L).generate(grid);
+
+        int openCells = 0;
+        int openPairs = 0;
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                if (grid.get(row, col) == Maze.WALL) {
+                    continue;
+                }
+                // Open positions are cells or passages between two cells
+                assertTrue(row % 2 == 1 || col % 2 == 1, "(" + row + ", " + col + ") should be a wall");
+                openCells++;
+                if (col + 1 < width && grid.get(row, col + 1) != Maze.WALL) {
+                    openPairs++;
+                }
+                if (row + 1 < height && grid.get(row + 1, col) != Maze.WALL) {
+                    openPairs++;
+                }
+            }
+        }
+        assertEquals(openCells - 1, openPairs, "Maze should not contain loops");
+        assertEquals(openCells, countReachable(grid), "All open cells should be connected");
+    }
+
+    @Test
+    @DisplayName("The same seed should produce the same maze on any pool size")
+    void sameSeedProducesSameMazeOnAnyPool() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool quad = new ForkJoinPool(4);
+        try {
+            String expected = generate(new RecursiveDivisionGenerator(single, 7L), new ByteGrid(401, 301));
+
+            assertEquals(expected, generate(new RecursiveDivisionGenerator(quad, 7L), new ByteGrid(401, 301)));
+            assertEquals(expected, generate(new RecursiveDivisionGenerator(7L), new TiledGrid(401, 301)));
+            assertNotEquals(expected, generate(new RecursiveDivisionGenerator(quad, 8L), new ByteGrid(401, 301)));
+        } finally {
+            single.shutdown();
+            quad.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("generate() should overwrite whatever the grid held")
+    void generateOverwritesGrid() {
+        ByteGrid used = new ByteGrid(31, 31);
+        used.fill(0, used.getCellCount(), Maze.PATH);
+
+        assertEquals(
+                generate(new RecursiveDivisionGenerator(3L), new ByteGrid(31, 31)),
+                generate(new RecursiveDivisionGenerator(3L), used));
+    }
+
+    @Test
+    @DisplayName("Grids that are too small or packed should be rejected")
+    void invalidGridsAreRejected() {
+        RecursiveDivisionGenerator generator = new RecursiveDivisionGenerator(1L);
+
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(new ByteGrid(2, 10)));
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(new ByteGrid(10, 2)));
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(new PackedGrid(11, 11)));
+    }
+
+    private static String generate(RecursiveDivisionGenerator generator, MazeGrid grid) {
+        generator.generate(grid);
+        return grid.encode(true);
+    }
+
+    private static int countReachable(MazeGrid grid) {
+        int width = grid.getWidth();
+        boolean[] visited = new boolean[grid.getCellCount()];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(width + 1);
+        visited[width + 1] = true;
+        int reachable = 0;
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            reachable++;
+            for (int next : new int[] {current - width, current + width, current - 1, current + 1}) {
+                if (grid.get(next) != Maze.WALL && !visited[next]) {
+                    visited[next] = true;
+                    queue.add(next);
+                }
+            }
+        }
+        return reachable;
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -18,17 +19,38 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.jistud.mazesolver.server.controller.dto.CellEditDTO;
+import io.jistud.mazesolver.server.controller.dto.CellEditRequestDTO;
 import io.jistud.mazesolver.server.controller.dto.MazeGenerationRequestDTO;
 import io.jistud.mazesolver.server.entity.MazeEntity;
 import io.jistud.mazesolver.server.model.Maze;
 import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveBudget;
+import io.jistud.mazesolver.server.model.SolveStats;
+import io.jistud.mazesolver.server.model.SolveStatus;
+import io.jistud.mazesolver.server.model.solver.DistanceField;
+import io.jistud.mazesolver.server.model.solver.HierarchicalPathIndex;
+import io.jistud.mazesolver.server.model.solver.PerfectMazeIndex;
+import io.jistud.mazesolver.server.model.solver.SolverAlgorithm;
+import io.jistud.mazesolver.server.service.MazeNotEditableException;
 import io.jistud.mazesolver.server.service.MazeService;
+import io.jistud.mazesolver.server.service.SolveBudgetExceededException;
+import io.jistud.mazesolver.server.service.SolvedMaze;
 
+import jakarta.servlet.ServletException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -137,8 +159,8 @@ class MazeControllerTest {
                 new Position(2, 4));
         solvedMaze.setSolvedPath(solutionPath);
 
-        when(mazeService.findById(eq(1))).thenReturn(Optional.of(testMazeEntity));
-        when(mazeService.solveMaze(eq(1))).thenReturn(Optional.of(solvedEntity));
+        when(mazeService.solveMaze(eq(1), eq(SolverAlgorithm.BFS)))
+                .thenReturn(Optional.of(new SolvedMaze(solvedEntity, null)));
         when(mazeService.convertToModel(eq(solvedEntity))).thenReturn(solvedMaze);
 
         // When/Then
@@ -151,14 +173,140 @@ class MazeControllerTest {
                 .andExpect(jsonPath("$.solvedPath.length()").value(7));
     }
 
+    @Test
+    void solveMaze_WithAlgorithm_ShouldUseSelectedSolver() throws Exception {
+        // Given
+        MazeEntity solvedEntity = new MazeEntity();
+        solvedEntity.setId(1);
+        solvedEntity.setMazeData(testMazeEntity.getMazeData());
+        solvedEntity.setSolved(true);
+        solvedEntity.setSolutionPath("[(0,2), (1,2), (2,2), (3,2), (4,2)]");
+
+        Maze solvedMaze = new Maze(5, 5);
+        solvedMaze.setSolvedPath(List.of(
+                new Position(0, 2), new Position(1, 2), new Position(2, 2), new Position(3, 2), new Position(4, 2)));
+
+        when(mazeService.solveMaze(eq(1), eq(SolverAlgorithm.ASTAR)))
+                .thenReturn(Optional.of(new SolvedMaze(solvedEntity, null)));
+        when(mazeService.convertToModel(eq(solvedEntity))).thenReturn(solvedMaze);
+
+        // When/Then
+        mockMvc.perform(put("/api/v1/mazes/1/solve")
+                        .param("algorithm", "astar")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.solved").value(true))
+                .andExpect(jsonPath("$.solvedPath.length()").value(5));
+    }
+
+    @Test
+    void solveMaze_WithStats_ShouldReturnStatsBlock() throws Exception {
+        // Given
+        MazeEntity solvedEntity = new MazeEntity();
+        solvedEntity.setId(1);
+        solvedEntity.setMazeData(testMazeEntity.getMazeData());
+        solvedEntity.setSolved(true);
+        solvedEntity.setSolutionPath("[(0,2), (1,2), (2,2), (3,2), (4,2)]");
+
+        Maze solvedMaze = new Maze(5, 5);
+        solvedMaze.setSolvedPath(List.of(
+                new Position(0, 2), new Position(1, 2), new Position(2, 2), new Position(3, 2), new Position(4, 2)));
+
+        when(mazeService.solveMaze(eq(1), eq(SolverAlgorithm.BFS)))
+                .thenReturn(Optional.of(
+                        new SolvedMaze(solvedEntity, new SolveStats(SolveStatus.SOLVED, 9, 3, 5, 2048, 15000))));
+        when(mazeService.convertToModel(eq(solvedEntity))).thenReturn(solvedMaze);
+
+        // When/Then
+        mockMvc.perform(put("/api/v1/mazes/1/solve").param("stats", "true").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stats.expandedNodes").value(9))
+                .andExpect(jsonPath("$.stats.peakFrontier").value(3))
+                .andExpect(jsonPath("$.stats.pathLength").value(5))
+                .andExpect(jsonPath("$.stats.allocatedBytes").value(2048))
+                .andExpect(jsonPath("$.stats.elapsedNanos").value(15000));
+
+        mockMvc.perform(put("/api/v1/mazes/1/solve").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stats").doesNotExist());
+    }
+
+    @Test
+    void solveMaze_WhenTimeoutExpires_ShouldReturnServiceUnavailable() throws Exception {
+        // Given
+        when(mazeService.solveMaze(eq(1), eq(SolverAlgorithm.BFS), any(SolveBudget.class)))
+                .thenThrow(new SolveBudgetExceededException(1, 4096));
+
+        // When/Then
+        mockMvc.perform(put("/api/v1/mazes/1/solve").param("timeoutMs", "50").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("X-Expanded-Nodes", "4096"));
+    }
+
+    @Test
+    void solveMaze_WithLargestTimeout_ShouldSolveWithoutDeadline() throws Exception {
+        // Given
+        MazeEntity solvedEntity = new MazeEntity();
+        solvedEntity.setId(1);
+        solvedEntity.setMazeData(testMazeEntity.getMazeData());
+        solvedEntity.setSolved(true);
+        ArgumentCaptor<SolveBudget> budget = ArgumentCaptor.forClass(SolveBudget.class);
+        when(mazeService.solveMaze(eq(1), eq(SolverAlgorithm.BFS), budget.capture()))
+                .thenReturn(Optional.of(new SolvedMaze(solvedEntity, null)));
+        when(mazeService.convertToModel(eq(solvedEntity))).thenReturn(new Maze(5, 5));
+
+        // When/Then
+        mockMvc.perform(put("/api/v1/mazes/1/solve")
+                        .param("timeoutMs", "9223372036854775807")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+        assertFalse(budget.getValue().isExceeded(1));
+    }
+
+    @Test
+    void solveMaze_WithNonPositiveTimeout_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(put("/api/v1/mazes/1/solve").param("timeoutMs", "0").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void solveMaze_WithUnsolvableMaze_ShouldReturnUnprocessableEntity() throws Exception {
+        // Given
+        MazeEntity unsolvableEntity = new MazeEntity();
+        unsolvableEntity.setId(1);
+        unsolvableEntity.setMazeData("wwsww\nwwwww\nwweww");
+        unsolvableEntity.setSolved(false);
+        unsolvableEntity.setSolvable(false);
+
+        when(mazeService.solveMaze(eq(1), eq(SolverAlgorithm.BFS)))
+                .thenReturn(Optional.of(new SolvedMaze(unsolvableEntity, null)));
+        when(mazeService.convertToModel(eq(unsolvableEntity))).thenReturn(testMaze);
+
+        // When/Then
+        mockMvc.perform(put("/api/v1/mazes/1/solve").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.solved").value(false));
+    }
+
+    @Test
+    void solveMaze_WithUnknownAlgorithm_ShouldReturnBadRequest() throws Exception {
+        // When/Then
+        mockMvc.perform(put("/api/v1/mazes/1/solve")
+                        .param("algorithm", "unknown")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void solveMaze_WithInvalidId_ShouldReturnNotFound() throws Exception {
         // Given
-        when(mazeService.findById(anyInt())).thenReturn(Optional.empty());
+        when(mazeService.solveMaze(eq(999), eq(SolverAlgorithm.BFS))).thenReturn(Optional.empty());
 
         // When/Then
         mockMvc.perform(put("/api/v1/mazes/999/solve").contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
+        verify(mazeService, never()).findById(anyInt());
     }
 
     @Test
@@ -168,12 +316,11 @@ class MazeControllerTest {
 
         // Create a sample maze for the service to return
         Maze generatedMaze = new Maze(10, 10);
-        char[][] grid = generatedMaze.getGrid();
-        grid[0][0] = Maze.START;
-        grid[9][9] = Maze.END;
+        generatedMaze.setCell(0, 0, Maze.START);
+        generatedMaze.setCell(9, 9, Maze.END);
         // Set some walls to make it a proper maze
-        grid[1][1] = Maze.WALL;
-        grid[2][2] = Maze.WALL;
+        generatedMaze.setCell(1, 1, Maze.WALL);
+        generatedMaze.setCell(2, 2, Maze.WALL);
 
         // Set up test entity that would be created by service
         MazeEntity createdEntity = new MazeEntity();
@@ -197,6 +344,194 @@ class MazeControllerTest {
                 .andExpect(jsonPath("$.solved").value(false));
     }
 
+    @Test
+    void getRoute_ShouldReturnRouteToEnd() throws Exception {
+        // Given
+        Maze maze = new Maze(3, 3, new char[][] {{'s', ' ', 'w'}, {'w', ' ', 'w'}, {'w', ' ', 'e'}});
+        when(mazeService.findDistanceField(1)).thenReturn(Optional.of(DistanceField.fromEnd(maze)));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/mazes/1/route").param("fromRow", "0").param("fromCol", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mazeId").value(1))
+                .andExpect(jsonPath("$.reachable").value(true))
+                .andExpect(jsonPath("$.distance").value(4))
+                .andExpect(jsonPath("$.path.length()").value(5))
+                .andExpect(jsonPath("$.path[4].row").value(2))
+                .andExpect(jsonPath("$.path[4].col").value(2));
+    }
+
+    @Test
+    void getRoute_ShouldReturnBadRequestForWall() throws Exception {
+        // Given
+        Maze maze = new Maze(3, 3, new char[][] {{'s', ' ', 'w'}, {'w', ' ', 'w'}, {'w', ' ', 'e'}});
+        when(mazeService.findDistanceField(1)).thenReturn(Optional.of(DistanceField.fromEnd(maze)));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/mazes/1/route").param("fromRow", "0").param("fromCol", "2"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/mazes/1/route").param("fromRow", "5").param("fromCol", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getRoute_ShouldReturnNotFoundForUnknownMaze() throws Exception {
+        // Given
+        when(mazeService.findDistanceField(99)).thenReturn(Optional.empty());
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/mazes/99/route").param("fromRow", "0").param("fromCol", "0"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getPath_ShouldReturnPathBetweenCells() throws Exception {
+        // Given
+        Maze maze = new Maze(3, 3, new char[][] {{'s', ' ', 'w'}, {'w', ' ', 'w'}, {'w', ' ', 'e'}});
+        when(mazeService.findPerfectMazeIndex(1)).thenReturn(Optional.of(PerfectMazeIndex.build(maze)));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/mazes/1/path")
+                        .param("fromRow", "2")
+                        .param("fromCol", "2")
+                        .param("toRow", "0")
+                        .param("toCol", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reachable").value(true))
+                .andExpect(jsonPath("$.distance").value(3))
+                .andExpect(jsonPath("$.path[3].row").value(0))
+                .andExpect(jsonPath("$.path[3].col").value(1));
+    }
+
+    @Test
+    void getPath_ShouldReturnConflictForMazeWithCycles() throws Exception {
+        // Given
+        Maze maze = new Maze(3, 3, new char[][] {{'s', ' ', ' '}, {' ', 'w', ' '}, {' ', ' ', 'e'}});
+        when(mazeService.findPerfectMazeIndex(1)).thenReturn(Optional.of(PerfectMazeIndex.build(maze)));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/mazes/1/path")
+                        .param("fromRow", "0")
+                        .param("fromCol", "0")
+                        .param("toRow", "2")
+                        .param("toCol", "2"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void getHierarchicalPath_ShouldReturnPathBetweenCells() throws Exception {
+        // Given
+        Maze maze = new Maze(3, 3, new char[][] {{'s', ' ', ' '}, {' ', 'w', ' '}, {' ', ' ', 'e'}});
+        when(mazeService.findHierarchicalPathIndex(1)).thenReturn(Optional.of(HierarchicalPathIndex.build(maze)));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/mazes/1/path/hierarchical")
+                        .param("fromRow", "0")
+                        .param("fromCol", "0")
+                        .param("toRow", "2")
+                        .param("toCol", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reachable").value(true))
+                .andExpect(jsonPath("$.distance").value(4));
+    }
+
+    @Test
+    void getHierarchicalPath_ShouldRejectWallsAndUnknownMazes() throws Exception {
+        // Given
+        Maze maze = new Maze(3, 3, new char[][] {{'s', ' ', ' '}, {' ', 'w', ' '}, {' ', ' ', 'e'}});
+        when(mazeService.findHierarchicalPathIndex(1)).thenReturn(Optional.of(HierarchicalPathIndex.build(maze)));
+        when(mazeService.findHierarchicalPathIndex(99)).thenReturn(Optional.empty());
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/mazes/1/path/hierarchical")
+                        .param("fromRow", "1")
+                        .param("fromCol", "1")
+                        .param("toRow", "2")
+                        .param("toCol", "2"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/mazes/99/path/hierarchical")
+                        .param("fromRow", "0")
+                        .param("fromCol", "0")
+                        .param("toRow", "2")
+                        .param("toCol", "2"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void editCells_ShouldReturnUpdatedMaze() throws Exception {
+        // Given
+        CellEditRequestDTO request = new CellEditRequestDTO(List.of(new CellEditDTO(2, 1, 'w')));
+        testMazeEntity.setSolved(true);
+        when(mazeService.editCells(eq(1), anyList())).thenReturn(Optional.of(testMazeEntity));
+        when(mazeService.convertToModel(testMazeEntity)).thenReturn(testMaze);
+
+        // When/Then
+        mockMvc.perform(patch("/api/v1/mazes/1/cells")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    void editCells_ShouldReturnBadRequestForInvalidEdits() throws Exception {
+        // Given
+        when(mazeService.editCells(eq(1), anyList())).thenThrow(new IllegalArgumentException("start cell"));
+
+        // When/Then
+        mockMvc.perform(patch("/api/v1/mazes/1/cells")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"edits\":[{\"row\":0,\"col\":2,\"value\":\"w\"}]}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/v1/mazes/1/cells")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"edits\":[{\"row\":1,\"col\":1,\"value\":\"s\"}]}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/v1/mazes/1/cells")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"edits\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void editCells_ShouldReturnConflictForMazeWithoutSingleStartAndEnd() throws Exception {
+        // Given
+        when(mazeService.editCells(eq(1), anyList())).thenThrow(new MazeNotEditableException(1));
+
+        // When/Then
+        mockMvc.perform(patch("/api/v1/mazes/1/cells")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"edits\":[{\"row\":1,\"col\":1,\"value\":\"w\"}]}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void editCells_ShouldNotReportInternalErrorsAsConflict() {
+        // Given
+        when(mazeService.editCells(eq(1), anyList()))
+                .thenThrow(new IllegalStateException("Search state is inconsistent"));
+
+        // When/Then
+        ServletException thrown = assertThrows(
+                ServletException.class,
+                () -> mockMvc.perform(patch("/api/v1/mazes/1/cells")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"edits\":[{\"row\":1,\"col\":1,\"value\":\"w\"}]}")));
+        assertInstanceOf(IllegalStateException.class, thrown.getCause());
+    }
+
+    @Test
+    void editCells_ShouldReturnNotFoundForUnknownMaze() throws Exception {
+        // Given
+        when(mazeService.editCells(eq(999), anyList())).thenReturn(Optional.empty());
+
+        // When/Then
+        mockMvc.perform(patch("/api/v1/mazes/999/cells")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"edits\":[{\"row\":1,\"col\":1,\"value\":\"w\"}]}"))
+                .andExpect(status().isNotFound());
+    }
+
     private static <T> T any(Class<T> type) {
         return org.mockito.ArgumentMatchers.any(type);
     }
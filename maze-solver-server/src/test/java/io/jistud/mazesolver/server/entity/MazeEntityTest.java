@@ -92,6 +92,7 @@ class MazeEntityTest {
         assertEquals(2, entity.getEndRow()); // End position at (2, 1)
         assertEquals(1, entity.getEndCol());
         assertTrue(entity.isSolved());
+        assertTrue(entity.getSolvable());
         assertNotNull(entity.getSolutionPath());
 
         // Verify the solution path is correctly serialized
@@ -99,6 +100,37 @@ class MazeEntityTest {
         assertEquals(expectedPath, entity.getSolutionPath());
     }
 
+    @Test
+    void testWeightedTerrainRoundTrip() {
+        // Given
+        Maze maze = new Maze(3, 4, new char[][] {{'w', 'w', 'w', 'w'}, {'s', '5', '9', 'e'}, {'w', 'w', 'w', 'w'}});
+
+        // When
+        MazeEntity entity = MazeEntity.fromDomain(maze);
+        Maze restored = entity.toDomain();
+
+        // Then
+        assertEquals('5', restored.getCell(1, 1));
+        assertEquals('9', restored.getCell(1, 2));
+        assertEquals(maze.toString(), restored.toString());
+    }
+
+    @Test
+    void testMultiExitRoundTrip() {
+        // Given
+        Maze maze = new Maze(
+                3, 5, new char[][] {{'w', 'w', 'e', 'w', 'w'}, {'e', ' ', 's', ' ', 'w'}, {'w', 'w', 'w', 'e', 'w'}});
+
+        // When
+        MazeEntity entity = MazeEntity.fromDomain(maze);
+        Maze restored = entity.toDomain();
+
+        // Then
+        assertEquals(new Position(0, 2), entity.getEndPosition());
+        assertEquals(3, restored.findCellsWithValue(Maze.END).size());
+        assertEquals(maze.toString(), restored.toString());
+    }
+
     @Test
     void testConvertToDomainModel() {
         // Given
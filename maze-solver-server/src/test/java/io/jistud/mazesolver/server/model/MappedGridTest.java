@@ -0,0 +1,94 @@
+package io.jistud.mazesolver.server.model;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.jistud.mazesolver.server.model.solver.BreadthFirstSolver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedGridTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("A new file-backed grid should be empty and keep its cells after reopening")
+    void createAndReopen() {
+        Path file = directory.resolve("maze.grid");
+        MappedGrid grid = MappedGrid.create(file, 3, 4);
+
+        assertEquals(Maze.EMPTY, grid.get(2, 3));
+        grid.set(0, 0, Maze.START);
+        grid.set(1, 2, Maze.WALL);
+        grid.set(2, 3, '5');
+        grid.force();
+
+        MappedGrid reopened = MappedGrid.open(file);
+
+        assertEquals(3, reopened.getHeight());
+        assertEquals(4, reopened.getWidth());
+        assertEquals(Maze.START, reopened.get(0));
+        assertEquals(Maze.WALL, reopened.get(1, 2));
+        assertEquals('5', reopened.get(11));
+        assertEquals(Maze.EMPTY, reopened.get(1, 1));
+    }
+
+    @Test
+    @DisplayName("Cells should be addressed across chunk boundaries")
+    void chunkBoundaries() {
+        // 8-byte chunks spread the 35 cells over five buffers
+        MappedGrid grid = MappedGrid.create(directory.resolve("chunks.grid"), 5, 7, 3);
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            grid.set(index, index % 3 == 0 ? Maze.WALL : Maze.EMPTY);
+        }
+        MappedGrid direct = MappedGrid.allocate(5, 7, 3);
+        direct.set(34, Maze.END);
+
+        MappedGrid reopened = MappedGrid.open(directory.resolve("chunks.grid"), 3);
+        MappedGrid copy = reopened.copy();
+        reopened.set(0, Maze.EMPTY);
+
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            assertEquals(index % 3 == 0 ? Maze.WALL : Maze.EMPTY, copy.get(index));
+        }
+        assertEquals(Maze.END, direct.get(4, 6));
+    }
+
+    @Test
+    @DisplayName("A saved maze should be solved in place from the mapped file")
+    void saveAndSolve() {
+        Maze source = Maze.parse(new String[] {"s  ", "ww ", "e  "}, 3, 3);
+        Path file = directory.resolve("saved.grid");
+        MappedGrid.save(source.getGrid(), file);
+
+        Maze maze = new Maze(MappedGrid.open(file));
+
+        assertTrue(maze.solve(new BreadthFirstSolver()));
+        assertSame(MappedGrid.class, maze.getGrid().getClass());
+        assertEquals("spp\nwwp\nepp\n", maze.toString());
+        assertEquals(Maze.PATH, MappedGrid.open(file).get(0, 1));
+    }
+
+    @Test
+    @DisplayName("Opening should reject files that are not grid files or are truncated")
+    void rejectsInvalidFiles() throws IOException {
+        Path text = Files.writeString(directory.resolve("text.grid"), "not a maze grid file");
+        Path grid = directory.resolve("short.grid");
+        MappedGrid.create(grid, 10, 10);
+        try (FileChannel channel = FileChannel.open(grid, StandardOpenOption.WRITE)) {
+            channel.truncate(MappedGrid.HEADER_BYTES + 50);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> MappedGrid.open(text));
+        assertThrows(IllegalArgumentException.class, () -> MappedGrid.open(grid));
+        assertThrows(IllegalArgumentException.class, () -> MappedGrid.allocate(50_000, 50_000));
+    }
+}
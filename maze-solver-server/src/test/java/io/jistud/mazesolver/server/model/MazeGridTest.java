@@ -0,0 +1,132 @@
+package io.jistud.mazesolver.server.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MazeGridTest {
+
+    @Test
+    @DisplayName("A new byte grid should be empty and store every cell value by row-major index")
+    void byteGridStoresEveryValue() {
+        ByteGrid grid = new ByteGrid(2, 3);
+
+        assertEquals(6, grid.getCellCount());
+        assertEquals(Maze.EMPTY, grid.get(1, 2));
+
+        grid.set(1, 2, Maze.PATH);
+        grid.set(0, '7');
+
+        assertEquals(Maze.PATH, grid.get(5));
+        assertEquals('7', grid.get(0, 0));
+        assertTrue(grid.canHold(Maze.MAX_TERRAIN));
+        assertEquals(6, grid.footprintBytes());
+    }
+
+    @Test
+    @DisplayName("A packed grid should keep the four basic values in two bits each across word boundaries")
+    void packedGridRoundTrip() {
+        PackedGrid grid = new PackedGrid(7, 11);
+        char[] values = {Maze.EMPTY, Maze.WALL, Maze.START, Maze.END};
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            grid.set(index, values[index * 7 % 4]);
+        }
+
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            assertEquals(values[index * 7 % 4], grid.get(index));
+        }
+        // 77 cells fit in three 64-bit words
+        assertEquals(24, grid.footprintBytes());
+    }
+
+    @Test
+    @DisplayName("A packed grid should reject path and terrain values")
+    void packedGridRejectsWideValues() {
+        PackedGrid grid = new PackedGrid(2, 2);
+
+        assertFalse(grid.canHold(Maze.PATH));
+        assertFalse(grid.canHold('3'));
+        assertThrows(IllegalArgumentException.class, () -> grid.set(0, Maze.PATH));
+        assertEquals(Maze.EMPTY, grid.get(0));
+    }
+
+    @Test
+    @DisplayName("Grids with more cells than an int can index should be rejected before allocating")
+    void oversizedGridsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ByteGrid(50_000, 50_000));
+        assertThrows(IllegalArgumentException.class, () -> new PackedGrid(50_000, 50_000));
+        // The product wraps to a small positive int when multiplied in int
+        assertThrows(IllegalArgumentException.class, () -> new PackedGrid(65_536, 65_537));
+    }
+
+    @Test
+    @DisplayName("Copies should be independent of the original grid")
+    void copiesAreIndependent() {
+        PackedGrid packed = new PackedGrid(3, 3);
+        packed.set(4, Maze.WALL);
+        PackedGrid packedCopy = packed.copy();
+        ByteGrid widened = ByteGrid.copyOf(packed);
+
+        packed.set(4, Maze.EMPTY);
+
+        assertEquals(Maze.WALL, packedCopy.get(4));
+        assertEquals(Maze.WALL, widened.get(1, 1));
+        assertTrue(PackedGrid.canPack(widened));
+
+        widened.set(0, Maze.PATH);
+
+        assertFalse(PackedGrid.canPack(widened));
+        assertThrows(IllegalArgumentException.class, () -> PackedGrid.pack(widened));
+    }
+
+    @Test
+    @DisplayName("appendRow should write one row of cells as text")
+    void appendRow() {
+        PackedGrid grid = new PackedGrid(2, 3);
+        grid.set(1, 0, Maze.START);
+        grid.set(1, 1, Maze.WALL);
+        grid.set(1, 2, Maze.END);
+        StringBuilder row = new StringBuilder();
+
+        grid.appendRow(1, row);
+
+        assertEquals("swe", row.toString());
+    }
+
+    @Test
+    @DisplayName("Bulk fills should match cell-by-cell writes on both grids, across packed word boundaries")
+    void bulkFill() {
+        MazeGrid[] grids = {new ByteGrid(3, 30), new PackedGrid(3, 30)};
+        for (MazeGrid grid : grids) {
+            grid.fill(5, 80, Maze.WALL);
+            grid.fillRect(1, 2, 2, 3, Maze.END);
+
+            for (int index = 0; index < grid.getCellCount(); index++) {
+                int row = index / 30;
+                int col = index % 30;
+                char expected =
+                        row >= 1 && col >= 2 && col < 5 ? Maze.END : index >= 5 && index < 80 ? Maze.WALL : Maze.EMPTY;
+                assertEquals(expected, grid.get(index), grid.getClass().getSimpleName() + " cell " + index);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Row buffers, replace and encode should copy whole runs of cells")
+    void rowBuffersAndReplace() {
+        ByteGrid grid = new ByteGrid(2, 4);
+        grid.write(0, "swpe".getBytes(), 0, 4);
+        grid.write(4, "xxpp pp".getBytes(), 3, 4);
+        byte[] row = new byte[6];
+
+        grid.read(4, row, 1, 4);
+        int replaced = grid.replaceRect(0, 1, 2, 3, Maze.PATH, Maze.EMPTY);
+
+        assertArrayEquals(new byte[] {0, 'p', ' ', 'p', 'p', 0}, row);
+        assertEquals(3, replaced);
+        assertEquals("sw e\np   ", grid.encode(false));
+        grid.set(4, Maze.WALL);
+        assertEquals("sw e\nw   \n", PackedGrid.pack(grid).encode(true));
+    }
+}
@@ -0,0 +1,127 @@
+package io.jistud.mazesolver.server.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jistud.mazesolver.server.model.solver.AStarSolver;
+import io.jistud.mazesolver.server.model.solver.DeadEndFillingSolver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MazeSnapshotTest {
+
+    private static final String[] ROWS = {"s   w", "www w", "e    "};
+
+    @Test
+    @DisplayName("A snapshot should not change when the maze it was taken from changes")
+    void snapshotIsACopy() {
+        Maze maze = Maze.parse(ROWS, 3, 5);
+        MazeSnapshot snapshot = MazeSnapshot.of(maze);
+
+        maze.setCell(0, 1, Maze.WALL);
+        maze.solve();
+
+        assertEquals(Maze.EMPTY, snapshot.getCell(0, 1));
+        assertEquals(new Position(0, 0), snapshot.getStart());
+        assertEquals(List.of(new Position(2, 0)), snapshot.getExits());
+        assertEquals("s   w\nwww w\ne    \n", snapshot.toString());
+    }
+
+    @Test
+    @DisplayName("Solving should return the path as an overlay and leave the snapshot unpainted")
+    void solveReturnsOverlay() {
+        MazeSnapshot snapshot = MazeSnapshot.of(Maze.parse(ROWS, 3, 5));
+
+        SolutionOverlay overlay = snapshot.solve();
+
+        assertTrue(overlay.isSolved());
+        assertEquals(9, overlay.path().size());
+        assertEquals(SolveStatus.SOLVED, overlay.stats().status());
+        assertEquals(List.of("spppw", "wwwpw", "eppp "), overlay.render());
+        assertEquals("s   w\nwww w\ne    \n", snapshot.toString());
+
+        Maze painted = overlay.toMaze();
+        assertTrue(painted.isSolved());
+        assertEquals("spppw\nwwwpw\neppp \n", painted.toString());
+        assertEquals("s   w\nwww w\ne    \n", snapshot.toString());
+    }
+
+    @Test
+    @DisplayName("Views should share the corridor mask and labels cached on the snapshot until they change")
+    void viewsShareCachedMask() {
+        MazeSnapshot snapshot = MazeSnapshot.of(Maze.parse(ROWS, 3, 5));
+        Maze view = snapshot.asMaze();
+
+        assertSame(snapshot.getCorridorMask(), view.getCorridorMask());
+        assertSame(snapshot.getCorridorMask(), snapshot.asMaze().getCorridorMask());
+        assertSame(snapshot.getComponentLabels(), view.getComponentLabels());
+        assertTrue(view.solve(new DeadEndFillingSolver()));
+
+        // Painting the path copied the grid, so the view now keeps its own mask
+        assertNotSame(snapshot.getCorridorMask(), view.getCorridorMask());
+        assertSame(snapshot.getCorridorMask(), snapshot.asMaze().getCorridorMask());
+    }
+
+    @Test
+    @DisplayName("Writes through a view should copy the grid instead of changing the snapshot")
+    void viewsCopyOnWrite() {
+        MazeSnapshot snapshot = MazeSnapshot.of(Maze.parse(ROWS, 3, 5));
+        Maze view = snapshot.asMaze();
+
+        view.setCell(2, 4, Maze.WALL);
+
+        assertEquals(Maze.WALL, view.getCell(2, 4));
+        assertEquals(Maze.EMPTY, snapshot.getCell(2, 4));
+        assertEquals(Maze.EMPTY, snapshot.asMaze().getCell(2, 4));
+    }
+
+    @Test
+    @DisplayName("Unsolvable snapshots should be rejected without a search and invalid ones should throw")
+    void unsolvableAndInvalidSnapshots() {
+        MazeSnapshot walledIn = MazeSnapshot.of(Maze.parse(new String[] {"swe"}, 1, 3));
+        MazeSnapshot noStart = MazeSnapshot.of(Maze.parse(new String[] {"  e"}, 1, 3));
+
+        SolutionOverlay overlay = walledIn.solve();
+
+        assertFalse(overlay.isSolved());
+        assertEquals(0, overlay.stats().expandedNodes());
+        assertEquals(List.of("swe"), overlay.render());
+        assertNull(noStart.getStart());
+        assertThrows(IllegalStateException.class, noStart::solve);
+    }
+
+    @Test
+    @DisplayName("Many threads should solve the same snapshot at once and all get the same path")
+    void concurrentSolves() throws Exception {
+        Maze maze = new Maze(60, 60);
+        for (int row = 2; row < 60; row += 4) {
+            for (int col = 0; col < 59; col++) {
+                maze.setCell(row, (row / 4) % 2 == 0 ? col : col + 1, Maze.WALL);
+            }
+        }
+        maze.setCell(0, 0, Maze.START);
+        maze.setCell(59, 59, Maze.END);
+        MazeSnapshot snapshot = MazeSnapshot.of(maze);
+        List<Position> expected = snapshot.solve().path();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<SolutionOverlay>> runs = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                runs.add(executor.submit(() -> snapshot.solve(new AStarSolver(), SolveBudget.unlimited())));
+            }
+            for (Future<SolutionOverlay> run : runs) {
+                assertEquals(expected.size(), run.get().path().size());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(PackedGrid.canPack(snapshot.asMaze().getGrid()));
+    }
+}
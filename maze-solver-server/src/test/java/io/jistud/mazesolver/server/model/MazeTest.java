@@ -9,6 +9,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import io.jistud.mazesolver.server.builder.MazeBuilder;
+import io.jistud.mazesolver.server.model.solver.AStarSolver;
+import io.jistud.mazesolver.server.model.solver.BreadthFirstSolver;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -51,6 +53,23 @@ class MazeTest {
         Maze maze = new Maze(5, 5);
 
         assertThrows(IllegalArgumentException.class, () -> maze.setCell(2, 3, 'x'));
+        assertThrows(IllegalArgumentException.class, () -> maze.setCell(2, 3, '1'));
+        assertThrows(IllegalArgumentException.class, () -> maze.setCell(2, 3, '0'));
+    }
+
+    @Test
+    @DisplayName("Weighted terrain cells should be accepted and cost their digit")
+    void weightedTerrainCells() {
+        Maze maze = new Maze(1, 3, new char[][] {{'s', '7', 'e'}});
+        maze.setCell(0, 1, Maze.MAX_TERRAIN);
+
+        assertEquals('9', maze.getCell(0, 1));
+        assertTrue(Maze.isTerrain(Maze.MIN_TERRAIN));
+        assertFalse(Maze.isTerrain(Maze.EMPTY));
+        assertEquals(9, Maze.moveCost('9'));
+        assertEquals(2, Maze.moveCost('2'));
+        assertEquals(1, Maze.moveCost(Maze.EMPTY));
+        assertEquals(1, Maze.moveCost(Maze.END));
     }
 
     @ParameterizedTest
@@ -127,10 +146,11 @@ class MazeTest {
         };
         Maze maze = new Maze(5, 8, grid);
         Boolean isSolvalbe = maze.solve();
-        String solvedMaze = "  w wwww\n" + "wswpp  w\n" + " ppppw w\n" + "  wwpwew\n" + "wwwwpppw\n";
+        String solvedMaze = "  w wwww\n" + "wswppppw\n" + " ppp wpw\n" + "  ww wew\n" + "wwww   w\n";
 
         assertEquals(true, isSolvalbe);
         assertEquals(solvedMaze, maze.toString());
+        assertEquals(10, maze.getSolvedPath().size());
     }
 
     @Test
@@ -150,6 +170,135 @@ class MazeTest {
         assertEquals(true, isSolvalbe);
     }
 
+    @Test
+    @DisplayName("solve with a given solver should use that solver")
+    void solveWithSolver() {
+        char[][] grid = {
+            {' ', ' ', 'w', ' ', 'w', 'w', 'w', 'w'},
+            {'w', 's', 'w', ' ', ' ', ' ', ' ', 'w'},
+            {' ', ' ', ' ', ' ', ' ', 'w', ' ', 'w'},
+            {' ', ' ', 'w', 'w', ' ', 'w', 'e', 'w'},
+            {'w', 'w', 'w', 'w', ' ', ' ', ' ', 'w'}
+        };
+        Maze maze = new Maze(5, 8, grid);
+
+        assertTrue(maze.solve(new AStarSolver()));
+        assertEquals(10, maze.getSolvedPath().size());
+        assertEquals(new Position(3, 6), maze.getSolvedPath().getLast());
+    }
+
+    @Test
+    @DisplayName("solve should find the shortest path on a large open grid without overflowing the stack")
+    void solveLargeOpenGrid() {
+        Maze maze = new Maze(2000, 2000);
+        maze.setCell(0, 0, Maze.START);
+        maze.setCell(1999, 1999, Maze.END);
+
+        assertTrue(maze.solve());
+        assertEquals(3999, maze.getSolvedPath().size());
+    }
+
+    @Test
+    @DisplayName("solve should reject a maze whose start and end are disconnected without running the solver")
+    void solveDisconnectedMaze() {
+        char[][] grid = {
+            {'s', ' ', 'w', ' '},
+            {' ', ' ', 'w', 'e'}
+        };
+        Maze maze = new Maze(2, 4, grid);
+
+        assertFalse(maze.isSolvable());
+        assertFalse(maze.solve((m, start, end, budget) -> fail("The solver should not run on a disconnected maze")));
+        assertNull(maze.getSolvedPath());
+    }
+
+    @Test
+    @DisplayName("solve should leave the maze unsolved when the budget runs out")
+    void solveWithExceededBudget() {
+        Maze maze = new Maze(100, 100);
+        maze.setCell(0, 0, Maze.START);
+        maze.setCell(99, 99, Maze.END);
+
+        SolveResult result = maze.solve(new BreadthFirstSolver(), SolveBudget.of(null, 10));
+
+        assertEquals(SolveStatus.BUDGET_EXCEEDED, result.status());
+        assertEquals(10, result.expandedNodes());
+        assertFalse(maze.isSolved());
+        assertNull(maze.getSolvedPath());
+        assertTrue(maze.findCellsWithValue(Maze.PATH).isEmpty());
+        assertEquals(SolveStatus.BUDGET_EXCEEDED, maze.getSolveStats().status());
+    }
+
+    @Test
+    @DisplayName("solve should find the path to the nearest of several exits")
+    void solveMultiExitMaze() {
+        char[][] grid = {
+            {'e', ' ', ' ', ' ', ' ', 's', ' ', 'e'},
+            {'w', 'w', 'w', 'w', 'w', 'w', 'w', 'w'},
+            {'e', ' ', ' ', ' ', ' ', ' ', ' ', ' '}
+        };
+        Maze maze = new Maze(3, 8, grid);
+
+        assertTrue(maze.isSolvable());
+        assertTrue(maze.solve());
+        assertEquals(List.of(new Position(0, 5), new Position(0, 6), new Position(0, 7)), maze.getSolvedPath());
+        assertEquals(Maze.PATH, maze.getCell(0, 6));
+    }
+
+    @Test
+    @DisplayName("solve should reject a multi-exit maze whose exits are all disconnected from the start")
+    void solveMultiExitMazeWithoutReachableExit() {
+        char[][] grid = {{'e', 'w', 's', 'w', 'e'}};
+        Maze maze = new Maze(1, 5, grid);
+
+        assertFalse(maze.isSolvable());
+        assertFalse(maze.solve((m, start, end, budget) -> fail("The solver should not run on a disconnected maze")));
+    }
+
+    @Test
+    @DisplayName("solve should require at least one end position")
+    void solveWithoutExit() {
+        Maze maze = new Maze(3, 3);
+        maze.setCell(0, 0, Maze.START);
+
+        assertThrows(IllegalStateException.class, maze::solve);
+        assertThrows(IllegalStateException.class, maze::isSolvable);
+    }
+
+    @Test
+    @DisplayName("solve should keep the statistics of the solver run")
+    void solveKeepsStatistics() {
+        Maze maze = new Maze(50, 50);
+        maze.setCell(0, 0, Maze.START);
+        maze.setCell(49, 49, Maze.END);
+        assertNull(maze.getSolveStats());
+
+        maze.solve(new BreadthFirstSolver(), SolveBudget.unlimited());
+
+        SolveStats stats = maze.getSolveStats();
+        assertEquals(SolveStatus.SOLVED, stats.status());
+        assertEquals(99, stats.pathLength());
+        assertTrue(stats.expandedNodes() >= 99);
+        assertTrue(stats.peakFrontier() > 1);
+        assertTrue(stats.elapsedNanos() > 0);
+    }
+
+    @Test
+    @DisplayName("isSolvable should follow cell changes made with setCell")
+    void isSolvableFollowsSetCell() {
+        char[][] grid = {
+            {'s', ' ', 'w', ' '},
+            {' ', ' ', 'w', 'e'}
+        };
+        Maze maze = new Maze(2, 4, grid);
+        assertFalse(maze.isSolvable());
+
+        maze.setCell(1, 2, Maze.EMPTY);
+
+        assertTrue(maze.isSolvable());
+        assertTrue(maze.solve());
+    }
+
     @Test
     @DisplayName("New maze should have solvedPath initialized to null and isSolved to false")
     void newMazeShouldHaveDefaultSolvedStateValues() {
@@ -202,4 +351,150 @@ class MazeTest {
         assertEquals(0, maze.getSolvedPath().size());
         assertFalse(maze.isSolved());
     }
+
+    @Test
+    @DisplayName("parse should decode unsolved mazes into a packed grid and solved ones into a byte grid")
+    void parseChoosesGridRepresentation() {
+        Maze unsolved = Maze.parse(new String[] {"s w", "  e"}, 2, 3);
+        Maze painted = Maze.parse(new String[] {"spw", " pe"}, 2, 3);
+
+        assertInstanceOf(PackedGrid.class, unsolved.getGrid());
+        assertInstanceOf(ByteGrid.class, painted.getGrid());
+        assertEquals("s w\n  e\n", unsolved.toString());
+        assertEquals("spw\n pe\n", painted.toString());
+        assertThrows(IllegalArgumentException.class, () -> Maze.parse(new String[] {"s x"}, 1, 3));
+        assertThrows(IllegalArgumentException.class, () -> Maze.parse(new String[] {"s"}, 1, 3));
+    }
+
+    @Test
+    @DisplayName("A packed maze should switch back to a byte grid when it is solved")
+    void packedMazeWidensWhenSolved() {
+        Maze maze = new Maze(3, 3, new char[][] {{'s', ' ', ' '}, {'w', 'w', ' '}, {'e', ' ', ' '}});
+
+        assertTrue(maze.pack());
+        assertInstanceOf(PackedGrid.class, maze.getGrid());
+        assertTrue(maze.solve());
+
+        assertInstanceOf(ByteGrid.class, maze.getGrid());
+        assertEquals("spp\nwwp\nepp\n", maze.toString());
+        assertFalse(maze.pack());
+    }
+
+    @Test
+    @DisplayName("The cell index should follow setCell and solve without rescanning the grid")
+    void cellIndexFollowsChanges() {
+        Maze maze = new Maze(3, 3);
+        assertEquals(9, maze.countCells(Maze.EMPTY));
+
+        maze.setCell(2, 2, Maze.END);
+        maze.setCell(0, 0, Maze.START);
+        maze.setCell(0, 2, Maze.END);
+        maze.setCell(1, 0, Maze.WALL);
+
+        assertEquals(List.of(new Position(0, 0)), maze.findCellsWithValue(Maze.START));
+        // End cells are listed in row-major order whatever order they were set in
+        assertEquals(List.of(new Position(0, 2), new Position(2, 2)), maze.findCellsWithValue(Maze.END));
+        assertEquals(5, maze.countCells(Maze.EMPTY));
+
+        maze.setCell(2, 2, Maze.WALL);
+        assertTrue(maze.solve());
+
+        assertEquals(List.of(new Position(0, 2)), maze.findCellsWithValue(Maze.END));
+        assertEquals(2, maze.countCells(Maze.WALL));
+        assertEquals(1, maze.countCells(Maze.PATH));
+        assertEquals(4, maze.countCells(Maze.EMPTY));
+    }
+
+    @Test
+    @DisplayName("Mazes built from a grid should be indexed, adopted grids on first use")
+    void cellIndexOfBulkConstructors() {
+        Maze copied = new Maze(2, 3, new char[][] {{'s', 'w', 'e'}, {' ', ' ', 'e'}});
+        Maze parsed = Maze.parse(new String[] {"s3e", "p e"}, 2, 3);
+        PackedGrid grid = new PackedGrid(2, 2);
+        grid.set(3, Maze.START);
+        Maze adopted = new Maze(grid);
+
+        assertEquals(2, copied.countCells(Maze.END));
+        assertEquals(2, copied.countCells(Maze.EMPTY));
+        assertEquals(1, parsed.countCells('3'));
+        assertEquals(1, parsed.countCells(Maze.PATH));
+        assertEquals(List.of(new Position(1, 1)), adopted.findCellsWithValue(Maze.START));
+        assertEquals(3, adopted.countCells(Maze.EMPTY));
+    }
+
+    @Test
+    @DisplayName("fillRect and replaceCells should validate once and keep the cell index up to date")
+    void fillRectAndReplaceCells() {
+        Maze maze = new Maze(4, 5);
+
+        maze.fillRect(1, 1, 2, 3, Maze.WALL);
+        maze.fillRect(3, 4, 1, 1, Maze.END);
+        maze.setCell(0, 0, Maze.START);
+        int replaced = maze.replaceCells(0, 0, 2, 5, Maze.WALL, '4');
+
+        assertEquals("s    \n 444 \n www \n    e\n", maze.toString());
+        assertEquals(3, replaced);
+        assertEquals(3, maze.countCells('4'));
+        assertEquals(3, maze.countCells(Maze.WALL));
+        assertEquals(List.of(new Position(3, 4)), maze.findCellsWithValue(Maze.END));
+        assertThrows(IndexOutOfBoundsException.class, () -> maze.fillRect(3, 3, 2, 1, Maze.WALL));
+        assertThrows(IllegalArgumentException.class, () -> maze.fillRect(0, 0, 1, 1, 'x'));
+    }
+
+    @Test
+    @DisplayName("replaceCells should keep the start and end positions up to date when moving them")
+    void replaceCellsTracksStartAndEnd() {
+        Maze maze = new Maze(4, 5);
+        maze.fillRect(0, 0, 1, 5, Maze.START);
+        maze.setCell(3, 4, Maze.END);
+
+        int cleared = maze.replaceCells(0, 1, 1, 3, Maze.START, Maze.EMPTY);
+        int added = maze.replaceCells(2, 0, 2, 5, Maze.EMPTY, Maze.END);
+
+        assertEquals(3, cleared);
+        assertEquals(9, added);
+        assertEquals("s   s\n     \neeeee\neeeee\n", maze.toString());
+        assertEquals(List.of(new Position(0, 0), new Position(0, 4)), maze.findCellsWithValue(Maze.START));
+        assertEquals(10, maze.countCells(Maze.END));
+        assertEquals(
+                Maze.parse(maze.toString().split("\n"), 4, 5).findCellsWithValue(Maze.END),
+                maze.findCellsWithValue(Maze.END));
+        assertEquals(8, maze.countCells(Maze.EMPTY));
+    }
+
+    @Test
+    @DisplayName("copyRegion should copy between mazes and handle overlapping regions of one maze")
+    void copyRegion() {
+        Maze source = Maze.parse(new String[] {"s3w", "pwe"}, 2, 3);
+        Maze target = new Maze(3, 4);
+        target.pack();
+
+        target.copyRegion(source, 0, 0, 1, 1, 2, 3);
+        target.copyRegion(target, 1, 1, 0, 0, 2, 2);
+
+        assertEquals("s3  \npw3w\n pwe\n", target.toString());
+        assertInstanceOf(ByteGrid.class, target.getGrid());
+        assertEquals(List.of(new Position(0, 0)), target.findCellsWithValue(Maze.START));
+        assertEquals(List.of(new Position(2, 3)), target.findCellsWithValue(Maze.END));
+        assertEquals(2, target.countCells('3'));
+        assertThrows(IndexOutOfBoundsException.class, () -> target.copyRegion(source, 0, 0, 2, 2, 2, 2));
+    }
+
+    @Test
+    @DisplayName("readRow and writeRow should move whole rows through caller buffers")
+    void rowBuffers() {
+        Maze maze = new Maze(2, 3);
+        byte[] buffer = {'x', 's', 'w', 'e'};
+
+        maze.writeRow(1, buffer, 1);
+        byte[] row = new byte[3];
+        maze.readRow(1, row, 0);
+
+        assertArrayEquals(new byte[] {'s', 'w', 'e'}, row);
+        assertEquals(List.of(new Position(1, 0)), maze.findCellsWithValue(Maze.START));
+        assertThrows(IllegalArgumentException.class, () -> maze.writeRow(0, buffer, 0));
+        assertEquals("   \nswe\n", maze.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> maze.readRow(0, row, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> maze.readRow(2, row, 0));
+    }
 }
@@ -0,0 +1,72 @@
+package io.jistud.mazesolver.server.model;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolveBudgetTest {
+
+    @Test
+    @DisplayName("An unlimited budget should only be exceeded once it is cancelled")
+    void unlimitedBudget() {
+        SolveBudget budget = SolveBudget.unlimited();
+
+        assertFalse(budget.isExceeded(1));
+        assertFalse(budget.isExceeded(Long.MAX_VALUE));
+        assertFalse(budget.isExhausted());
+
+        budget.cancel();
+
+        assertTrue(budget.isCancelled());
+        assertTrue(budget.isExhausted());
+        assertTrue(budget.isExceeded(1));
+    }
+
+    @Test
+    @DisplayName("isExceeded should compare the expansion limit on every call")
+    void expansionLimit() {
+        SolveBudget budget = SolveBudget.of(null, 100);
+
+        assertFalse(budget.isExceeded(100));
+        assertTrue(budget.isExceeded(101));
+    }
+
+    @Test
+    @DisplayName("isExceeded should only look at the deadline on the first and every 1024th expansion")
+    void deadlineIsCheckedOnStride() {
+        SolveBudget budget = SolveBudget.withTimeout(Duration.ZERO);
+
+        assertTrue(budget.isExhausted());
+        assertTrue(budget.isExceeded(1));
+        assertFalse(budget.isExceeded(2));
+        assertTrue(budget.isExceeded(1025));
+    }
+
+    @Test
+    @DisplayName("A budget with a future deadline should not be exhausted")
+    void futureDeadline() {
+        SolveBudget budget = SolveBudget.withTimeout(Duration.ofHours(1));
+
+        assertFalse(budget.isExhausted());
+        assertFalse(budget.isExceeded(1));
+    }
+
+    @Test
+    @DisplayName("Timeouts too long to count in nanoseconds should mean no deadline")
+    void oversizeTimeoutHasNoDeadline() {
+        SolveBudget budget = SolveBudget.withTimeout(Duration.ofMillis(Long.MAX_VALUE));
+
+        assertFalse(budget.isExceeded(1));
+        assertFalse(budget.isExceeded(1025));
+    }
+
+    @Test
+    @DisplayName("of should reject negative timeouts and non-positive expansion limits")
+    void rejectsInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> SolveBudget.withTimeout(Duration.ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> SolveBudget.of(null, 0));
+    }
+}
@@ -0,0 +1,81 @@
+package io.jistud.mazesolver.server.model;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TiledGridTest {
+
+    @Test
+    @DisplayName("Cells should round-trip between row-major and storage addresses on padded edge tiles")
+    void addressing() {
+        TiledGrid grid = new TiledGrid(130, 70);
+
+        for (int row = 0; row < 130; row++) {
+            for (int col = 0; col < 70; col++) {
+                int cell = grid.cellOf(row, col);
+                assertEquals(row, grid.rowOf(cell));
+                assertEquals(col, grid.colOf(cell));
+                assertEquals(Maze.EMPTY, grid.getAt(cell));
+            }
+        }
+        // Three rows of two tiles each
+        assertEquals(6 * 64 * 64, grid.getStorageSize());
+        assertEquals(Maze.WALL, grid.getAt(grid.cellOf(0, 70)));
+        assertEquals(Maze.WALL, grid.getAt(grid.cellOf(130, 0)));
+    }
+
+    @Test
+    @DisplayName("Neighbor helpers should cross tile boundaries and stop at the padded edge")
+    void neighbors() {
+        TiledGrid grid = new TiledGrid(130, 70);
+
+        for (int row = 0; row < 192; row++) {
+            for (int col = 0; col < 128; col++) {
+                int cell = grid.cellOf(row, col);
+                assertEquals(row > 0 ? grid.cellOf(row - 1, col) : -1, grid.up(cell));
+                assertEquals(row < 191 ? grid.cellOf(row + 1, col) : -1, grid.down(cell));
+                assertEquals(col > 0 ? grid.cellOf(row, col - 1) : -1, grid.left(cell));
+                assertEquals(col < 127 ? grid.cellOf(row, col + 1) : -1, grid.right(cell));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A tiled copy should hold the same cells through the row-major accessors")
+    void copyOf() {
+        Random random = new Random(3);
+        ByteGrid source = new ByteGrid(70, 150);
+        for (int index = 0; index < source.getCellCount(); index++) {
+            source.set(index, random.nextBoolean() ? Maze.WALL : Maze.EMPTY);
+        }
+
+        TiledGrid tiled = TiledGrid.copyOf(source);
+        tiled.set(69, 149, Maze.END);
+
+        for (int index = 0; index < source.getCellCount() - 1; index++) {
+            assertEquals(source.get(index), tiled.get(index));
+        }
+        assertEquals(Maze.END, tiled.get(source.getCellCount() - 1));
+        assertEquals(Maze.END, tiled.copy().get(69, 149));
+        assertEquals(source.encode(false).substring(0, 150), tiled.encode(false).substring(0, 150));
+    }
+
+    @Test
+    @DisplayName("A maze created with the tiled layout should behave like a row-major one")
+    void tiledMaze() {
+        Maze maze = new Maze(3, 3, GridLayout.TILED);
+        maze.setCell(0, 0, Maze.START);
+        maze.fillRect(1, 0, 1, 2, Maze.WALL);
+        maze.setCell(2, 0, Maze.END);
+
+        assertTrue(maze.solve());
+        assertInstanceOf(TiledGrid.class, maze.getGrid());
+        assertEquals("spp\nwwp\nepp\n", maze.toString());
+        assertEquals(List.of(new Position(2, 0)), maze.findCellsWithValue(Maze.END));
+    }
+}
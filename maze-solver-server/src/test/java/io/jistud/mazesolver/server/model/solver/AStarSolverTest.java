@@ -0,0 +1,60 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.Test;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveBudget;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AStarSolverTest {
+
+    private final AStarSolver solver = new AStarSolver();
+
+    @Test
+    @DisplayName("solve should expand far fewer cells than breadth-first search on an open grid")
+    void solveExpandsFewerCellsOnOpenGrid() {
+        Maze maze = new Maze(200, 200);
+        Position start = new Position(0, 0);
+        Position end = new Position(199, 199);
+
+        SolveResult breadthFirst = new BreadthFirstSolver().solve(maze, start, end);
+        SolveResult aStar = solver.solve(maze, start, end);
+
+        assertEquals(breadthFirst.path().size(), aStar.path().size());
+        assertTrue(aStar.expandedNodes() * 10 < breadthFirst.expandedNodes());
+    }
+
+    @RepeatedTest(10)
+    @DisplayName("With several exits the path should be as short as the nearest-exit search")
+    void multiExitPathMatchesNearestExitSearch(RepetitionInfo repetition) {
+        // A fixed seed per repetition, so a failure can be replayed
+        Random random = new Random(repetition.getCurrentRepetition());
+        Maze maze = TestMazes.openMaze(60, 60, 0.3, random.nextLong());
+        Position start = new Position(1, 1);
+        List<Position> exits = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            exits.add(TestMazes.randomOpenCell(maze, random));
+        }
+
+        SolveResult aStar = solver.solve(maze, start, exits, SolveBudget.unlimited());
+        SolveResult nearest = new NearestExitSolver().solve(maze, start, exits, SolveBudget.unlimited());
+
+        assertEquals(nearest.isSolved(), aStar.isSolved());
+        if (nearest.isSolved()) {
+            assertEquals(nearest.path().size(), aStar.path().size());
+            assertEquals(start, aStar.path().getFirst());
+            assertTrue(exits.contains(aStar.path().getLast()));
+            SolverAssertions.assertConnectedOpenPath(maze, aStar.path());
+        }
+    }
+}
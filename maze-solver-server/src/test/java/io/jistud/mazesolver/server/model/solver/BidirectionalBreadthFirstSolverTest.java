@@ -0,0 +1,29 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidirectionalBreadthFirstSolverTest {
+
+    private final BidirectionalBreadthFirstSolver solver = new BidirectionalBreadthFirstSolver();
+
+    @Test
+    @DisplayName("solve should expand fewer cells than breadth-first search on an open grid")
+    void solveExpandsFewerCellsOnOpenGrid() {
+        Maze maze = new Maze(200, 200);
+        Position start = new Position(100, 20);
+        Position end = new Position(100, 180);
+
+        SolveResult breadthFirst = new BreadthFirstSolver().solve(maze, start, end);
+        SolveResult bidirectional = solver.solve(maze, start, end);
+
+        assertEquals(breadthFirst.path().size(), bidirectional.path().size());
+        assertTrue(bidirectional.expandedNodes() < breadthFirst.expandedNodes());
+    }
+}
@@ -0,0 +1,53 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import io.jistud.mazesolver.server.builder.MazeBuilder;
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitboardSolverTest {
+
+    private final BitboardSolver solver = new BitboardSolver();
+
+    @Test
+    @DisplayName("solve should carry the wavefront across 64-cell word boundaries")
+    void solveAcrossWordBoundaries() {
+        Maze maze = new Maze(3, 200);
+
+        List<Position> path =
+                solver.solve(maze, new Position(2, 199), new Position(0, 0)).path();
+
+        assertEquals(202, path.size());
+        SolverAssertions.assertConnectedOpenPath(maze, path);
+    }
+
+    @RepeatedTest(20)
+    @DisplayName("solve should match breadth-first path lengths on mazes spanning several words per row")
+    void solveMatchesBreadthFirstOnGeneratedMazes() {
+        Maze maze = MazeBuilder.builder()
+                .height(70)
+                .width(130)
+                .randomStartAndEnd()
+                .withRandomPath()
+                .withRandomWalls(0.4)
+                .withPerimeterWalls()
+                .withEmptyPath()
+                .build();
+        Position start = maze.findCellsWithValue(Maze.START).getFirst();
+        Position end = maze.findCellsWithValue(Maze.END).getFirst();
+
+        SolveResult expected = new BreadthFirstSolver().solve(maze, start, end);
+        SolveResult actual = solver.solve(maze, start, end);
+
+        assertEquals(expected.path().size(), actual.path().size());
+        SolverAssertions.assertConnectedOpenPath(maze, actual.path());
+    }
+}
@@ -0,0 +1,63 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveResult;
+import io.jistud.mazesolver.server.model.TiledGrid;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BreadthFirstSolverTest {
+
+    private final BreadthFirstSolver solver = new BreadthFirstSolver();
+
+    @Test
+    @DisplayName("solve should expand exactly the cells reachable from the start when the end cannot be reached")
+    void solveExpandsStartComponentWhenUnreachable() {
+        char[][] grid = {
+            {'s', ' ', 'w', ' ', ' '},
+            {' ', ' ', 'w', ' ', ' '},
+            {' ', ' ', 'w', ' ', 'e'}
+        };
+        Maze maze = new Maze(3, 5, grid);
+
+        SolveResult result = solver.solve(maze, new Position(0, 0), new Position(2, 4));
+
+        assertFalse(result.isSolved());
+        assertEquals(6, result.expandedNodes());
+    }
+
+    @Test
+    @DisplayName("solve should not overflow the stack on large open grids")
+    void solveLargeOpenGrid() {
+        Maze maze = new Maze(1000, 1000);
+
+        List<Position> path =
+                solver.solve(maze, new Position(0, 0), new Position(999, 999)).path();
+
+        assertNotNull(path);
+        assertEquals(1999, path.size());
+    }
+
+    @Test
+    @DisplayName("solve should find the same path with the same effort on a tiled grid")
+    void tiledGridMatchesRowMajor() {
+        Maze rowMajor = TestMazes.openMaze(150, 140, 0.3, 11);
+        Maze tiled = new Maze(TiledGrid.copyOf(rowMajor.getGrid()));
+        Position start = new Position(1, 1);
+        Position end = new Position(148, 138);
+
+        SolveResult expected = solver.solve(rowMajor, start, end);
+        SolveResult actual = solver.solve(tiled, start, end);
+
+        assertEquals(expected.status(), actual.status());
+        assertEquals(expected.path(), actual.path());
+        assertEquals(expected.expandedNodes(), actual.expandedNodes());
+        assertEquals(expected.peakFrontier(), actual.peakFrontier());
+    }
+}
@@ -0,0 +1,75 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import io.jistud.mazesolver.server.builder.MazeBuilder;
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComponentLabelsTest {
+
+    @Test
+    @DisplayName("label should give separate regions separate ids and walls id 0")
+    void labelSeparatesRegions() {
+        char[][] grid = {
+            {'s', ' ', 'w', ' '},
+            {'w', ' ', 'w', ' '},
+            {'w', 'w', 'w', 'e'}
+        };
+        ComponentLabels labels = ComponentLabels.label(new Maze(3, 4, grid));
+
+        assertEquals(2, labels.getComponentCount());
+        assertEquals(1, labels.getComponent(0, 0));
+        assertEquals(1, labels.getComponent(1, 1));
+        assertEquals(2, labels.getComponent(2, 3));
+        assertEquals(ComponentLabels.WALL, labels.getComponent(0, 2));
+        assertEquals(ComponentLabels.WALL, labels.getComponent(-1, 0));
+        assertFalse(labels.isConnected(new Position(0, 0), new Position(2, 3)));
+        assertFalse(labels.isConnected(new Position(0, 2), new Position(1, 2)));
+    }
+
+    @Test
+    @DisplayName("label should merge provisional labels that meet further down the grid")
+    void labelMergesUShapedRegion() {
+        char[][] grid = {
+            {' ', 'w', ' ', 'w', ' '},
+            {' ', 'w', ' ', 'w', ' '},
+            {' ', ' ', ' ', ' ', ' '}
+        };
+        ComponentLabels labels = ComponentLabels.label(new Maze(3, 5, grid));
+
+        assertEquals(1, labels.getComponentCount());
+        assertTrue(labels.isConnected(new Position(0, 0), new Position(0, 4)));
+        assertTrue(labels.isConnected(new Position(0, 2), new Position(0, 4)));
+    }
+
+    @RepeatedTest(20)
+    @DisplayName("isConnected should agree with breadth-first search on generated mazes")
+    void isConnectedMatchesBreadthFirst() {
+        Maze maze = MazeBuilder.builder()
+                .height(30)
+                .width(30)
+                .randomStartAndEnd()
+                .withRandomPath()
+                .withRandomWalls(0.6)
+                .withPerimeterWalls()
+                .withEmptyPath()
+                .build();
+        // Cut the generated path so that some mazes become unsolvable
+        for (int row = 1; row < 29; row++) {
+            if (maze.getCell(row, 15) != Maze.START && maze.getCell(row, 15) != Maze.END) {
+                maze.setCell(row, 15, Maze.WALL);
+            }
+        }
+        Position start = maze.findCellsWithValue(Maze.START).getFirst();
+        Position end = maze.findCellsWithValue(Maze.END).getFirst();
+
+        ComponentLabels labels = ComponentLabels.label(maze);
+
+        assertEquals(new BreadthFirstSolver().solve(maze, start, end).isSolved(), labels.isConnected(start, end));
+    }
+}
@@ -0,0 +1,90 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import io.jistud.mazesolver.server.builder.MazeBuilder;
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadEndFillingSolverTest {
+
+    private final DeadEndFillingSolver solver = new DeadEndFillingSolver();
+
+    @Test
+    @DisplayName("fill should keep only the cells between start and end in a corridor with side branches")
+    void fillRemovesDeadEnds() {
+        char[][] grid = {
+            {'w', 'w', 'w', 'w', 'w', 'w', 'w'},
+            {'w', 's', ' ', ' ', ' ', 'e', 'w'},
+            {'w', 'w', ' ', 'w', 'w', 'w', 'w'},
+            {'w', ' ', ' ', 'w', ' ', ' ', 'w'},
+            {'w', 'w', 'w', 'w', 'w', 'w', 'w'}
+        };
+        Maze maze = new Maze(5, 7, grid);
+
+        CorridorMask corridor = DeadEndFilter.fill(maze, new Position(1, 1), new Position(1, 5));
+
+        assertEquals(5, corridor.getOpenCellCount());
+        for (int col = 1; col <= 5; col++) {
+            assertTrue(corridor.isOpen(1, col));
+        }
+        assertFalse(corridor.isOpen(2, 2));
+        assertFalse(corridor.isOpen(3, 1));
+        assertFalse(corridor.isOpen(3, 4));
+        assertFalse(corridor.isOpen(0, 0));
+    }
+
+    @Test
+    @DisplayName("fill should keep loops that connect start and end")
+    void fillKeepsLoops() {
+        char[][] grid = {
+            {'s', ' ', ' '},
+            {' ', 'w', ' '},
+            {' ', ' ', 'e'}
+        };
+        Maze maze = new Maze(3, 3, grid);
+
+        CorridorMask corridor = DeadEndFilter.fill(maze, new Position(0, 0), new Position(2, 2));
+
+        assertEquals(8, corridor.getOpenCellCount());
+    }
+
+    @RepeatedTest(10)
+    @DisplayName("fill should leave only the solution path of a perfect maze")
+    void fillLeavesOnlySolutionPathOfPerfectMaze() {
+        Maze maze = MazeBuilder.builder().height(31).width(31).withKruskalMaze().build();
+        Position start = maze.findCellsWithValue(Maze.START).getFirst();
+        Position end = maze.findCellsWithValue(Maze.END).getFirst();
+
+        List<Position> path = solver.solve(maze, start, end).path();
+
+        assertEquals(new BreadthFirstSolver().solve(maze, start, end).path(), path);
+        assertEquals(path.size(), maze.getCorridorMask().getOpenCellCount());
+    }
+
+    @Test
+    @DisplayName("The corridor mask should be cached on the maze and reset when a cell changes")
+    void corridorMaskIsCachedUntilCellChanges() {
+        char[][] grid = {
+            {'s', ' ', ' '},
+            {' ', 'w', ' '},
+            {' ', ' ', 'e'}
+        };
+        Maze maze = new Maze(3, 3, grid);
+
+        CorridorMask first = maze.getCorridorMask();
+        assertSame(first, maze.getCorridorMask());
+
+        maze.setCell(1, 0, Maze.WALL);
+        CorridorMask second = maze.getCorridorMask();
+
+        assertNotSame(first, second);
+        assertEquals(5, second.getOpenCellCount());
+    }
+}
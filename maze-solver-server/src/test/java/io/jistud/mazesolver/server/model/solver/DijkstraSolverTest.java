@@ -0,0 +1,168 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.Test;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveBudget;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DijkstraSolverTest {
+
+    private final DijkstraSolver solver = new DijkstraSolver();
+
+    @Test
+    @DisplayName("solve should walk around expensive terrain when the detour is cheaper")
+    void solveAvoidsExpensiveTerrain() {
+        char[][] grid = {
+            {'w', 'w', 'w', 'w', 'w'},
+            {'s', '9', '9', '9', 'e'},
+            {' ', ' ', ' ', ' ', ' '},
+            {'w', 'w', 'w', 'w', 'w'}
+        };
+        Maze maze = new Maze(4, 5, grid);
+
+        List<Position> path =
+                solver.solve(maze, new Position(1, 0), new Position(1, 4)).path();
+
+        assertEquals(7, path.size());
+        assertEquals(6, pathCost(maze, path));
+        SolverAssertions.assertConnectedOpenPath(maze, path);
+    }
+
+    @Test
+    @DisplayName("With several exits the maze should be solved towards the cheapest exit, not the closest one")
+    void solvesTowardsCheapestExit() {
+        char[][] grid = {
+            {'w', 'w', 'w', 'w', 'w', 'w', 'w'},
+            {'e', '9', 's', ' ', ' ', ' ', 'e'},
+            {'w', 'w', 'w', 'w', 'w', 'w', 'w'}
+        };
+        Maze maze = new Maze(3, 7, grid);
+
+        SolveResult result = maze.solve(solver, SolveBudget.unlimited());
+
+        assertTrue(result.isSolved());
+        assertEquals(5, result.path().size());
+        assertEquals(new Position(1, 6), result.path().getLast());
+        assertEquals(4, pathCost(maze, result.path()));
+    }
+
+    @Test
+    @DisplayName("solve should cross terrain when it is cheaper than the detour")
+    void solveCrossesCheapTerrain() {
+        char[][] grid = {
+            {'w', 'w', 'w', 'w', 'w'},
+            {'s', '2', ' ', ' ', 'e'},
+            {' ', ' ', ' ', ' ', ' '},
+            {'w', 'w', 'w', 'w', 'w'}
+        };
+        Maze maze = new Maze(4, 5, grid);
+
+        List<Position> path =
+                solver.solve(maze, new Position(1, 0), new Position(1, 4)).path();
+
+        assertEquals(5, path.size());
+        assertEquals(5, pathCost(maze, path));
+    }
+
+    @Test
+    @DisplayName("solve should return a null path if the end is unreachable")
+    void solveUnreachable() {
+        char[][] grid = {{'s', '3', 'w', 'e'}};
+        Maze maze = new Maze(1, 4, grid);
+
+        SolveResult result = solver.solve(maze, new Position(0, 0), new Position(0, 3));
+
+        assertFalse(result.isSolved());
+        assertNull(result.path());
+    }
+
+    @RepeatedTest(10)
+    @DisplayName("Path costs should match a Dijkstra search on a binary heap for random terrain")
+    void pathCostsMatchHeapDijkstra(RepetitionInfo repetition) {
+        // A fixed seed per repetition, so a failure can be replayed
+        Random random = new Random(repetition.getCurrentRepetition());
+        Maze maze = TestMazes.openMaze(40, 60, 0.25, random.nextLong());
+        for (int row = 0; row < 40; row++) {
+            for (int col = 0; col < 60; col++) {
+                if (maze.getCell(row, col) == Maze.EMPTY && random.nextDouble() < 0.4) {
+                    maze.setCell(row, col, (char) ('2' + random.nextInt(8)));
+                }
+            }
+        }
+        Position start = new Position(1, 1);
+        Position end = new Position(38, 58);
+
+        SolveResult result = solver.solve(maze, start, end);
+        int expected = referenceCost(maze, start, end);
+
+        if (expected < 0) {
+            assertFalse(result.isSolved());
+        } else {
+            assertEquals(start, result.path().getFirst());
+            assertEquals(end, result.path().getLast());
+            assertEquals(expected, pathCost(maze, result.path()));
+            SolverAssertions.assertConnectedOpenPath(maze, result.path());
+        }
+    }
+
+    /**
+     * Sums the cost of entering every cell of the path after the first.
+     */
+    private static int pathCost(Maze maze, List<Position> path) {
+        int cost = 0;
+        for (Position position : path.subList(1, path.size())) {
+            cost += Maze.moveCost(maze.getCell(position.row(), position.col()));
+        }
+        return cost;
+    }
+
+    /**
+     * Textbook Dijkstra on a PriorityQueue, returning the cheapest cost or -1 if the end is unreachable.
+     */
+    private static int referenceCost(Maze maze, Position start, Position end) {
+        int width = maze.getWidth();
+        int[] distance = new int[maze.getHeight() * width];
+        Arrays.fill(distance, Integer.MAX_VALUE);
+        PriorityQueue<int[]> queue = new PriorityQueue<>((a, b) -> Integer.compare(a[1], b[1]));
+        distance[start.row() * width + start.col()] = 0;
+        queue.add(new int[] {start.row() * width + start.col(), 0});
+        int[][] moves = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+        while (!queue.isEmpty()) {
+            int[] entry = queue.poll();
+            if (entry[1] > distance[entry[0]]) {
+                continue;
+            }
+            int row = entry[0] / width;
+            int col = entry[0] % width;
+            for (int[] move : moves) {
+                int nextRow = row + move[0];
+                int nextCol = col + move[1];
+                if (!maze.isValidPosition(nextRow, nextCol) || maze.getCell(nextRow, nextCol) == Maze.WALL) {
+                    continue;
+                }
+                int candidate = entry[1] + Maze.moveCost(maze.getCell(nextRow, nextCol));
+                int next = nextRow * width + nextCol;
+                if (candidate < distance[next]) {
+                    distance[next] = candidate;
+                    queue.add(new int[] {next, candidate});
+                }
+            }
+        }
+
+        int cost = distance[end.row() * width + end.col()];
+        return cost == Integer.MAX_VALUE ? -1 : cost;
+    }
+}
@@ -0,0 +1,99 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import io.jistud.mazesolver.server.builder.MazeBuilder;
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistanceFieldTest {
+
+    @Test
+    @DisplayName("fromEnd should store the number of steps from every open cell to the end")
+    void fromEndComputesDistances() {
+        char[][] grid = {
+            {'s', ' ', ' '},
+            {'w', 'w', ' '},
+            {' ', 'w', 'e'}
+        };
+        DistanceField field = DistanceField.fromEnd(new Maze(3, 3, grid));
+
+        assertEquals(0, field.getDistance(2, 2));
+        assertEquals(1, field.getDistance(1, 2));
+        assertEquals(4, field.getDistance(0, 0));
+        assertEquals(DistanceField.UNREACHABLE, field.getDistance(1, 0));
+        assertEquals(DistanceField.UNREACHABLE, field.getDistance(2, 0));
+        assertEquals(DistanceField.UNREACHABLE, field.getDistance(-1, 0));
+    }
+
+    @Test
+    @DisplayName("isOpen should tell walls from open cells that cannot reach the end")
+    void isOpenDistinguishesWalls() {
+        char[][] grid = {
+            {'s', ' ', ' '},
+            {'w', 'w', ' '},
+            {' ', 'w', 'e'}
+        };
+        DistanceField field = DistanceField.fromEnd(new Maze(3, 3, grid));
+
+        assertTrue(field.isOpen(2, 0));
+        assertFalse(field.isOpen(1, 0));
+        assertFalse(field.isOpen(3, 0));
+    }
+
+    @Test
+    @DisplayName("routeFrom should return null for cells that cannot reach the end")
+    void routeFromUnreachableCell() {
+        char[][] grid = {
+            {'s', ' ', ' '},
+            {'w', 'w', ' '},
+            {' ', 'w', 'e'}
+        };
+        DistanceField field = DistanceField.fromEnd(new Maze(3, 3, grid));
+
+        assertNull(field.routeFrom(new Position(2, 0)));
+        assertEquals(List.of(new Position(2, 2)), field.routeFrom(new Position(2, 2)));
+    }
+
+    @RepeatedTest(10)
+    @DisplayName("routeFrom should return routes as short as breadth-first search from any cell")
+    void routeFromMatchesBreadthFirst() {
+        Maze maze = MazeBuilder.builder()
+                .height(25)
+                .width(25)
+                .randomStartAndEnd()
+                .withRandomPath()
+                .withRandomWalls(0.4)
+                .withPerimeterWalls()
+                .withEmptyPath()
+                .build();
+        Position end = maze.findCellsWithValue(Maze.END).getFirst();
+        DistanceField field = DistanceField.fromEnd(maze);
+        BreadthFirstSolver solver = new BreadthFirstSolver();
+
+        for (int row = 0; row < maze.getHeight(); row++) {
+            for (int col = 0; col < maze.getWidth(); col++) {
+                if (maze.getCell(row, col) == Maze.WALL) {
+                    continue;
+                }
+                Position from = new Position(row, col);
+                List<Position> expected = solver.solve(maze, from, end).path();
+                List<Position> route = field.routeFrom(from);
+
+                if (expected == null) {
+                    assertNull(route);
+                } else {
+                    assertEquals(expected.size(), route.size());
+                    assertEquals(end, route.getLast());
+                    SolverAssertions.assertConnectedOpenPath(maze, route);
+                }
+            }
+        }
+    }
+}
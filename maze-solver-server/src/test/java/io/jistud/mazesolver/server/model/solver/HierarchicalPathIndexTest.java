@@ -0,0 +1,159 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.Test;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalPathIndexTest {
+
+    @Test
+    @DisplayName("path should cross clusters through their entrances")
+    void pathAcrossClusters() {
+        Maze maze = new Maze(20, 20);
+        HierarchicalPathIndex index = HierarchicalPathIndex.build(maze, 5, ForkJoinPool.commonPool());
+
+        List<Position> path =
+                index.path(new Position(0, 0), new Position(19, 19)).path();
+
+        assertEquals(new Position(0, 0), path.getFirst());
+        assertEquals(new Position(19, 19), path.getLast());
+        assertEquals(39, path.size());
+        // 24 borders between the 4 x 4 clusters, each with one transition of two cells
+        assertEquals(48, index.getNodeCount());
+        SolverAssertions.assertConnectedOpenPath(maze, path);
+    }
+
+    @Test
+    @DisplayName("path should handle both cells in one cluster and cells that are entrances")
+    void pathWithinCluster() {
+        Maze maze = new Maze(10, 10);
+        HierarchicalPathIndex index = HierarchicalPathIndex.build(maze, 5, ForkJoinPool.commonPool());
+
+        assertEquals(
+                3, index.path(new Position(1, 1), new Position(1, 3)).path().size());
+        assertEquals(
+                1, index.path(new Position(4, 4), new Position(4, 4)).path().size());
+        SolverAssertions.assertConnectedOpenPath(
+                maze, index.path(new Position(4, 4), new Position(5, 5)).path());
+    }
+
+    @Test
+    @DisplayName("path should leave a cluster when its two cells are only connected through a neighbor")
+    void pathDetoursThroughNeighborCluster() {
+        // The wall splits the top-left cluster; the way around leads through the cluster below
+        Maze maze = new Maze(8, 4);
+        for (int row = 0; row < 4; row++) {
+            maze.setCell(row, 1, Maze.WALL);
+        }
+        HierarchicalPathIndex index = HierarchicalPathIndex.build(maze, 4, ForkJoinPool.commonPool());
+
+        List<Position> path = index.path(new Position(0, 0), new Position(0, 2)).path();
+
+        assertNotNull(path);
+        assertTrue(path.stream().anyMatch(position -> position.row() >= 4));
+        SolverAssertions.assertConnectedOpenPath(maze, path);
+    }
+
+    @Test
+    @DisplayName("path should report cells in different regions as unconnected")
+    void pathBetweenUnconnectedCells() {
+        Maze maze = new Maze(12, 12);
+        for (int row = 0; row < 12; row++) {
+            maze.setCell(row, 6, Maze.WALL);
+        }
+        HierarchicalPathIndex index = HierarchicalPathIndex.build(maze, 4, ForkJoinPool.commonPool());
+
+        SolveResult result = index.path(new Position(0, 0), new Position(11, 11));
+
+        assertFalse(result.isSolved());
+        assertNull(result.path());
+    }
+
+    @Test
+    @DisplayName("path should reject walls and positions outside the maze")
+    void pathRejectsInvalidCells() {
+        Maze maze = new Maze(4, 4);
+        maze.setCell(1, 1, Maze.WALL);
+        HierarchicalPathIndex index = HierarchicalPathIndex.build(maze);
+
+        assertThrows(IllegalArgumentException.class, () -> index.path(new Position(1, 1), new Position(0, 0)));
+        assertThrows(IllegalArgumentException.class, () -> index.path(new Position(0, 0), new Position(4, 0)));
+        assertThrows(
+                IllegalArgumentException.class, () -> HierarchicalPathIndex.build(maze, 1, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    @DisplayName("setBlocked should only invalidate clusters and reroute on the next query")
+    void setBlockedRebuildsClusters() {
+        Maze maze = new Maze(9, 9);
+        HierarchicalPathIndex index = HierarchicalPathIndex.build(maze, 3, ForkJoinPool.commonPool());
+        Position from = new Position(4, 0);
+        Position to = new Position(4, 8);
+
+        // Wall off column 4 except for the top row, including cells on the borders between cluster rows
+        for (int row = 1; row < 9; row++) {
+            index.setBlocked(row, 4, true);
+            maze.setCell(row, 4, Maze.WALL);
+        }
+        List<Position> detour = index.path(from, to).path();
+
+        assertTrue(detour.contains(new Position(0, 4)));
+        SolverAssertions.assertConnectedOpenPath(maze, detour);
+
+        index.setBlocked(0, 4, true);
+        assertFalse(index.path(from, to).isSolved());
+
+        index.setBlocked(0, 4, false);
+        assertTrue(index.path(from, to).isSolved());
+    }
+
+    @RepeatedTest(10)
+    @DisplayName("Paths should connect exactly the cells a breadth-first search connects, and never be shorter")
+    void pathsAgreeWithBreadthFirst(RepetitionInfo repetition) {
+        // A fixed seed per repetition, so a failure can be replayed
+        Random random = new Random(repetition.getCurrentRepetition());
+        Maze maze = TestMazes.openMaze(60, 70, 0.3, random.nextLong());
+        HierarchicalPathIndex index = HierarchicalPathIndex.build(maze, 2 + random.nextInt(15), new ForkJoinPool(4));
+        BreadthFirstSolver solver = new BreadthFirstSolver();
+        List<Position> openCells = maze.findCellsWithValue(Maze.EMPTY);
+
+        for (int query = 0; query < 50; query++) {
+            if (query % 10 == 0) {
+                // Toggle a few cells to exercise the cluster rebuild
+                for (int edit = 0; edit < 20; edit++) {
+                    Position cell = new Position(1 + random.nextInt(58), 1 + random.nextInt(68));
+                    boolean isWall = maze.getCell(cell.row(), cell.col()) == Maze.EMPTY;
+                    if (isWall || maze.getCell(cell.row(), cell.col()) == Maze.WALL) {
+                        maze.setCell(cell.row(), cell.col(), isWall ? Maze.WALL : Maze.EMPTY);
+                        index.setBlocked(cell.row(), cell.col(), isWall);
+                    }
+                }
+                openCells = maze.findCellsWithValue(Maze.EMPTY);
+            }
+            Position from = openCells.get(random.nextInt(openCells.size()));
+            Position to = openCells.get(random.nextInt(openCells.size()));
+
+            SolveResult expected = solver.solve(maze, from, to);
+            SolveResult actual = index.path(from, to);
+
+            assertEquals(expected.isSolved(), actual.isSolved(), "Reachability of " + from + " -> " + to);
+            if (actual.isSolved()) {
+                assertEquals(from, actual.path().getFirst());
+                assertEquals(to, actual.path().getLast());
+                assertTrue(actual.path().size() >= expected.path().size());
+                SolverAssertions.assertConnectedOpenPath(maze, actual.path());
+            }
+        }
+    }
+}
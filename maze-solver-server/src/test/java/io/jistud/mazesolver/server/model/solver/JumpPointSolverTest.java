@@ -0,0 +1,29 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JumpPointSolverTest {
+
+    private final JumpPointSolver solver = new JumpPointSolver();
+
+    @Test
+    @DisplayName("solve should pop far fewer heap entries than A* on an open grid")
+    void solveExpandsFewerCellsThanAStar() {
+        Maze maze = TestMazes.openMaze(300, 300, 0.05, 7L);
+        Position start = new Position(1, 1);
+        Position end = new Position(298, 298);
+
+        SolveResult aStar = new AStarSolver().solve(maze, start, end);
+        SolveResult jumpPoint = solver.solve(maze, start, end);
+
+        assertEquals(aStar.path().size(), jumpPoint.path().size());
+        assertTrue(jumpPoint.expandedNodes() < aStar.expandedNodes());
+    }
+}
@@ -0,0 +1,130 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.Test;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LpaStarPlannerTest {
+
+    @Test
+    @DisplayName("setBlocked should reroute around a new wall and back when it is removed")
+    void setBlockedReroutes() {
+        Maze maze = new Maze(3, 5);
+        LpaStarPlanner planner = new LpaStarPlanner(maze, new Position(1, 0), new Position(1, 4));
+        assertEquals(5, planner.computeShortestPath().path().size());
+
+        planner.setBlocked(1, 2, true);
+        List<Position> detour = planner.computeShortestPath().path();
+        assertEquals(7, detour.size());
+        assertFalse(detour.contains(new Position(1, 2)));
+
+        planner.setBlocked(0, 2, true);
+        planner.setBlocked(2, 2, true);
+        assertFalse(planner.computeShortestPath().isSolved());
+
+        planner.setBlocked(1, 2, false);
+        assertEquals(5, planner.computeShortestPath().path().size());
+    }
+
+    @Test
+    @DisplayName("setBlocked should reject the start and goal cells and positions outside the maze")
+    void setBlockedRejectsInvalidCells() {
+        LpaStarPlanner planner = new LpaStarPlanner(new Maze(3, 3), new Position(0, 0), new Position(2, 2));
+
+        assertThrows(IllegalArgumentException.class, () -> planner.setBlocked(0, 0, true));
+        assertThrows(IllegalArgumentException.class, () -> planner.setBlocked(2, 2, true));
+        assertThrows(IllegalArgumentException.class, () -> planner.setBlocked(3, 0, true));
+    }
+
+    @RepeatedTest(10)
+    @DisplayName("Repaired paths should stay as short as a fresh breadth-first search after random edits")
+    void repairedPathsMatchBreadthFirst(RepetitionInfo repetition) {
+        // A fixed seed per repetition, so a failure can be replayed
+        Random random = new Random(repetition.getCurrentRepetition());
+        Maze maze = TestMazes.openMaze(40, 40, 0.25, random.nextLong());
+        Position start = new Position(1, 1);
+        Position end = new Position(38, 38);
+        LpaStarPlanner planner = new LpaStarPlanner(maze, start, end);
+        BreadthFirstSolver solver = new BreadthFirstSolver();
+        planner.computeShortestPath();
+
+        for (int batch = 0; batch < 30; batch++) {
+            for (int edit = 0; edit < 5; edit++) {
+                int row = 1 + random.nextInt(38);
+                int col = 1 + random.nextInt(38);
+                if (maze.getCell(row, col) == Maze.START || maze.getCell(row, col) == Maze.END) {
+                    continue;
+                }
+                boolean isWall = maze.getCell(row, col) != Maze.WALL;
+                maze.setCell(row, col, isWall ? Maze.WALL : Maze.EMPTY);
+                planner.setBlocked(row, col, isWall);
+            }
+
+            SolveResult expected = solver.solve(maze, start, end);
+            SolveResult repaired = planner.computeShortestPath();
+
+            assertEquals(expected.isSolved(), repaired.isSolved());
+            if (expected.isSolved()) {
+                assertEquals(expected.path().size(), repaired.path().size());
+                SolverAssertions.assertConnectedOpenPath(maze, repaired.path());
+            }
+        }
+    }
+
+    @RepeatedTest(10)
+    @DisplayName("Repaired paths should cost as much as a fresh Dijkstra search after random terrain edits")
+    void repairedPathsMatchDijkstraOnTerrain(RepetitionInfo repetition) {
+        // A fixed seed per repetition, so a failure can be replayed
+        Random random = new Random(repetition.getCurrentRepetition());
+        Maze maze = TestMazes.openMaze(40, 40, 0.25, random.nextLong());
+        Position start = new Position(1, 1);
+        Position end = new Position(38, 38);
+        LpaStarPlanner planner = new LpaStarPlanner(maze, start, end);
+        DijkstraSolver solver = new DijkstraSolver();
+        planner.computeShortestPath();
+
+        for (int batch = 0; batch < 30; batch++) {
+            for (int edit = 0; edit < 5; edit++) {
+                int row = 1 + random.nextInt(38);
+                int col = 1 + random.nextInt(38);
+                if (maze.getCell(row, col) == Maze.START || maze.getCell(row, col) == Maze.END) {
+                    continue;
+                }
+                int choice = random.nextInt(10);
+                char value = choice < 2 ? Maze.WALL : choice < 4 ? Maze.EMPTY : (char) ('2' + random.nextInt(8));
+                maze.setCell(row, col, value);
+                planner.setCell(row, col, value);
+            }
+
+            SolveResult expected = solver.solve(maze, start, end);
+            SolveResult repaired = planner.computeShortestPath();
+
+            assertEquals(expected.isSolved(), repaired.isSolved());
+            if (expected.isSolved()) {
+                assertEquals(pathCost(maze, expected.path()), pathCost(maze, repaired.path()));
+                SolverAssertions.assertConnectedOpenPath(maze, repaired.path());
+            }
+        }
+    }
+
+    /**
+     * Sums the cost of entering every cell of the path after the first.
+     */
+    private static int pathCost(Maze maze, List<Position> path) {
+        int cost = 0;
+        for (Position position : path.subList(1, path.size())) {
+            cost += Maze.moveCost(maze.getCell(position.row(), position.col()));
+        }
+        return cost;
+    }
+}
@@ -0,0 +1,150 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.jistud.mazesolver.server.builder.MazeBuilder;
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeSolver;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveResult;
+import io.jistud.mazesolver.server.model.SolveStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cases every shortest-path solver must pass on mazes without terrain.
+ * Cases that only make sense for one algorithm stay in the test class of that solver.
+ */
+class MazeSolverContractTest {
+
+    /**
+     * The solvers under test. The parallel search runs with threshold 0, so it is used even on small mazes,
+     * and the incremental planner is run from scratch for every search.
+     */
+    static Stream<Named<MazeSolver>> solvers() {
+        return Stream.of(
+                Named.of("bfs", new BreadthFirstSolver()),
+                Named.of("astar", new AStarSolver()),
+                Named.of("bibfs", new BidirectionalBreadthFirstSolver()),
+                Named.of("jps", new JumpPointSolver()),
+                Named.of("deadend", new DeadEndFillingSolver()),
+                Named.of("pbfs", new ParallelBreadthFirstSolver(ForkJoinPool.commonPool(), 0)),
+                Named.of("bitboard", new BitboardSolver()),
+                Named.of("dijkstra", new DijkstraSolver()),
+                Named.of("lpastar", (MazeSolver)
+                        (maze, start, end, budget) -> new LpaStarPlanner(maze, start, end).computeShortestPath()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("solvers")
+    @DisplayName("solve should return the shortest path between start and end")
+    void solveReturnsShortestPath(MazeSolver solver) {
+        char[][] grid = {
+            {' ', ' ', 'w', ' ', 'w', 'w', 'w', 'w'},
+            {'w', 's', 'w', ' ', ' ', ' ', ' ', 'w'},
+            {' ', ' ', ' ', ' ', ' ', 'w', ' ', 'w'},
+            {' ', ' ', 'w', 'w', ' ', 'w', 'e', 'w'},
+            {'w', 'w', 'w', 'w', ' ', ' ', ' ', 'w'}
+        };
+        Maze maze = new Maze(5, 8, grid);
+
+        List<Position> path =
+                solver.solve(maze, new Position(1, 1), new Position(3, 6)).path();
+
+        assertNotNull(path);
+        assertEquals(10, path.size());
+        assertEquals(new Position(1, 1), path.getFirst());
+        assertEquals(new Position(3, 6), path.getLast());
+        SolverAssertions.assertConnectedOpenPath(maze, path);
+    }
+
+    @ParameterizedTest
+    @MethodSource("solvers")
+    @DisplayName("solve should return a null path when the end cannot be reached")
+    void solveReturnsNullWhenUnreachable(MazeSolver solver) {
+        char[][] grid = {
+            {'s', ' ', 'w', ' ', ' '},
+            {' ', ' ', 'w', ' ', ' '},
+            {' ', ' ', 'w', ' ', 'e'}
+        };
+        Maze maze = new Maze(3, 5, grid);
+
+        SolveResult result = solver.solve(maze, new Position(0, 0), new Position(2, 4));
+
+        assertNull(result.path());
+        assertEquals(SolveStatus.UNSOLVABLE, result.status());
+    }
+
+    @ParameterizedTest
+    @MethodSource("solvers")
+    @DisplayName("solve should handle start and end on adjacent and identical cells")
+    void solveTrivialPaths(MazeSolver solver) {
+        Maze maze = new Maze(3, 3);
+
+        assertEquals(
+                List.of(new Position(1, 1), new Position(1, 2)),
+                solver.solve(maze, new Position(1, 1), new Position(1, 2)).path());
+        assertEquals(
+                List.of(new Position(1, 1)),
+                solver.solve(maze, new Position(1, 1), new Position(1, 1)).path());
+    }
+
+    @ParameterizedTest
+    @MethodSource("solvers")
+    @DisplayName("solve should find paths as short as breadth-first search on random-wall grids")
+    void solveMatchesBreadthFirstOnRandomGrids(MazeSolver solver) {
+        for (double wallDensity : new double[] {0.0, 0.1, 0.3, 0.4}) {
+            for (long seed = 0; seed < 20; seed++) {
+                Maze maze = TestMazes.openMaze(25, 40, wallDensity, seed);
+                Position start = new Position(1, 1);
+                Position end = new Position(23, 38);
+                String message = "density " + wallDensity + ", seed " + seed;
+
+                SolveResult expected = new BreadthFirstSolver().solve(maze, start, end);
+                SolveResult actual = solver.solve(maze, start, end);
+
+                assertEquals(expected.isSolved(), actual.isSolved(), message);
+                if (expected.isSolved()) {
+                    assertEquals(expected.path().size(), actual.path().size(), message);
+                    assertEquals(start, actual.path().getFirst(), message);
+                    assertEquals(end, actual.path().getLast(), message);
+                    SolverAssertions.assertConnectedOpenPath(maze, actual.path());
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("solvers")
+    @DisplayName("solve should find paths as short as breadth-first search on generated mazes")
+    void solveMatchesBreadthFirstOnGeneratedMazes(MazeSolver solver) {
+        for (int run = 0; run < 20; run++) {
+            Maze maze = MazeBuilder.builder()
+                    .height(30)
+                    .width(30)
+                    .randomStartAndEnd()
+                    .withRandomPath()
+                    .withRandomWalls(0.5)
+                    .withPerimeterWalls()
+                    .withEmptyPath()
+                    .build();
+            Position start = maze.findCellsWithValue(Maze.START).getFirst();
+            Position end = maze.findCellsWithValue(Maze.END).getFirst();
+
+            SolveResult expected = new BreadthFirstSolver().solve(maze, start, end);
+            SolveResult actual = solver.solve(maze, start, end);
+
+            assertEquals(expected.path().size(), actual.path().size());
+            assertEquals(start, actual.path().getFirst());
+            assertEquals(end, actual.path().getLast());
+            SolverAssertions.assertConnectedOpenPath(maze, actual.path());
+        }
+    }
+}
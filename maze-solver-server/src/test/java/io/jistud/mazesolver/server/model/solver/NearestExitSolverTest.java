@@ -0,0 +1,91 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.Test;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveBudget;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NearestExitSolverTest {
+
+    private final NearestExitSolver solver = new NearestExitSolver();
+
+    @Test
+    @DisplayName("solve should return the path from the start to the nearest exit")
+    void solveFindsNearestExit() {
+        char[][] grid = {
+            {'e', ' ', ' ', ' ', 's', ' ', 'e'},
+            {' ', 'w', 'w', 'w', 'w', 'w', ' '}
+        };
+        Maze maze = new Maze(2, 7, grid);
+
+        SolveResult result = solver.solve(
+                maze, new Position(0, 4), List.of(new Position(0, 0), new Position(0, 6)), SolveBudget.unlimited());
+
+        assertEquals(List.of(new Position(0, 4), new Position(0, 5), new Position(0, 6)), result.path());
+    }
+
+    @Test
+    @DisplayName("solve should return a null path if no exit is reachable")
+    void solveUnreachable() {
+        char[][] grid = {{'e', 'w', 's', 'w', 'e'}};
+        Maze maze = new Maze(1, 5, grid);
+
+        SolveResult result = solver.solve(
+                maze, new Position(0, 2), List.of(new Position(0, 0), new Position(0, 4)), SolveBudget.unlimited());
+
+        assertFalse(result.isSolved());
+        assertFalse(result.isBudgetExceeded());
+    }
+
+    @Test
+    @DisplayName("solve should reject an empty exit list")
+    void solveRejectsNoExits() {
+        Maze maze = new Maze(3, 3);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> solver.solve(maze, new Position(0, 0), List.of(), SolveBudget.unlimited()));
+    }
+
+    @RepeatedTest(10)
+    @DisplayName("The path should be as short as the shortest of the single-exit searches")
+    void pathMatchesShortestSingleExitSearch(RepetitionInfo repetition) {
+        // A fixed seed per repetition, so a failure can be replayed
+        Random random = new Random(repetition.getCurrentRepetition());
+        Maze maze = TestMazes.openMaze(60, 60, 0.3, random.nextLong());
+        Position start = new Position(1, 1);
+        List<Position> exits = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            exits.add(TestMazes.randomOpenCell(maze, random));
+        }
+
+        SolveResult result = solver.solve(maze, start, exits, SolveBudget.unlimited());
+
+        int shortest = Integer.MAX_VALUE;
+        for (Position exit : exits) {
+            SolveResult single = new BreadthFirstSolver().solve(maze, start, exit);
+            if (single.isSolved()) {
+                shortest = Math.min(shortest, single.path().size());
+            }
+        }
+        if (shortest == Integer.MAX_VALUE) {
+            assertFalse(result.isSolved());
+        } else {
+            assertEquals(shortest, result.path().size());
+            assertEquals(start, result.path().getFirst());
+            assertTrue(exits.contains(result.path().getLast()));
+            SolverAssertions.assertConnectedOpenPath(maze, result.path());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelBreadthFirstSolverTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    // Threshold 0 forces the parallel search even on small mazes
+    private final ParallelBreadthFirstSolver solver = new ParallelBreadthFirstSolver(POOL, 0);
+
+    @AfterAll
+    static void shutdownPool() {
+        POOL.shutdown();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3})
+    @DisplayName("solve should match sequential BFS path lengths on frontiers large enough to be split")
+    void solveMatchesBreadthFirstOnLargeGrids(long seed) {
+        Maze maze = TestMazes.openMaze(600, 600, 0.2, seed);
+        Position start = new Position(1, 1);
+        Position end = new Position(598, 598);
+
+        SolveResult expected = new BreadthFirstSolver().solve(maze, start, end);
+        SolveResult actual = solver.solve(maze, start, end);
+
+        assertEquals(expected.isSolved(), actual.isSolved());
+        if (expected.isSolved()) {
+            assertEquals(expected.path().size(), actual.path().size());
+            SolverAssertions.assertConnectedOpenPath(maze, actual.path());
+        }
+    }
+
+    @Test
+    @DisplayName("solve should fall back to the sequential solver below the threshold")
+    void solveFallsBackBelowThreshold() {
+        Maze maze = new Maze(10, 10);
+        ParallelBreadthFirstSolver thresholdSolver = new ParallelBreadthFirstSolver(POOL, 101);
+
+        SolveResult expected = new BreadthFirstSolver().solve(maze, new Position(0, 0), new Position(9, 9));
+        SolveResult actual = thresholdSolver.solve(maze, new Position(0, 0), new Position(9, 9));
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("The constructor should reject a negative threshold")
+    void constructorRejectsNegativeThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelBreadthFirstSolver(POOL, -1));
+    }
+}
@@ -0,0 +1,109 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.Test;
+
+import io.jistud.mazesolver.server.builder.MazeBuilder;
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerfectMazeIndexTest {
+
+    @Test
+    @DisplayName("path should return the unique route between two cells of a tree")
+    void pathOnSmallTree() {
+        char[][] grid = {
+            {'s', ' ', ' ', ' '},
+            {'w', ' ', 'w', ' '},
+            {' ', ' ', 'w', 'e'}
+        };
+        PerfectMazeIndex index = PerfectMazeIndex.build(new Maze(3, 4, grid));
+
+        assertTrue(index.isPerfect());
+        assertEquals(
+                List.of(
+                        new Position(2, 0),
+                        new Position(2, 1),
+                        new Position(1, 1),
+                        new Position(0, 1),
+                        new Position(0, 2),
+                        new Position(0, 3),
+                        new Position(1, 3),
+                        new Position(2, 3)),
+                index.path(new Position(2, 0), new Position(2, 3)));
+        assertEquals(7, index.distance(new Position(2, 3), new Position(2, 0)));
+        assertEquals(List.of(new Position(0, 0)), index.path(new Position(0, 0), new Position(0, 0)));
+    }
+
+    @Test
+    @DisplayName("Queries between disconnected cells should report no route")
+    void disconnectedCells() {
+        char[][] grid = {
+            {'s', ' ', 'w', ' '},
+            {'w', 'w', 'w', 'e'}
+        };
+        PerfectMazeIndex index = PerfectMazeIndex.build(new Maze(2, 4, grid));
+
+        assertTrue(index.isPerfect());
+        assertEquals(-1, index.distance(new Position(0, 0), new Position(1, 3)));
+        assertNull(index.path(new Position(0, 1), new Position(0, 3)));
+    }
+
+    @Test
+    @DisplayName("build should detect mazes with cycles and reject queries on them")
+    void buildDetectsCycles() {
+        char[][] grid = {
+            {'s', ' ', ' '},
+            {' ', 'w', ' '},
+            {' ', ' ', 'e'}
+        };
+        PerfectMazeIndex index = PerfectMazeIndex.build(new Maze(3, 3, grid));
+
+        assertFalse(index.isPerfect());
+        assertThrows(IllegalStateException.class, () -> index.distance(new Position(0, 0), new Position(2, 2)));
+    }
+
+    @Test
+    @DisplayName("Queries should reject walls and positions outside the maze")
+    void queriesRejectWalls() {
+        char[][] grid = {
+            {'s', ' ', 'e'},
+            {'w', 'w', 'w'}
+        };
+        PerfectMazeIndex index = PerfectMazeIndex.build(new Maze(2, 3, grid));
+
+        assertFalse(index.isOpen(new Position(1, 1)));
+        assertFalse(index.isOpen(new Position(5, 1)));
+        assertThrows(IllegalArgumentException.class, () -> index.path(new Position(1, 1), new Position(0, 0)));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName("Queries on Kruskal mazes should match breadth-first search between random cells")
+    void queriesMatchBreadthFirstOnKruskalMazes(RepetitionInfo repetition) {
+        Maze maze = MazeBuilder.builder().height(41).width(41).withKruskalMaze().build();
+        PerfectMazeIndex index = PerfectMazeIndex.build(maze);
+        List<Position> openCells = maze.findCellsWithValue(Maze.EMPTY);
+        BreadthFirstSolver solver = new BreadthFirstSolver();
+        // A fixed seed per repetition; the builder has no seed, so failures print the maze to replay
+        Random random = new Random(repetition.getCurrentRepetition());
+
+        assertTrue(index.isPerfect(), maze::toString);
+        for (int query = 0; query < 200; query++) {
+            Position from = openCells.get(random.nextInt(openCells.size()));
+            Position to = openCells.get(random.nextInt(openCells.size()));
+
+            List<Position> expected = solver.solve(maze, from, to).path();
+            List<Position> path = index.path(from, to);
+
+            assertEquals(expected, path, maze::toString);
+            assertEquals(expected.size() - 1, index.distance(from, to), maze::toString);
+        }
+    }
+}
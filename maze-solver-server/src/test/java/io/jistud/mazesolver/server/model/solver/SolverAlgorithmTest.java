@@ -0,0 +1,102 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveBudget;
+import io.jistud.mazesolver.server.model.SolveResult;
+import io.jistud.mazesolver.server.model.SolveStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverAlgorithmTest {
+
+    @Test
+    @DisplayName("fromName should look up algorithms ignoring case")
+    void fromNameIgnoresCase() {
+        assertEquals(SolverAlgorithm.BFS, SolverAlgorithm.fromName("bfs"));
+        assertEquals(SolverAlgorithm.ASTAR, SolverAlgorithm.fromName("AStar"));
+        assertEquals(SolverAlgorithm.DIJKSTRA, SolverAlgorithm.fromName("dijkstra"));
+    }
+
+    @Test
+    @DisplayName("fromName should reject unknown algorithms")
+    void fromNameRejectsUnknownNames() {
+        assertThrows(IllegalArgumentException.class, () -> SolverAlgorithm.fromName("unknown"));
+    }
+
+    @Test
+    @DisplayName("createSolver should create a solver of the matching type")
+    void createSolverReturnsMatchingSolver() {
+        assertInstanceOf(BreadthFirstSolver.class, SolverAlgorithm.BFS.createSolver());
+        assertInstanceOf(AStarSolver.class, SolverAlgorithm.ASTAR.createSolver());
+        assertInstanceOf(DijkstraSolver.class, SolverAlgorithm.DIJKSTRA.createSolver());
+    }
+
+    @Test
+    @DisplayName("createSolver should apply the configured parallel threshold")
+    void createSolverAppliesSettings() {
+        ParallelBreadthFirstSolver configured = assertInstanceOf(
+                ParallelBreadthFirstSolver.class, SolverAlgorithm.PARALLEL_BFS.createSolver(new SolverSettings(500)));
+        ParallelBreadthFirstSolver defaults =
+                assertInstanceOf(ParallelBreadthFirstSolver.class, SolverAlgorithm.PARALLEL_BFS.createSolver());
+
+        assertEquals(500, configured.getSequentialThreshold());
+        assertEquals(ParallelBreadthFirstSolver.DEFAULT_SEQUENTIAL_THRESHOLD, defaults.getSequentialThreshold());
+        assertThrows(IllegalArgumentException.class, () -> new SolverSettings(-1));
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverAlgorithm.class)
+    @DisplayName("Every solver should stop once its expansion limit is reached")
+    void solversStopAtExpansionLimit(SolverAlgorithm algorithm) {
+        // Random walls, so that jump point search cannot cross the grid in a handful of jumps
+        Maze maze = TestMazes.openMaze(200, 200, 0.2, 7);
+
+        SolveResult result = algorithm
+                .createSolver()
+                .solve(maze, new Position(1, 1), new Position(198, 198), SolveBudget.of(null, 20));
+
+        assertEquals(SolveStatus.BUDGET_EXCEEDED, result.status());
+        assertNull(result.path());
+        assertTrue(result.expandedNodes() > 0);
+        assertTrue(result.peakFrontier() > 0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverAlgorithm.class)
+    @DisplayName("Every solver should stop right away on a cancelled or expired budget")
+    void solversStopOnExhaustedBudget(SolverAlgorithm algorithm) {
+        Maze maze = new Maze(200, 200);
+        SolveBudget cancelled = SolveBudget.unlimited();
+        cancelled.cancel();
+
+        for (SolveBudget budget : new SolveBudget[] {cancelled, SolveBudget.withTimeout(Duration.ZERO)}) {
+            SolveResult result =
+                    algorithm.createSolver().solve(maze, new Position(0, 0), new Position(199, 199), budget);
+
+            assertTrue(result.isBudgetExceeded());
+            assertFalse(result.isSolved());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverAlgorithm.class)
+    @DisplayName("Every solver should tell a finished search without a path from an exceeded budget")
+    void solversReportUnsolvable(SolverAlgorithm algorithm) {
+        char[][] grid = {{'s', ' ', 'w', 'e'}};
+        Maze maze = new Maze(1, 4, grid);
+
+        SolveResult result = algorithm
+                .createSolver()
+                .solve(maze, new Position(0, 0), new Position(0, 3), SolveBudget.withTimeout(Duration.ofHours(1)));
+
+        assertEquals(SolveStatus.UNSOLVABLE, result.status());
+    }
+}
@@ -0,0 +1,32 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.List;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Assertions shared by the solver tests.
+ */
+final class SolverAssertions {
+
+    private SolverAssertions() {}
+
+    /**
+     * Asserts that every step of the path is an open cell adjacent to the previous step.
+     */
+    static void assertConnectedOpenPath(Maze maze, List<Position> path) {
+        assertNotNull(path);
+        for (int i = 0; i < path.size(); i++) {
+            Position step = path.get(i);
+            assertNotEquals(Maze.WALL, maze.getCell(step.row(), step.col()));
+            if (i > 0) {
+                Position previous = path.get(i - 1);
+                int distance = Math.abs(step.row() - previous.row()) + Math.abs(step.col() - previous.col());
+                assertEquals(1, distance, "Consecutive path steps must be adjacent");
+            }
+        }
+    }
+}
@@ -0,0 +1,648 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import io.jistud.mazesolver.server.builder.EllerMazeGenerator;
+import io.jistud.mazesolver.server.builder.MazeBuilder;
+import io.jistud.mazesolver.server.builder.RecursiveDivisionGenerator;
+import io.jistud.mazesolver.server.model.ByteGrid;
+import io.jistud.mazesolver.server.model.MappedGrid;
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.MazeGrid;
+import io.jistud.mazesolver.server.model.MazeSolver;
+import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveResult;
+import io.jistud.mazesolver.server.model.TiledGrid;
+
+import static io.jistud.mazesolver.server.model.solver.TestMazes.openMaze;
+import static io.jistud.mazesolver.server.model.solver.TestMazes.randomOpenCell;
+
+/**
+ * Wall-clock benchmarks for the maze solvers.
+ * Disabled by default; run with {@code mvn test -Dtest=SolverBenchmarkTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SolverBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    @Test
+    @DisplayName("Recursive DFS (before) vs iterative BFS (after) on open grids")
+    void recursiveDfsVersusBreadthFirst() {
+        for (int size : new int[] {30, 1000, 5000}) {
+            Maze maze = openMaze(size, size, 0.25, 42L);
+            Position start = new Position(1, 1);
+            Position end = new Position(size - 2, size - 2);
+
+            String before;
+            try {
+                before = measure((m, s, e, budget) -> legacyDfs(m, s, e), maze, start, end);
+            } catch (StackOverflowError e) {
+                before = "StackOverflowError";
+            }
+            String after = measure(new BreadthFirstSolver(), maze, start, end);
+
+            System.out.printf("%5d x %-5d  dfs: %-44s bfs: %s%n", size, size, before, after);
+        }
+    }
+
+    @Test
+    @DisplayName("A* vs BFS vs recursive DFS on generated random-wall mazes")
+    void aStarVersusBreadthFirstAndDfs() {
+        for (int size : new int[] {30, 100, 300}) {
+            Maze maze = MazeBuilder.builder()
+                    .height(size)
+                    .width(size)
+                    .randomStartAndEnd()
+                    .withRandomPath()
+                    .withRandomWalls(0.5)
+                    .withPerimeterWalls()
+                    .withEmptyPath()
+                    .build();
+            Position start = maze.findCellsWithValue(Maze.START).getFirst();
+            Position end = maze.findCellsWithValue(Maze.END).getFirst();
+
+            String dfs;
+            try {
+                dfs = measure((m, s, e, budget) -> legacyDfs(m, s, e), maze, start, end);
+            } catch (StackOverflowError e) {
+                dfs = "StackOverflowError";
+            }
+
+            System.out.printf(
+                    "%4d x %-4d  dfs: %-44s bfs: %-44s astar: %s%n",
+                    size,
+                    size,
+                    dfs,
+                    measure(new BreadthFirstSolver(), maze, start, end),
+                    measure(new AStarSolver(), maze, start, end));
+        }
+    }
+
+    @Test
+    @DisplayName("Bidirectional BFS vs single-source BFS on 2k x 2k random-wall mazes")
+    void bidirectionalVersusBreadthFirst() {
+        for (long seed = 1; seed <= 3; seed++) {
+            Maze maze = openMaze(2000, 2000, 0.3, seed);
+            Position start = new Position(1, 1);
+            Position end = new Position(1998, 1998);
+
+            System.out.printf(
+                    "2000 x 2000 (seed %d)  bfs: %-44s bibfs: %s%n",
+                    seed,
+                    measure(new BreadthFirstSolver(), maze, start, end),
+                    measure(new BidirectionalBreadthFirstSolver(), maze, start, end));
+        }
+    }
+
+    @Test
+    @DisplayName("Jump Point Search vs A* heap pops on large open random-wall grids")
+    void jumpPointVersusAStar() {
+        for (double density : new double[] {0.0, 0.05, 0.2}) {
+            Maze maze = openMaze(2000, 2000, density, 11L);
+            Position start = new Position(1, 1);
+            Position end = new Position(1998, 1998);
+
+            System.out.printf(
+                    "2000 x 2000 (walls %.2f)  astar: %-44s jps: %s%n",
+                    density,
+                    measure(new AStarSolver(), maze, start, end),
+                    measure(new JumpPointSolver(), maze, start, end));
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel BFS scaling from 1 to N cores on a large random-wall grid")
+    void parallelBreadthFirstScaling() {
+        int size = Integer.getInteger("benchmark.size", 4000);
+        Maze maze = openMaze(size, size, 0.2, 7L);
+        Position start = new Position(1, 1);
+        Position end = new Position(size - 2, size - 2);
+
+        System.out.printf(
+                "%5d x %-5d  sequential: %s%n", size, size, measure(new BreadthFirstSolver(), maze, start, end));
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int parallelism = 1; parallelism <= cores; parallelism = nextParallelism(parallelism, cores)) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                System.out.printf(
+                        "%5d x %-5d  parallel (%2d threads): %s%n",
+                        size, size, parallelism, measure(new ParallelBreadthFirstSolver(pool, 0), maze, start, end));
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Bitboard flood fill vs BFS and parallel BFS on dense open grids")
+    void bitboardVersusBreadthFirst() {
+        for (int size : new int[] {1000, 4000}) {
+            for (double density : new double[] {0.0, 0.1, 0.3}) {
+                Maze maze = openMaze(size, size, density, 5L);
+                Position start = new Position(1, 1);
+                Position end = new Position(size - 2, size - 2);
+
+                System.out.printf(
+                        "%4d x %-4d (walls %.1f)  bfs: %-44s pbfs: %-44s bitboard: %s%n",
+                        size,
+                        size,
+                        density,
+                        measure(new BreadthFirstSolver(), maze, start, end),
+                        measure(new ParallelBreadthFirstSolver(), maze, start, end),
+                        measure(new BitboardSolver(), maze, start, end));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Perfect maze index queries vs BFS between random cells of a Kruskal maze")
+    void perfectMazeIndexVersusBreadthFirst() {
+        Maze maze =
+                MazeBuilder.builder().height(301).width(301).withKruskalMaze().build();
+        List<Position> openCells = maze.findCellsWithValue(Maze.EMPTY);
+        Random random = new Random(3);
+        Position[] from = new Position[1000];
+        Position[] to = new Position[from.length];
+        for (int i = 0; i < from.length; i++) {
+            from[i] = openCells.get(random.nextInt(openCells.size()));
+            to[i] = openCells.get(random.nextInt(openCells.size()));
+        }
+
+        long begin = System.nanoTime();
+        PerfectMazeIndex index = PerfectMazeIndex.build(maze);
+        long buildNanos = System.nanoTime() - begin;
+
+        BreadthFirstSolver solver = new BreadthFirstSolver();
+        long bfsNanos = 0;
+        long indexNanos = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            begin = System.nanoTime();
+            for (int i = 0; i < from.length; i++) {
+                solver.solve(maze, from[i], to[i]);
+            }
+            long middle = System.nanoTime();
+            for (int i = 0; i < from.length; i++) {
+                index.path(from[i], to[i]);
+            }
+            if (round >= WARMUP_ROUNDS) {
+                bfsNanos += middle - begin;
+                indexNanos += System.nanoTime() - middle;
+            }
+        }
+
+        System.out.printf(
+                "301 x 301, %d queries  build: %.3f ms  bfs: %.3f ms  index: %.3f ms%n",
+                from.length, buildNanos / 1e6, bfsNanos / 1e6 / MEASURED_ROUNDS, indexNanos / 1e6 / MEASURED_ROUNDS);
+    }
+
+    @Test
+    @DisplayName("LPA* incremental repair vs full BFS re-solve after single-cell edits")
+    void incrementalRepairVersusBreadthFirst() {
+        Maze maze = openMaze(1000, 1000, 0.3, 5);
+        Position start = new Position(1, 1);
+        Position end = new Position(998, 998);
+        Random random = new Random(5);
+
+        long begin = System.nanoTime();
+        LpaStarPlanner planner = new LpaStarPlanner(maze, start, end);
+        SolveResult initial = planner.computeShortestPath();
+        long initialNanos = System.nanoTime() - begin;
+
+        BreadthFirstSolver solver = new BreadthFirstSolver();
+        int edits = 200;
+        long plannerNanos = 0;
+        long bfsNanos = 0;
+        long plannerExpanded = 0;
+        long bfsExpanded = 0;
+        List<Position> path = initial.path();
+        for (int i = 0; i < edits; i++) {
+            // Half of the edits block the current path, the others toggle a random inner cell
+            Position cell = i % 2 == 0 && path != null
+                    ? path.get(1 + random.nextInt(path.size() - 2))
+                    : new Position(1 + random.nextInt(998), 1 + random.nextInt(998));
+            if (!planner.isEditable(cell.row(), cell.col())) {
+                continue;
+            }
+            boolean isWall = maze.getCell(cell.row(), cell.col()) != Maze.WALL;
+            maze.setCell(cell.row(), cell.col(), isWall ? Maze.WALL : Maze.EMPTY);
+
+            begin = System.nanoTime();
+            planner.setBlocked(cell.row(), cell.col(), isWall);
+            SolveResult repaired = planner.computeShortestPath();
+            long middle = System.nanoTime();
+            SolveResult full = solver.solve(maze, start, end);
+            bfsNanos += System.nanoTime() - middle;
+            plannerNanos += middle - begin;
+            plannerExpanded += repaired.expandedNodes();
+            bfsExpanded += full.expandedNodes();
+            path = repaired.path();
+        }
+
+        System.out.printf(
+                "1000 x 1000, %d edits  initial: %.3f ms  lpa*: %.3f ms/edit (expanded %d)  bfs: %.3f ms/edit (expanded %d)%n",
+                edits,
+                initialNanos / 1e6,
+                plannerNanos / 1e6 / edits,
+                plannerExpanded / edits,
+                bfsNanos / 1e6 / edits,
+                bfsExpanded / edits);
+    }
+
+    @Test
+    @DisplayName("Hierarchical cluster index queries and cluster rebuilds vs BFS on a 4k x 4k random-wall maze")
+    void hierarchicalIndexVersusBreadthFirst() {
+        Maze maze = openMaze(4000, 4000, 0.3, 6);
+        Random random = new Random(6);
+        int queries = 20;
+        Position[] from = new Position[queries];
+        Position[] to = new Position[queries];
+        for (int i = 0; i < queries; i++) {
+            from[i] = randomOpenCell(maze, random);
+            to[i] = randomOpenCell(maze, random);
+        }
+
+        long begin = System.nanoTime();
+        HierarchicalPathIndex index = HierarchicalPathIndex.build(maze);
+        long buildNanos = System.nanoTime() - begin;
+
+        BreadthFirstSolver solver = new BreadthFirstSolver();
+        long bfsNanos = 0;
+        long indexNanos = 0;
+        long bfsLength = 0;
+        long indexLength = 0;
+        for (int i = 0; i < queries; i++) {
+            begin = System.nanoTime();
+            SolveResult expected = solver.solve(maze, from[i], to[i]);
+            long middle = System.nanoTime();
+            SolveResult actual = index.path(from[i], to[i]);
+            indexNanos += System.nanoTime() - middle;
+            bfsNanos += middle - begin;
+            if (expected.isSolved()) {
+                bfsLength += expected.path().size();
+                indexLength += actual.path().size();
+            }
+        }
+
+        // A single edit only rebuilds the clusters around the cell before the next query
+        begin = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            Position cell = randomOpenCell(maze, random);
+            index.setBlocked(cell.row(), cell.col(), true);
+            index.path(from[i], to[i]);
+        }
+        long editNanos = System.nanoTime() - begin;
+
+        System.out.printf(
+                "4000 x 4000, %d nodes  build: %.3f ms  bfs: %.3f ms/query  index: %.3f ms/query"
+                        + "  length +%.1f%%  edit + query: %.3f ms%n",
+                index.getNodeCount(),
+                buildNanos / 1e6,
+                bfsNanos / 1e6 / queries,
+                indexNanos / 1e6 / queries,
+                100.0 * (indexLength - bfsLength) / bfsLength,
+                editNanos / 1e6 / 10);
+    }
+
+    @Test
+    @DisplayName("Dijkstra on a bucket queue vs a binary heap vs BFS on 2k x 2k weighted terrain")
+    void bucketDijkstraVersusHeapDijkstra() {
+        Maze maze = openMaze(2000, 2000, 0.2, 7);
+        Random random = new Random(7);
+        for (int row = 0; row < 2000; row++) {
+            for (int col = 0; col < 2000; col++) {
+                if (maze.getCell(row, col) == Maze.EMPTY && random.nextDouble() < 0.5) {
+                    maze.setCell(row, col, (char) ('2' + random.nextInt(8)));
+                }
+            }
+        }
+        Position start = new Position(1, 1);
+        Position end = new Position(1998, 1998);
+
+        System.out.printf(
+                "2000 x 2000 weighted  bfs: %-44s heap dijkstra: %-44s bucket dijkstra: %s%n",
+                measure(new BreadthFirstSolver(), maze, start, end),
+                measure((m, s, e, budget) -> heapDijkstra(m, s, e), maze, start, end),
+                measure(new DijkstraSolver(), maze, start, end));
+    }
+
+    @Test
+    @DisplayName("Multi-source nearest-exit BFS vs one BFS per exit on 2k x 2k with 16 exits")
+    void nearestExitVersusPerExitSearch() {
+        Maze maze = openMaze(2000, 2000, 0.3, 7);
+        Random random = new Random(7);
+        Position start = new Position(1, 1);
+        List<Position> exits = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            exits.add(randomOpenCell(maze, random));
+        }
+        NearestExitSolver nearestExit = new NearestExitSolver();
+        BreadthFirstSolver breadthFirst = new BreadthFirstSolver();
+
+        // Both run through measure() by treating the end argument as a placeholder for the exit list
+        MazeSolver perExit = (m, s, e, budget) -> {
+            SolveResult best = new SolveResult(null, 0);
+            long expanded = 0;
+            for (Position exit : exits) {
+                SolveResult result = breadthFirst.solve(m, s, exit, budget);
+                expanded += result.expandedNodes();
+                if (result.isSolved()
+                        && (!best.isSolved()
+                                || result.path().size() < best.path().size())) {
+                    best = result;
+                }
+            }
+            return new SolveResult(best.path(), expanded);
+        };
+        MazeSolver multiSource = (m, s, e, budget) -> nearestExit.solve(m, s, exits, budget);
+
+        System.out.printf(
+                "2000 x 2000, 16 exits  per-exit bfs: %-44s multi-source bfs: %s%n",
+                measure(perExit, maze, start, start), measure(multiSource, maze, start, start));
+    }
+
+    @Test
+    @DisplayName("BFS on the 2-bit packed grid vs the byte grid, with grid footprints against char[][]")
+    void packedGridVersusByteGrid() {
+        for (int size : new int[] {1000, 5000}) {
+            Maze bytes = openMaze(size, size, 0.25, 42L);
+            Maze packed = openMaze(size, size, 0.25, 42L);
+            packed.pack();
+            Position start = new Position(1, 1);
+            Position end = new Position(size - 2, size - 2);
+            BreadthFirstSolver breadthFirst = new BreadthFirstSolver();
+
+            // A char[][] row is a 16-byte array header, a 4-byte reference and two bytes per cell
+            long charArrayBytes = (long) size * (16 + 4 + 2L * size);
+            System.out.printf(
+                    "%5d x %-5d  char[][]: %,d B  byte: %,d B  packed: %,d B%n",
+                    size,
+                    size,
+                    charArrayBytes,
+                    bytes.getGrid().footprintBytes(),
+                    packed.getGrid().footprintBytes());
+            System.out.printf(
+                    "%5d x %-5d  byte bfs: %-44s packed bfs: %s%n",
+                    size, size, measure(breadthFirst, bytes, start, end), measure(breadthFirst, packed, start, end));
+        }
+    }
+
+    @Test
+    @DisplayName("BFS on a memory-mapped grid file vs the heap byte grid, with save and reopen times")
+    void mappedGridVersusByteGrid() throws IOException {
+        int size = 5000;
+        Maze bytes = openMaze(size, size, 0.25, 42L);
+        Path file = Files.createTempFile("maze", ".grid");
+        try {
+            long saveStart = System.nanoTime();
+            MappedGrid.save(bytes.getGrid(), file);
+            long saveNanos = System.nanoTime() - saveStart;
+            long openStart = System.nanoTime();
+            Maze mapped = new Maze(MappedGrid.open(file));
+            long openNanos = System.nanoTime() - openStart;
+            Position start = new Position(1, 1);
+            Position end = new Position(size - 2, size - 2);
+            BreadthFirstSolver breadthFirst = new BreadthFirstSolver();
+
+            System.out.printf(
+                    "%5d x %-5d  save: %.3f ms  reopen: %.3f ms  heap grid: %,d B  mapped grid: %,d B%n",
+                    size,
+                    size,
+                    saveNanos / 1_000_000.0,
+                    openNanos / 1_000_000.0,
+                    bytes.getGrid().footprintBytes(),
+                    mapped.getGrid().footprintBytes());
+            System.out.printf(
+                    "%5d x %-5d  byte bfs: %-44s mapped bfs: %s%n",
+                    size, size, measure(breadthFirst, bytes, start, end), measure(breadthFirst, mapped, start, end));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("BFS on the tiled layout vs the row-major layout on 4k, 16k and 32k wide grids")
+    void tiledLayoutVersusRowMajor() {
+        // About 32M cells each: a 32k x 32k grid would need 8 GB for the BFS arrays alone
+        for (int width : new int[] {4096, 16384, 32768}) {
+            int height = (1 << 25) / width;
+            Maze rowMajor = openMaze(height, width, 0.25, 42L);
+            Maze tiled = new Maze(TiledGrid.copyOf(rowMajor.getGrid()));
+            // Corner to corner, so the search floods nearly the whole grid
+            Position start = new Position(1, 1);
+            Position end = new Position(height - 2, width - 2);
+            BreadthFirstSolver breadthFirst = new BreadthFirstSolver();
+
+            System.out.printf(
+                    "%5d x %-5d  row-major bfs: %-44s tiled bfs: %s%n",
+                    height,
+                    width,
+                    measure(breadthFirst, rowMajor, start, end),
+                    measure(breadthFirst, tiled, start, end));
+        }
+    }
+
+    @Test
+    @DisplayName("Kruskal maze generation time and allocation on 1k, 2k and 4k grids")
+    void kruskalGeneration() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        for (int size : new int[] {1001, 2001, 4001}) {
+            long nanos = 0;
+            long bytes = 0;
+            for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+                long allocated = threads.getCurrentThreadAllocatedBytes();
+                long begin = System.nanoTime();
+                MazeBuilder.builder().height(size).width(size).withKruskalMaze();
+                if (round >= WARMUP_ROUNDS) {
+                    nanos += System.nanoTime() - begin;
+                    bytes += threads.getCurrentThreadAllocatedBytes() - allocated;
+                }
+            }
+            System.out.printf(
+                    "%5d x %-5d  kruskal: %10.3f ms, %8.1f MB allocated%n",
+                    size, size, nanos / 1e6 / MEASURED_ROUNDS, bytes / 1e6 / MEASURED_ROUNDS);
+        }
+    }
+
+    @Test
+    @DisplayName("Eller streaming generation on a 4k grid and on 4k wide, 100k row mazes")
+    void ellerStreaming() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        for (long height : new long[] {4001, 100_001}) {
+            int width = 4001;
+            long nanos = 0;
+            long bytes = 0;
+            for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+                long allocated = threads.getCurrentThreadAllocatedBytes();
+                long begin = System.nanoTime();
+                new EllerMazeGenerator(width, round).writeTo(java.io.OutputStream.nullOutputStream(), height);
+                if (round >= WARMUP_ROUNDS) {
+                    nanos += System.nanoTime() - begin;
+                    bytes += threads.getCurrentThreadAllocatedBytes() - allocated;
+                }
+            }
+            System.out.printf(
+                    "%7d x %-5d  eller stream: %10.3f ms, %8.3f MB allocated%n",
+                    height, width, nanos / 1e6 / MEASURED_ROUNDS, bytes / 1e6 / MEASURED_ROUNDS);
+        }
+    }
+
+    @Test
+    @DisplayName("Recursive division scaling from 1 to N cores vs Kruskal on a 4k grid")
+    void recursiveDivisionScaling() {
+        int size = Integer.getInteger("benchmark.size", 4001);
+        ByteGrid grid = new ByteGrid(size, size);
+        System.out.printf(
+                "%5d x %-5d  kruskal: %s%n",
+                size,
+                size,
+                measureGeneration(
+                        () -> MazeBuilder.builder().height(size).width(size).withKruskalMaze()));
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int parallelism = 1; parallelism <= cores; parallelism = nextParallelism(parallelism, cores)) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                RecursiveDivisionGenerator generator = new RecursiveDivisionGenerator(pool, 42L);
+                System.out.printf(
+                        "%5d x %-5d  recursive division (%2d threads): %s%n",
+                        size, size, parallelism, measureGeneration(() -> generator.generate(grid)));
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Dijkstra on the indexed binary heap, the comparison-based baseline for the bucket queue.
+     */
+    private static SolveResult heapDijkstra(Maze maze, Position start, Position end) {
+        MazeGrid grid = maze.getGrid();
+        int width = maze.getWidth();
+        int cellCount = maze.getHeight() * width;
+        int startIndex = start.row() * width + start.col();
+        int endIndex = end.row() * width + end.col();
+        int[] distance = new int[cellCount];
+        int[] parent = new int[cellCount];
+        java.util.Arrays.fill(distance, Integer.MAX_VALUE);
+        IntMinHeap heap = new IntMinHeap(cellCount);
+        distance[startIndex] = 0;
+        parent[startIndex] = -1;
+        heap.push(startIndex, 0);
+        long expanded = 0;
+        int[] moves = {-width, width, -1, 1};
+
+        while (!heap.isEmpty()) {
+            int current = heap.pop();
+            expanded++;
+            if (current == endIndex) {
+                return new SolveResult(SolverSupport.buildPath(parent, endIndex, width), expanded);
+            }
+            int row = current / width;
+            for (int move : moves) {
+                int next = current + move;
+                int nextRow = next / width;
+                if (next < 0 || next >= cellCount || (move == -1 || move == 1) && nextRow != row) {
+                    continue;
+                }
+                char cell = grid.get(next);
+                int candidate = distance[current] + Maze.moveCost(cell);
+                if (cell != Maze.WALL && candidate < distance[next]) {
+                    distance[next] = candidate;
+                    parent[next] = current;
+                    heap.push(next, candidate);
+                }
+            }
+        }
+        return new SolveResult(null, expanded);
+    }
+
+    /**
+     * Doubles the parallelism, making sure the run with every available core is included.
+     */
+    private static int nextParallelism(int parallelism, int cores) {
+        return parallelism < cores && parallelism * 2 > cores ? cores : parallelism * 2;
+    }
+
+    /**
+     * Runs the solver a few times and formats the mean wall-clock time with path length and expansions.
+     */
+    static String measure(MazeSolver solver, Maze maze, Position start, Position end) {
+        SolveResult result = null;
+        long nanos = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long begin = System.nanoTime();
+            result = solver.solve(maze, start, end);
+            if (round >= WARMUP_ROUNDS) nanos += System.nanoTime() - begin;
+        }
+        return String.format(
+                "%10.3f ms (path %d, expanded %d)",
+                nanos / 1e6 / MEASURED_ROUNDS, result.isSolved() ? result.path().size() : -1, result.expandedNodes());
+    }
+
+    /**
+     * Runs a generator a few times and formats the mean wall-clock time.
+     */
+    private static String measureGeneration(Runnable generator) {
+        long nanos = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long begin = System.nanoTime();
+            generator.run();
+            if (round >= WARMUP_ROUNDS) nanos += System.nanoTime() - begin;
+        }
+        return String.format("%10.3f ms", nanos / 1e6 / MEASURED_ROUNDS);
+    }
+
+    /**
+     * The recursive depth-first search that Maze.solve() used before the BFS solver,
+     * kept here as the baseline for comparison.
+     */
+    private static SolveResult legacyDfs(Maze maze, Position start, Position end) {
+        Set<Position> visited = new HashSet<>();
+        List<Position> path = legacyDfsTraverse(maze, start, end, visited, new ArrayList<>());
+        return new SolveResult(path, visited.size());
+    }
+
+    private static List<Position> legacyDfsTraverse(
+            Maze maze,
+            Position currentPosition,
+            Position endPosition,
+            Set<Position> visited,
+            List<Position> pathSteps) {
+        if (currentPosition == null || visited.contains(currentPosition)) return null;
+        visited.add(currentPosition);
+        List<Position> newPathSteps = new ArrayList<>(pathSteps);
+        newPathSteps.add(currentPosition);
+        if (currentPosition.equals(endPosition)) return newPathSteps;
+        int rowIndex = currentPosition.row();
+        int colIndex = currentPosition.col();
+        Position[] neighbors = {
+            new Position(rowIndex - 1, colIndex),
+            new Position(rowIndex + 1, colIndex),
+            new Position(rowIndex, colIndex - 1),
+            new Position(rowIndex, colIndex + 1)
+        };
+        for (Position neighbor : neighbors) {
+            if (maze.isValidPosition(neighbor.row(), neighbor.col())
+                    && maze.getCell(neighbor.row(), neighbor.col()) != Maze.WALL) {
+                List<Position> found = legacyDfsTraverse(maze, neighbor, endPosition, visited, newPathSteps);
+                if (found != null) return found;
+            }
+        }
+        return null;
+    }
+}
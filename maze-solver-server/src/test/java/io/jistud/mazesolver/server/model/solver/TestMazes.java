@@ -0,0 +1,49 @@
+package io.jistud.mazesolver.server.model.solver;
+
+import java.util.Random;
+
+import io.jistud.mazesolver.server.model.ByteGrid;
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.Position;
+
+/**
+ * Random mazes shared by the solver tests and benchmarks.
+ */
+final class TestMazes {
+
+    private TestMazes() {}
+
+    /**
+     * Builds a maze with perimeter walls and randomly scattered inner walls.
+     * The start and end cells are placed in opposite corners.
+     */
+    static Maze openMaze(int height, int width, double wallDensity, long seed) {
+        Random random = new Random(seed);
+        ByteGrid grid = new ByteGrid(height, width);
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                boolean border = row == 0 || col == 0 || row == height - 1 || col == width - 1;
+                grid.set(row, col, border || random.nextDouble() < wallDensity ? Maze.WALL : Maze.EMPTY);
+            }
+        }
+        grid.set(1, 1, Maze.START);
+        grid.set(1, 2, Maze.EMPTY);
+        grid.set(2, 1, Maze.EMPTY);
+        grid.set(height - 2, width - 2, Maze.END);
+        grid.set(height - 2, width - 3, Maze.EMPTY);
+        grid.set(height - 3, width - 2, Maze.EMPTY);
+        return new Maze(grid);
+    }
+
+    /**
+     * Picks a random empty cell of the maze.
+     */
+    static Position randomOpenCell(Maze maze, Random random) {
+        while (true) {
+            Position cell = new Position(random.nextInt(maze.getHeight()), random.nextInt(maze.getWidth()));
+            if (maze.getCell(cell.row(), cell.col()) == Maze.EMPTY) {
+                return cell;
+            }
+        }
+    }
+}
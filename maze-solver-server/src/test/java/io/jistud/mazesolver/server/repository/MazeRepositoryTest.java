@@ -45,6 +45,20 @@ class MazeRepositoryTest {
         assertEquals(savedMaze.getSolutionPath(), foundMaze.get().getSolutionPath());
     }
 
+    @Test
+    void testFindByIdForUpdate() {
+        // Given
+        MazeEntity savedMaze = mazeRepository.save(createTestMazeEntity());
+
+        // When
+        Optional<MazeEntity> lockedMaze = mazeRepository.findByIdForUpdate(savedMaze.getId());
+
+        // Then
+        assertTrue(lockedMaze.isPresent());
+        assertEquals(savedMaze.getMazeData(), lockedMaze.get().getMazeData());
+        assertFalse(mazeRepository.findByIdForUpdate(-1).isPresent());
+    }
+
     @Test
     void testFindAll() {
         // Given
@@ -0,0 +1,118 @@
+package io.jistud.mazesolver.server.service;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MazeIndexCacheTest {
+
+    @Test
+    @DisplayName("get should only call the loader on a cache miss")
+    void getLoadsOnce() {
+        MazeIndexCache<String> cache = new MazeIndexCache<>(2);
+        int[] loads = {0};
+
+        cache.get(1, id -> "maze-" + id + "-" + ++loads[0]);
+        String cached = cache.get(1, id -> "maze-" + id + "-" + ++loads[0]);
+
+        assertEquals("maze-1-1", cached);
+        assertEquals(1, loads[0]);
+    }
+
+    @Test
+    @DisplayName("get should evict the least recently used entry when full")
+    void getEvictsLeastRecentlyUsed() {
+        MazeIndexCache<String> cache = new MazeIndexCache<>(2);
+        cache.get(1, id -> "one");
+        cache.get(2, id -> "two");
+        cache.get(1, id -> "reloaded");
+        cache.get(3, id -> "three");
+
+        assertEquals(2, cache.size());
+        assertEquals("one", cache.get(1, id -> "reloaded"));
+        assertEquals("reloaded", cache.get(2, id -> "reloaded"));
+    }
+
+    @Test
+    @DisplayName("invalidate should drop the entry and null results should not be cached")
+    void invalidateAndNullResults() {
+        MazeIndexCache<String> cache = new MazeIndexCache<>(2);
+        cache.get(1, id -> "one");
+        cache.invalidate(1);
+        assertNull(cache.get(2, id -> null));
+
+        assertEquals(0, cache.size());
+        assertNull(cache.getIfPresent(1));
+        assertEquals("new", cache.get(1, id -> "new"));
+        assertEquals("new", cache.getIfPresent(1));
+    }
+
+    @Test
+    @DisplayName("A slow build for one maze should not block lookups for other mazes")
+    void slowBuildDoesNotBlockOtherMazes() throws Exception {
+        MazeIndexCache<String> cache = new MazeIndexCache<>(4);
+        cache.get(2, id -> "two");
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> slow = executor.submit(() -> cache.get(1, id -> {
+                loads.incrementAndGet();
+                building.countDown();
+                await(release);
+                return "one";
+            }));
+            assertTrue(building.await(5, TimeUnit.SECONDS));
+            Future<String> waiting = executor.submit(() -> cache.get(1, id -> "duplicate-" + loads.incrementAndGet()));
+
+            // Hits and misses for other mazes go through while maze 1 is being built
+            assertEquals("two", cache.get(2, id -> "reloaded"));
+            assertEquals("three", cache.get(3, id -> "three"));
+            assertNull(cache.getIfPresent(1));
+
+            release.countDown();
+            assertEquals("one", slow.get(5, TimeUnit.SECONDS));
+            assertEquals("one", waiting.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("A failed build should be rethrown and not cached")
+    void failedBuildIsNotCached() {
+        MazeIndexCache<String> cache = new MazeIndexCache<>(2);
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> cache.get(1, id -> {
+                    throw new IllegalStateException("broken maze");
+                }));
+        assertEquals(0, cache.size());
+        assertEquals("one", cache.get(1, id -> "one"));
+    }
+
+    @Test
+    @DisplayName("The constructor should reject a non-positive capacity")
+    void constructorRejectsInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new MazeIndexCache<String>(0));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -11,11 +11,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import io.jistud.mazesolver.server.entity.MazeCellEditEntity;
 import io.jistud.mazesolver.server.entity.MazeEntity;
+import io.jistud.mazesolver.server.model.CellEdit;
 import io.jistud.mazesolver.server.model.Maze;
 import io.jistud.mazesolver.server.model.Position;
+import io.jistud.mazesolver.server.model.SolveBudget;
+import io.jistud.mazesolver.server.model.solver.DistanceField;
+import io.jistud.mazesolver.server.model.solver.HierarchicalPathIndex;
+import io.jistud.mazesolver.server.model.solver.SolverAlgorithm;
+import io.jistud.mazesolver.server.repository.MazeCellEditRepository;
 import io.jistud.mazesolver.server.repository.MazeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,14 +37,20 @@ class MazeServiceTest {
     @Mock
     private MazeRepository mazeRepository;
 
+    @Mock
+    private MazeCellEditRepository cellEditRepository;
+
     private MazeService mazeService;
 
+    private SimpleMeterRegistry meterRegistry;
+
     @Mock
     private ArgumentCaptor<MazeEntity> entityCaptor;
 
     @BeforeEach
     void setUp() {
-        mazeService = new MazeServiceImpl(mazeRepository);
+        meterRegistry = new SimpleMeterRegistry();
+        mazeService = new MazeServiceImpl(mazeRepository, cellEditRepository, new SolverMetrics(meterRegistry));
         entityCaptor = ArgumentCaptor.forClass(MazeEntity.class);
     }
 
@@ -184,7 +200,7 @@ class MazeServiceTest {
         when(mazeRepository.findById(id)).thenReturn(Optional.of(entity));
 
         // When
-        Optional<MazeEntity> resultOpt = mazeService.solveMaze(id);
+        Optional<MazeEntity> resultOpt = mazeService.solveMaze(id).map(SolvedMaze::entity);
 
         // Then
         assertTrue(resultOpt.isPresent());
@@ -264,7 +280,7 @@ class MazeServiceTest {
         when(mazeRepository.save(any(MazeEntity.class))).thenReturn(solvedEntity);
 
         // When
-        Optional<MazeEntity> resultOpt = mazeService.solveMaze(id);
+        Optional<MazeEntity> resultOpt = mazeService.solveMaze(id).map(SolvedMaze::entity);
 
         // Then
         assertTrue(resultOpt.isPresent());
@@ -281,4 +297,463 @@ class MazeServiceTest {
         assertNotNull(savedEntity.getSolutionPath());
         assertNotNull(savedEntity.getUpdatedAt());
     }
+
+    @Test
+    void testSolveMaze_WithAStar() {
+        // Given
+        Integer id = new java.util.Random().nextInt();
+        MazeEntity entity = new MazeEntity();
+        entity.setId(id);
+        entity.setMazeData("wwsww\nw   w\nw w w\nw   w\nwweww");
+        entity.setSolved(false);
+
+        when(mazeRepository.findById(id)).thenReturn(Optional.of(entity));
+        when(mazeRepository.save(any(MazeEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Optional<MazeEntity> resultOpt =
+                mazeService.solveMaze(id, SolverAlgorithm.ASTAR).map(SolvedMaze::entity);
+
+        // Then
+        assertTrue(resultOpt.isPresent());
+        assertTrue(resultOpt.get().isSolved());
+        assertEquals(7, resultOpt.get().getSolutionPath().split("\\), \\(").length);
+    }
+
+    @Test
+    void testSolveMaze_RecordsStatistics() {
+        // Given
+        Integer id = 12;
+        MazeEntity entity = new MazeEntity();
+        entity.setId(id);
+        entity.setMazeData("wwsww\nw   w\nw w w\nw   w\nwweww");
+        entity.setSolved(false);
+
+        when(mazeRepository.findById(id)).thenReturn(Optional.of(entity));
+        when(mazeRepository.save(any(MazeEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Optional<SolvedMaze> resultOpt = mazeService.solveMaze(id, SolverAlgorithm.ASTAR);
+
+        // Then
+        assertTrue(resultOpt.isPresent());
+        assertNotNull(resultOpt.get().stats());
+        assertEquals(7, resultOpt.get().stats().pathLength());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(SolverMetrics.DURATION)
+                        .tags("algorithm", "astar", "size", "small", "status", "solved")
+                        .timer()
+                        .count());
+        assertEquals(7, meterRegistry.get(SolverMetrics.PATH_LENGTH).summary().totalAmount());
+    }
+
+    @Test
+    void testSolveMaze_TagsMetricsWithSolverThatRan() {
+        // Given: two mazes with two exits each
+        MazeEntity first = new MazeEntity();
+        first.setId(18);
+        first.setMazeData("wwsww\nw   w\nw w w\nw   w\nweeww");
+        first.setSolved(false);
+        MazeEntity second = new MazeEntity();
+        second.setId(19);
+        second.setMazeData(first.getMazeData());
+        second.setSolved(false);
+
+        when(mazeRepository.findById(18)).thenReturn(Optional.of(first));
+        when(mazeRepository.findById(19)).thenReturn(Optional.of(second));
+        when(mazeRepository.save(any(MazeEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When: jump point search cannot search towards several exits, Dijkstra can
+        mazeService.solveMaze(18, SolverAlgorithm.JPS);
+        mazeService.solveMaze(19, SolverAlgorithm.DIJKSTRA);
+
+        // Then
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(SolverMetrics.DURATION)
+                        .tags("algorithm", SolverMetrics.NEAREST_EXIT)
+                        .timer()
+                        .count());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(SolverMetrics.DURATION)
+                        .tags("algorithm", "dijkstra")
+                        .timer()
+                        .count());
+        assertNull(meterRegistry
+                .find(SolverMetrics.DURATION)
+                .tags("algorithm", "jps")
+                .timer());
+    }
+
+    @Test
+    void testFindDistanceField_CachedPerMaze() {
+        // Given
+        Integer id = 7;
+        MazeEntity entity = new MazeEntity();
+        entity.setId(id);
+        entity.setMazeData("wwsww\nw   w\nw w w\nw   w\nwweww");
+        entity.setSolved(false);
+
+        when(mazeRepository.findById(id)).thenReturn(Optional.of(entity));
+
+        // When
+        Optional<DistanceField> first = mazeService.findDistanceField(id);
+        Optional<DistanceField> second = mazeService.findDistanceField(id);
+
+        // Then
+        assertTrue(first.isPresent());
+        assertSame(first.get(), second.get());
+        assertEquals(6, first.get().getDistance(0, 2));
+        verify(mazeRepository, times(1)).findById(id);
+    }
+
+    @Test
+    void testSolveMaze_SharesSnapshotWithIndexes() {
+        // Given
+        Integer id = 17;
+        MazeEntity entity = new MazeEntity();
+        entity.setId(id);
+        entity.setMazeData("wwsww\nw   w\nw w w\nw   w\nwweww");
+        entity.setSolved(false);
+
+        when(mazeRepository.findById(id)).thenReturn(Optional.of(entity));
+        when(mazeRepository.save(any(MazeEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Optional<DistanceField> field = mazeService.findDistanceField(id);
+        Optional<MazeEntity> solved = mazeService.solveMaze(id).map(SolvedMaze::entity);
+
+        // Then
+        assertTrue(field.isPresent());
+        assertTrue(solved.isPresent());
+        assertTrue(solved.get().isSolved());
+        assertEquals(Boolean.TRUE, solved.get().getSolvable());
+        assertEquals(
+                5,
+                solved.get().getMazeData().chars().filter(c -> c == Maze.PATH).count());
+        // The stored cell edits are only read once, when the shared snapshot is decoded
+        verify(cellEditRepository, times(1)).findByMazeIdOrderByIdAsc(id);
+    }
+
+    @Test
+    void testFindDistanceField_InvalidatedOnDelete() {
+        // Given
+        Integer id = 8;
+        MazeEntity entity = new MazeEntity();
+        entity.setId(id);
+        entity.setMazeData("www\nsew\nwww");
+        entity.setSolved(false);
+
+        when(mazeRepository.findById(id)).thenReturn(Optional.of(entity), Optional.empty());
+
+        // When
+        Optional<DistanceField> beforeDelete = mazeService.findDistanceField(id);
+        mazeService.deleteMaze(id);
+        Optional<DistanceField> afterDelete = mazeService.findDistanceField(id);
+
+        // Then
+        assertTrue(beforeDelete.isPresent());
+        assertTrue(afterDelete.isEmpty());
+    }
+
+    @Test
+    void testSolveMaze_KnownUnsolvable_SkipsSearch() {
+        // Given
+        Integer id = 9;
+        MazeEntity entity = new MazeEntity();
+        entity.setId(id);
+        entity.setMazeData("wsw\nwww\nwew");
+        entity.setSolved(false);
+        entity.setSolvable(false);
+
+        when(mazeRepository.findById(id)).thenReturn(Optional.of(entity));
+
+        // When
+        Optional<MazeEntity> resultOpt = mazeService.solveMaze(id).map(SolvedMaze::entity);
+
+        // Then
+        assertTrue(resultOpt.isPresent());
+        assertFalse(resultOpt.get().isSolved());
+        verify(mazeRepository, never()).save(any(MazeEntity.class));
+    }
+
+    @Test
+    void testSolveMaze_BudgetExceededLeavesMazeUntouched() {
+        // Given
+        Integer id = 11;
+        MazeEntity entity = new MazeEntity();
+        entity.setId(id);
+        entity.setMazeData("wwsww\nw   w\nw w w\nw   w\nwweww");
+        entity.setSolved(false);
+
+        when(mazeRepository.findById(id)).thenReturn(Optional.of(entity));
+        SolveBudget budget = SolveBudget.unlimited();
+        budget.cancel();
+
+        // When
+        SolveBudgetExceededException exception = assertThrows(
+                SolveBudgetExceededException.class, () -> mazeService.solveMaze(id, SolverAlgorithm.BFS, budget));
+
+        // Then
+        assertEquals(0, exception.getExpandedNodes());
+        assertFalse(entity.isSolved());
+        assertNull(entity.getSolvable());
+        verify(mazeRepository, never()).save(any(MazeEntity.class));
+    }
+
+    @Test
+    void testSolveMaze_UnsolvableRecordsResult() {
+        // Given
+        Integer id = 10;
+        MazeEntity entity = new MazeEntity();
+        entity.setId(id);
+        entity.setMazeData("wsw\nwww\nwew");
+        entity.setSolved(false);
+
+        when(mazeRepository.findById(id)).thenReturn(Optional.of(entity));
+        when(mazeRepository.save(any(MazeEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Optional<MazeEntity> resultOpt = mazeService.solveMaze(id).map(SolvedMaze::entity);
+
+        // Then
+        assertTrue(resultOpt.isPresent());
+        assertFalse(resultOpt.get().isSolved());
+        assertEquals(Boolean.FALSE, resultOpt.get().getSolvable());
+        verify(mazeRepository).save(entity);
+    }
+
+    @Test
+    void testEditCells_ReroutesAndStoresEdits() {
+        // Given
+        Integer id = 11;
+        MazeEntity entity = new MazeEntity();
+        entity.setId(id);
+        entity.setMazeData("wwsww\nw   w\nw w w\nw   w\nwweww");
+        entity.setSolved(false);
+
+        when(mazeRepository.findByIdForUpdate(id)).thenReturn(Optional.of(entity));
+        when(mazeRepository.save(any(MazeEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When: block the left corridor, then swap it with the right one
+        Optional<MazeEntity> first = mazeService.editCells(id, List.of(new CellEdit(2, 1, Maze.WALL)));
+        String firstPath = first.get().getSolutionPath();
+        Optional<MazeEntity> second =
+                mazeService.editCells(id, List.of(new CellEdit(2, 1, Maze.EMPTY), new CellEdit(2, 3, Maze.WALL)));
+
+        // Then
+        assertEquals("[(0,2), (1,2), (1,3), (2,3), (3,3), (3,2), (4,2)]", firstPath);
+        assertTrue(second.isPresent());
+        assertTrue(second.get().isSolved());
+        assertEquals(Boolean.TRUE, second.get().getSolvable());
+        assertEquals(
+                "[(0,2), (1,2), (1,1), (2,1), (3,1), (3,2), (4,2)]",
+                second.get().getSolutionPath());
+        verify(cellEditRepository, times(2)).saveAll(anyList());
+        verify(mazeRepository, times(2)).findByIdForUpdate(id);
+        verify(mazeRepository, times(2)).save(entity);
+    }
+
+    @Test
+    void testEditCells_DiscardsPlannerWhenSavingMazeFails() {
+        // Given
+        Integer id = 16;
+        MazeEntity entity = new MazeEntity();
+        entity.setId(id);
+        entity.setMazeData("wwsww\nw   w\nw w w\nw   w\nwweww");
+        entity.setSolved(false);
+
+        when(mazeRepository.findByIdForUpdate(id)).thenReturn(Optional.of(entity));
+        when(mazeRepository.save(any(MazeEntity.class)))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        assertThrows(
+                IllegalStateException.class, () -> mazeService.editCells(id, List.of(new CellEdit(2, 1, Maze.WALL))));
+
+        // When: the failed edit was never stored, so only the right corridor is blocked
+        Optional<MazeEntity> resultOpt = mazeService.editCells(id, List.of(new CellEdit(2, 3, Maze.WALL)));
+
+        // Then
+        assertEquals(
+                "[(0,2), (1,2), (1,1), (2,1), (3,1), (3,2), (4,2)]",
+                resultOpt.orElseThrow().getSolutionPath());
+    }
+
+    @Test
+    void testEditCells_DiscardsPlannerWhenTransactionRollsBack() {
+        // Given
+        Integer id = 17;
+        MazeEntity entity = new MazeEntity();
+        entity.setId(id);
+        entity.setMazeData("wwsww\nw   w\nw w w\nw   w\nwweww");
+        entity.setSolved(false);
+
+        when(mazeRepository.findByIdForUpdate(id)).thenReturn(Optional.of(entity));
+        when(mazeRepository.save(any(MazeEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            mazeService.editCells(id, List.of(new CellEdit(2, 1, Maze.WALL)));
+            // The commit fails after the method returned
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // When
+        Optional<MazeEntity> resultOpt = mazeService.editCells(id, List.of(new CellEdit(2, 3, Maze.WALL)));
+
+        // Then
+        assertEquals(
+                "[(0,2), (1,2), (1,1), (2,1), (3,1), (3,2), (4,2)]",
+                resultOpt.orElseThrow().getSolutionPath());
+    }
+
+    @Test
+    void testEditCells_UpdatesCachedHierarchicalIndex() {
+        // Given
+        Integer id = 15;
+        MazeEntity entity = new MazeEntity();
+        entity.setId(id);
+        entity.setMazeData("wwsww\nw   w\nw w w\nw   w\nwweww");
+        entity.setSolved(false);
+
+        when(mazeRepository.findById(id)).thenReturn(Optional.of(entity));
+        when(mazeRepository.findByIdForUpdate(id)).thenReturn(Optional.of(entity));
+        when(mazeRepository.save(any(MazeEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        HierarchicalPathIndex index = mazeService.findHierarchicalPathIndex(id).orElseThrow();
+
+        // When
+        mazeService.editCells(id, List.of(new CellEdit(2, 1, Maze.WALL)));
+
+        // Then
+        assertSame(index, mazeService.findHierarchicalPathIndex(id).orElseThrow());
+        assertFalse(index.isOpen(new Position(2, 1)));
+        assertEquals(
+                7, index.path(new Position(0, 2), new Position(4, 2)).path().size());
+    }
+
+    @Test
+    void testEditCells_StoresCheapestPathOnTerrain() {
+        // Given: the short route crosses terrain of cost 9, the long one is cheaper
+        Integer id = 21;
+        MazeEntity entity = new MazeEntity();
+        entity.setId(id);
+        entity.setMazeData("wswwww\nw    w\nw9ww w\nw    w\nwewwww");
+        entity.setSolved(false);
+
+        when(mazeRepository.findByIdForUpdate(id)).thenReturn(Optional.of(entity));
+        when(mazeRepository.save(any(MazeEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When: a no-op edit, then the terrain is cleared
+        Optional<MazeEntity> first = mazeService.editCells(id, List.of(new CellEdit(2, 2, Maze.WALL)));
+        String firstPath = first.get().getSolutionPath();
+        Optional<MazeEntity> second = mazeService.editCells(id, List.of(new CellEdit(2, 1, Maze.EMPTY)));
+
+        // Then
+        assertEquals("[(0,1), (1,1), (1,2), (1,3), (1,4), (2,4), (3,4), (3,3), (3,2), (3,1), (4,1)]", firstPath);
+        assertTrue(second.isPresent());
+        assertEquals("[(0,1), (1,1), (2,1), (3,1), (4,1)]", second.get().getSolutionPath());
+    }
+
+    @Test
+    void testEditCells_RecordsUnsolvableMaze() {
+        // Given
+        Integer id = 12;
+        MazeEntity entity = new MazeEntity();
+        entity.setId(id);
+        entity.setMazeData("wwsww\nw   w\nw w w\nw   w\nwweww");
+        entity.setSolved(false);
+
+        when(mazeRepository.findByIdForUpdate(id)).thenReturn(Optional.of(entity));
+        when(mazeRepository.save(any(MazeEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Optional<MazeEntity> resultOpt = mazeService.editCells(id, List.of(new CellEdit(1, 2, Maze.WALL)));
+
+        // Then
+        assertTrue(resultOpt.isPresent());
+        assertFalse(resultOpt.get().isSolved());
+        assertNull(resultOpt.get().getSolutionPath());
+        assertEquals(Boolean.FALSE, resultOpt.get().getSolvable());
+    }
+
+    @Test
+    void testEditCells_RejectsStartCellWithoutStoringEdits() {
+        // Given
+        Integer id = 13;
+        MazeEntity entity = new MazeEntity();
+        entity.setId(id);
+        entity.setMazeData("wwsww\nw   w\nw w w\nw   w\nwweww");
+        entity.setSolved(false);
+
+        when(mazeRepository.findByIdForUpdate(id)).thenReturn(Optional.of(entity));
+        List<CellEdit> edits = List.of(new CellEdit(1, 1, Maze.WALL), new CellEdit(0, 2, Maze.WALL));
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> mazeService.editCells(id, edits));
+        verify(cellEditRepository, never()).saveAll(anyList());
+        verify(mazeRepository, never()).save(any(MazeEntity.class));
+    }
+
+    @Test
+    void testEditCells_RejectsMazeWithSeveralExits() {
+        // Given
+        Integer id = 20;
+        MazeEntity entity = new MazeEntity();
+        entity.setId(id);
+        entity.setMazeData("wwsww\nw   w\nw w w\nw   w\nweeww");
+        entity.setSolved(false);
+
+        when(mazeRepository.findByIdForUpdate(id)).thenReturn(Optional.of(entity));
+
+        // When/Then
+        assertThrows(
+                MazeNotEditableException.class,
+                () -> mazeService.editCells(id, List.of(new CellEdit(2, 1, Maze.WALL))));
+        verify(cellEditRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testEditCells_NotFound() {
+        // Given
+        when(mazeRepository.findByIdForUpdate(99)).thenReturn(Optional.empty());
+
+        // When
+        Optional<MazeEntity> resultOpt = mazeService.editCells(99, List.of(new CellEdit(1, 1, Maze.WALL)));
+
+        // Then
+        assertTrue(resultOpt.isEmpty());
+    }
+
+    @Test
+    void testConvertToModel_ReplaysCellEdits() {
+        // Given
+        MazeEntity entity = new MazeEntity();
+        entity.setId(14);
+        entity.setMazeData("wwsww\nwppww\nwpw w\nwpp w\nwweww");
+        entity.setSolved(true);
+        entity.setSolutionPath("[(0,2), (1,2), (1,3), (2,3), (3,3), (3,2), (4,2)]");
+
+        when(cellEditRepository.findByMazeIdOrderByIdAsc(14))
+                .thenReturn(List.of(
+                        new MazeCellEditEntity(14, 1, 3, Maze.EMPTY),
+                        new MazeCellEditEntity(14, 2, 3, Maze.EMPTY),
+                        new MazeCellEditEntity(14, 2, 1, Maze.WALL)));
+
+        // When
+        Maze result = mazeService.convertToModel(entity);
+
+        // Then
+        assertEquals(Maze.WALL, result.getCell(2, 1));
+        assertEquals(Maze.EMPTY, result.getCell(1, 1));
+        assertEquals(Maze.PATH, result.getCell(2, 3));
+        assertEquals(Maze.PATH, result.getCell(3, 2));
+        assertEquals(7, result.getSolvedPath().size());
+    }
 }
@@ -0,0 +1,63 @@
+package io.jistud.mazesolver.server.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jistud.mazesolver.server.model.Maze;
+import io.jistud.mazesolver.server.model.SolveStats;
+import io.jistud.mazesolver.server.model.SolveStatus;
+import io.jistud.mazesolver.server.model.solver.SolverAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverMetricsTest {
+
+    @Test
+    @DisplayName("record should publish a timer and summaries tagged by algorithm, size and status")
+    void recordPublishesTaggedMeters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SolverMetrics metrics = new SolverMetrics(registry);
+        SolveStats stats = new SolveStats(SolveStatus.SOLVED, 120, 14, 37, 4096, 2_000_000);
+
+        metrics.record(SolverAlgorithm.BFS.getAlgorithmName(), new Maze(200, 200), stats);
+        metrics.record(SolverAlgorithm.BFS.getAlgorithmName(), new Maze(200, 200), stats);
+
+        assertEquals(
+                2,
+                registry.get(SolverMetrics.DURATION)
+                        .tags("algorithm", "bfs", "size", "medium", "status", "solved")
+                        .timer()
+                        .count());
+        assertEquals(240, registry.get(SolverMetrics.EXPANDED_NODES).summary().totalAmount());
+        assertEquals(14, registry.get(SolverMetrics.PEAK_FRONTIER).summary().max());
+        assertEquals(37, registry.get(SolverMetrics.PATH_LENGTH).summary().max());
+        assertEquals(8192, registry.get(SolverMetrics.ALLOCATED_BYTES).summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("record should skip the allocation summary when allocations were not measured")
+    void recordSkipsUnmeasuredAllocations() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SolverMetrics metrics = new SolverMetrics(registry);
+
+        metrics.record(
+                SolverAlgorithm.ASTAR.getAlgorithmName(),
+                new Maze(5, 5),
+                new SolveStats(SolveStatus.UNSOLVABLE, 3, 2, 0, -1, 1000));
+
+        assertNull(registry.find(SolverMetrics.ALLOCATED_BYTES).summary());
+        assertNotNull(registry.find(SolverMetrics.DURATION)
+                .tags("status", "unsolvable")
+                .timer());
+    }
+
+    @Test
+    @DisplayName("sizeBucket should map cell counts to coarse buckets")
+    void sizeBuckets() {
+        assertEquals("small", SolverMetrics.sizeBucket(99, 100));
+        assertEquals("medium", SolverMetrics.sizeBucket(100, 100));
+        assertEquals("large", SolverMetrics.sizeBucket(1000, 1000));
+        assertEquals("huge", SolverMetrics.sizeBucket(4000, 4000));
+    }
+}